@@ -0,0 +1,178 @@
+package com.prgrms.ijuju.domain.article.cache;
+
+import com.prgrms.ijuju.domain.article.dto.ArticleResponseDto;
+import com.prgrms.ijuju.domain.article.entity.Article;
+import com.prgrms.ijuju.domain.article.event.ArticlesRefreshedEvent;
+import com.prgrms.ijuju.domain.article.repository.ArticleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.CRC32;
+
+/**
+ * 기사 목록(전체 / 종목별) 을 메모리에 들고 있는 캐시 입니다.
+ * 기사는 하루에 한 번(07:30, ArticleScheduler) 만 바뀌는데, 예전에는 조회할 때마다 DB 를 읽었고 전체 조회는 페이지도 없었습니다.
+
+ * - 애플리케이션 시작 시, 그리고 ArticlesRefreshedEvent(스케줄러 완료) 를 받을 때 DB 에서 한 번 읽어 통째로 교체합니다.
+ * - 이벤트는 스케줄러가 돈 노드에만 오므로, 주기적으로(article.feed-cache.check-millis) 기사 수 / 최대 id 만 조회해서
+ *   캐시를 만들 때와 다르면 다시 읽습니다. (다른 노드가 만든 / 지운 기사 반영)
+ * - 페이지는 articleId 내림차순(최신순) 이고, 마지막으로 받은 articleId 를 cursor 로 넘기는 keyset 방식입니다.
+ * - 페이지 없이 전체를 받는 기존 조회(all) 는 예전과 같이 articleId 오름차순 입니다.
+ * - etag 는 캐시에 담긴 기사 id / 생성 시각으로 만든 값이라, 기사가 바뀌지 않았다면 캐시를 다시 만들어도 그대로입니다.
+ */
+@Slf4j
+@Component
+public class ArticleFeedCache {
+
+    private final ArticleRepository articleRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final AtomicReference<Feed> current = new AtomicReference<>(Feed.EMPTY);
+
+    // 지표
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    public ArticleFeedCache(ArticleRepository articleRepository, PlatformTransactionManager transactionManager) {
+        this.articleRepository = articleRepository;
+        // refresh 는 같은 클래스 안(init, 이벤트, 주기 확인) 에서 불리므로 @Transactional 대신 직접 트랜잭션을 엽니다
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    @EventListener(ArticlesRefreshedEvent.class)
+    public void onArticlesRefreshed(ArticlesRefreshedEvent event) {
+        refresh();
+    }
+
+    // 기사 수 / 최대 id 가 캐시를 만들 때와 다르면 다시 읽습니다
+    @Scheduled(fixedDelayString = "${article.feed-cache.check-millis:60000}",
+            initialDelayString = "${article.feed-cache.check-millis:60000}")
+    public void checkForChanges() {
+        if (!version().equals(current.get().version)) {
+            refresh();
+        }
+    }
+
+    public void refresh() {
+        Feed feed = readOnlyTransaction.execute(status -> {
+            // 버전을 먼저 읽어야 그 뒤에 바뀐 기사를 다음 확인에서 놓치지 않습니다
+            String version = version();
+            return Feed.of(articleRepository.findAll(Sort.by(Sort.Direction.DESC, "articleId")), version);
+        });
+        current.set(feed);
+        refreshCount.incrementAndGet();
+        log.info("기사 캐시 갱신: {}건, etag={}", feed.all.ids.length, feed.etag);
+    }
+
+    private String version() {
+        return articleRepository.count() + ":" + articleRepository.findMaxArticleId();
+    }
+
+    public String etag() {
+        return current.get().etag;
+    }
+
+    // symbol 이 null 이면 전체 목록. articleId 오름차순
+    public List<ArticleResponseDto> all(String symbol) {
+        return current.get().entries(symbol).oldestFirst;
+    }
+
+    // cursor 보다 id 가 작은(더 오래된) 기사를 size 개. cursor 가 null 이면 처음부터
+    public ArticlePage page(String symbol, Long cursor, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("size 는 0 보다 커야 합니다: " + size);
+        }
+        Feed feed = current.get();
+        Entries entries = feed.entries(symbol);
+        int from = cursor == null ? 0 : entries.firstBelow(cursor);
+        int to = Math.min(from + size, entries.ids.length);
+        Long nextCursor = to < entries.ids.length ? entries.ids[to - 1] : null;
+        return new ArticlePage(entries.articles.subList(from, to), nextCursor, feed.etag);
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    // articleId 내림차순 목록과 같은 순서의 id 배열, 그리고 오름차순 목록
+    private record Entries(List<ArticleResponseDto> articles, long[] ids, List<ArticleResponseDto> oldestFirst) {
+
+        private static final Entries EMPTY = new Entries(List.of(), new long[0], List.of());
+
+        // 내림차순 ids 에서 cursor 보다 작은 첫 위치 (이진 탐색)
+        private int firstBelow(long cursor) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] >= cursor) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class Feed {
+
+        private static final Feed EMPTY = new Feed(Entries.EMPTY, Map.of(), "\"0\"", "");
+
+        private final Entries all;
+        private final Map<String, Entries> bySymbol;
+        private final String etag;
+        private final String version;   // 만들 때의 기사 수 : 최대 id
+
+        private Feed(Entries all, Map<String, Entries> bySymbol, String etag, String version) {
+            this.all = all;
+            this.bySymbol = bySymbol;
+            this.etag = etag;
+            this.version = version;
+        }
+
+        private static Feed of(List<Article> articles, String version) {
+            Map<String, List<Article>> grouped = new HashMap<>();
+            CRC32 crc = new CRC32();
+            for (Article article : articles) {
+                grouped.computeIfAbsent(article.getStockSymbol(), k -> new ArrayList<>()).add(article);
+                crc.update((article.getArticleId() + ":" + article.getCreatedAt() + ";").getBytes(StandardCharsets.UTF_8));
+            }
+            Map<String, Entries> bySymbol = new HashMap<>();
+            grouped.forEach((symbol, list) -> bySymbol.put(symbol, entriesOf(list)));
+            String etag = "\"" + Long.toHexString(crc.getValue()) + "-" + articles.size() + "\"";
+            return new Feed(entriesOf(articles), Map.copyOf(bySymbol), etag, version);
+        }
+
+        private static Entries entriesOf(List<Article> articles) {
+            long[] ids = new long[articles.size()];
+            List<ArticleResponseDto> dtos = new ArrayList<>(articles.size());
+            for (int i = 0; i < articles.size(); i++) {
+                ids[i] = articles.get(i).getArticleId();
+                dtos.add(ArticleResponseDto.toResponse(articles.get(i)));
+            }
+            List<ArticleResponseDto> oldestFirst = new ArrayList<>(dtos);
+            Collections.reverse(oldestFirst);
+            return new Entries(Collections.unmodifiableList(dtos), ids, Collections.unmodifiableList(oldestFirst));
+        }
+
+        private Entries entries(String symbol) {
+            return symbol == null ? all : bySymbol.getOrDefault(symbol, Entries.EMPTY);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.prgrms.ijuju.domain.article.cache;
+
+import com.prgrms.ijuju.domain.article.dto.ArticleResponseDto;
+
+import java.util.List;
+
+/**
+ * 기사 목록 한 페이지. nextCursor 를 다음 요청의 cursor 로 넘기면 이어서 조회합니다. (마지막 페이지면 null)
+ */
+public record ArticlePage(List<ArticleResponseDto> articles, Long nextCursor, String etag) {
+}
@@ -1,100 +1,163 @@
 package com.prgrms.ijuju.domain.article.component;
 
-import com.prgrms.ijuju.domain.article.data.DailyTrend;
 import com.prgrms.ijuju.domain.article.data.Trend;
+import com.prgrms.ijuju.domain.article.data.TrendStats;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
 import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
 
+/**
+ * FORECAST 캔들로 종목별 트렌드를 계산합니다.
+
+ * 예전에는 캔들을 HashMap<LocalDate, List<Double>> 로 묶었기 때문에 날짜 순서가 섞여서
+ * SHORT_TERM(3일) / MID_TERM(7일) 이 실제 앞쪽 날짜가 아닌 임의의 날짜로 계산됐고, 가격도 모두 박싱됐습니다.
+ * 지금은 CandleBlock 의 원시 배열을 정렬된 timestamp 순서로 한 번 훑으면서 거래일 경계마다 버킷을 나눕니다.
+ * (LocalDate 는 캔들마다가 아니라 하루에 한 번만 만듭니다)
+
+ * analyzeAll 은 종목별 분석을 전용 ForkJoinPool 에서 나눠 돌립니다. 공용 풀(commonPool) 은 다른 작업과 같이 쓰므로 쓰지 않습니다.
+ */
 @Component
 public class AdvTrendAnalyzerImpl implements TrendAnalyzer {
 
-    // 트렌드 계산 메소드
-    public List<Trend> analyzeTrends(AdvStock advStock) {
-        Map<LocalDate, List<Double>> groupedData = groupByDate(advStock.getTimestamps(), advStock.getClosePrices());
+    private static final int SHORT_TERM_DAYS = 3;
+    private static final int MID_TERM_DAYS = 7;
 
-        List<DailyTrend> dailyTrends = calculateDailyTrends(groupedData);
+    private final ZoneId zone;
+    private final ForkJoinPool pool;
 
-        return calculateCompositeTrends(dailyTrends, advStock.getSymbol());
+    @Autowired
+    public AdvTrendAnalyzerImpl(@Value("${article.trend.parallelism:0}") int parallelism) {
+        this(ZoneId.systemDefault(), parallelism);
     }
 
-    // 한 시간 단위 데이터를 일 단위로 묶음
-    private Map<LocalDate, List<Double>> groupByDate(List<Long> timestamps, List<Double> closePrices) {
-        Map<LocalDate, List<Double>> groupedData = new HashMap<>();
-
-        for (int i = 0; i < timestamps.size(); i++) {
-            LocalDate date = Instant.ofEpochMilli(timestamps.get(i)).atZone(ZoneId.systemDefault()).toLocalDate();
-            groupedData.computeIfAbsent(date, k -> new ArrayList<>()).add(closePrices.get(i));
-        }
+    // parallelism 이 0 이하면 CPU 코어 수
+    public AdvTrendAnalyzerImpl(ZoneId zone, int parallelism) {
+        this.zone = zone;
+        this.pool = new ForkJoinPool(parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors());
+    }
 
-        return groupedData;
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
     }
 
-    // DailyTrend 계산
-    private List<DailyTrend> calculateDailyTrends(Map<LocalDate, List<Double>> groupedData) {
-        List<DailyTrend> dailyTrends = new ArrayList<>();
+    // 트렌드 계산 메소드
+    @Override
+    public List<Trend> analyzeTrends(AdvStock advStock) {
+        return calculateCompositeTrends(analyze(advStock));
+    }
 
-        for (Map.Entry<LocalDate, List<Double>> entry : groupedData.entrySet()) {
-            List<Double> dailyPrices = entry.getValue();
-            double startPrice = dailyPrices.get(0);
-            double endPrice = dailyPrices.get(dailyPrices.size() - 1);
+    @Override
+    public List<Trend> analyzeAll(List<AdvStock> advStocks) {
+        return pool.submit(() -> advStocks.parallelStream()
+                        .flatMap(stock -> analyzeTrends(stock).stream())
+                        .toList())
+                .join();
+    }
 
-            double percentageChange = ((endPrice - startPrice) / startPrice) * 100;
-            String trendType = determineTrendType(percentageChange);
+    // 한 시간 단위 데이터를 거래일 단위로 묶고 일간 변화율 / 수익률 계산
+    @Override
+    public TrendStats analyze(AdvStock advStock) {
+        CandleBlock block = advStock.getBlock();
+        long[] timestamps = block.getTimestamps();
+        double[] closePrices = block.getClosePrices();
+        int size = timestamps.length;
+        int[] order = isSorted(timestamps) ? null : sortedOrder(timestamps);
+
+        long[] epochDays = new long[size];
+        double[] firstCloses = new double[size];
+        double[] lastCloses = new double[size];
+        int days = 0;
+        long nextDayStart = Long.MIN_VALUE;
+
+        for (int k = 0; k < size; k++) {
+            int i = order == null ? k : order[k];
+            long timestamp = timestamps[i];
+            if (days == 0 || timestamp >= nextDayStart) {
+                LocalDate date = Instant.ofEpochMilli(timestamp).atZone(zone).toLocalDate();
+                nextDayStart = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+                epochDays[days] = date.toEpochDay();
+                firstCloses[days] = closePrices[i];
+                days++;
+            }
+            lastCloses[days - 1] = closePrices[i];
+        }
 
-            dailyTrends.add(new DailyTrend(entry.getKey(), trendType, percentageChange));
+        double[] dayChanges = new double[days];
+        double[] dailyReturns = new double[days];
+        for (int d = 0; d < days; d++) {
+            dayChanges[d] = ((lastCloses[d] - firstCloses[d]) / firstCloses[d]) * 100;
+            double previous = d == 0 ? firstCloses[0] : lastCloses[d - 1];
+            dailyReturns[d] = ((lastCloses[d] - previous) / previous) * 100;
         }
 
-        return dailyTrends;
+        return new TrendStats(advStock.getSymbol(), Arrays.copyOf(epochDays, days), Arrays.copyOf(lastCloses, days),
+                dayChanges, dailyReturns);
     }
 
-    private String determineTrendType(double percentageChange) {
-        if (percentageChange > 2.0) return "UP";
-        if (percentageChange < -2.0) return "DOWN";
-        return "STABLE";
+    private static boolean isSorted(long[] timestamps) {
+        for (int i = 1; i < timestamps.length; i++) {
+            if (timestamps[i] < timestamps[i - 1]) {
+                return false;
+            }
+        }
+        return true;
     }
 
-    // Composite Trends 계산
-    private List<Trend> calculateCompositeTrends(List<DailyTrend> dailyTrends, String symbol) {
-        List<Trend> trends = new ArrayList<>();
+    // 저장된 캔들은 보통 정렬돼 있으므로, 정렬이 깨진 경우에만 인덱스를 정렬합니다
+    private static int[] sortedOrder(long[] timestamps) {
+        return IntStream.range(0, timestamps.length)
+                .boxed()
+                .sorted((a, b) -> Long.compare(timestamps[a], timestamps[b]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+    }
 
-        // Short Term (3일)
-        if (dailyTrends.size() >= 3) {
-            trends.add(new Trend("SHORT_TERM",
-                    calculateTrendDescription(dailyTrends.subList(0, Math.min(3, dailyTrends.size()))), symbol));
+    // Composite Trends 계산. 기간은 모두 앞쪽(가장 이른) 날짜부터 셉니다
+    // 누적 수익률 / 이동평균 / 변동성 같은 수치는 TrendStats 에서 꺼내 쓰고, 설명은 예전 형식 그대로 둡니다
+    // (설명이 바뀌면 GeneratedContent 의 내용 해시도 바뀝니다)
+    private List<Trend> calculateCompositeTrends(TrendStats stats) {
+        String symbol = stats.getSymbol();
+        Trend longTerm = new Trend("LONG_TERM", calculateTrendDescription(stats, stats.days()), symbol);
+
+        if (stats.days() >= MID_TERM_DAYS) {
+            return List.of(
+                    new Trend("SHORT_TERM", calculateTrendDescription(stats, SHORT_TERM_DAYS), symbol),
+                    new Trend("MID_TERM", calculateTrendDescription(stats, MID_TERM_DAYS), symbol),
+                    longTerm);
         }
-
-        // Mid Term (7일)
-        if (dailyTrends.size() >= 7) {
-            trends.add(new Trend("MID_TERM",
-                    calculateTrendDescription(dailyTrends.subList(0, Math.min(7, dailyTrends.size()))), symbol));
+        if (stats.days() >= SHORT_TERM_DAYS) {
+            return List.of(
+                    new Trend("SHORT_TERM", calculateTrendDescription(stats, SHORT_TERM_DAYS), symbol),
+                    longTerm);
         }
-
-        // Long Term (14일)
-        trends.add(new Trend("LONG_TERM", calculateTrendDescription(dailyTrends), symbol));
-
-        return trends;
+        return List.of(longTerm);
     }
 
-    // 트렌드 설명 생성
-    private String calculateTrendDescription(List<DailyTrend> dailyTrends) {
+    // 트렌드 설명 생성 > "UP: 2일, STABLE: 1일"
+    private String calculateTrendDescription(TrendStats stats, int days) {
         StringBuilder description = new StringBuilder();
         String currentTrend = null;
         int duration = 0;
 
-        for (DailyTrend dailyTrend : dailyTrends) {
-            if (!dailyTrend.getTrendType().equals(currentTrend)) {
+        for (int i = 0; i < days; i++) {
+            String trendType = stats.trendType(i);
+            if (!trendType.equals(currentTrend)) {
                 if (currentTrend != null) {
                     description.append(currentTrend).append(": ").append(duration).append("일, ");
                 }
-                currentTrend = dailyTrend.getTrendType();
+                currentTrend = trendType;
                 duration = 1;
             } else {
                 duration++;
@@ -107,4 +170,4 @@ public class AdvTrendAnalyzerImpl implements TrendAnalyzer {
 
         return description.toString();
     }
-}
\ No newline at end of file
+}
@@ -1,10 +1,16 @@
 package com.prgrms.ijuju.domain.article.component;
 
 import com.prgrms.ijuju.domain.article.data.Trend;
+import com.prgrms.ijuju.domain.article.data.TrendStats;
 import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
 
 import java.util.List;
 
 public interface TrendAnalyzer {
     List<Trend> analyzeTrends(AdvStock advStock);
+
+    // 여러 종목을 한 번에 분석 (종목 순서대로 결과를 이어 붙입니다)
+    List<Trend> analyzeAll(List<AdvStock> advStocks);
+
+    TrendStats analyze(AdvStock advStock);
 }
@@ -1,11 +1,14 @@
 package com.prgrms.ijuju.domain.article.controller;
 
+import com.prgrms.ijuju.domain.article.cache.ArticlePage;
 import com.prgrms.ijuju.domain.article.dto.ArticleResponseDto;
 import com.prgrms.ijuju.domain.article.scheduler.ArticleScheduler;
 import com.prgrms.ijuju.domain.article.service.ArticleService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -14,21 +17,52 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ArticleController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
     private final ArticleService articleService;
     private final ArticleScheduler articleScheduler;
 
-    // 모든 기사 조회
+    // 모든 기사 조회 (articleId 오름차순). size 를 주면 최신순 keyset 페이지로, 다음 페이지 cursor 는 X-Next-Cursor 헤더로 내려갑니다
+    // 기사는 하루에 한 번만 바뀌므로 ETag 가 같으면(If-None-Match) 본문 없이 304 를 돌려줍니다
     @GetMapping
-    public ResponseEntity<List<ArticleResponseDto>> getAllArticles() {
-        List<ArticleResponseDto> articles = articleService.getAllArticles();
-        return ResponseEntity.ok(articles);
+    public ResponseEntity<List<ArticleResponseDto>> getAllArticles(@RequestParam(required = false) Long cursor,
+                                                                   @RequestParam(required = false) Integer size,
+                                                                   WebRequest request) {
+        return articles(null, cursor, size, request);
     }
 
     // 특정 주식 심볼로 기사 조회
     @GetMapping("/{stockSymbol}")
-    public ResponseEntity<List<ArticleResponseDto>> getArticlesBySymbol(@PathVariable String stockSymbol) {
-        List<ArticleResponseDto> articles = articleService.getArticlesBySymbol(stockSymbol);
-        return ResponseEntity.ok(articles);
+    public ResponseEntity<List<ArticleResponseDto>> getArticlesBySymbol(@PathVariable String stockSymbol,
+                                                                        @RequestParam(required = false) Long cursor,
+                                                                        @RequestParam(required = false) Integer size,
+                                                                        WebRequest request) {
+        return articles(stockSymbol, cursor, size, request);
+    }
+
+    private ResponseEntity<List<ArticleResponseDto>> articles(String stockSymbol, Long cursor, Integer size, WebRequest request) {
+        if (size != null && size <= 0) {
+            return ResponseEntity.badRequest().build();
+        }
+        String etag = articleService.getArticlesEtag();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        if (size == null && cursor == null) { // 기존 클라이언트 : 전체 목록
+            List<ArticleResponseDto> articles = stockSymbol == null
+                    ? articleService.getAllArticles()
+                    : articleService.getArticlesBySymbol(stockSymbol);
+            return ResponseEntity.ok().eTag(etag).body(articles);
+        }
+
+        ArticlePage page = articleService.getArticlePage(stockSymbol, cursor, size == null ? DEFAULT_PAGE_SIZE : size);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(page.etag());
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.nextCursor()));
+        }
+        return response.body(page.articles());
     }
 
     // 스케줄러 강제 실행
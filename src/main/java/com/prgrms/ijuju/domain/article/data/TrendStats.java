@@ -0,0 +1,109 @@
+package com.prgrms.ijuju.domain.article.data;
+
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 종목의 시간 단위 캔들을 거래일 단위로 묶은 결과 입니다. (AdvTrendAnalyzerImpl 이 만듭니다)
+ * 모든 배열은 날짜 오름차순이고 길이가 같습니다. 수익률/변동성은 % 단위 입니다.
+
+ * - dayChanges   : 그날 첫 종가 → 마지막 종가 변화율 (기존 DailyTrend.percentageChange 와 같은 값)
+ * - dailyReturns : 전날 마지막 종가 → 그날 마지막 종가 변화율 (첫날은 dayChanges 와 같습니다)
+ */
+@Getter
+public final class TrendStats {
+
+    public static final double TREND_THRESHOLD = 2.0; // ±2% 를 넘으면 UP / DOWN
+
+    private final String symbol;
+    private final long[] epochDays;
+    private final double[] dayCloses;
+    private final double[] dayChanges;
+    private final double[] dailyReturns;
+
+    public TrendStats(String symbol, long[] epochDays, double[] dayCloses, double[] dayChanges, double[] dailyReturns) {
+        this.symbol = symbol;
+        this.epochDays = epochDays;
+        this.dayCloses = dayCloses;
+        this.dayChanges = dayChanges;
+        this.dailyReturns = dailyReturns;
+    }
+
+    public int days() {
+        return epochDays.length;
+    }
+
+    public String trendType(int day) {
+        double change = dayChanges[day];
+        if (change > TREND_THRESHOLD) return "UP";
+        if (change < -TREND_THRESHOLD) return "DOWN";
+        return "STABLE";
+    }
+
+    // 앞에서부터 days 일 동안 type 이 가장 길게 이어진 일수
+    public int longestStreak(String type, int days) {
+        int longest = 0;
+        int current = 0;
+        for (int i = 0; i < Math.min(days, days()); i++) {
+            current = trendType(i).equals(type) ? current + 1 : 0;
+            longest = Math.max(longest, current);
+        }
+        return longest;
+    }
+
+    // window 일 단순 이동평균 (일 종가 기준). 앞쪽 window - 1 일은 그때까지의 평균입니다
+    public double[] movingAverage(int window) {
+        if (window <= 0) {
+            throw new IllegalArgumentException("이동평균 기간은 0 보다 커야 합니다: " + window);
+        }
+        double[] averages = new double[days()];
+        double sum = 0;
+        for (int i = 0; i < days(); i++) {
+            sum += dayCloses[i];
+            if (i >= window) {
+                sum -= dayCloses[i - window];
+            }
+            averages[i] = sum / Math.min(i + 1, window);
+        }
+        return averages;
+    }
+
+    // 앞에서부터 days 일 동안의 일간 수익률 표준편차
+    public double volatility(int days) {
+        int n = Math.min(days, days());
+        if (n < 2) {
+            return 0;
+        }
+        double mean = 0;
+        for (int i = 0; i < n; i++) {
+            mean += dailyReturns[i];
+        }
+        mean /= n;
+        double variance = 0;
+        for (int i = 0; i < n; i++) {
+            double diff = dailyReturns[i] - mean;
+            variance += diff * diff;
+        }
+        return Math.sqrt(variance / (n - 1));
+    }
+
+    // 앞에서부터 days 일 동안의 누적 수익률
+    public double cumulativeReturn(int days) {
+        double growth = 1;
+        for (int i = 0; i < Math.min(days, days()); i++) {
+            growth *= 1 + dailyReturns[i] / 100;
+        }
+        return (growth - 1) * 100;
+    }
+
+    public List<DailyTrend> dailyTrends() {
+        List<DailyTrend> dailyTrends = new ArrayList<>(days());
+        for (int i = 0; i < days(); i++) {
+            dailyTrends.add(new DailyTrend(LocalDate.ofEpochDay(epochDays[i]), trendType(i), dayChanges[i]));
+        }
+        return dailyTrends;
+    }
+}
@@ -10,6 +10,7 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 public class ArticleResponseDto {
+    private Long articleId;     // 페이지 조회 시 다음 cursor 로 사용
     private String stockSymbol;
     private String trendPrediction;
     private String content;
@@ -18,6 +19,7 @@ public class ArticleResponseDto {
 
     public static ArticleResponseDto toResponse(Article article) {
         return ArticleResponseDto.builder()
+                .articleId(article.getArticleId())
                 .stockSymbol(article.getStockSymbol())
                 .trendPrediction(article.getTrendPrediction())
                 .content(article.getContent())
@@ -6,7 +6,7 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "articles")
+@Table(name = "articles", indexes = @Index(name = "idx_articles_expires_at", columnList = "expires_at"))
 @Getter
 @Setter
 @Builder
@@ -32,4 +32,28 @@ public class Article {
 
     @Column(nullable = false)
     private LocalDateTime createdAt;
+
+    // createdAt + duration 일. 만료 삭제(ArticleExpiryPurger) 가 인덱스로 찾을 수 있도록 저장 시점에 계산해 둡니다
+    // createdAt / duration 을 setter 로 바꾸면 바로 다시 계산하고, 저장 / 수정 직전에도 한 번 더 맞춥니다
+    // 이 컬럼이 생기기 전에 저장된 기사는 null 이고, 시작 시 ArticleExpiryPurger.backfill 이 채웁니다
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+        computeExpiresAt();
+    }
+
+    public void setDuration(int duration) {
+        this.duration = duration;
+        computeExpiresAt();
+    }
+
+    @PrePersist
+    @PreUpdate
+    void computeExpiresAt() {
+        if (createdAt != null) {
+            expiresAt = createdAt.plusDays(duration);
+        }
+    }
 }
\ No newline at end of file
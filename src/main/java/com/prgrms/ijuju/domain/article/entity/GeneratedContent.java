@@ -0,0 +1,36 @@
+package com.prgrms.ijuju.domain.article.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * LLM 이 생성한 기사 본문을 프롬프트 해시(SHA-256) 로 저장해 두는 캐시 입니다.
+ * 같은 트렌드 설명이 다시 나오면 LLM 을 부르지 않고 이 본문을 재사용합니다. (ArticleGenerationPipeline)
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "article_generated_content",
+        indexes = @Index(name = "idx_article_generated_content_created_at", columnList = "created_at"))
+public class GeneratedContent {
+
+    @Id
+    @Column(length = 64)
+    private String contentHash; // 모델 + 프롬프트 버전 + 정규화한 트렌드 데이터의 SHA-256 (hex)
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    public GeneratedContent(String contentHash, String content, LocalDateTime createdAt) {
+        this.contentHash = contentHash;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,7 @@
+package com.prgrms.ijuju.domain.article.event;
+
+/**
+ * ArticleScheduler 가 기사 생성 / 만료 삭제를 마친 뒤 발행합니다. ArticleFeedCache 가 받아서 캐시를 다시 만듭니다.
+ */
+public record ArticlesRefreshedEvent(int generatedCount) {
+}
@@ -0,0 +1,176 @@
+package com.prgrms.ijuju.domain.article.expiry;
+
+import com.prgrms.ijuju.domain.article.entity.Article;
+import com.prgrms.ijuju.domain.article.event.ArticlesRefreshedEvent;
+import com.prgrms.ijuju.domain.article.repository.ArticleRepository;
+import com.prgrms.ijuju.domain.article.repository.GeneratedContentRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 유지 기간(duration 일) 이 지난 기사를 지웁니다.
+
+ * 예전에는 DELETE FROM articles WHERE created_at + INTERVAL duration DAY <= :now 한 문장이었는데,
+ * 컬럼에 식을 씌운 조건이라 인덱스를 못 타서 테이블 전체를 훑고, 지울 행이 많으면 한 트랜잭션이 오래 잠금을 잡았습니다.
+ * 지금은 저장 시점에 계산한 expires_at (인덱스) 으로 만료된 id 를 batchSize 개씩 찾아서,
+ * 묶음마다 별도 트랜잭션으로 지웁니다. 한 번에 잡는 잠금은 묶음 하나 만큼입니다.
+
+ * 기사 본문 캐시(GeneratedContent) 도 같은 방식으로 지웁니다. cache-ttl-days 가 지난 본문은 다시 쓰이지 않으므로
+ * created_at 인덱스로 찾아서 묶음 단위로 삭제합니다.
+ */
+@Slf4j
+@Component
+public class ArticleExpiryPurger {
+
+    private final ArticleRepository articleRepository;
+    private final GeneratedContentRepository generatedContentRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int contentTtlDays;
+
+    // 지표 (묶음 하나의 트랜잭션 시간 = 잠금을 잡고 있는 시간)
+    private final AtomicLong purgedCount = new AtomicLong();
+    private final AtomicLong purgedContentCount = new AtomicLong();
+    private final AtomicLong chunkCount = new AtomicLong();
+    private final AtomicLong maxChunkNanos = new AtomicLong();
+
+    public ArticleExpiryPurger(ArticleRepository articleRepository,
+                               GeneratedContentRepository generatedContentRepository,
+                               PlatformTransactionManager transactionManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${article.expiry.batch-size:1000}") int batchSize,
+                               @Value("${article.expiry.pause-millis:0}") long pauseMillis,
+                               @Value("${article.generation.cache-ttl-days:30}") int contentTtlDays) {
+        this.articleRepository = articleRepository;
+        this.generatedContentRepository = generatedContentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.contentTtlDays = contentTtlDays;
+    }
+
+    // 스케줄러(07:30) 사이에도 만료된 기사가 목록에 남지 않도록 주기적으로 지웁니다
+    @Scheduled(cron = "${article.expiry.purge-cron:0 0 * * * ?}", zone = "Asia/Seoul")
+    public void purgeInBackground() {
+        LocalDateTime now = LocalDateTime.now();
+        int purged = purge(now);
+        if (purged > 0) {
+            eventPublisher.publishEvent(new ArticlesRefreshedEvent(0)); // 기사 캐시 갱신
+        }
+        purgeGeneratedContent(now);
+    }
+
+    // now 시점에 만료된 기사를 모두 지우고 지운 개수를 돌려줍니다
+    public int purge(LocalDateTime now) {
+        int purged = purgeInChunks(() -> {
+            List<Long> ids = articleRepository.findExpiredIds(now, PageRequest.of(0, batchSize));
+            return ids.isEmpty() ? 0 : articleRepository.deleteAllByIds(ids);
+        });
+        purgedCount.addAndGet(purged);
+        if (purged > 0) {
+            log.info("만료된 기사 {}건 삭제", purged);
+        }
+        return purged;
+    }
+
+    // now 기준으로 cache-ttl-days 가 지난 기사 본문 캐시를 모두 지우고 지운 개수를 돌려줍니다
+    public int purgeGeneratedContent(LocalDateTime now) {
+        LocalDateTime cutoff = now.minusDays(contentTtlDays);
+        int purged = purgeInChunks(() -> {
+            List<String> hashes = generatedContentRepository.findExpiredHashes(cutoff, PageRequest.of(0, batchSize));
+            return hashes.isEmpty() ? 0 : generatedContentRepository.deleteAllByHashes(hashes);
+        });
+        purgedContentCount.addAndGet(purged);
+        if (purged > 0) {
+            log.info("만료된 기사 본문 캐시 {}건 삭제", purged);
+        }
+        return purged;
+    }
+
+    // 묶음 하나를 지우는 chunk 를 0 또는 batchSize 보다 적게 지울 때까지 묶음마다 별도 트랜잭션으로 반복합니다
+    private int purgeInChunks(Supplier<Integer> chunk) {
+        int purged = 0;
+        while (true) {
+            long started = System.nanoTime();
+            Integer deleted = transactionTemplate.execute(status -> chunk.get());
+            if (deleted == null || deleted == 0) {
+                return purged;
+            }
+            maxChunkNanos.accumulateAndGet(System.nanoTime() - started, Math::max);
+            chunkCount.incrementAndGet();
+            purged += deleted;
+            if (deleted < batchSize) {
+                return purged;
+            }
+            pause();
+        }
+    }
+
+    // expires_at 컬럼이 생기기 전에 저장된 기사의 만료 시각을 채웁니다
+    @EventListener(ApplicationReadyEvent.class)
+    public int backfill() {
+        int filled = 0;
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> {
+                List<Article> articles = articleRepository.findWithoutExpiry(PageRequest.of(0, batchSize));
+                articles.forEach(article -> article.setExpiresAt(article.getCreatedAt().plusDays(article.getDuration())));
+                return articles.size();
+            });
+            if (updated == null || updated == 0) {
+                break;
+            }
+            filled += updated;
+            if (updated < batchSize) {
+                break;
+            }
+        }
+        if (filled > 0) {
+            log.info("기사 {}건의 만료 시각(expires_at) 을 채웠습니다", filled);
+        }
+        return filled;
+    }
+
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public long getPurgedCount() {
+        return purgedCount.get();
+    }
+
+    public long getPurgedContentCount() {
+        return purgedContentCount.get();
+    }
+
+    public long getChunkCount() {
+        return chunkCount.get();
+    }
+
+    public long getMaxChunkMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxChunkNanos.get());
+    }
+}
@@ -0,0 +1,62 @@
+package com.prgrms.ijuju.domain.article.llm;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "article.llm.client", havingValue = "chatgpt", matchIfMissing = true)
+public class ChatGptLlmClient implements LlmClient {
+
+    private static final String MODEL = "gpt-3.5-turbo";
+    private static final String SYSTEM_ROLE = "system";
+    private static final double TEMPERATURE = 0.7;
+
+    private final RestClient chatGptRestClient;
+
+    @Override
+    public String complete(String systemPrompt, String userPrompt) {
+        // 메시지 구성
+        List<Map<String, Object>> messages = List.of(
+                Map.of("role", SYSTEM_ROLE, "content", systemPrompt),
+                Map.of("role", "user", "content", userPrompt)
+        );
+
+        // 요청 생성
+        Map<String, Object> request = Map.of(
+                "model", MODEL,
+                "messages", messages,
+                "temperature", TEMPERATURE
+        );
+
+        // JSON 응답 처리
+        Map<String, Object> response = chatGptRestClient.post()
+                .uri("/chat/completions")
+                .body(request)
+                .retrieve()
+                .body(new ParameterizedTypeReference<Map<String, Object>>() {});
+
+        // "choices" 배열에서 첫 번째 메시지의 "content" 추출
+        @SuppressWarnings("unchecked") // 강제 캐스팅 경고 억제
+        List<Map<String, Object>> choices = response == null ? null : (List<Map<String, Object>>) response.get("choices");
+        if (choices == null || choices.isEmpty()) {
+            throw new IllegalStateException("GPT 응답에 choices 데이터가 없습니다.");
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<String, String> message = (Map<String, String>) choices.get(0).get("message");
+
+        return message.get("content"); // "content" 반환
+    }
+
+    @Override
+    public String model() {
+        return MODEL;
+    }
+}
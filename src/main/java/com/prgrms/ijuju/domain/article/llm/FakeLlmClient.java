@@ -0,0 +1,73 @@
+package com.prgrms.ijuju.domain.article.llm;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 네트워크 없이 쓰는 LLM 대역 입니다. 같은 프롬프트에는 항상 같은 기사를 돌려줍니다.
+ * latencyMillis 로 응답 지연을, failEvery 로 실패를 흉내내서 파이프라인 처리량/재시도를 오프라인으로 확인할 수 있습니다.
+ * (failEvery = N 이면 프롬프트 해시가 N 의 배수인 프롬프트는 첫 호출이 실패합니다. 호출 순서와 상관없이 항상 같은 프롬프트가 실패합니다)
+ */
+@Component
+@ConditionalOnProperty(name = "article.llm.client", havingValue = "fake")
+public class FakeLlmClient implements LlmClient {
+
+    private final long latencyMillis;
+    private final int failEvery;
+
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    public FakeLlmClient(@Value("${article.llm.fake.latency-millis:0}") long latencyMillis,
+                         @Value("${article.llm.fake.fail-every:0}") int failEvery) {
+        this.latencyMillis = latencyMillis;
+        this.failEvery = failEvery;
+    }
+
+    @Override
+    public String complete(String systemPrompt, String userPrompt) {
+        long call = calls.incrementAndGet();
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+        try {
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+            int attempt = attempts.computeIfAbsent(userPrompt, k -> new AtomicInteger()).incrementAndGet();
+            if (failEvery > 0 && attempt == 1 && Math.floorMod(userPrompt.hashCode(), failEvery) == 0) {
+                throw new IllegalStateException("FakeLlmClient 호출 실패 (" + call + "번째 호출)");
+            }
+            return "[모의 기사] " + userPrompt.strip() + " (#" + Integer.toHexString(userPrompt.strip().hashCode()) + ")";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("FakeLlmClient 호출이 중단되었습니다.", e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String model() {
+        return "fake";
+    }
+
+    public long getCallCount() {
+        return calls.get();
+    }
+
+    // 첫 호출이 실패하도록 정해진 프롬프트인지
+    public boolean failsFirst(String userPrompt) {
+        return failEvery > 0 && Math.floorMod(userPrompt.hashCode(), failEvery) == 0;
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+}
@@ -0,0 +1,14 @@
+package com.prgrms.ijuju.domain.article.llm;
+
+/**
+ * 기사 생성에 쓰는 LLM 호출 추상화 입니다.
+ * article.llm.client 로 구현을 고릅니다. (chatgpt: OpenAI API, fake: 네트워크 없이 결정적인 응답을 주는 로컬 대역)
+ */
+public interface LlmClient {
+
+    // 호출이 실패하면 예외를 던집니다. 재시도는 호출하는 쪽(ArticleGenerationPipeline) 이 합니다
+    String complete(String systemPrompt, String userPrompt);
+
+    // 캐시 키에 들어가는 모델 이름. 모델이 바뀌면 예전 캐시를 쓰지 않습니다
+    String model();
+}
@@ -1,10 +1,10 @@
 package com.prgrms.ijuju.domain.article.repository;
 
 import com.prgrms.ijuju.domain.article.entity.Article;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,9 +14,19 @@ public interface ArticleRepository extends JpaRepository<Article, Long> {
     // 특정 주식 심볼로 기사 조회
     List<Article> findByStockSymbol(String stockSymbol);
 
-    // 유지 기간이 지난 기사 삭제
-    @Transactional
+    // 기사 캐시(ArticleFeedCache) 의 변경 확인용
+    @Query("SELECT MAX(a.articleId) FROM Article a")
+    Long findMaxArticleId();
+
+    // 유지 기간이 지난 기사 id (expires_at 인덱스 범위 조회, pageable 크기만큼)
+    @Query("SELECT a.articleId FROM Article a WHERE a.expiresAt <= :now ORDER BY a.expiresAt")
+    List<Long> findExpiredIds(LocalDateTime now, Pageable pageable);
+
     @Modifying
-    @Query(value = "DELETE FROM articles WHERE created_at + INTERVAL duration DAY <= :now", nativeQuery = true)
-    void deleteByExpiration(LocalDateTime now);
-}
\ No newline at end of file
+    @Query("DELETE FROM Article a WHERE a.articleId IN :ids")
+    int deleteAllByIds(List<Long> ids);
+
+    // expiresAt 이 없는 (컬럼 추가 전에 저장된) 기사
+    @Query("SELECT a FROM Article a WHERE a.expiresAt IS NULL ORDER BY a.articleId")
+    List<Article> findWithoutExpiry(Pageable pageable);
+}
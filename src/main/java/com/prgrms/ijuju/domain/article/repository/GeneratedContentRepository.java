@@ -0,0 +1,25 @@
+package com.prgrms.ijuju.domain.article.repository;
+
+import com.prgrms.ijuju.domain.article.entity.GeneratedContent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface GeneratedContentRepository extends JpaRepository<GeneratedContent, String> {
+
+    // 유효 기간 안에 생성된 본문만 재사용
+    Optional<GeneratedContent> findByContentHashAndCreatedAtAfter(String contentHash, LocalDateTime after);
+
+    // 유효 기간이 지난 본문의 키 (created_at 인덱스 범위 조회, pageable 크기만큼)
+    @Query("SELECT g.contentHash FROM GeneratedContent g WHERE g.createdAt <= :before ORDER BY g.createdAt")
+    List<String> findExpiredHashes(LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM GeneratedContent g WHERE g.contentHash IN :hashes")
+    int deleteAllByHashes(List<String> hashes);
+}
@@ -3,15 +3,21 @@ package com.prgrms.ijuju.domain.article.scheduler;
 import com.prgrms.ijuju.domain.article.component.AdvTrendAnalyzerImpl;
 import com.prgrms.ijuju.domain.article.data.Trend;
 import com.prgrms.ijuju.domain.article.entity.Article;
+import com.prgrms.ijuju.domain.article.event.ArticlesRefreshedEvent;
+import com.prgrms.ijuju.domain.article.expiry.ArticleExpiryPurger;
+import com.prgrms.ijuju.domain.article.service.ArticleGenerationPipeline;
 import com.prgrms.ijuju.domain.article.service.ArticleGenerationService;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
 import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
 import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
 import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -25,6 +31,9 @@ public class ArticleScheduler {
     private final AdvStockRepository advStockRepository;
     private final AdvTrendAnalyzerImpl trendAnalyzer;
     private final ArticleGenerationService articleGenerationService;
+    private final ArticleGenerationPipeline articleGenerationPipeline;
+    private final ArticleExpiryPurger articleExpiryPurger;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 30 7 * * ?", zone = "Asia/Seoul")
     public void generateArticles() {
@@ -32,28 +41,28 @@ public class ArticleScheduler {
         int currentArticleCount = articleGenerationService.getArticleCount();
         int articlesToGenerate = MAX_ARTICLES - currentArticleCount;
 
-        if (articlesToGenerate <= 0) {
-            return; // 추가 생성 필요 없음
-        }
-
-        // 2. FORECAST 데이터 가져오기
-        List<AdvStock> forecastStocks = advStockRepository.findByDataType(DataType.FORECAST);
+        List<Article> newArticles = List.of();
+        if (articlesToGenerate > 0) {
+            // 2. FORECAST 데이터 가져오기
+            List<AdvStock> forecastStocks = advStockRepository.findByDataType(DataType.FORECAST);
 
-        // 3. 트렌드 분석 및 기사 생성
-        List<Article> newArticles = generateRandomArticles(forecastStocks, articlesToGenerate);
+            // 3. 트렌드 분석 및 기사 생성
+            newArticles = generateRandomArticles(forecastStocks, articlesToGenerate);
 
-        // 4. 새 기사 저장
-        newArticles.forEach(articleGenerationService::saveArticle);
+            // 4. 새 기사 저장
+            newArticles.forEach(articleGenerationService::saveArticle);
+        }
 
         // 5. 유지 기간이 지난 기사 삭제
-        articleGenerationService.deleteExpiredArticles();
+        articleExpiryPurger.purge(LocalDateTime.now());
+
+        // 6. 기사 캐시 갱신 (ArticleFeedCache). 새로 만든 기사가 없어도 삭제된 기사가 있을 수 있으므로 항상 알립니다
+        eventPublisher.publishEvent(new ArticlesRefreshedEvent(newArticles.size()));
     }
 
     private List<Article> generateRandomArticles(List<AdvStock> forecastStocks, int articlesToGenerate) {
-        // 1. 주식의 모든 트렌드 데이터 가져오기
-        List<Trend> allTrends = forecastStocks.stream()
-                .flatMap(stock -> trendAnalyzer.analyzeTrends(stock).stream())
-                .collect(Collectors.toList());
+        // 1. 주식의 모든 트렌드 데이터 가져오기 (종목별로 병렬 분석)
+        List<Trend> allTrends = new ArrayList<>(trendAnalyzer.analyzeAll(forecastStocks));
 
         // 2. 트렌드 데이터를 랜덤하게 섞고 필요한 개수만큼 선택
         Collections.shuffle(allTrends);
@@ -61,9 +70,7 @@ public class ArticleScheduler {
                 .limit(articlesToGenerate)
                 .collect(Collectors.toList());
 
-        // 3. 선택된 트렌드 기준으로 기사 생성
-        return selectedTrends.stream()
-                .map(trend -> articleGenerationService.createArticleFromTrend(trend))
-                .collect(Collectors.toList());
+        // 3. 선택된 트렌드 기준으로 기사 생성 (동시 생성 + 캐시 + 재시도)
+        return articleGenerationPipeline.generate(selectedTrends);
     }
 }
\ No newline at end of file
@@ -0,0 +1,167 @@
+package com.prgrms.ijuju.domain.article.service;
+
+import com.prgrms.ijuju.domain.article.data.Trend;
+import com.prgrms.ijuju.domain.article.entity.Article;
+import com.prgrms.ijuju.domain.article.entity.GeneratedContent;
+import com.prgrms.ijuju.domain.article.llm.LlmClient;
+import com.prgrms.ijuju.domain.article.repository.GeneratedContentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 트렌드 여러 개의 기사를 한 번에 생성합니다. (ArticleScheduler)
+ * 예전에는 트렌드마다 GPT 를 순서대로 한 번씩 호출했고, 어제와 똑같은 트렌드 설명도 매일 새로 생성했습니다.
+
+ * - 동시성 제한 : LLM 호출은 concurrency 크기의 전용 스레드 풀에서만 실행됩니다.
+ * - 캐시 : formatTrendData 결과를 정규화(공백 정리) 해서 모델 / 프롬프트 버전과 함께 SHA-256 으로 만든 키로
+ *   본문을 article_generated_content 에 저장합니다. 같은 키는 cache-ttl-days 동안 LLM 을 다시 부르지 않고,
+ *   한 묶음 안에서 같은 키가 여러 번 나와도 호출은 한 번입니다.
+ * - 재시도 : 실패한 호출은 backoff-millis 부터 두 배씩 늘려가며 max-attempts 번까지 다시 시도합니다.
+ *   기다리는 동안 스레드를 잡고 있지 않으므로(delayedExecutor) 다른 트렌드의 생성은 계속 진행됩니다.
+ *   끝내 실패한 트렌드는 건너뛰고 나머지 기사만 돌려줍니다.
+ */
+@Slf4j
+@Component
+public class ArticleGenerationPipeline {
+
+    private static final String PROMPT_VERSION = "v1"; // 시스템 프롬프트를 바꾸면 올려주세요 (캐시 무효화)
+
+    private final ArticleGenerationService articleGenerationService;
+    private final LlmClient llmClient;
+    private final GeneratedContentRepository generatedContentRepository;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final int cacheTtlDays;
+    private final ExecutorService workers;
+
+    // 지표
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong generated = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    public ArticleGenerationPipeline(ArticleGenerationService articleGenerationService,
+                                     LlmClient llmClient,
+                                     GeneratedContentRepository generatedContentRepository,
+                                     @Value("${article.generation.concurrency:4}") int concurrency,
+                                     @Value("${article.generation.max-attempts:3}") int maxAttempts,
+                                     @Value("${article.generation.backoff-millis:500}") long backoffMillis,
+                                     @Value("${article.generation.cache-ttl-days:30}") int cacheTtlDays) {
+        this.articleGenerationService = articleGenerationService;
+        this.llmClient = llmClient;
+        this.generatedContentRepository = generatedContentRepository;
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+        this.cacheTtlDays = cacheTtlDays;
+        AtomicInteger index = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "article-generation-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    // 트렌드 순서대로 생성에 성공한 기사만 돌려줍니다
+    public List<Article> generate(List<Trend> trends) {
+        LocalDateTime validAfter = LocalDateTime.now().minusDays(cacheTtlDays);
+        Map<String, CompletableFuture<String>> contents = new HashMap<>();
+        List<CompletableFuture<String>> futures = new ArrayList<>(trends.size());
+
+        for (Trend trend : trends) {
+            String trendData = articleGenerationService.formatTrendData(trend);
+            String key = contentHash(trendData);
+            futures.add(contents.computeIfAbsent(key, k -> generateOrCached(k, trendData, validAfter)));
+        }
+
+        List<Article> articles = new ArrayList<>(trends.size());
+        for (int i = 0; i < trends.size(); i++) {
+            try {
+                articles.add(articleGenerationService.parseGptResponse(futures.get(i).join(), trends.get(i)));
+            } catch (CompletionException e) {
+                log.warn("기사 생성 실패, 건너뜁니다: {}", trends.get(i), e.getCause());
+            }
+        }
+        return articles;
+    }
+
+    private CompletableFuture<String> generateOrCached(String key, String trendData, LocalDateTime validAfter) {
+        Optional<GeneratedContent> cached = generatedContentRepository.findByContentHashAndCreatedAtAfter(key, validAfter);
+        if (cached.isPresent()) {
+            cacheHits.incrementAndGet();
+            return CompletableFuture.completedFuture(cached.get().getContent());
+        }
+        String userPrompt = articleGenerationService.userPrompt(trendData);
+        return attempt(userPrompt, 1, workers)
+                .thenApply(content -> {
+                    generated.incrementAndGet();
+                    generatedContentRepository.save(new GeneratedContent(key, content, LocalDateTime.now()));
+                    return content;
+                })
+                .whenComplete((content, error) -> {
+                    if (error != null) {
+                        failures.incrementAndGet();
+                    }
+                });
+    }
+
+    private CompletableFuture<String> attempt(String userPrompt, int attempt, Executor executor) {
+        return CompletableFuture.supplyAsync(() -> llmClient.complete(articleGenerationService.getSystemContent(), userPrompt), executor)
+                .handle((content, error) -> {
+                    if (error == null) {
+                        return CompletableFuture.completedFuture(content);
+                    }
+                    if (attempt >= maxAttempts) {
+                        return CompletableFuture.<String>failedFuture(error);
+                    }
+                    retries.incrementAndGet();
+                    long delay = backoffMillis << (attempt - 1);
+                    return attempt(userPrompt, attempt + 1, CompletableFuture.delayedExecutor(delay, TimeUnit.MILLISECONDS, workers));
+                })
+                .thenCompose(future -> future);
+    }
+
+    // 모델 + 프롬프트 버전 + 정규화한 트렌드 데이터의 SHA-256
+    String contentHash(String trendData) {
+        String normalized = trendData.strip().replaceAll("\\s+", " ");
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest((llmClient.model() + "\n" + PROMPT_VERSION + "\n" + normalized)
+                    .getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    public long getCacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long getGeneratedCount() {
+        return generated.get();
+    }
+
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    public long getFailureCount() {
+        return failures.get();
+    }
+}
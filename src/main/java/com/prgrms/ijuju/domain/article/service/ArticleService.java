@@ -1,6 +1,7 @@
 package com.prgrms.ijuju.domain.article.service;
 
 
+import com.prgrms.ijuju.domain.article.cache.ArticlePage;
 import com.prgrms.ijuju.domain.article.dto.ArticleResponseDto;
 
 import java.util.List;
@@ -11,4 +12,9 @@ public interface ArticleService {
 
     List<ArticleResponseDto> getArticlesBySymbol(String stockSymbol);
 
+    // keyset 페이지 조회. stockSymbol 이 null 이면 전체
+    ArticlePage getArticlePage(String stockSymbol, Long cursor, int size);
+
+    String getArticlesEtag();
+
 }
\ No newline at end of file
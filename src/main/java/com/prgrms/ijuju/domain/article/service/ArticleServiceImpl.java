@@ -1,33 +1,39 @@
 package com.prgrms.ijuju.domain.article.service;
 
+import com.prgrms.ijuju.domain.article.cache.ArticleFeedCache;
+import com.prgrms.ijuju.domain.article.cache.ArticlePage;
 import com.prgrms.ijuju.domain.article.dto.ArticleResponseDto;
-import com.prgrms.ijuju.domain.article.repository.ArticleRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
+// 기사는 스케줄러가 하루에 한 번만 바꾸므로 DB 대신 ArticleFeedCache 에서 읽습니다
 @Service
 @RequiredArgsConstructor
 public class ArticleServiceImpl implements ArticleService {
 
-    private final ArticleRepository articleRepository;
+    private final ArticleFeedCache articleFeedCache;
 
+    // 페이지 없는 전체 조회는 예전과 같이 articleId 오름차순 입니다. (페이지 조회는 최신순)
     @Override
     public List<ArticleResponseDto> getAllArticles() {
-        return articleRepository.findAll()
-                .stream()
-                .map(ArticleResponseDto::toResponse)
-                .collect(Collectors.toList());
+        return articleFeedCache.all(null);
     }
 
     @Override
     public List<ArticleResponseDto> getArticlesBySymbol(String stockSymbol) {
-        return articleRepository.findByStockSymbol(stockSymbol)
-                .stream()
-                .map(ArticleResponseDto::toResponse)
-                .collect(Collectors.toList());
+        return articleFeedCache.all(stockSymbol);
+    }
+
+    @Override
+    public ArticlePage getArticlePage(String stockSymbol, Long cursor, int size) {
+        return articleFeedCache.page(stockSymbol, cursor, size);
+    }
+
+    @Override
+    public String getArticlesEtag() {
+        return articleFeedCache.etag();
     }
 
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.prgrms.ijuju.domain.chat.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prgrms.ijuju.domain.chat.service.ChatService;
+import com.prgrms.ijuju.global.websocket.Delivery;
+import com.prgrms.ijuju.global.websocket.OutboundSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,6 +21,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
 
     private final ObjectMapper objectMapper;
     private final ChatService chatService;
+    private final OutboundSessionRegistry outboundSessionRegistry;
     
     // 연결된 세션을 저장하는 맵 (세션ID, WebSocketSession)
     private static final ConcurrentHashMap<String, WebSocketSession> SESSIONS = new ConcurrentHashMap<>();
@@ -41,7 +44,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
             // 모든 연결된 세션에 메시지 브로드캐스트
             for (WebSocketSession clientSession : SESSIONS.values()) {
                 if (clientSession.isOpen()) {
-                    clientSession.sendMessage(new TextMessage(payload));
+                    outboundSessionRegistry.send(clientSession, new TextMessage(payload), Delivery.RELIABLE);
                 }
             }
         } catch (Exception e) {
@@ -60,6 +63,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
         // 웹소켓 연결이 종료되었을 때
         String sessionId = session.getId();
         SESSIONS.remove(sessionId);
+        outboundSessionRegistry.remove(session);
         log.info("웹소켓 연결 종료: {}", sessionId);
     }
 
@@ -67,11 +71,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     public void sendMessageToSession(String sessionId, String message) {
         WebSocketSession session = SESSIONS.get(sessionId);
         if (session != null && session.isOpen()) {
-            try {
-                session.sendMessage(new TextMessage(message));
-            } catch (Exception e) {
-                log.error("메시지 전송 중 오류 발생: ", e);
-            }
+            outboundSessionRegistry.send(session, new TextMessage(message), Delivery.RELIABLE);
         }
     }
 
@@ -79,11 +79,7 @@ public class ChatWebSocketHandler extends TextWebSocketHandler {
     public void broadcastMessage(String message) {
         SESSIONS.values().forEach(session -> {
             if (session.isOpen()) {
-                try {
-                    session.sendMessage(new TextMessage(message));
-                } catch (Exception e) {
-                    log.error("브로드캐스트 메시지 전송 중 오류 발생: ", e);
-                }
+                outboundSessionRegistry.send(session, new TextMessage(message), Delivery.RELIABLE);
             }
         });
     }
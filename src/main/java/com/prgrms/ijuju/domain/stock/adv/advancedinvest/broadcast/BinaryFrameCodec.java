@@ -0,0 +1,248 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.SymbolSeries;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * ReferenceData / LiveData 의 바이너리 프레임 인코더/디코더 입니다. (StreamEncoding.BINARY 세션 전용)
+
+ * JSON 프레임은 캔들마다 symbol / name / dataType 을 반복하고 가격을 10진 문자열로 씁니다.
+ * 바이너리 프레임은 종목 사전을 앞에 한 번만 두고, 시간과 가격은 직전 값과의 차이(delta) 를 varint 로 씁니다.
+
+ * 포맷 (varint = LEB128, zigzag = 부호 있는 값을 zigzag 변환한 varint)
+ *   'A' 'F'                       magic
+ *   u8      version (1)
+ *   u8      frameType (1 = REFERENCE, 2 = LIVE)
+ *   zigzag  livePhase (REFERENCE 는 -1)
+ *   varint  priceScale (가격 소수 자릿수, 4 -> 가격 * 10^4 을 정수로)
+ *   varint  symbolCount
+ *   symbolCount x { string symbol, string name }          string = varint 길이 + UTF-8
+ *   symbolCount x {
+ *     varint candleCount
+ *     candleCount x zigzag timestamp   (첫 값은 그대로, 이후는 직전 timestamp 와의 차이)
+ *     candleCount x { zigzag open - 직전 close, zigzag high - open, zigzag low - open, zigzag close - open }
+ *   }
+ * 가격은 소수 4자리로 반올림됩니다. (Polygon 시세의 최대 자릿수)
+ */
+public final class BinaryFrameCodec {
+
+    public static final int VERSION = 1;
+    public static final int REFERENCE = 1;
+    public static final int LIVE = 2;
+    public static final int PRICE_SCALE = 4;
+
+    private static final byte MAGIC_0 = 'A';
+    private static final byte MAGIC_1 = 'F';
+    private static final double SCALE = Math.pow(10, PRICE_SCALE);
+
+    private BinaryFrameCodec() {
+    }
+
+    // 모든 캔들
+    public static byte[] encodeReference(List<SymbolSeries> seriesList) {
+        Writer writer = header(REFERENCE, -1, seriesList);
+        for (SymbolSeries series : seriesList) {
+            writeCandles(writer, series, 0, series.size());
+        }
+        return writer.toByteArray();
+    }
+
+    // livePhase 번째 캔들 하나씩. livePhase 보다 짧은 종목은 빠집니다 (JSON 경로와 동일)
+    public static byte[] encodeLive(List<SymbolSeries> seriesList, int livePhase) {
+        List<SymbolSeries> available = seriesList.stream().filter(series -> livePhase < series.size()).toList();
+        Writer writer = header(LIVE, livePhase, available);
+        for (SymbolSeries series : available) {
+            writeCandles(writer, series, livePhase, livePhase + 1);
+        }
+        return writer.toByteArray();
+    }
+
+    private static Writer header(int frameType, int livePhase, List<SymbolSeries> seriesList) {
+        Writer writer = new Writer(64 + seriesList.size() * 32);
+        writer.writeByte(MAGIC_0);
+        writer.writeByte(MAGIC_1);
+        writer.writeByte(VERSION);
+        writer.writeByte(frameType);
+        writer.writeZigZag(livePhase);
+        writer.writeVarint(PRICE_SCALE);
+        writer.writeVarint(seriesList.size());
+        for (SymbolSeries series : seriesList) {
+            writer.writeString(series.getSymbol());
+            writer.writeString(series.getName());
+        }
+        return writer;
+    }
+
+    private static void writeCandles(Writer writer, SymbolSeries series, int from, int to) {
+        writer.writeVarint(to - from);
+
+        long[] timestamps = series.getTimestamps();
+        long previousTimestamp = 0;
+        for (int i = from; i < to; i++) {
+            writer.writeZigZag(timestamps[i] - previousTimestamp);
+            previousTimestamp = timestamps[i];
+        }
+
+        double[] open = series.getOpenPrices();
+        double[] high = series.getHighPrices();
+        double[] low = series.getLowPrices();
+        double[] close = series.getClosePrices();
+        long previousClose = 0;
+        for (int i = from; i < to; i++) {
+            long o = scale(open[i]);
+            long c = scale(close[i]);
+            writer.writeZigZag(o - previousClose);
+            writer.writeZigZag(scale(high[i]) - o);
+            writer.writeZigZag(scale(low[i]) - o);
+            writer.writeZigZag(c - o);
+            previousClose = c;
+        }
+    }
+
+    private static long scale(double price) {
+        return Math.round(price * SCALE);
+    }
+
+    // 클라이언트 구현 참고 및 테스트용 디코더. 거래량은 프레임에 없으므로 0 으로 채웁니다
+    public static DecodedFrame decode(byte[] frame) {
+        Reader reader = new Reader(frame);
+        if (reader.readByte() != MAGIC_0 || reader.readByte() != MAGIC_1) {
+            throw new IllegalArgumentException("바이너리 프레임이 아닙니다.");
+        }
+        int version = reader.readByte();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 프레임 버전: " + version);
+        }
+        int frameType = reader.readByte();
+        int livePhase = (int) reader.readZigZag();
+        double scale = Math.pow(10, reader.readVarint());
+        int symbolCount = (int) reader.readVarint();
+
+        String[] symbols = new String[symbolCount];
+        String[] names = new String[symbolCount];
+        for (int s = 0; s < symbolCount; s++) {
+            symbols[s] = reader.readString();
+            names[s] = reader.readString();
+        }
+
+        DataType dataType = frameType == REFERENCE ? DataType.REFERENCE : DataType.LIVE;
+        List<SymbolSeries> seriesList = new ArrayList<>(symbolCount);
+        for (int s = 0; s < symbolCount; s++) {
+            int count = (int) reader.readVarint();
+            long[] timestamps = new long[count];
+            long timestamp = 0;
+            for (int i = 0; i < count; i++) {
+                timestamp += reader.readZigZag();
+                timestamps[i] = timestamp;
+            }
+            double[] open = new double[count];
+            double[] high = new double[count];
+            double[] low = new double[count];
+            double[] close = new double[count];
+            long previousClose = 0;
+            for (int i = 0; i < count; i++) {
+                long o = previousClose + reader.readZigZag();
+                long h = o + reader.readZigZag();
+                long l = o + reader.readZigZag();
+                long c = o + reader.readZigZag();
+                open[i] = o / scale;
+                high[i] = h / scale;
+                low[i] = l / scale;
+                close[i] = c / scale;
+                previousClose = c;
+            }
+            seriesList.add(new SymbolSeries(symbols[s], names[s], dataType, open, high, low, close, new long[count], timestamps));
+        }
+        return new DecodedFrame(frameType, livePhase, seriesList);
+    }
+
+    public record DecodedFrame(int frameType, int livePhase, List<SymbolSeries> series) {
+    }
+
+    private static final class Writer {
+        private byte[] buffer;
+        private int position;
+
+        Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[position++] = (byte) value;
+        }
+
+        void writeVarint(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        void writeZigZag(long value) {
+            writeVarint((value << 1) ^ (value >> 63));
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+            writeVarint(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer) {
+            this.buffer = buffer;
+        }
+
+        int readByte() {
+            return buffer[position++] & 0xFF;
+        }
+
+        long readVarint() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IllegalArgumentException("varint 가 너무 깁니다.");
+        }
+
+        long readZigZag() {
+            long raw = readVarint();
+            return (raw >>> 1) ^ -(raw & 1);
+        }
+
+        String readString() {
+            int length = (int) readVarint();
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Reference / Live 데이터 브로드캐스트용 프레임 캐시 입니다.
+
+ * 같은 단계에 있는 플레이어들은 모두 같은 List<AdvStockResponseDto> 를 받는데, 예전에는 세션마다
+ * objectMapper.writeValueAsString 을 다시 돌렸습니다. 이제 (스냅샷 version, DataType, livePhase) 당
+ * 한 번만 UTF-8 바이트로 직렬화하고, 만들어진 TextMessage 를 모든 세션이 같이 씁니다.
+
+ * 스냅샷이 갱신되면 이전 version 의 프레임은 버립니다.
+
+ * BINARY 세션용 프레임(BinaryFrameCodec) 은 바이트 배열로 따로 캐시합니다.
+ * BinaryMessage 의 ByteBuffer 는 전송하면서 position 이 움직이므로, 세션마다 같은 배열을 감싼 새 BinaryMessage 를 돌려줍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketFrameCache {
+
+    public static final int REFERENCE_PHASE = -1;
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<FrameKey, TextMessage> frames = new ConcurrentHashMap<>();
+    private final Map<FrameKey, byte[]> binaryFrames = new ConcurrentHashMap<>();
+    private volatile long currentVersion = -1;
+
+    // 지표
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong bytesSerialized = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public TextMessage frame(long version, DataType dataType, int livePhase, Supplier<?> payload) {
+        if (version != currentVersion) {
+            evictOlderThan(version);
+        }
+
+        FrameKey key = new FrameKey(version, dataType, livePhase);
+        TextMessage cached = frames.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(cached.getPayloadLength());
+            return cached;
+        }
+
+        // 동시에 같은 키를 요청해도 직렬화는 한 번만 일어납니다
+        return frames.computeIfAbsent(key, k -> {
+            misses.incrementAndGet();
+            return serialize(payload.get());
+        });
+    }
+
+    public BinaryMessage binaryFrame(long version, DataType dataType, int livePhase, Supplier<byte[]> encoder) {
+        if (version != currentVersion) {
+            evictOlderThan(version);
+        }
+
+        FrameKey key = new FrameKey(version, dataType, livePhase);
+        byte[] cached = binaryFrames.get(key);
+        if (cached != null) {
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(cached.length);
+            return new BinaryMessage(cached);
+        }
+
+        byte[] bytes = binaryFrames.computeIfAbsent(key, k -> {
+            misses.incrementAndGet();
+            byte[] encoded = encoder.get();
+            bytesSerialized.addAndGet(encoded.length);
+            return encoded;
+        });
+        return new BinaryMessage(bytes);
+    }
+
+    private TextMessage serialize(Object payload) {
+        try {
+            byte[] bytes = objectMapper.writeValueAsBytes(payload);
+            bytesSerialized.addAndGet(bytes.length);
+            return new TextMessage(bytes);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("프레임 직렬화 실패", e);
+        }
+    }
+
+    private synchronized void evictOlderThan(long version) {
+        if (version <= currentVersion) {
+            return;
+        }
+        if (currentVersion >= 0) {
+            log.info("프레임 캐시 교체: version {} -> {}, hitRate={}, bytesSaved={}",
+                    currentVersion, version, String.format("%.3f", getHitRate()), bytesSaved.get());
+        }
+        frames.keySet().removeIf(key -> key.version() < version);
+        binaryFrames.keySet().removeIf(key -> key.version() < version);
+        currentVersion = version;
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public double getHitRate() {
+        long total = hits.get() + misses.get();
+        return total == 0 ? 0.0 : (double) hits.get() / total;
+    }
+
+    public long getBytesSerialized() {
+        return bytesSerialized.get();
+    }
+
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    public int size() {
+        return frames.size() + binaryFrames.size();
+    }
+
+    public record FrameKey(long version, DataType dataType, int livePhase) {
+    }
+}
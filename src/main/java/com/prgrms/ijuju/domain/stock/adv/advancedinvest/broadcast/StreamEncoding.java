@@ -0,0 +1,38 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast;
+
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 세션별 시세 전송 방식 입니다. 기본은 JSON 이고, 다음 둘 중 하나로 BINARY 를 선택할 수 있습니다.
+ * - 핸드셰이크에서 Sec-WebSocket-Protocol: adv-binary-v1 요청
+ * - 접속 후 SET_ENCODING 액션 (encoding = "binary")
+ */
+public enum StreamEncoding {
+    JSON, BINARY;
+
+    public static final String BINARY_SUBPROTOCOL = "adv-binary-v1";
+    private static final String ATTRIBUTE = "advancedInvest.streamEncoding";
+
+    public static StreamEncoding of(WebSocketSession session) {
+        Object selected = session.getAttributes().get(ATTRIBUTE);
+        if (selected instanceof StreamEncoding encoding) {
+            return encoding;
+        }
+        return BINARY_SUBPROTOCOL.equals(session.getAcceptedProtocol()) ? BINARY : JSON;
+    }
+
+    public static void select(WebSocketSession session, StreamEncoding encoding) {
+        session.getAttributes().put(ATTRIBUTE, encoding);
+    }
+
+    public static StreamEncoding from(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("encoding 값이 없습니다.");
+        }
+        try {
+            return valueOf(value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("지원하지 않는 encoding 입니다: " + value);
+        }
+    }
+}
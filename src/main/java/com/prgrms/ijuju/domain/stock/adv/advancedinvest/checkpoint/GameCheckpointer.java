@@ -0,0 +1,186 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.checkpoint;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameStateStore;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.constant.GameStage;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameState;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameTimingWheel;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 진행 중인 게임의 초(currentSecond) 와 단계(stage) 를 주기적으로 DB 에 기록합니다.
+ * 예전에는 pauseGame 에서만 currentSecond 를 저장했기 때문에, 배포나 장애로 서버가 내려가면 진행 상황이 모두 사라졌습니다.
+
+ * - 게임마다 매초 쓰지 않고, interval 마다 바뀐 게임만 모아서 CASE 문 UPDATE 한 번(batchSize 행 단위) 으로 씁니다.
+ * - 마지막으로 기록한 초는 GameState.checkpointedSecond 에 두고, 그대로인 게임은 건너뜁니다.
+ * - 서버가 다시 뜨면 recover() 가 타이머가 돌던 게임을 마지막 체크포인트 초로 일시정지해 둡니다.
+ *   웹소켓이 끊긴 상태라 바로 타이머를 돌릴 수 없으므로, 사용자가 다시 접속해 RESUME_GAME 을 보내면 그 초부터 타이머가 이어집니다.
+ */
+@Slf4j
+@Component
+public class GameCheckpointer {
+
+    private static final int GAME_END_SECOND = 420;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final GameTimingWheel gameTimingWheel;
+    private final AdvancedInvestRepository advancedInvestRepository;
+    private final GameStateStore gameStateStore;
+    private final int batchSize;
+
+    // 이 노드에서 타이머가 돌고 있는 게임
+    private final Map<Long, GameState> tracked = new ConcurrentHashMap<>();
+
+    // 지표 (쓰기 증폭 = statementCount / 게임 수, rowCount / 게임 수)
+    private final AtomicLong checkpointCount = new AtomicLong();
+    private final AtomicLong statementCount = new AtomicLong();
+    private final AtomicLong rowCount = new AtomicLong();
+    private final AtomicLong skippedCount = new AtomicLong();
+
+    public GameCheckpointer(JdbcTemplate jdbcTemplate,
+                            GameTimingWheel gameTimingWheel,
+                            AdvancedInvestRepository advancedInvestRepository,
+                            GameStateStore gameStateStore,
+                            @Value("${advanced-invest.checkpoint.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.gameTimingWheel = gameTimingWheel;
+        this.advancedInvestRepository = advancedInvestRepository;
+        this.gameStateStore = gameStateStore;
+        this.batchSize = batchSize;
+    }
+
+    public void track(GameState state) {
+        tracked.put(state.getGameId(), state);
+    }
+
+    public void untrack(Long gameId) {
+        tracked.remove(gameId);
+    }
+
+    @Scheduled(fixedDelayString = "${advanced-invest.checkpoint.interval-millis:5000}")
+    public void checkpoint() {
+        long tick = gameTimingWheel.currentTick();
+        List<GameState> dirty = new ArrayList<>();
+        List<Integer> seconds = new ArrayList<>();
+
+        for (GameState state : tracked.values()) {
+            if (!state.isActive()) { // 일시정지/종료는 pauseGame/endGame 이 직접 기록합니다
+                // 그 사이 같은 게임이 새 상태로 다시 등록됐다면 지우지 않습니다
+                tracked.remove(state.getGameId(), state);
+                continue;
+            }
+            int second = state.currentSecond(tick, GAME_END_SECOND);
+            if (second == state.getCheckpointedSecond()) {
+                skippedCount.incrementAndGet();
+                continue;
+            }
+            dirty.add(state);
+            seconds.add(second);
+        }
+
+        for (int from = 0; from < dirty.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, dirty.size());
+            try {
+                write(dirty.subList(from, to), seconds.subList(from, to));
+                for (int i = from; i < to; i++) {
+                    dirty.get(i).setCheckpointedSecond(seconds.get(i));
+                }
+            } catch (Exception e) {
+                // 기록하지 못한 게임은 checkpointedSecond 가 그대로라 다음 주기에 다시 씁니다
+                log.error("게임 체크포인트 실패 ({}건)", to - from, e);
+            }
+        }
+        checkpointCount.incrementAndGet();
+    }
+
+    // UPDATE advanced_invest SET current_second = CASE id WHEN .. THEN .. END, stage = CASE id .. END WHERE id IN (..)
+    // 값은 모두 숫자(id, 초) 와 GameStage 상수 이름이라 바인딩 대신 리터럴로 넣습니다.
+    // (H2 는 CASE ... THEN ? 의 파라미터 타입을 추론하지 못합니다)
+    private void write(List<GameState> states, List<Integer> seconds) {
+        StringBuilder secondCase = new StringBuilder("CASE id");
+        StringBuilder stageCase = new StringBuilder("CASE id");
+        StringBuilder in = new StringBuilder();
+
+        for (int i = 0; i < states.size(); i++) {
+            long gameId = states.get(i).getGameId();
+            int second = seconds.get(i);
+            secondCase.append(" WHEN ").append(gameId).append(" THEN ").append(second);
+            stageCase.append(" WHEN ").append(gameId).append(" THEN '").append(GameStage.of(second).name()).append('\'');
+            if (i > 0) {
+                in.append(", ");
+            }
+            in.append(gameId);
+        }
+
+        // 그 사이 일시정지/종료된 게임은 덮어쓰지 않습니다
+        String sql = "UPDATE advanced_invest SET current_second = " + secondCase + " END, stage = " + stageCase + " END"
+                + " WHERE id IN (" + in + ") AND paused = false AND stage IS NOT NULL";
+
+        int updated = jdbcTemplate.update(sql);
+        statementCount.incrementAndGet();
+        rowCount.addAndGet(updated);
+    }
+
+    // 서버가 내려가기 전에 타이머가 돌던 게임을 마지막 체크포인트 초로 일시정지합니다.
+    // 다른 노드가 소유한 게임은 그 노드가 살아 있을 수 있으므로 건드리지 않습니다 (죽었다면 syncCluster 에서 인계)
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(2)
+    @Transactional
+    public int recover() {
+        List<Long> orphaned = new ArrayList<>();
+        for (Long gameId : advancedInvestRepository.findRunningIds()) {
+            boolean ownedByOther = gameStateStore.find(gameId)
+                    .map(record -> !record.isOwnedBy(gameStateStore.nodeId()))
+                    .orElse(false);
+            if (!ownedByOther && !tracked.containsKey(gameId)) {
+                orphaned.add(gameId);
+            }
+        }
+
+        int recovered = 0;
+        for (int from = 0; from < orphaned.size(); from += batchSize) {
+            recovered += advancedInvestRepository.pauseAll(orphaned.subList(from, Math.min(from + batchSize, orphaned.size())));
+        }
+        // 이전 실행에서 남은 소유권은 지웁니다. RESUME_GAME 이 다시 소유권을 가져갑니다
+        orphaned.forEach(gameStateStore::markEnded);
+
+        if (recovered > 0) {
+            log.info("재시작 전 진행 중이던 게임 {}건을 마지막 체크포인트에서 일시정지했습니다", recovered);
+        }
+        return recovered;
+    }
+
+    public int getTrackedCount() {
+        return tracked.size();
+    }
+
+    public long getCheckpointCount() {
+        return checkpointCount.get();
+    }
+
+    public long getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getRowCount() {
+        return rowCount.get();
+    }
+
+    public long getSkippedCount() {
+        return skippedCount.get();
+    }
+}
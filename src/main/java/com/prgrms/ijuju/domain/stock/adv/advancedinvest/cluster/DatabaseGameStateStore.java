@@ -0,0 +1,140 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.GameJobLock;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.GameNode;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.GameOwnership;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.GameJobLockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.GameNodeRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.GameOwnershipRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 여러 노드가 같은 DB 를 공유할 때 사용하는 저장소 입니다.
+
+ * - 게임마다 adv_game_ownership 행 하나에 소유 노드, 시작 초/시각, 일시정지 여부, 대기 중인 요청을 둡니다.
+ * - 노드는 adv_game_node 에 생존 신호(heartbeatAt) 를 남기고, leaseMillis 동안 갱신하지 않으면 죽은 것으로 봅니다.
+ * - 죽은 노드의 게임은 다른 노드가 transfer(조건부 UPDATE) 로 가져갑니다. 두 노드가 동시에 시도해도 한 쪽만 성공합니다.
+ * - 아침 리셋처럼 한 노드에서만 돌아야 하는 작업은 adv_game_job_lock 의 실행 날짜를 같은 방식으로 바꾼 노드가 맡습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "advanced-invest.cluster.store", havingValue = "database")
+public class DatabaseGameStateStore implements GameStateStore {
+
+    private static final String DAILY_RESET_JOB = "daily-reset";
+
+    private final GameOwnershipRepository gameOwnershipRepository;
+    private final GameNodeRepository gameNodeRepository;
+    private final GameJobLockRepository gameJobLockRepository;
+    private final String nodeId;
+    private final long leaseMillis;
+
+    public DatabaseGameStateStore(GameOwnershipRepository gameOwnershipRepository,
+                                  GameNodeRepository gameNodeRepository,
+                                  GameJobLockRepository gameJobLockRepository,
+                                  @Value("${advanced-invest.cluster.node-id:${random.uuid}}") String nodeId,
+                                  @Value("${advanced-invest.cluster.lease-millis:10000}") long leaseMillis) {
+        this.gameOwnershipRepository = gameOwnershipRepository;
+        this.gameNodeRepository = gameNodeRepository;
+        this.gameJobLockRepository = gameJobLockRepository;
+        this.nodeId = nodeId;
+        this.leaseMillis = leaseMillis;
+    }
+
+    // 게임을 받기 전에 생존 신호를 먼저 남겨야 다른 노드가 이 노드의 게임을 고아로 보지 않습니다
+    @PostConstruct
+    public void register() {
+        heartbeat(System.currentTimeMillis());
+        // 리셋 잠금 행은 처음 뜬 노드가 만듭니다. 리셋 트랜잭션 안에서 만들다 충돌하면 리셋까지 롤백되므로 미리 만들어 둡니다
+        if (!gameJobLockRepository.existsById(DAILY_RESET_JOB)) {
+            try {
+                gameJobLockRepository.saveAndFlush(new GameJobLock(DAILY_RESET_JOB));
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 만들었음
+            }
+        }
+        log.info("게임 노드 등록: {}", nodeId);
+    }
+
+    @Override
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public void claim(Long gameId, int startSecond, long startedAtMillis) {
+        gameOwnershipRepository.save(new GameOwnership(gameId, nodeId, startSecond, startedAtMillis));
+    }
+
+    @Override
+    public Optional<GameRecord> find(Long gameId) {
+        return gameOwnershipRepository.findById(gameId).map(GameOwnership::toRecord);
+    }
+
+    @Override
+    public List<GameRecord> findAll() {
+        return gameOwnershipRepository.findAll().stream().map(GameOwnership::toRecord).toList();
+    }
+
+    @Override
+    public void markPaused(Long gameId, int second) {
+        gameOwnershipRepository.markPaused(gameId, second);
+        gameOwnershipRepository.requestIfNotOwner(gameId, nodeId, GameCommand.PAUSE);
+    }
+
+    @Override
+    public void markEnded(Long gameId) {
+        if (gameOwnershipRepository.deleteOwned(gameId, nodeId) == 0) {
+            gameOwnershipRepository.requestIfNotOwner(gameId, nodeId, GameCommand.END);
+        }
+    }
+
+    @Override
+    public List<GameRecord> pollCommands() {
+        List<GameRecord> polled = new ArrayList<>();
+        for (GameOwnership ownership : gameOwnershipRepository.findByOwnerNodeAndCommandIsNotNull(nodeId)) {
+            GameCommand command = ownership.getCommand();
+            int changed = command == GameCommand.END
+                    ? gameOwnershipRepository.deleteWithCommand(ownership.getGameId(), command)
+                    : gameOwnershipRepository.clearCommand(ownership.getGameId(), command);
+            if (changed > 0) { // 그 사이 다른 요청으로 바뀌었다면 다음 주기에 처리합니다
+                polled.add(ownership.toRecord());
+            }
+        }
+        return polled;
+    }
+
+    @Override
+    public void heartbeat(long nowMillis) {
+        gameNodeRepository.save(new GameNode(nodeId, nowMillis));
+    }
+
+    @Override
+    public List<GameRecord> takeOverOrphans(long nowMillis) {
+        List<GameRecord> taken = new ArrayList<>();
+        for (GameOwnership orphan : gameOwnershipRepository.findOrphans(nodeId, nowMillis - leaseMillis)) {
+            if (gameOwnershipRepository.transfer(orphan.getGameId(), orphan.getOwnerNode(), nodeId) > 0) {
+                log.warn("노드 {} 의 게임 {} 을(를) 인계받았습니다", orphan.getOwnerNode(), orphan.getGameId());
+                GameRecord record = orphan.toRecord();
+                taken.add(new GameRecord(record.gameId(), nodeId, record.startSecond(), record.startedAtMillis(),
+                        record.paused(), record.pausedSecond(), record.command()));
+            }
+        }
+        return taken;
+    }
+
+    @Override
+    public boolean tryAcquireDailyReset(LocalDate runDate) {
+        return gameJobLockRepository.acquire(DAILY_RESET_JOB, runDate, nodeId) > 0;
+    }
+}
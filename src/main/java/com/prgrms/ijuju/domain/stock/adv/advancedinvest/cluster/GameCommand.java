@@ -0,0 +1,10 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster;
+
+/**
+ * 게임을 소유하지 않은 노드가 소유 노드에게 남기는 요청 입니다.
+ * 소유 노드는 syncCluster 주기마다 자신의 게임에 남겨진 요청을 가져가 처리합니다.
+ */
+public enum GameCommand {
+    PAUSE,  // 타이머 정지 (초 수는 요청한 노드가 이미 기록)
+    END     // 타이머 정지 + 세션 종료 후 소유권 삭제
+}
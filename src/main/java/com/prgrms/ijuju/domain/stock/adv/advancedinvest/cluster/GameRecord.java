@@ -0,0 +1,29 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster;
+
+/**
+ * 노드와 상관없이 공유되는 게임 상태 입니다.
+ * 타이머(GameState)는 소유 노드에만 있고, 다른 노드는 이 값으로 남은 시간 등을 계산합니다.
+
+ * startedAtMillis 는 startSecond 초에 해당하는 시각(epoch millis) 입니다.
+ */
+public record GameRecord(Long gameId,
+                         String ownerNode,
+                         int startSecond,
+                         long startedAtMillis,
+                         boolean paused,
+                         int pausedSecond,
+                         GameCommand command) {
+
+    // 벽시계 기준 진행 초. 소유 노드의 틱과 약간 어긋날 수 있으므로 소유 노드에서는 GameState 를 우선 사용합니다
+    public int currentSecond(long nowMillis, int endSecond) {
+        if (paused) {
+            return pausedSecond;
+        }
+        long second = startSecond + Math.max(0, nowMillis - startedAtMillis) / 1000;
+        return (int) Math.min(second, endSecond);
+    }
+
+    public boolean isOwnedBy(String nodeId) {
+        return ownerNode.equals(nodeId);
+    }
+}
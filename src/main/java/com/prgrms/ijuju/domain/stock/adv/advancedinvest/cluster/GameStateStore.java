@@ -0,0 +1,43 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 게임 상태 저장소 입니다. 어느 노드가 어떤 게임의 타이머를 돌리고 있는지(소유권)와
+ * 일시정지/종료 요청을 노드 사이에서 공유합니다.
+
+ * - LocalGameStateStore    : 단일 노드용 (기본값)
+ * - DatabaseGameStateStore : 여러 노드가 같은 DB 를 공유할 때 사용 (advanced-invest.cluster.store=database)
+ */
+public interface GameStateStore {
+
+    // 이 저장소를 사용하는 노드의 id
+    String nodeId();
+
+    // 이 노드가 게임의 타이머를 startSecond 초부터 시작함. 기존 소유자/일시정지/요청은 덮어씁니다
+    void claim(Long gameId, int startSecond, long startedAtMillis);
+
+    Optional<GameRecord> find(Long gameId);
+
+    List<GameRecord> findAll();
+
+    // second 초로 일시정지 기록. 소유 노드가 다른 노드라면 PAUSE 요청을 남깁니다
+    void markPaused(Long gameId, int second);
+
+    // 소유 노드가 이 노드라면 바로 삭제하고, 다른 노드라면 END 요청을 남깁니다
+    void markEnded(Long gameId);
+
+    // 이 노드가 소유한 게임에 남겨진 요청을 가져옵니다. 가져간 요청은 지워지고, END 인 게임은 삭제됩니다
+    List<GameRecord> pollCommands();
+
+    // 노드 생존 신호
+    void heartbeat(long nowMillis);
+
+    // 생존 신호가 끊긴 노드의 게임을 이 노드로 가져옵니다. 가져온 게임 목록을 반환합니다
+    List<GameRecord> takeOverOrphans(long nowMillis);
+
+    // runDate 의 아침 리셋을 이 노드가 맡았는지. 같은 날짜로는 노드 중 한 곳만 true 를 받습니다
+    boolean tryAcquireDailyReset(LocalDate runDate);
+}
@@ -0,0 +1,74 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 노드가 하나일 때 사용하는 메모리 저장소 입니다. 모든 게임의 소유자는 이 노드이므로
+ * 요청(command) 이나 소유권 이전이 발생하지 않습니다.
+ */
+@Component
+@ConditionalOnProperty(name = "advanced-invest.cluster.store", havingValue = "local", matchIfMissing = true)
+public class LocalGameStateStore implements GameStateStore {
+
+    private static final String NODE_ID = "local";
+
+    private final Map<Long, GameRecord> games = new ConcurrentHashMap<>();
+
+    @Override
+    public String nodeId() {
+        return NODE_ID;
+    }
+
+    @Override
+    public void claim(Long gameId, int startSecond, long startedAtMillis) {
+        games.put(gameId, new GameRecord(gameId, NODE_ID, startSecond, startedAtMillis, false, 0, null));
+    }
+
+    @Override
+    public Optional<GameRecord> find(Long gameId) {
+        return Optional.ofNullable(games.get(gameId));
+    }
+
+    @Override
+    public List<GameRecord> findAll() {
+        return new ArrayList<>(games.values());
+    }
+
+    @Override
+    public void markPaused(Long gameId, int second) {
+        games.computeIfPresent(gameId, (id, record) -> new GameRecord(id, record.ownerNode(),
+                record.startSecond(), record.startedAtMillis(), true, second, null));
+    }
+
+    @Override
+    public void markEnded(Long gameId) {
+        games.remove(gameId);
+    }
+
+    @Override
+    public List<GameRecord> pollCommands() {
+        return List.of();
+    }
+
+    @Override
+    public void heartbeat(long nowMillis) {
+    }
+
+    @Override
+    public List<GameRecord> takeOverOrphans(long nowMillis) {
+        return List.of();
+    }
+
+    @Override
+    public boolean tryAcquireDailyReset(LocalDate runDate) {
+        return true;
+    }
+}
@@ -3,5 +3,16 @@ package com.prgrms.ijuju.domain.stock.adv.advancedinvest.constant;
 public enum GameStage {
     PRE_MARKET, // 장전 거래 시간
     MARKET_OPEN, // 주식 거래 시간
-    POST_MARKET // 장후 거래 시간
-}
\ No newline at end of file
+    POST_MARKET; // 장후 거래 시간
+
+    // 진행 초(0 ~ 420) 에 해당하는 단계
+    public static GameStage of(int second) {
+        if (second < 60) {
+            return PRE_MARKET;
+        }
+        if (second < 360) {
+            return MARKET_OPEN;
+        }
+        return POST_MARKET;
+    }
+}
@@ -16,4 +16,5 @@ public class WebSocketRequestDto {
     private int quantity;
     private BigDecimal points;
     private Long memberId;
+    private String encoding; // SET_ENCODING : "json" 또는 "binary"
 }
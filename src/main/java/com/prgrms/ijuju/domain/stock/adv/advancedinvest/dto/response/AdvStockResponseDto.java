@@ -1,7 +1,7 @@
 package com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response;
 
 
-import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.SymbolSeries;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -26,35 +26,24 @@ public class AdvStockResponseDto {
     private Long timestamp;
     private String dataType;
 
-    public static AdvStockResponseDto fromEntity(AdvStock advStock, int index) {
+    public static AdvStockResponseDto fromSeries(SymbolSeries series, int index) {
         return AdvStockResponseDto.builder()
-                .symbol(advStock.getSymbol())
-                .name(advStock.getName())
-                .openPrice(advStock.getOpenPrices().get(index))
-                .highPrice(advStock.getHighPrices().get(index))
-                .lowPrice(advStock.getLowPrices().get(index))
-                .closePrice(advStock.getClosePrices().get(index))
-                .timestamp(advStock.getTimestamps().get(index))
-                .dataType(advStock.getDataType().name())
+                .symbol(series.getSymbol())
+                .name(series.getName())
+                .openPrice(series.getOpenPrices()[index])
+                .highPrice(series.getHighPrices()[index])
+                .lowPrice(series.getLowPrices()[index])
+                .closePrice(series.getClosePrices()[index])
+                .timestamp(series.getTimestamps()[index])
+                .dataType(series.getDataType().name())
                 .build();
     }
 
-    public static List<AdvStockResponseDto> fromEntityForReference(AdvStock advStock) {
-        List<AdvStockResponseDto> dtoList = new ArrayList<>();
-        int dataSize = advStock.getOpenPrices().size(); // 모든 데이터의 크기 가정
-        for (int i = 0; i < dataSize; i++) {
-            dtoList.add(AdvStockResponseDto.builder()
-                    .symbol(advStock.getSymbol())
-                    .name(advStock.getName())
-                    .openPrice(advStock.getOpenPrices().get(i))
-                    .highPrice(advStock.getHighPrices().get(i))
-                    .lowPrice(advStock.getLowPrices().get(i))
-                    .closePrice(advStock.getClosePrices().get(i))
-                    .timestamp(advStock.getTimestamps().get(i))
-                    .dataType(advStock.getDataType().name())
-                    .build());
+    public static List<AdvStockResponseDto> fromSeriesForReference(SymbolSeries series) {
+        List<AdvStockResponseDto> dtoList = new ArrayList<>(series.size());
+        for (int i = 0; i < series.size(); i++) {
+            dtoList.add(fromSeries(series, i));
         }
         return dtoList;
     }
 }
-
@@ -1,6 +1,7 @@
 package com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity;
 
 import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.constant.GameStage;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockRecord;
 import jakarta.persistence.*;
 import lombok.*;
@@ -31,6 +32,10 @@ public class AdvancedInvest {
     @Column(nullable = false)
     private int currentSecond = 0;
 
+    // 진행 중인 게임의 마지막 체크포인트 단계. 종료된(또는 시작 전) 게임은 null
+    @Enumerated(EnumType.STRING)
+    private GameStage stage;
+
     private boolean playedToday;
 
     @OneToMany(mappedBy = "advancedInvest", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -0,0 +1,48 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal.GameEventType;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게임 저널 테이블(adv_game_event) 정의 입니다.
+ * 쓰기(GameJournal) 와 읽기(GameJournalReader) 는 모두 JdbcTemplate 으로 하고, 이 엔티티는 스키마를 만드는 데만 씁니다.
+ * 게임별로 순서대로 읽기 때문에 (game_id, id) 인덱스를 둡니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "adv_game_event", indexes = @Index(name = "idx_game_event_game", columnList = "game_id, id"))
+public class GameEventEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id; // 저널 전체의 기록 순서
+
+    @Column(name = "game_id", nullable = false)
+    private Long gameId;
+
+    private Long memberId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private GameEventType type;
+
+    private int gameSecond;
+
+    private String symbol;
+
+    @Enumerated(EnumType.STRING)
+    private TradeType tradeType;
+
+    private double quantity;
+
+    private double price;
+
+    private long points;
+
+    private long occurredAt; // epoch millis
+}
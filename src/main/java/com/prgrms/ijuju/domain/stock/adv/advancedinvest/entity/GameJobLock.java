@@ -0,0 +1,29 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 하루에 한 번, 한 노드에서만 돌아야 하는 작업(아침 7시 리셋 등) 의 마지막 실행 날짜 입니다. DatabaseGameStateStore 전용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "adv_game_job_lock")
+public class GameJobLock {
+
+    @Id
+    private String jobName;
+
+    private LocalDate runDate; // 마지막으로 실행한 날짜
+
+    private String nodeId;     // 마지막으로 실행한 노드
+
+    public GameJobLock(String jobName) {
+        this.jobName = jobName;
+    }
+}
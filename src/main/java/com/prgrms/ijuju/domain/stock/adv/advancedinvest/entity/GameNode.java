@@ -0,0 +1,26 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 게임 서버 노드의 마지막 생존 신호 입니다. 일정 시간 갱신되지 않은 노드의 게임은 다른 노드가 가져갑니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "adv_game_node")
+public class GameNode {
+
+    @Id
+    private String nodeId;
+
+    private long heartbeatAt;
+
+    public GameNode(String nodeId, long heartbeatAt) {
+        this.nodeId = nodeId;
+        this.heartbeatAt = heartbeatAt;
+    }
+}
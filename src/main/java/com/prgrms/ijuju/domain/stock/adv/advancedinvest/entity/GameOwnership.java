@@ -0,0 +1,46 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameCommand;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameRecord;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 진행 중인 게임(AdvancedInvest) 의 타이머를 어느 노드가 돌리고 있는지 기록합니다. DatabaseGameStateStore 전용
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "adv_game_ownership", indexes = @Index(name = "idx_game_ownership_owner", columnList = "owner_node"))
+public class GameOwnership {
+
+    @Id
+    private Long gameId; // AdvancedInvest id
+
+    @Column(name = "owner_node", nullable = false)
+    private String ownerNode;
+
+    private int startSecond;
+
+    private long startedAtMillis;
+
+    private boolean paused;
+
+    private int pausedSecond;
+
+    @Enumerated(EnumType.STRING)
+    private GameCommand command;
+
+    public GameOwnership(Long gameId, String ownerNode, int startSecond, long startedAtMillis) {
+        this.gameId = gameId;
+        this.ownerNode = ownerNode;
+        this.startSecond = startSecond;
+        this.startedAtMillis = startedAtMillis;
+    }
+
+    public GameRecord toRecord() {
+        return new GameRecord(gameId, ownerNode, startSecond, startedAtMillis, paused, pausedSecond, command);
+    }
+}
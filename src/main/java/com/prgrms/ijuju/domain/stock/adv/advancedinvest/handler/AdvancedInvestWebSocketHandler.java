@@ -3,12 +3,17 @@ package com.prgrms.ijuju.domain.stock.adv.advancedinvest.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prgrms.ijuju.global.util.WebSocketUtil;
+import com.prgrms.ijuju.global.websocket.OutboundSessionRegistry;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast.StreamEncoding;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.request.StockTransactionRequestDto;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.request.WebSocketRequestDto;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.service.AdvancedInvestService;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.lang.NonNull;
 import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.SubProtocolCapable;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.handler.TextWebSocketHandler;
@@ -20,9 +25,22 @@ import java.util.Map;
 
 @Component
 @RequiredArgsConstructor
-public class AdvancedInvestWebSocketHandler extends TextWebSocketHandler {
+public class AdvancedInvestWebSocketHandler extends TextWebSocketHandler implements SubProtocolCapable {
     private final AdvancedInvestService advancedInvestService;
     private final ObjectMapper objectMapper;
+    private final OutboundSessionRegistry outboundSessionRegistry;
+
+    // 핸드셰이크에서 adv-binary-v1 을 요청한 클라이언트는 시세를 바이너리 프레임으로 받습니다
+    @Override
+    @NonNull
+    public List<String> getSubProtocols() {
+        return List.of(StreamEncoding.BINARY_SUBPROTOCOL);
+    }
+
+    @Override
+    public void afterConnectionClosed(@NonNull WebSocketSession session, @NonNull CloseStatus status) {
+        outboundSessionRegistry.remove(session);
+    }
 
     @Override
     protected void handleTextMessage(@NonNull WebSocketSession session, TextMessage message) throws Exception {
@@ -51,6 +69,13 @@ public class AdvancedInvestWebSocketHandler extends TextWebSocketHandler {
                 WebSocketUtil.send(session, "게임이 종료되었습니다.");
                 break;
 
+            case "SET_ENCODING":
+                // 기존 클라이언트는 JSON 그대로. BINARY 를 고르면 ReferenceData / LiveData 가 바이너리 프레임으로 나갑니다
+                StreamEncoding encoding = StreamEncoding.from(requestDto.getEncoding());
+                StreamEncoding.select(session, encoding);
+                WebSocketUtil.send(session, Map.of("encoding", encoding.name()));
+                break;
+
             case "GET_REMAINING_TIME":
                 int remainingTime = advancedInvestService.getRemainingTime(requestDto.getAdvId());
                 Map<String, Object> response = new HashMap<>();
@@ -63,6 +88,16 @@ public class AdvancedInvestWebSocketHandler extends TextWebSocketHandler {
                 WebSocketUtil.send(session, "거래량 데이터 조회");
                 break;
 
+            case "SUBSCRIBE_VOLUMES":
+                // 폴링 대신 LiveData 가 나갈 때마다 갱신된 거래량을 받습니다
+                advancedInvestService.subscribeVolumes(session, requestDto.getStockSymbol(), requestDto.getAdvId());
+                break;
+
+            case "UNSUBSCRIBE_VOLUMES":
+                advancedInvestService.unsubscribeVolumes(requestDto.getStockSymbol(), requestDto.getAdvId());
+                WebSocketUtil.send(session, "거래량 구독 해제");
+                break;
+
 
             case "BUY_STOCK":
                 StockTransactionRequestDto buyRequest = StockTransactionRequestDto.builder()
@@ -71,8 +106,9 @@ public class AdvancedInvestWebSocketHandler extends TextWebSocketHandler {
                         .points(requestDto.getPoints())
                         .memberId(requestDto.getMemberId())
                         .build();
-                advancedInvestService.buyStock(requestDto.getAdvId(), buyRequest);
-                WebSocketUtil.send(session, "주식 구매가 완료되었습니다.");
+                // 주문은 묶음 처리 큐로 들어가고, 커밋이 끝나면 주문별 결과(TradeResult)를 보냅니다
+                advancedInvestService.submitTrade(requestDto.getAdvId(), buyRequest, TradeType.BUY)
+                        .thenAccept(result -> WebSocketUtil.send(session, result));
                 break;
 
             case "SELL_STOCK":
@@ -82,8 +118,8 @@ public class AdvancedInvestWebSocketHandler extends TextWebSocketHandler {
                         .points(requestDto.getPoints())
                         .memberId(requestDto.getMemberId())
                         .build();
-                advancedInvestService.sellStock(requestDto.getAdvId(), sellRequest);
-                WebSocketUtil.send(session, "주식 판매가 완료되었습니다.");
+                advancedInvestService.submitTrade(requestDto.getAdvId(), sellRequest, TradeType.SELL)
+                        .thenAccept(result -> WebSocketUtil.send(session, result));
                 break;
 
             default:
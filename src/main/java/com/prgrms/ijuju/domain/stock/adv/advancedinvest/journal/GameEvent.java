@@ -0,0 +1,36 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+
+/**
+ * 게임 저널의 이벤트 하나 입니다. 한 번 쓰면 바뀌지 않습니다.
+ * 거래 관련 값(symbol, tradeType, quantity, price, points) 은 TRADE 이벤트에만 있고, memberId 는 STARTED / TRADE 에만 있습니다.
+ * second 는 이벤트가 일어난 게임 내 초 입니다. (알 수 없으면 -1)
+ */
+public record GameEvent(
+        long gameId,
+        Long memberId,
+        GameEventType type,
+        int second,
+        String symbol,
+        TradeType tradeType,
+        double quantity,
+        double price,
+        long points,
+        long occurredAt
+) {
+
+    public static GameEvent of(long gameId, GameEventType type, int second) {
+        return new GameEvent(gameId, null, type, second, null, null, 0, 0, 0, System.currentTimeMillis());
+    }
+
+    public static GameEvent started(long gameId, Long memberId) {
+        return new GameEvent(gameId, memberId, GameEventType.STARTED, 0, null, null, 0, 0, 0, System.currentTimeMillis());
+    }
+
+    public static GameEvent trade(long gameId, Long memberId, int second, String symbol, TradeType tradeType,
+                                  double quantity, double price, long points) {
+        return new GameEvent(gameId, memberId, GameEventType.TRADE, second, symbol, tradeType, quantity, price, points,
+                System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,13 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal;
+
+/**
+ * 게임 저널(adv_game_event) 에 쌓이는 이벤트 종류
+ */
+public enum GameEventType {
+    STARTED,        // 게임 시작 (0초)
+    PHASE_CHANGED,  // ReferenceData / LiveData 단계 진입 (0, 60 ... 360초)
+    PAUSED,
+    RESUMED,
+    TRADE,          // 체결된 주문 (거절된 주문은 남기지 않습니다)
+    ENDED
+}
@@ -0,0 +1,249 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 하나의 흐름(시작, 단계, 일시정지, 재개, 거래, 종료) 을 adv_game_event 에 덧붙이기만(append-only) 하는 저널 입니다.
+ * 지금은 게임 기록이 AdvancedInvest / StockRecord / PointTransaction 에 흩어져 있고, 앞의 두 개는 값이 덮어써지기 때문에
+ * 게임이 어떻게 흘러갔는지 다시 만들려면 세 테이블을 조인해야 하고, 그나마 일시정지/재개 같은 이력은 남지 않습니다.
+
+ * - append 는 메모리 큐에 넣기만 하므로 타이머 워커나 주문 스레드를 붙잡지 않습니다.
+ * - 기록은 저널 전용 스레드(game-journal-writer) 하나가 큐를 들어온 순서대로 꺼내 batchSize 개씩 JDBC batch INSERT 로 씁니다.
+ *   한 스레드만 쓰므로 id 순서 = 기록 순서 입니다.
+ * - 큐가 가득 차면 append 한 스레드는 전용 스레드에 기록을 요청하고 append-wait-millis 까지만 자리가 나길 기다립니다.
+ *   그래도 자리가 없으면(DB 장애가 길어진 경우, 서버 종료 중) 이벤트를 버리고 droppedCount 에 셉니다.
+ *   append 는 타이머 워커 / 주문 스레드에서 불리므로, 저널 때문에 게임 진행이 멈추지 않도록 기다림에 한도를 둡니다.
+ * - 기록에 실패한 묶음은 버리지 않고 들고 있다가, 대기 시간을 두 배씩 늘리며(retry-backoff-millis ~ retry-max-backoff-millis)
+ *   다른 이벤트보다 먼저 다시 씁니다.
+ * - 주기적인 기록은 writer 에 요청만 하고 기다리지 않습니다. (@Scheduled 스레드를 붙잡지 않도록)
+ */
+@Slf4j
+@Component
+public class GameJournal {
+
+    private static final String INSERT_SQL = "INSERT INTO adv_game_event " +
+            "(game_id, member_id, type, game_second, symbol, trade_type, quantity, price, points, occurred_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final long DROP_LOG_EVERY = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+    private final long retryBackoffMillis;
+    private final long retryMaxBackoffMillis;
+    private final long appendWaitMillis;
+    private final BlockingQueue<GameEvent> queue;
+    private final ExecutorService writer;
+    private final AtomicBoolean drainRequested = new AtomicBoolean();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private volatile boolean closed;
+
+    // 아래 세 값은 writer 스레드에서만 씁니다
+    private List<GameEvent> failedBatch = List.of();   // 다시 써야 하는 묶음
+    private long retryDelayMillis;
+    private long nextRetryNanos;
+
+    // 지표
+    private final AtomicLong appendedCount = new AtomicLong();
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong statementCount = new AtomicLong();
+    private final AtomicLong inlineFlushCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    public GameJournal(JdbcTemplate jdbcTemplate,
+                       @Value("${advanced-invest.journal.batch-size:500}") int batchSize,
+                       @Value("${advanced-invest.journal.queue-capacity:50000}") int queueCapacity,
+                       @Value("${advanced-invest.journal.retry-backoff-millis:1000}") long retryBackoffMillis,
+                       @Value("${advanced-invest.journal.retry-max-backoff-millis:30000}") long retryMaxBackoffMillis,
+                       @Value("${advanced-invest.journal.append-wait-millis:1000}") long appendWaitMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.retryMaxBackoffMillis = retryMaxBackoffMillis;
+        this.appendWaitMillis = appendWaitMillis;
+        this.retryDelayMillis = retryBackoffMillis;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-journal-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void append(GameEvent event) {
+        appendedCount.incrementAndGet();
+        if (queue.offer(event)) {
+            return;
+        }
+        inlineFlushCount.incrementAndGet();
+        if (!closed) { // 종료 뒤에는 비워 줄 writer 가 없으므로 기다리지 않습니다
+            requestDrain();
+            try {
+                if (queue.offer(event, appendWaitMillis, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt(); // 타이밍 휠 종료 등. 더 기다리지 않고 버립니다
+            }
+        }
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped == 1 || dropped % DROP_LOG_EVERY == 0) {
+            log.warn("게임 저널 큐가 가득 차서 이벤트를 버렸습니다 (누적 {}건, 게임 {} {})", dropped, event.gameId(), event.type());
+        }
+    }
+
+    // 주기적인 기록. writer 에 요청만 하고 기다리지 않습니다
+    @Scheduled(fixedDelayString = "${advanced-invest.journal.flush-millis:1000}")
+    public void flushInBackground() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                writer.execute(() -> {
+                    flushRequested.set(false);
+                    drain(true);
+                });
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false); // 서버 종료 중
+            }
+        }
+    }
+
+    // 큐에 남은 이벤트를 모두 기록할 때까지 기다립니다 (재시도 대기 중이면 그 시간이 지난 뒤 다음 주기에 씁니다)
+    public void flush() {
+        try {
+            writer.submit(() -> drain(true)).get();
+        } catch (RejectedExecutionException e) {
+            log.warn("게임 저널이 종료되어 기록하지 못했습니다 (대기 {}건)", queue.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            log.error("게임 저널 기록 중 오류", e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+        closed = true;
+        writer.shutdown();
+        if (!failedBatch.isEmpty() || !queue.isEmpty()) {
+            log.error("게임 저널 종료: 기록하지 못한 이벤트 {}건", failedBatch.size() + queue.size());
+        }
+    }
+
+    // 큐가 가득 찼을 때: 이미 요청이 걸려 있지 않으면 writer 에 꽉 찬 묶음만 쓰도록 요청합니다
+    private void requestDrain() {
+        if (drainRequested.compareAndSet(false, true)) {
+            try {
+                writer.execute(() -> {
+                    drainRequested.set(false);
+                    drain(false);
+                });
+            } catch (RejectedExecutionException e) {
+                drainRequested.set(false); // 서버 종료 중
+            }
+        }
+    }
+
+    // writer 스레드에서만 실행됩니다. all 이 false 면 batchSize 개가 모였거나 큐가 가득 찼을 때만 씁니다
+    private void drain(boolean all) {
+        if (!failedBatch.isEmpty()) {
+            if (System.nanoTime() < nextRetryNanos || !tryWrite(failedBatch)) {
+                return;
+            }
+            failedBatch = List.of();
+        }
+        while (all ? !queue.isEmpty() : queue.size() >= batchSize || queue.remainingCapacity() == 0) {
+            List<GameEvent> batch = new ArrayList<>(batchSize);
+            queue.drainTo(batch, batchSize);
+            if (!tryWrite(batch)) {
+                failedBatch = batch;
+                return;
+            }
+        }
+    }
+
+    private boolean tryWrite(List<GameEvent> batch) {
+        try {
+            write(batch);
+            retryDelayMillis = retryBackoffMillis;
+            return true;
+        } catch (Exception e) {
+            // 저널은 게임 진행을 막지 않습니다. 실패한 묶음은 들고 있다가 대기 후 다시 씁니다
+            failedCount.addAndGet(batch.size());
+            log.error("게임 저널 기록 실패 ({}건), {}ms 뒤 다시 시도", batch.size(), retryDelayMillis, e);
+            nextRetryNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(retryDelayMillis);
+            retryDelayMillis = Math.min(retryDelayMillis * 2, retryMaxBackoffMillis);
+            return false;
+        }
+    }
+
+    private void write(List<GameEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setLong(1, event.gameId());
+            if (event.memberId() == null) {
+                ps.setNull(2, Types.BIGINT);
+            } else {
+                ps.setLong(2, event.memberId());
+            }
+            ps.setString(3, event.type().name());
+            ps.setInt(4, event.second());
+            ps.setString(5, event.symbol());
+            ps.setString(6, event.tradeType() == null ? null : event.tradeType().name());
+            ps.setDouble(7, event.quantity());
+            ps.setDouble(8, event.price());
+            ps.setLong(9, event.points());
+            ps.setLong(10, event.occurredAt());
+        });
+        statementCount.incrementAndGet();
+        writtenCount.addAndGet(events.size());
+    }
+
+    public long getAppendedCount() {
+        return appendedCount.get();
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getStatementCount() {
+        return statementCount.get();
+    }
+
+    public long getInlineFlushCount() {
+        return inlineFlushCount.get();
+    }
+
+    // 기록에 실패한 시도의 이벤트 수 (같은 묶음을 다시 실패하면 다시 셉니다)
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    // 큐가 가득 차서 버린 이벤트 수
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    // 큐에 남은 이벤트 수 (다시 써야 하는 묶음은 포함하지 않음)
+    public int getQueuedCount() {
+        return queue.size();
+    }
+}
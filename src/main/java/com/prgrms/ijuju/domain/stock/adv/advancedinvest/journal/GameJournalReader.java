@@ -0,0 +1,132 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 게임 저널을 읽어 게임별 요약(GameSummary) 으로 접습니다.
+
+ * 엔티티를 만들지 않고 ResultSet 을 한 줄씩 흘려 읽습니다(fetchSize). (game_id, id) 순서로 읽기 때문에
+ * game_id 가 바뀌는 순간 앞 게임의 요약이 완성되고, 메모리에는 지금 접고 있는 게임 하나만 남습니다.
+ * 그래서 이벤트가 수백만 건이어도 한 번 훑는 것으로 리포트 / 리더보드를 만들 수 있습니다.
+ * (MySQL 에서 실제로 스트리밍하려면 접속 URL 에 useCursorFetch=true 가 필요합니다)
+ */
+@Component
+public class GameJournalReader {
+
+    private static final String COLUMNS = "game_id, member_id, type, game_second, symbol, trade_type, quantity, price, points, occurred_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GameJournalReader(DataSource dataSource,
+                             @Value("${advanced-invest.journal.fetch-size:1000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    // 모든 게임의 요약을 game_id 순서로 하나씩 넘깁니다. 접은 이벤트 수를 돌려줍니다
+    public long forEachSummary(Consumer<GameSummary> consumer) {
+        SummaryFolder folder = new SummaryFolder(consumer);
+        jdbcTemplate.query("SELECT " + COLUMNS + " FROM adv_game_event ORDER BY game_id, id", folder);
+        folder.finish();
+        return folder.events;
+    }
+
+    public Optional<GameSummary> summarize(long gameId) {
+        List<GameSummary> result = new ArrayList<>(1);
+        SummaryFolder folder = new SummaryFolder(result::add);
+        jdbcTemplate.query("SELECT " + COLUMNS + " FROM adv_game_event WHERE game_id = ? ORDER BY id", folder, gameId);
+        folder.finish();
+        return result.stream().findFirst();
+    }
+
+    // 끝난 게임 중 거래 수익(netPoints) 상위 limit 개. 크기 limit 의 힙만 유지합니다
+    public List<GameSummary> leaderboard(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit 는 0 보다 커야 합니다: " + limit);
+        }
+        Comparator<GameSummary> byNetPoints = Comparator.comparingLong(GameSummary::getNetPoints)
+                .thenComparing(Comparator.comparingLong(GameSummary::getGameId).reversed());
+        PriorityQueue<GameSummary> top = new PriorityQueue<>(limit + 1, byNetPoints);
+        forEachSummary(summary -> {
+            if (!summary.isEnded()) {
+                return;
+            }
+            top.add(summary);
+            if (top.size() > limit) {
+                top.poll();
+            }
+        });
+
+        List<GameSummary> ranking = new ArrayList<>(top);
+        ranking.sort(byNetPoints.reversed());
+        return ranking;
+    }
+
+    // 게임 하나의 이벤트를 기록된 순서대로 (게임 후 리포트용)
+    public List<GameEvent> timeline(long gameId) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM adv_game_event WHERE game_id = ? ORDER BY id",
+                (rs, rowNum) -> new GameEvent(
+                        rs.getLong("game_id"),
+                        memberId(rs),
+                        GameEventType.valueOf(rs.getString("type")),
+                        rs.getInt("game_second"),
+                        rs.getString("symbol"),
+                        tradeType(rs),
+                        rs.getDouble("quantity"),
+                        rs.getDouble("price"),
+                        rs.getLong("points"),
+                        rs.getLong("occurred_at")),
+                gameId);
+    }
+
+    private static Long memberId(ResultSet rs) throws SQLException {
+        long memberId = rs.getLong("member_id");
+        return rs.wasNull() ? null : memberId;
+    }
+
+    private static TradeType tradeType(ResultSet rs) throws SQLException {
+        String tradeType = rs.getString("trade_type");
+        return tradeType == null ? null : TradeType.valueOf(tradeType);
+    }
+
+    // game_id 순서로 들어오는 행을 접다가, game_id 가 바뀌면 앞 게임의 요약을 넘깁니다
+    private static final class SummaryFolder implements RowCallbackHandler {
+
+        private final Consumer<GameSummary> consumer;
+        private GameSummary current;
+        private long events;
+
+        private SummaryFolder(Consumer<GameSummary> consumer) {
+            this.consumer = consumer;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long gameId = rs.getLong("game_id");
+            if (current == null || current.getGameId() != gameId) {
+                finish();
+                current = new GameSummary(gameId);
+            }
+            current.apply(memberId(rs), GameEventType.valueOf(rs.getString("type")), rs.getInt("game_second"),
+                    tradeType(rs), rs.getLong("points"), rs.getLong("occurred_at"));
+            events++;
+        }
+
+        private void finish() {
+            if (current != null) {
+                consumer.accept(current);
+                current = null;
+            }
+        }
+    }
+}
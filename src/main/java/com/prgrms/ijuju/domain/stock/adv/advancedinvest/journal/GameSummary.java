@@ -0,0 +1,75 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * 게임 하나의 저널을 처음부터 접어(fold) 만든 요약 입니다. 게임 후 리포트 / 리더보드에서 씁니다.
+ * GameJournalReader 가 이벤트를 순서대로 apply 해서 만듭니다.
+ */
+@Getter
+@ToString
+public class GameSummary {
+
+    private final long gameId;
+    private Long memberId;
+    private long startedAt;      // STARTED 시각 (epoch millis, 없으면 0)
+    private long endedAt;        // ENDED 시각 (없으면 0)
+    private boolean ended;
+    private int lastSecond = -1; // 마지막으로 기록된 게임 내 초
+    private int phaseCount;
+    private int pauseCount;
+    private int resumeCount;
+    private int buyCount;
+    private int sellCount;
+    private long pointsSpent;    // 구매에 쓴 포인트
+    private long pointsEarned;   // 판매로 얻은 포인트
+    private long eventCount;
+
+    public GameSummary(long gameId) {
+        this.gameId = gameId;
+    }
+
+    void apply(Long memberId, GameEventType type, int second, TradeType tradeType, long points, long occurredAt) {
+        eventCount++;
+        if (this.memberId == null && memberId != null) {
+            this.memberId = memberId;
+        }
+        if (second >= 0) {
+            lastSecond = Math.max(lastSecond, second);
+        }
+        switch (type) {
+            case STARTED -> startedAt = occurredAt;
+            case PHASE_CHANGED -> phaseCount++;
+            case PAUSED -> pauseCount++;
+            case RESUMED -> resumeCount++;
+            case TRADE -> {
+                if (tradeType == TradeType.BUY) {
+                    buyCount++;
+                    pointsSpent += points;
+                } else {
+                    sellCount++;
+                    pointsEarned += points;
+                }
+            }
+            case ENDED -> {
+                ended = true;
+                endedAt = occurredAt;
+            }
+        }
+    }
+
+    public int getTradeCount() {
+        return buyCount + sellCount;
+    }
+
+    // 거래로 늘어난(줄어든) 포인트. 게임이 끝날 때 남은 보유 주식은 포함하지 않습니다
+    public long getNetPoints() {
+        return pointsEarned - pointsSpent;
+    }
+
+    public long getDurationMillis() {
+        return startedAt > 0 && endedAt > 0 ? endedAt - startedAt : 0;
+    }
+}
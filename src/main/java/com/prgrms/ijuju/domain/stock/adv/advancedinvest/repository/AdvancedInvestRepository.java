@@ -5,6 +5,7 @@ import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -19,5 +20,13 @@ public interface AdvancedInvestRepository extends JpaRepository<AdvancedInvest,
 
     @Query("SELECT a FROM AdvancedInvest a WHERE a.paused = true")
     List<AdvancedInvest> findAllByPausedTrue();
+
+    // 종료되지도, 일시정지되지도 않은 게임 (서버가 내려가기 전까지 타이머가 돌던 게임)
+    @Query("SELECT a.id FROM AdvancedInvest a WHERE a.stage IS NOT NULL AND a.paused = false")
+    List<Long> findRunningIds();
+
+    @Modifying
+    @Query("UPDATE AdvancedInvest a SET a.paused = true WHERE a.id IN :ids AND a.stage IS NOT NULL AND a.paused = false")
+    int pauseAll(@Param("ids") List<Long> ids);
 }
 
@@ -0,0 +1,20 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.GameJobLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+public interface GameJobLockRepository extends JpaRepository<GameJobLock, String> {
+
+    // 오늘 아직 아무 노드도 실행하지 않았을 때만 바뀝니다. 여러 노드가 동시에 시도해도 한 쪽만 1 을 받습니다
+    @Transactional
+    @Modifying
+    @Query("UPDATE GameJobLock j SET j.runDate = :runDate, j.nodeId = :nodeId " +
+            "WHERE j.jobName = :jobName AND (j.runDate IS NULL OR j.runDate < :runDate)")
+    int acquire(@Param("jobName") String jobName, @Param("runDate") LocalDate runDate, @Param("nodeId") String nodeId);
+}
@@ -0,0 +1,7 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.GameNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface GameNodeRepository extends JpaRepository<GameNode, String> {
+}
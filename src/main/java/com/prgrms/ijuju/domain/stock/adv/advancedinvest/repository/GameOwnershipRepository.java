@@ -0,0 +1,52 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameCommand;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.GameOwnership;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 변경 쿼리는 모두 조건부(WHERE ownerNode / command) 로 실행해서, 여러 노드가 동시에 써도 한 쪽만 반영됩니다
+public interface GameOwnershipRepository extends JpaRepository<GameOwnership, Long> {
+
+    List<GameOwnership> findByOwnerNodeAndCommandIsNotNull(String ownerNode);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE GameOwnership g SET g.paused = true, g.pausedSecond = :second WHERE g.gameId = :gameId")
+    int markPaused(@Param("gameId") Long gameId, @Param("second") int second);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE GameOwnership g SET g.command = :command WHERE g.gameId = :gameId AND g.ownerNode <> :nodeId")
+    int requestIfNotOwner(@Param("gameId") Long gameId, @Param("nodeId") String nodeId, @Param("command") GameCommand command);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GameOwnership g WHERE g.gameId = :gameId AND g.ownerNode = :nodeId")
+    int deleteOwned(@Param("gameId") Long gameId, @Param("nodeId") String nodeId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE GameOwnership g SET g.command = null WHERE g.gameId = :gameId AND g.command = :command")
+    int clearCommand(@Param("gameId") Long gameId, @Param("command") GameCommand command);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM GameOwnership g WHERE g.gameId = :gameId AND g.command = :command")
+    int deleteWithCommand(@Param("gameId") Long gameId, @Param("command") GameCommand command);
+
+    // 소유 노드의 마지막 생존 신호가 aliveSince 보다 오래된 게임
+    @Query("SELECT g FROM GameOwnership g WHERE g.ownerNode <> :nodeId " +
+            "AND g.ownerNode NOT IN (SELECT n.nodeId FROM GameNode n WHERE n.heartbeatAt >= :aliveSince)")
+    List<GameOwnership> findOrphans(@Param("nodeId") String nodeId, @Param("aliveSince") long aliveSince);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE GameOwnership g SET g.ownerNode = :nodeId WHERE g.gameId = :gameId AND g.ownerNode = :previousOwner")
+    int transfer(@Param("gameId") Long gameId, @Param("previousOwner") String previousOwner, @Param("nodeId") String nodeId);
+}
@@ -2,9 +2,12 @@ package com.prgrms.ijuju.domain.stock.adv.advancedinvest.service;
 
 
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.request.StockTransactionRequestDto;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade.TradeResult;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
 import org.springframework.web.socket.WebSocketSession;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public interface AdvancedInvestService {
 
@@ -29,6 +32,9 @@ public interface AdvancedInvestService {
     // 7시 리셋
     void resetPlayedTodayStatus();
 
+    // 주식 주문 (BUY_STOCK / SELL_STOCK). 결과는 묶음 처리가 커밋된 뒤 완료됩니다
+    CompletableFuture<TradeResult> submitTrade(Long gameId, StockTransactionRequestDto request, TradeType tradeType);
+
     // 주식 구매
     void buyStock(Long gameId, StockTransactionRequestDto request);
 
@@ -37,4 +43,10 @@ public interface AdvancedInvestService {
 
     //거래량 조회
     void getRecentVolumes(WebSocketSession session, String stockSymbol, Long gameId);
+
+    //거래량 구독 (LiveData 마다 자동 전송)
+    void subscribeVolumes(WebSocketSession session, String stockSymbol, Long gameId);
+
+    //거래량 구독 해제
+    void unsubscribeVolumes(String stockSymbol, Long gameId);
 }
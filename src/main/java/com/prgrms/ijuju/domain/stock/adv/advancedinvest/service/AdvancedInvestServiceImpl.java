@@ -1,195 +1,264 @@
 package com.prgrms.ijuju.domain.stock.adv.advancedinvest.service;
 
 import com.prgrms.ijuju.global.util.WebSocketUtil;
+import com.prgrms.ijuju.global.websocket.Delivery;
 import com.prgrms.ijuju.domain.member.entity.Member;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast.BinaryFrameCodec;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast.MarketFrameCache;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast.StreamEncoding;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.checkpoint.GameCheckpointer;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameCommand;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameRecord;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameStateStore;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.constant.GameStage;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.request.StockTransactionRequestDto;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response.AdvStockResponseDto;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal.GameEvent;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal.GameEventType;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal.GameJournal;
 import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameState;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameTimingWheel;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade.TradeOrder;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade.TradeOrderQueue;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade.TradeResult;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
-import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
-import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshot;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshotHolder;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.SymbolSeries;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.VolumeWindows;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
-import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.request.StockRecordRequestDto;
-import com.prgrms.ijuju.domain.stock.adv.stockrecord.service.StockRecordService;
 import com.prgrms.ijuju.domain.wallet.dto.request.WalletRequestDTO;
-import com.prgrms.ijuju.domain.wallet.service.WalletService;
-import com.prgrms.ijuju.domain.wallet.dto.request.StockPointRequestDTO;
-import com.prgrms.ijuju.domain.wallet.entity.StockType;
-import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 
-import java.io.IOException;
-import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
 
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AdvancedInvestServiceImpl implements AdvancedInvestService {
 
     private final AdvancedInvestRepository advancedInvestRepository;
-    private final AdvStockRepository advStockRepository;
+    private final MarketSnapshotHolder marketSnapshotHolder;
+    private final MarketFrameCache marketFrameCache;
     private final MemberRepository memberRepository;
-    private final StockRecordService stockRecordService;
-    private final WalletService walletService;
-    private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
-
-    // activeGame 은 이제 AdvancedInvest Id(gameId) 와 activeTimer 를 매핑하는 HashMap 입니다.
-    // 그냥 간단하게 타이머랑 게암 Id 를 합쳐서 보관한다고 생각하면 편안합니다.
-    private final Map<Long, ScheduledFuture<?>> activeGames = new ConcurrentHashMap<>();
-
-    private final Map<Long, Integer> countDown = new ConcurrentHashMap<>();
-
-    private final Map<Long, WebSocketSession> gameSessions = new ConcurrentHashMap<>();
-
-    private final Map<Long, Integer> liveSentCounter = new ConcurrentHashMap<>();
+    private final TradeOrderQueue tradeOrderQueue;
+    private final GameTimingWheel gameTimingWheel;
+    private final GameStateStore gameStateStore;
+    private final GameCheckpointer gameCheckpointer;
+    private final GameJournal gameJournal;
+
+    private static final int MARKET_OPEN_SECOND = 60;   // 장전 거래 시간 종료
+    private static final int MARKET_CLOSE_SECOND = 360; // 거래 시간 종료
+    private static final int GAME_END_SECOND = 420;     // 게임 종료
+    private static final int PHASE_INTERVAL = 60;
+
+    // 게임 Id 와 게임 상태(GameState)를 매핑합니다.
+    // 예전에는 activeGames(타이머) / countDown / gameSessions / liveSentCounter 네 개의 맵으로 나눠 관리했는데,
+    // 이제 타이머는 GameTimingWheel 하나가 모든 게임을 관리하고, 게임별 값은 GameState 하나에 담습니다.
+    // 여기에는 이 노드가 타이머를 돌리는 게임만 있고, 노드 사이에서 공유해야 하는 값(소유 노드, 진행 초, 일시정지)은 GameStateStore 에 둡니다.
+    private final Map<Long, GameState> gameStates = new ConcurrentHashMap<>();
+
+    // 노드 동기화(생존 신호) 는 전용 스레드에서 돌립니다. @Scheduled 스레드는 하나뿐이라
+    // 주가 수집 / 기사 생성 같은 긴 작업 뒤에 밀리면 lease-millis 를 넘겨 다른 노드가 게임을 가져갑니다
+    private final ScheduledExecutorService clusterSync = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "game-cluster-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${advanced-invest.cluster.sync-millis:2000}")
+    private long syncMillis;
 
 
     //게임 타이머. 게임은 총 7분 진행되며, 1분은 장전 거래 시간, 5분은 거래 시간, 마지막 1분은 장후 거래 시간
-    //SechduledExecutorService 를 사용하였습니다.   >>>  https://lslagi.tistory.com/entry/JAVA-ScheduledExecutorService-Timer-%EC%A0%81%EC%9A%A9%EC%9E%90%EB%8F%99-%EB%A6%AC%ED%94%8C%EB%A0%88%EC%89%AC
+    //게임마다 스케줄 작업을 만들지 않고, GameTimingWheel 에 다음 단계(0초, 60초 단위, 420초)만 예약합니다.
     @Override
     public void startGameTimer(WebSocketSession session, Long gameId, int startSecond) {
+        GameState state = new GameState(gameId, session, startSecond, gameTimingWheel.currentTick());
+        state.setLiveSentCounter(liveSentBefore(startSecond));
+
+        // 소유권을 먼저 가져와야 syncCluster 가 새 게임을 다른 노드 소유로 보고 멈추지 않습니다
+        gameStateStore.claim(gameId, startSecond, gameTimingWheel.getClock().nowMillis()); // 이 노드가 게임을 소유
+        GameState previous = gameStates.put(gameId, state);
+        if (previous != null) {
+            previous.deactivate(gameTimingWheel.currentTick(), GAME_END_SECOND);
+            state.getVolumeSubscriptions().addAll(previous.getVolumeSubscriptions()); // 재개 시 구독 유지
+        }
+        gameCheckpointer.track(state); // 진행 초를 주기적으로 DB 에 기록
 
+        gameTimingWheel.schedule(state, nextPhaseSecond(startSecond), this::onPhase);
+    }
 
-        Runnable gameTask = new Runnable() {
-            int second = startSecond;
-
-            public void run() {
-                try {
-                    countDown.put(gameId, second);
+    // GameTimingWheel 워커 스레드에서 호출됩니다
+    private void onPhase(GameState state, int second) {
+        Long gameId = state.getGameId();
+        WebSocketSession session = state.getSession();
+        try {
+            if (second == MARKET_OPEN_SECOND) { // 장전 시간 종료 시점
+                WebSocketUtil.send(session, "장전 거래 시간이 종료되었습니다. 장이 열렸습니다.");
+            } else if (second == MARKET_CLOSE_SECOND) { // 거래 시간 종료 시점
+                WebSocketUtil.send(session, "장이 닫혔습니다. 장후 거래 시간으로 거래 마무리를 해주세요");
+            }
 
-                    if (second == 60) { // 장전 시간 종료 시점
-                        WebSocketUtil.send(session, "장전 거래 시간이 종료되었습니다. 장이 열렸습니다.");
-                    } else if (second == 360) { // 거래 시간 종료 시점
-                        WebSocketUtil.send(session, "장이 닫혔습니다. 장후 거래 시간으로 거래 마무리를 해주세요");
-                    }
+            if (second == 0) { // 장전 거래 시간 1분 > ReferenceData
+                sendReferenceData(session);
+                gameJournal.append(GameEvent.of(gameId, GameEventType.PHASE_CHANGED, second));
+                state.setLiveSentCounter(0);
+                pushVolumes(state);
+
+            } else if (second >= MARKET_OPEN_SECOND && second <= MARKET_CLOSE_SECOND) { // 거래 시간 5분 > LiveData >> 총 6개의 데이터가 전돨되어야 한다.
+                int livePhase = (second - MARKET_OPEN_SECOND) / PHASE_INTERVAL;
+                sendLiveData(session, livePhase);
+                gameJournal.append(GameEvent.of(gameId, GameEventType.PHASE_CHANGED, second));
+                state.incrementLiveSentCounter();
+                pushVolumes(state);
+
+            } else if (second == GAME_END_SECOND) {
+                sendEndSignal(session);
+                endGame(gameId); // 게임 종료
+                return;
+            }
 
-                    if (second == 0) { // 장전 거래 시간 1분 > ReferenceData
-                        sendReferenceData(session);
-                        liveSentCounter.put(gameId, 0);
-
-                    } else if (second >= 60 && second <= 360 && second % 60 == 0) { // 거래 시간 5분 > LiveData >> 총 6개의 데이터가 전돨되어야 한다.
-                        int livePhase = (second - 60) / 60;
-                        sendLiveData(session, livePhase);
-                        liveSentCounter.put(gameId, liveSentCounter.getOrDefault(gameId, 0) + 1);
-
-                    } else if (second == 420) {
-                        endGame(gameId); // 게임 종료
-                        sendEndSignal(session);
-
-                        // activeGame.remove(gameId) 시 남는것은 activeTimer (activeGame 은 {id, activeTimer} 이기 때문)
-                        // 즉 현재 진행중인 activeTimer 를 저장하는 과정.
-                        ScheduledFuture<?> activeTimer = activeGames.remove(gameId);
-                        if (activeTimer != null) {
-                            activeTimer.cancel(false); //타이머 정지
-                        }
-                        countDown.remove(gameId);
-                        liveSentCounter.remove(gameId);
-                    }
+            gameTimingWheel.schedule(state, nextPhaseSecond(second + 1), this::onPhase);
 
-                    second++; // 다음 초로 진행
+        } catch (Exception e) {
+            e.printStackTrace();
+            pauseGame(gameId); // 예외 발생 시 현재 초로 게임 일시 정지
+        }
+    }
 
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    pauseGame(gameId); // 예외 발생 시 현재 초로 게임 일시 정지
-                }
-            }
-        };
+    // startSecond 이후 처음 도래하는 단계(0, 60, 120 ... 420)
+    private static int nextPhaseSecond(int second) {
+        if (second <= 0) {
+            return 0;
+        }
+        int next = ((second + PHASE_INTERVAL - 1) / PHASE_INTERVAL) * PHASE_INTERVAL;
+        return Math.min(next, GAME_END_SECOND);
+    }
 
-        //activeTimer 는 카운터 작업을 관리하는 객체
-        ScheduledFuture<?> activeTimer = executorService.scheduleAtFixedRate(gameTask, 0, 1, TimeUnit.SECONDS);
-        activeGames.put(gameId, activeTimer);
-        countDown.put(gameId, startSecond);
-        gameSessions.put(gameId, session);
+    // startSecond 이전에 이미 전송된 LiveData 개수. 재개 시 liveSentCounter 를 이어가기 위해 사용합니다
+    private static int liveSentBefore(int startSecond) {
+        if (startSecond <= MARKET_OPEN_SECOND) {
+            return 0;
+        }
+        int sent = (startSecond - MARKET_OPEN_SECOND - 1) / PHASE_INTERVAL + 1;
+        return Math.min(sent, (MARKET_CLOSE_SECOND - MARKET_OPEN_SECOND) / PHASE_INTERVAL + 1);
     }
 
     // Reference Data
-    //LazyInitializationException 이 생겨서 문제 해결하려고 발악했었음.
-    @Transactional
+    // DB 대신 MarketSnapshot 에서 읽고, 직렬화된 프레임은 MarketFrameCache 에서 모든 게임이 공유합니다.
     public void sendReferenceData(WebSocketSession session) {
-        List<AdvStock> referenceData = advStockRepository.findByDataType(DataType.REFERENCE);
-
-
-        List<AdvStockResponseDto> responseDto = referenceData.stream()
-                .flatMap(stock -> AdvStockResponseDto.fromEntityForReference(stock).stream())
-                .toList();
+        MarketSnapshot snapshot = marketSnapshotHolder.current();
+        if (StreamEncoding.of(session) == StreamEncoding.BINARY) {
+            WebSocketUtil.send(session, marketFrameCache.binaryFrame(snapshot.getVersion(), DataType.REFERENCE,
+                    MarketFrameCache.REFERENCE_PHASE, () -> BinaryFrameCodec.encodeReference(snapshot.series(DataType.REFERENCE))));
+            return;
+        }
+        TextMessage frame = marketFrameCache.frame(snapshot.getVersion(), DataType.REFERENCE, MarketFrameCache.REFERENCE_PHASE,
+                () -> snapshot.series(DataType.REFERENCE).stream()
+                        .flatMap(series -> AdvStockResponseDto.fromSeriesForReference(series).stream())
+                        .toList());
 
-        WebSocketUtil.send(session, responseDto);
+        WebSocketUtil.send(session, frame);
     }
 
     // Live Data
-    @Transactional
     public void sendLiveData(WebSocketSession session, int livePhase) {
-        List<AdvStock> liveData = advStockRepository.findByDataType(DataType.LIVE);
-
+        MarketSnapshot snapshot = marketSnapshotHolder.current();
+        boolean hasLiveData = snapshot.series(DataType.LIVE).stream()
+                .anyMatch(series -> livePhase < series.size());
+        if (!hasLiveData) {
+            return;
+        }
 
-        if (livePhase < liveData.size()) {
-            List<AdvStockResponseDto> responseDto = liveData.stream()
-                    .map(stock -> AdvStockResponseDto.fromEntity(stock, livePhase))  // 특정 시간 데이터를 전송
-                    .toList();
-            WebSocketUtil.send(session, responseDto);
+        if (StreamEncoding.of(session) == StreamEncoding.BINARY) {
+            WebSocketUtil.send(session, marketFrameCache.binaryFrame(snapshot.getVersion(), DataType.LIVE, livePhase,
+                    () -> BinaryFrameCodec.encodeLive(snapshot.series(DataType.LIVE), livePhase)), Delivery.DROPPABLE);
+            return;
         }
+
+        TextMessage frame = marketFrameCache.frame(snapshot.getVersion(), DataType.LIVE, livePhase,
+                () -> snapshot.series(DataType.LIVE).stream()
+                        .filter(series -> livePhase < series.size())
+                        .map(series -> AdvStockResponseDto.fromSeries(series, livePhase))  // 특정 시간 데이터를 전송
+                        .toList());
+
+        // 시세는 최신 값만 의미가 있으므로, 느린 클라이언트라면 오래된 프레임부터 버립니다
+        WebSocketUtil.send(session, frame, Delivery.DROPPABLE);
     }
 
     private void sendEndSignal(WebSocketSession session) {
         WebSocketUtil.send(session, "게임 종료");
     }
 
-    // Volumes 조회
-    @Transactional
+    // Volumes 조회. 스냅샷에 미리 계산된 창(VolumeWindows) 에서 liveSentCounter 에 해당하는 것을 그대로 보냅니다
     @Override
     public void getRecentVolumes(WebSocketSession session, String stockSymbol, Long gameId) {
-        if (!countDown.containsKey(gameId)) {
+        GameState state = gameStates.get(gameId);
+        if (state == null) {
             throw new IllegalStateException("카운터 객체가 생성되지 않았습니다");
         }
 
-        int liveSentCounterValue = liveSentCounter.getOrDefault(gameId, 0); // LiveData 전송 횟수
+        VolumeWindows windows = volumeWindows(stockSymbol);
+        WebSocketUtil.send(session, new TextMessage(windows.volumesJson(state.getLiveSentCounter())));
+    }
 
-        // 2. ReferenceData 가져오기
-        List<Long> referenceVolumes = advStockRepository.findBySymbolAndDataType(stockSymbol, DataType.REFERENCE)
-                .map(AdvStock::getVolumes)
-                .orElseThrow(() -> new IllegalArgumentException("Reference Data를 찾을 수 없습니다."));
+    // 거래량 창 구독. 지금 창을 바로 보내고, 이후에는 ReferenceData / LiveData 를 보낼 때마다 갱신된 창을 보냅니다
+    @Override
+    public void subscribeVolumes(WebSocketSession session, String stockSymbol, Long gameId) {
+        GameState state = gameStates.get(gameId);
+        if (state == null) {
+            throw new IllegalStateException("카운터 객체가 생성되지 않았습니다");
+        }
 
-        // 3. LiveData 가져오기
-        List<Long> liveVolumes = advStockRepository.findBySymbolAndDataType(stockSymbol, DataType.LIVE)
-                .map(AdvStock::getVolumes)
-                .orElseThrow(() -> new IllegalArgumentException("Live Data를 찾을 수 없습니다."));
+        VolumeWindows windows = volumeWindows(stockSymbol);
+        state.getVolumeSubscriptions().add(stockSymbol);
+        WebSocketUtil.send(session, new TextMessage(windows.pushJson(state.getLiveSentCounter())), Delivery.DROPPABLE);
+    }
 
-        // 4. ReferenceData와 LiveData 조합
-        int referenceCount = Math.max(0, 8 - liveSentCounterValue); // ReferenceData에서 가져올 개수
-        int liveCount = Math.min(liveSentCounterValue, 8);         // LiveData에서 가져올 개수
+    @Override
+    public void unsubscribeVolumes(String stockSymbol, Long gameId) {
+        GameState state = gameStates.get(gameId);
+        if (state != null) {
+            state.getVolumeSubscriptions().remove(stockSymbol);
+        }
+    }
 
-        List<Long> combinedVolumes = new ArrayList<>();
+    private VolumeWindows volumeWindows(String stockSymbol) {
+        return marketSnapshotHolder.current().volumeWindows(stockSymbol)
+                .orElseThrow(() -> new IllegalArgumentException("Reference Data 또는 Live Data를 찾을 수 없습니다."));
+    }
 
-        // ReferenceData에서 최신 데이터 추가
-        if (referenceCount > 0) {
-            List<Long> latestReferenceVolumes = referenceVolumes.subList(
-                    Math.max(referenceVolumes.size() - referenceCount, 0), referenceVolumes.size()
-            );
-            combinedVolumes.addAll(latestReferenceVolumes);
+    // 구독 중인 종목의 창을 보냅니다. 다음 창이 곧 덮어쓰므로 밀리면 버려도 되는 메시지입니다
+    private void pushVolumes(GameState state) {
+        if (state.getVolumeSubscriptions().isEmpty()) {
+            return;
         }
-
-        // LiveData에서 가장 오래된 데이터 추가
-        if (liveCount > 0) {
-            List<Long> earliestLiveVolumes = liveVolumes.subList(0, Math.min(liveCount, liveVolumes.size()));
-            combinedVolumes.addAll(earliestLiveVolumes);
+        MarketSnapshot snapshot = marketSnapshotHolder.current();
+        for (String symbol : state.getVolumeSubscriptions()) {
+            snapshot.volumeWindows(symbol).ifPresent(windows -> WebSocketUtil.send(state.getSession(),
+                    new TextMessage(windows.pushJson(state.getLiveSentCounter())), Delivery.DROPPABLE));
         }
-
-        // 5. WebSocket으로 전송
-        WebSocketUtil.send(session, Map.of("volumes", combinedVolumes));
     }
 
 
@@ -221,9 +290,12 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
                         .member(member)
                         .startTime(System.currentTimeMillis())
                         .paused(false)
+                        .stage(GameStage.PRE_MARKET)
                         .build()
         );
 
+        gameJournal.append(GameEvent.started(advancedInvest.getId(), memberId));
+
         // 게임 타이머 시작
         startGameTimer(session, advancedInvest.getId(), 0);
     }
@@ -233,22 +305,29 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     @Override
     @Transactional
     public void pauseGame(Long gameId) {
-        ScheduledFuture<?> activeTimer = activeGames.remove(gameId);
-        if (activeTimer != null) {
-            activeTimer.cancel(false);
-        }
-
-        Integer currentSecond = countDown.get(gameId); // 현재 초수 가져오기
-        if (currentSecond == null) {
-            throw new IllegalStateException("게임이 진행 중이지 않습니다.");
+        GameRecord record = gameStateStore.find(gameId)
+                .orElseThrow(() -> new IllegalStateException("게임이 진행 중이지 않습니다."));
+
+        // 이 노드가 소유한 게임이면 바로 타이머를 멈추고, 아니라면 소유 노드가 PAUSE 요청을 보고 멈춥니다
+        GameState state = gameStates.get(gameId);
+        int currentSecond; // 현재 초수 가져오기
+        if (state != null && state.isActive()) {
+            state.deactivate(gameTimingWheel.currentTick(), GAME_END_SECOND); // 타이머 정지
+            currentSecond = state.currentSecond(gameTimingWheel.currentTick(), GAME_END_SECOND);
+        } else {
+            currentSecond = record.currentSecond(gameTimingWheel.getClock().nowMillis(), GAME_END_SECOND);
         }
+        gameStateStore.markPaused(gameId, currentSecond);
 
         AdvancedInvest advancedInvest = advancedInvestRepository.findById(gameId)
                 .orElseThrow(() -> new IllegalArgumentException("게임 찾지 못함 (AdvancedInvestId 조회 불가)"));
 
         advancedInvest.setPaused(true); // 게임은 일시정지 상태로 표시
         advancedInvest.setCurrentSecond(currentSecond);
+        advancedInvest.setStage(GameStage.of(currentSecond));
         advancedInvestRepository.save(advancedInvest);
+
+        gameJournal.append(GameEvent.of(gameId, GameEventType.PAUSED, currentSecond));
     }
 
     // 게임 재개
@@ -263,7 +342,9 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
 
         int currentSecond = advancedInvest.getCurrentSecond(); // 저장된 초 가져오기
         advancedInvest.setPaused(false); // 게임 상태를 진행 중으로 변경
+        advancedInvest.setStage(GameStage.of(currentSecond));
         advancedInvestRepository.save(advancedInvest);
+        gameJournal.append(GameEvent.of(gameId, GameEventType.RESUMED, currentSecond));
 
         startGameTimer(session, gameId, currentSecond); // 타이머 재개
     }
@@ -276,30 +357,143 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
                 .orElseThrow(() -> new IllegalArgumentException("게임 찾지 못함 (AdvancedInvest Id 조회 불가)"));
 
 
-        activeGames.remove(gameId);
+        // 다른 노드가 소유한 게임이라면 END 요청을 남기고, 소유 노드가 타이머와 웹소켓을 정리합니다
+        gameStateStore.markEnded(gameId);
 
         advancedInvest.setPlayedToday(true);
+        advancedInvest.setStage(null); // 더 이상 체크포인트/복구 대상이 아님
         advancedInvestRepository.save(advancedInvest);
 
-        //웹소켓 종료
-        WebSocketSession session = gameSessions.remove(gameId);
-        if (session != null && session.isOpen()) {
-            try {
-                session.close();
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
+        GameState state = gameStates.get(gameId);
+        int endSecond = state != null
+                ? state.currentSecond(gameTimingWheel.currentTick(), GAME_END_SECOND)
+                : advancedInvest.getCurrentSecond();
+        gameJournal.append(GameEvent.of(gameId, GameEventType.ENDED, endSecond));
+
+        stopLocalGame(gameId);
+    }
+
+    // 이 노드의 타이머 정지 + 웹소켓 종료
+    private void stopLocalGame(Long gameId) {
+        gameCheckpointer.untrack(gameId);
+        GameState state = gameStates.remove(gameId);
+        if (state == null) {
+            return;
+        }
+        state.deactivate(gameTimingWheel.currentTick(), GAME_END_SECOND);
+
+        //웹소켓 종료. 송신 큐에 남은 종료 신호 / 마지막 LiveData 를 다 보낸 뒤 닫습니다
+        WebSocketSession session = state.getSession();
+        if (session != null) {
+            WebSocketUtil.close(session);
         }
     }
 
     // 남은 시간 조회 메소드
     @Override
     public int getRemainingTime(Long gameId) {
-        Integer currentSecond = countDown.get(gameId);
-        if (currentSecond == null) {
-            throw new IllegalArgumentException("게임이 진행 중이 아닙니다.");
+        GameState state = gameStates.get(gameId);
+        int currentSecond;
+        if (state != null && state.isActive()) { // 이 노드가 돌리고 있는 게임은 타이머 기준
+            currentSecond = state.currentSecond(gameTimingWheel.currentTick(), GAME_END_SECOND);
+        } else { // 다른 노드가 소유한 게임은 저장소 기준
+            GameRecord record = gameStateStore.find(gameId)
+                    .orElseThrow(() -> new IllegalArgumentException("게임이 진행 중이 아닙니다."));
+            currentSecond = record.currentSecond(gameTimingWheel.getClock().nowMillis(), GAME_END_SECOND);
         }
-        return 420 - currentSecond; // 전체 시간에서 현재 초수 뺀 값 반환
+        return GAME_END_SECOND - currentSecond; // 전체 시간에서 현재 초수 뺀 값 반환
+    }
+
+    // 이 노드가 타이머를 돌리고 있는 게임인지
+    public boolean isRunningLocally(Long gameId) {
+        GameState state = gameStates.get(gameId);
+        return state != null && state.isActive();
+    }
+
+
+    @PostConstruct
+    public void startClusterSync() {
+        clusterSync.scheduleWithFixedDelay(() -> {
+            try {
+                syncCluster();
+            } catch (Exception e) { // 예외로 반복이 멈추지 않도록
+                log.error("노드 동기화 실패", e);
+            }
+        }, syncMillis, syncMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopClusterSync() {
+        clusterSync.shutdownNow();
+    }
+
+    // 노드 간 동기화. 생존 신호를 남기고, 다른 노드가 남긴 요청을 처리하고, 죽은 노드의 게임을 인계받습니다
+    public void syncCluster() {
+        long now = System.currentTimeMillis(); // 생존 신호/임대 시간은 실제 시간 기준
+        gameStateStore.heartbeat(now);
+
+        for (GameRecord record : gameStateStore.pollCommands()) {
+            if (record.command() == GameCommand.PAUSE) {
+                GameState state = gameStates.get(record.gameId());
+                if (state != null) {
+                    state.deactivate(gameTimingWheel.currentTick(), GAME_END_SECOND);
+                }
+            } else if (record.command() == GameCommand.END) {
+                stopLocalGame(record.gameId());
+            }
+        }
+
+        fenceLostGames();
+
+        for (GameRecord orphan : gameStateStore.takeOverOrphans(now)) {
+            try {
+                handOver(orphan, gameTimingWheel.getClock().nowMillis());
+            } catch (Exception e) {
+                log.error("게임 {} 인계 실패", orphan.gameId(), e);
+            }
+        }
+    }
+
+    // 소유권이 다른 노드로 옮겨갔거나 이미 끝난 게임은 이 노드에서 지웁니다.
+    // - 돌고 있던 게임 : 이 노드가 생존 신호를 늦게 보내 다른 노드가 인계한 경우. DB 에는 일시정지로 남아 있으므로
+    //   타이머를 멈추고 웹소켓을 닫아서 사용자가 다시 접속해 재개하게 합니다 (두 노드가 같은 게임을 돌리지 않도록)
+    // - 멈춰 있던 게임 : 다른 노드에서 재개한 경우. 남겨 두면 종료할 때 옛 초로 저널을 남기고, 체크포인트 대상으로도 남습니다
+    private void fenceLostGames() {
+        for (GameState state : gameStates.values()) {
+            Long gameId = state.getGameId();
+            boolean owned = gameStateStore.find(gameId)
+                    .map(record -> record.isOwnedBy(gameStateStore.nodeId()))
+                    .orElse(false);
+            if (owned || gameStates.get(gameId) != state) { // 그 사이 이 노드에서 다시 시작한 게임은 건드리지 않습니다
+                continue;
+            }
+            if (state.isActive()) {
+                log.warn("게임 {} 의 소유권을 잃어 이 노드의 타이머를 멈춥니다", gameId);
+                stopLocalGame(gameId);
+            } else if (gameStates.remove(gameId, state)) {
+                gameCheckpointer.untrack(gameId);
+            }
+        }
+    }
+
+    // 죽은 노드의 게임을 인계받음. 웹소켓은 죽은 노드와 함께 끊겼으므로 타이머를 이어 돌리지 않고,
+    // 마지막 진행 초로 일시정지해 둡니다. 사용자가 어느 노드로든 다시 접속해서 RESUME_GAME 을 보내면 이어집니다.
+    private void handOver(GameRecord orphan, long gameNowMillis) {
+        if (orphan.command() == GameCommand.END) {
+            gameStateStore.markEnded(orphan.gameId());
+            return;
+        }
+        if (orphan.paused()) {
+            return;
+        }
+        int currentSecond = orphan.currentSecond(gameNowMillis, GAME_END_SECOND);
+        gameStateStore.markPaused(orphan.gameId(), currentSecond);
+        advancedInvestRepository.findById(orphan.gameId()).ifPresent(advancedInvest -> {
+            advancedInvest.setPaused(true);
+            advancedInvest.setCurrentSecond(currentSecond);
+            advancedInvestRepository.save(advancedInvest);
+        });
+        gameJournal.append(GameEvent.of(orphan.gameId(), GameEventType.PAUSED, currentSecond));
     }
 
 
@@ -309,12 +503,20 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     @Transactional
     public void resetPlayedTodayStatus() {
 
+        // 모든 노드에서 같은 시각에 돌기 때문에 한 노드만 리셋합니다.
+        // 잠금도 이 트랜잭션에 묶이므로 리셋이 실패해 롤백되면 잠금도 풀립니다
+        if (!gameStateStore.tryAcquireDailyReset(LocalDate.now())) {
+            return;
+        }
+
         //7시에 모든 유저 PlayedToday = false;
         advancedInvestRepository.resetPlayedToday();
 
-        // 진행 중인 게임 강제 종료
-        for (Long gameId : activeGames.keySet()) {
-            endGame(gameId);
+        // 진행 중인 게임 강제 종료 (다른 노드가 소유한 게임 포함)
+        for (GameRecord record : gameStateStore.findAll()) {
+            if (!record.paused()) {
+                endGame(record.gameId());
+            }
         }
 
         // 정지 상태인 게임 강제 종료
@@ -325,105 +527,39 @@ public class AdvancedInvestServiceImpl implements AdvancedInvestService {
     }
 
 
-    @Transactional
+    // 주문은 TradeOrderQueue 에 넣고, 묶음 처리가 커밋된 뒤 결과를 돌려받습니다
+    // 체결된 주문은 주문 시점의 게임 초와 함께 저널에 남깁니다
     @Override
-    public void buyStock(Long gameId, StockTransactionRequestDto request) {
-        AdvancedInvest advancedInvest = advancedInvestRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("게임 찾지 못함 (AdvancedInvest Id 조회 불가)"));
-
-        List<Double> closePrices = advStockRepository.findBySymbol(request.getStockSymbol())
-                .map(AdvStock::getClosePrices)
-                .orElseThrow(() -> new IllegalArgumentException("해당 주식이 존재하지 않음"));
-
-        if (closePrices.isEmpty()) {
-            throw new IllegalArgumentException("종가 데이터가 존재하지 않음");
-        }
-
-        Double latestClosePrice = closePrices.get(closePrices.size() - 1); // 가장 최신 종가
-
-        if (request.getQuantity() <= 0) {
-            throw new IllegalArgumentException("구매 수량은 0 보다 커야 한다");
-        }
+    public CompletableFuture<TradeResult> submitTrade(Long gameId, StockTransactionRequestDto request, TradeType tradeType) {
+        GameState state = gameStates.get(gameId);
+        int second = state != null ? state.currentSecond(gameTimingWheel.currentTick(), GAME_END_SECOND) : -1;
+        return tradeOrderQueue.submit(new TradeOrder(gameId, request.getMemberId(), request.getStockSymbol(),
+                        tradeType, request.getQuantity()))
+                .thenApply(result -> {
+                    if (result.success()) {
+                        gameJournal.append(GameEvent.trade(gameId, request.getMemberId(), second, result.stockSymbol(),
+                                result.tradeType(), result.quantity(), result.pricePerUnit(), result.points()));
+                    }
+                    return result;
+                });
+    }
 
-        // 주식 구매에 필요한 포인트 계산
-        BigDecimal pointsRequired = BigDecimal.valueOf(latestClosePrice)
-                .multiply(BigDecimal.valueOf(request.getQuantity()));
-        // 포인트 차감 및 거래 기록
-        StockPointRequestDTO stockPointRequest = StockPointRequestDTO.builder()
-                .memberId(request.getMemberId())
-                .points(pointsRequired.longValue())
-                .stockType(StockType.ADVANCED)
-                .transactionType(TransactionType.USED)
-                .stockName(request.getStockSymbol())
-                .build();
-        walletService.simulateStockInvestment(stockPointRequest);
-        
-
-        StockRecordRequestDto recordRequest = StockRecordRequestDto.builder()
-                .memberId(request.getMemberId())
-                .stockSymbol(request.getStockSymbol())
-                .tradeType(TradeType.BUY)
-                .quantity(request.getQuantity())
-                .price(pointsRequired)
-                .advId(gameId)
-                .build();
-
-        // 거래 내역 저장
-        stockRecordService.saveRecord(recordRequest, advancedInvest.getMember());
+    @Override
+    public void buyStock(Long gameId, StockTransactionRequestDto request) {
+        awaitTrade(submitTrade(gameId, request, TradeType.BUY));
     }
 
-    @Transactional
     @Override
     public void sellStock(Long gameId, StockTransactionRequestDto request) {
-        AdvancedInvest advancedInvest = advancedInvestRepository.findById(gameId)
-                .orElseThrow(() -> new IllegalArgumentException("게임 찾지 못함 (AdvancedInvest Id 조회 불가)"));
-
-        List<Double> closePrices = advStockRepository.findBySymbol(request.getStockSymbol())
-                .map(AdvStock::getClosePrices)
-                .orElseThrow(() -> new IllegalArgumentException("해당 주식을 찾을 수 없습니다."));
-
-        if (closePrices.isEmpty()) {
-            throw new IllegalArgumentException("해당 주식의 종가 데이터를 찾을 수 없습니다.");
-        }
-
-        Double latestClosePrice = closePrices.get(closePrices.size() - 1); // 가장 최신 종가
-
-        if (request.getQuantity() <= 0) {
-            throw new IllegalArgumentException("판매 수량은 0보다 커야 합니다.");
-        }
+        awaitTrade(submitTrade(gameId, request, TradeType.SELL));
+    }
 
-        // 보유 주식 수량 확인
-        double ownedQuantity = stockRecordService.calculateOwnedStock(gameId, request.getStockSymbol());
-        if (ownedQuantity < request.getQuantity()) {
-            throw new IllegalArgumentException("보유 수량보다 많은 주식을 판매할 수 없습니다.");
+    // HTTP 요청처럼 결과를 기다려야 하는 경우. 거절된 주문은 기존과 같이 IllegalArgumentException 으로 알립니다
+    private void awaitTrade(CompletableFuture<TradeResult> future) {
+        TradeResult result = future.join();
+        if (!result.success()) {
+            throw new IllegalArgumentException(result.message());
         }
-
-        // 판매로 얻는 포인트 계산
-        BigDecimal pointsEarned = BigDecimal.valueOf(latestClosePrice)
-                .multiply(BigDecimal.valueOf(request.getQuantity()));
-
-        // 포인트 환급 및 거래 기록
-        StockPointRequestDTO stockPointRequest = StockPointRequestDTO.builder()
-                .memberId(request.getMemberId())        
-                .points(pointsEarned.longValue())
-                .stockType(StockType.ADVANCED)
-                .transactionType(TransactionType.EARNED)
-                .stockName(request.getStockSymbol())
-                .build();
-
-        walletService.simulateStockInvestment(stockPointRequest);
-
-        StockRecordRequestDto recordRequest = StockRecordRequestDto.builder()
-                .memberId(request.getMemberId())
-                .stockSymbol(request.getStockSymbol())
-                .tradeType(TradeType.SELL)
-                .quantity(request.getQuantity())
-                .price(pointsEarned)
-                .advId(gameId)
-                .build();
-
-        // 거래 내역 저장
-        stockRecordService.saveRecord(recordRequest, advancedInvest.getMember());
     }
 }
 
@@ -0,0 +1,195 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.simulation;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.constant.GameStage;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.request.StockTransactionRequestDto;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.service.AdvancedInvestService;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameTimingWheel;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade.TradeResult;
+import com.prgrms.ijuju.domain.wallet.entity.Wallet;
+import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
+import com.prgrms.ijuju.global.websocket.OutboundSessionRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 화면/웹소켓 없이 게임 엔진을 돌리는 리플레이 드라이버 입니다. STEP 모드(advanced-invest.clock.mode=step) 에서만 등록됩니다.
+
+ * 현재 MarketSnapshot(기록된 AdvStock) 위에서 games 개의 게임을 동시에 시작하고, 틱마다
+ * 1) 그 틱에 예정된 시나리오 동작(주문/일시정지/재개) 을 모든 게임에 적용한 뒤
+ * 2) GameTimingWheel 을 한 틱 전진시키고 단계 처리가 끝날 때까지 기다립니다.
+ * 모든 게임이 420초에 도달해 세션이 닫히면 처리량, 주문 지연 분위수, 게임당 DB 쿼리 수를 보고합니다.
+
+ * 게임은 startGame 대신 startGameTimer 로 시작합니다. (오전 6~8시 제한과 하루 한 번 제한을 피하기 위해)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "advanced-invest.clock.mode", havingValue = "step")
+public class GameReplayDriver {
+
+    private static final int GAME_END_SECOND = 420;
+    private static final long IDLE_TIMEOUT_MILLIS = 30_000;
+
+    private final AdvancedInvestService advancedInvestService;
+    private final GameTimingWheel gameTimingWheel;
+    private final MemberRepository memberRepository;
+    private final WalletRepository walletRepository;
+    private final AdvancedInvestRepository advancedInvestRepository;
+    private final OutboundSessionRegistry outboundSessionRegistry;
+    private final ObjectProvider<QueryCounter> queryCounter;
+
+    public GameReplayDriver(AdvancedInvestService advancedInvestService,
+                            GameTimingWheel gameTimingWheel,
+                            MemberRepository memberRepository,
+                            WalletRepository walletRepository,
+                            AdvancedInvestRepository advancedInvestRepository,
+                            OutboundSessionRegistry outboundSessionRegistry,
+                            ObjectProvider<QueryCounter> queryCounter) {
+        this.advancedInvestService = advancedInvestService;
+        this.gameTimingWheel = gameTimingWheel;
+        this.memberRepository = memberRepository;
+        this.walletRepository = walletRepository;
+        this.advancedInvestRepository = advancedInvestRepository;
+        this.outboundSessionRegistry = outboundSessionRegistry;
+        this.queryCounter = queryCounter;
+    }
+
+    public ReplayReport run(ReplayScript script, int games) throws InterruptedException {
+        List<ReplayGame> replayGames = prepare(script, games);
+
+        QueryCounter counter = queryCounter.getIfAvailable();
+        long queriesBefore = counter != null ? counter.getCount() : 0;
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        List<CompletableFuture<TradeResult>> trades = new ArrayList<>();
+        long started = System.nanoTime();
+
+        for (ReplayGame game : replayGames) {
+            advancedInvestService.startGameTimer(game.session(), game.gameId(), 0);
+        }
+
+        int maxTicks = GAME_END_SECOND + script.pausedTicks() + 2;
+        int stepIndex = 0;
+        for (int tick = 0; tick <= maxTicks && !allEnded(replayGames); tick++) {
+            while (stepIndex < script.steps().size() && script.steps().get(stepIndex).at() == tick) {
+                ReplayScript.Step step = script.steps().get(stepIndex++);
+                for (ReplayGame game : replayGames) {
+                    apply(step, game, trades, latencies, rejected);
+                }
+            }
+            while (stepIndex < script.steps().size() && script.steps().get(stepIndex).at() < tick) {
+                stepIndex++; // 이미 지난 단계 (at 이 음수 등)
+            }
+
+            gameTimingWheel.advance(1);
+            if (!gameTimingWheel.awaitIdle(IDLE_TIMEOUT_MILLIS)) {
+                throw new IllegalStateException("리플레이 틱 처리 시간 초과: tick=" + tick);
+            }
+        }
+        CompletableFuture.allOf(trades.toArray(CompletableFuture[]::new)).join();
+
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        long queries = counter != null ? counter.getCount() - queriesBefore : -1;
+        replayGames.forEach(game -> outboundSessionRegistry.remove(game.session()));
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        ReplayReport report = new ReplayReport(
+                games,
+                (int) replayGames.stream().filter(game -> !game.session().isOpen()).count(),
+                elapsedMillis,
+                trades.size(),
+                rejected.get(),
+                percentileMillis(sorted, 0.50),
+                percentileMillis(sorted, 0.95),
+                percentileMillis(sorted, 0.99),
+                queries,
+                replayGames.stream().mapToLong(game -> game.session().getMessageCount()).sum());
+        log.info("리플레이 결과: {}", report);
+        return report;
+    }
+
+    // 회원, 지갑, 게임을 미리 만들어 둡니다 (측정 구간에서 제외)
+    private List<ReplayGame> prepare(ReplayScript script, int games) {
+        String prefix = "rp" + UUID.randomUUID().toString().substring(0, 6);
+        List<ReplayGame> replayGames = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            String loginId = prefix + i;
+            Member member = memberRepository.save(Member.builder()
+                    .loginId(loginId)
+                    .pw("replay1234@")
+                    .username(loginId)
+                    .email(loginId + "@replay.local")
+                    .birth(LocalDate.parse("2000-01-01"))
+                    .build());
+            walletRepository.save(Wallet.builder()
+                    .member(member)
+                    .currentCoins(0L)
+                    .currentPoints(script.initialPoints())
+                    .build());
+            AdvancedInvest advancedInvest = advancedInvestRepository.save(AdvancedInvest.builder()
+                    .member(member)
+                    .startTime(System.currentTimeMillis())
+                    .paused(false)
+                    .stage(GameStage.PRE_MARKET)
+                    .build());
+            replayGames.add(new ReplayGame(advancedInvest.getId(), member.getId(),
+                    new HeadlessWebSocketSession("replay-" + advancedInvest.getId())));
+        }
+        return replayGames;
+    }
+
+    private void apply(ReplayScript.Step step, ReplayGame game, List<CompletableFuture<TradeResult>> trades,
+                       ConcurrentLinkedQueue<Long> latencies, AtomicInteger rejected) {
+        if (!game.session().isOpen()) {
+            return;
+        }
+        switch (step.action()) {
+            case TRADE -> {
+                StockTransactionRequestDto request = StockTransactionRequestDto.builder()
+                        .stockSymbol(step.symbol())
+                        .quantity(step.quantity())
+                        .memberId(game.memberId())
+                        .tradeType(step.tradeType())
+                        .build();
+                long submitted = System.nanoTime();
+                trades.add(advancedInvestService.submitTrade(game.gameId(), request, step.tradeType())
+                        .whenComplete((result, e) -> {
+                            latencies.add(System.nanoTime() - submitted);
+                            if (e != null || !result.success()) {
+                                rejected.incrementAndGet();
+                            }
+                        }));
+            }
+            case PAUSE -> advancedInvestService.pauseGame(game.gameId());
+            case RESUME -> advancedInvestService.resumeGame(game.session(), game.gameId());
+        }
+    }
+
+    private static boolean allEnded(List<ReplayGame> games) {
+        return games.stream().noneMatch(game -> game.session().isOpen());
+    }
+
+    private static double percentileMillis(long[] sortedNanos, double percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sortedNanos.length) - 1;
+        return sortedNanos[Math.max(0, Math.min(index, sortedNanos.length - 1))] / 1_000_000.0;
+    }
+
+    private record ReplayGame(Long gameId, Long memberId, HeadlessWebSocketSession session) {
+    }
+}
@@ -0,0 +1,123 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.simulation;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.security.Principal;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리플레이용 가짜 세션. 보낸 메시지는 버리고 개수와 바이트 수만 셉니다.
+ */
+public class HeadlessWebSocketSession implements WebSocketSession {
+
+    private final String id;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final AtomicLong messages = new AtomicLong();
+    private final AtomicLong bytes = new AtomicLong();
+    private volatile boolean open = true;
+
+    public HeadlessWebSocketSession(String id) {
+        this.id = id;
+    }
+
+    public long getMessageCount() {
+        return messages.get();
+    }
+
+    public long getByteCount() {
+        return bytes.get();
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public URI getUri() {
+        return null;
+    }
+
+    @Override
+    public HttpHeaders getHandshakeHeaders() {
+        return HttpHeaders.EMPTY;
+    }
+
+    @Override
+    public Map<String, Object> getAttributes() {
+        return attributes;
+    }
+
+    @Override
+    public Principal getPrincipal() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getLocalAddress() {
+        return null;
+    }
+
+    @Override
+    public InetSocketAddress getRemoteAddress() {
+        return null;
+    }
+
+    @Override
+    public String getAcceptedProtocol() {
+        return null;
+    }
+
+    @Override
+    public void setTextMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getTextMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void setBinaryMessageSizeLimit(int messageSizeLimit) {
+    }
+
+    @Override
+    public int getBinaryMessageSizeLimit() {
+        return Integer.MAX_VALUE;
+    }
+
+    @Override
+    public List<WebSocketExtension> getExtensions() {
+        return List.of();
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        messages.incrementAndGet();
+        bytes.addAndGet(message.getPayloadLength());
+    }
+
+    @Override
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public void close() {
+        open = false;
+    }
+
+    @Override
+    public void close(CloseStatus status) {
+        open = false;
+    }
+}
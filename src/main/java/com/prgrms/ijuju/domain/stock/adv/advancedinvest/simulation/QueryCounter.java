@@ -0,0 +1,67 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.simulation;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DataSource 를 감싸서 실행된 SQL 문 수를 셉니다 (JPA, JdbcTemplate 모두 포함).
+ * executeBatch 는 한 번으로 셉니다. 리플레이/부하 테스트에서만 켭니다 (advanced-invest.simulation.count-queries=true)
+ */
+@Component
+@ConditionalOnProperty(name = "advanced-invest.simulation.count-queries", havingValue = "true")
+public class QueryCounter implements BeanPostProcessor {
+
+    private final AtomicLong executed = new AtomicLong();
+
+    public long getCount() {
+        return executed.get();
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && !Proxy.isProxyClass(bean.getClass())) {
+            return proxy(DataSource.class, dataSource);
+        }
+        return bean;
+    }
+
+    private <T> T proxy(Class<T> type, T target) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            String name = method.getName();
+            if (target instanceof Statement && (name.startsWith("execute"))) {
+                executed.incrementAndGet();
+            }
+            if (result instanceof Connection connection && name.equals("getConnection")) {
+                return proxy(Connection.class, connection);
+            }
+            if (result instanceof CallableStatement statement) {
+                return proxy(CallableStatement.class, statement);
+            }
+            if (result instanceof PreparedStatement statement) {
+                return proxy(PreparedStatement.class, statement);
+            }
+            if (result instanceof Statement statement && name.equals("createStatement")) {
+                return proxy(Statement.class, statement);
+            }
+            return result;
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -0,0 +1,41 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.simulation;
+
+/**
+ * 리플레이 결과 입니다. 지연 시간은 주문 제출부터 TradeResult 완료까지 (밀리초)
+ */
+public record ReplayReport(int games,
+                           int completedGames,
+                           long elapsedMillis,
+                           int trades,
+                           int rejectedTrades,
+                           double tradeLatencyP50Millis,
+                           double tradeLatencyP95Millis,
+                           double tradeLatencyP99Millis,
+                           long queries,
+                           long messages) {
+
+    public double gamesPerSecond() {
+        return elapsedMillis == 0 ? 0 : completedGames * 1000.0 / elapsedMillis;
+    }
+
+    public double tradesPerSecond() {
+        return elapsedMillis == 0 ? 0 : trades * 1000.0 / elapsedMillis;
+    }
+
+    // DB 쿼리 수를 세지 않았다면 음수
+    public double queriesPerGame() {
+        return queries < 0 || games == 0 ? -1 : (double) queries / games;
+    }
+
+    public double messagesPerGame() {
+        return games == 0 ? 0 : (double) messages / games;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("games=%d completed=%d elapsed=%dms (%.1f games/s), trades=%d rejected=%d (%.1f trades/s), " +
+                        "latency p50=%.2fms p95=%.2fms p99=%.2fms, queries/game=%.1f, messages/game=%.1f",
+                games, completedGames, elapsedMillis, gamesPerSecond(), trades, rejectedTrades, tradesPerSecond(),
+                tradeLatencyP50Millis, tradeLatencyP95Millis, tradeLatencyP99Millis, queriesPerGame(), messagesPerGame());
+    }
+}
@@ -0,0 +1,55 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.simulation;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 리플레이에서 모든 게임이 똑같이 따라가는 시나리오 입니다.
+ * at 은 게임을 시작한 뒤 흐른 틱(= 게임 초, 일시정지 시간 포함) 입니다.
+ */
+public record ReplayScript(long initialPoints, List<Step> steps) {
+
+    public enum Action {
+        TRADE, PAUSE, RESUME
+    }
+
+    public record Step(int at, Action action, String symbol, TradeType tradeType, int quantity) {
+
+        public static Step buy(int at, String symbol, int quantity) {
+            return new Step(at, Action.TRADE, symbol, TradeType.BUY, quantity);
+        }
+
+        public static Step sell(int at, String symbol, int quantity) {
+            return new Step(at, Action.TRADE, symbol, TradeType.SELL, quantity);
+        }
+
+        public static Step pause(int at) {
+            return new Step(at, Action.PAUSE, null, null, 0);
+        }
+
+        public static Step resume(int at) {
+            return new Step(at, Action.RESUME, null, null, 0);
+        }
+    }
+
+    public ReplayScript {
+        steps = steps.stream().sorted(Comparator.comparingInt(Step::at)).toList();
+    }
+
+    // 일시정지된 시간(틱) 의 합. 게임이 끝나기까지 필요한 틱 수를 계산할 때 사용합니다
+    public int pausedTicks() {
+        int paused = 0;
+        int pausedAt = -1;
+        for (Step step : steps) {
+            if (step.action() == Action.PAUSE && pausedAt < 0) {
+                pausedAt = step.at();
+            } else if (step.action() == Action.RESUME && pausedAt >= 0) {
+                paused += step.at() - pausedAt;
+                pausedAt = -1;
+            }
+        }
+        return paused;
+    }
+}
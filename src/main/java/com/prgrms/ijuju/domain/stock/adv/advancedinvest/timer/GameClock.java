@@ -0,0 +1,75 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer;
+
+import lombok.Getter;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게임 시간(1초 = 틱 1개) 의 기준이 되는 시계 입니다. GameTimingWheel 과 GameStateStore 의 진행 초 계산이 이 시계를 따릅니다.
+
+ * - REALTIME    : 게임 1초 = 실제 1초 (운영)
+ * - ACCELERATED : 게임 1초 = 실제 1초 / speed. 100배속이면 420초 게임이 4.2초에 끝납니다 (부하 테스트)
+ * - STEP        : 자동으로 흐르지 않고 GameTimingWheel.advance 를 호출할 때만 흐릅니다 (리플레이 / 테스트)
+ */
+public final class GameClock {
+
+    public enum Mode {
+        REALTIME, ACCELERATED, STEP
+    }
+
+    private static final long SECOND_MILLIS = 1000;
+
+    @Getter
+    private final Mode mode;
+    @Getter
+    private final long tickMillis;  // 게임 1초에 해당하는 실제 시간 (STEP 은 0)
+    private final long baseMillis;  // 게임 시간과 실제 시간이 일치하는 기준 시각
+    private final AtomicLong steppedSeconds = new AtomicLong();
+
+    private GameClock(Mode mode, long tickMillis) {
+        this.mode = mode;
+        this.tickMillis = tickMillis;
+        this.baseMillis = System.currentTimeMillis();
+    }
+
+    public static GameClock realtime() {
+        return new GameClock(Mode.REALTIME, SECOND_MILLIS);
+    }
+
+    // 게임 1초를 tickMillis 로 흘려보내는 시계 (tickMillis 설정값을 그대로 쓰는 기존 생성자 호환용)
+    public static GameClock ofTickMillis(long tickMillis) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis 는 0보다 커야 합니다: " + tickMillis);
+        }
+        return new GameClock(tickMillis == SECOND_MILLIS ? Mode.REALTIME : Mode.ACCELERATED, tickMillis);
+    }
+
+    public static GameClock accelerated(double speed) {
+        if (speed <= 0) {
+            throw new IllegalArgumentException("배속은 0보다 커야 합니다: " + speed);
+        }
+        return new GameClock(Mode.ACCELERATED, Math.max(1, Math.round(SECOND_MILLIS / speed)));
+    }
+
+    public static GameClock step() {
+        return new GameClock(Mode.STEP, 0);
+    }
+
+    public boolean isStepDriven() {
+        return mode == Mode.STEP;
+    }
+
+    // 게임 시간 기준 현재 시각(epoch millis). 노드끼리 진행 초를 계산할 때 사용합니다
+    public long nowMillis() {
+        if (mode == Mode.STEP) {
+            return baseMillis + steppedSeconds.get() * SECOND_MILLIS;
+        }
+        long elapsed = System.currentTimeMillis() - baseMillis;
+        return baseMillis + elapsed * SECOND_MILLIS / tickMillis;
+    }
+
+    // STEP 모드에서 GameTimingWheel 이 한 틱 진행할 때 호출합니다
+    void stepped() {
+        steppedSeconds.incrementAndGet();
+    }
+}
@@ -0,0 +1,21 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class GameClockConfig {
+
+    // advanced-invest.clock.mode : realtime(기본) / accelerated / step
+    @Bean
+    public GameClock gameClock(@Value("${advanced-invest.clock.mode:realtime}") String mode,
+                               @Value("${advanced-invest.clock.speed:100}") double speed,
+                               @Value("${advanced-invest.timer.tick-millis:1000}") long tickMillis) {
+        return switch (GameClock.Mode.valueOf(mode.trim().toUpperCase())) {
+            case REALTIME -> GameClock.ofTickMillis(tickMillis);
+            case ACCELERATED -> GameClock.accelerated(speed);
+            case STEP -> GameClock.step();
+        };
+    }
+}
@@ -0,0 +1,10 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer;
+
+/**
+ * GameTimingWheel 이 예약된 초(second)에 도달했을 때 워커 스레드에서 호출하는 콜백입니다.
+ */
+@FunctionalInterface
+public interface GamePhaseListener {
+
+    void onPhase(GameState state, int second);
+}
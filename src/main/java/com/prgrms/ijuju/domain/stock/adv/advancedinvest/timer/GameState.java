@@ -0,0 +1,72 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer;
+
+import lombok.Getter;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게임 하나의 진행 상태를 담는 평평한(flat) 레코드 입니다.
+ * 기존 activeGames / countDown / liveSentCounter 맵에 흩어져 있던 값을 한 객체로 모았습니다.
+
+ * 초(second)는 매 틱마다 갱신하지 않고, 타이머 시작 시점의 틱(baseTick)으로부터 계산합니다.
+ * 그래서 게임이 만 개여도 틱 스레드가 게임마다 값을 써줄 필요가 없습니다.
+ */
+@Getter
+public class GameState {
+
+    private final Long gameId;
+    private final WebSocketSession session;
+    private final int startSecond;
+    private final long baseTick;            // second 0 에 해당하는 틱
+
+    private volatile int liveSentCounter;   // LiveData 전송 횟수
+    private volatile boolean active = true; // 일시정지/종료 시 false
+    private volatile int frozenSecond = -1; // 일시정지 시점의 초
+    private volatile int checkpointedSecond = -1; // 마지막으로 DB 에 기록한 초 (GameCheckpointer)
+
+    // 거래량 창을 LiveData 마다 자동으로 받을 종목 (SUBSCRIBE_VOLUMES)
+    private final Set<String> volumeSubscriptions = ConcurrentHashMap.newKeySet();
+
+    public GameState(Long gameId, WebSocketSession session, int startSecond, long currentTick) {
+        this.gameId = gameId;
+        this.session = session;
+        this.startSecond = startSecond;
+        this.baseTick = currentTick - startSecond;
+    }
+
+    // 현재 틱 기준 진행 초 (기존 countDown 값)
+    public int currentSecond(long currentTick, int endSecond) {
+        if (!active && frozenSecond >= 0) {
+            return frozenSecond;
+        }
+        long second = currentTick - baseTick;
+        return (int) Math.max(startSecond, Math.min(second, endSecond));
+    }
+
+    // 예약된 초가 실제로 도달하는 틱
+    public long deadlineOf(int second) {
+        return baseTick + second;
+    }
+
+    public void setLiveSentCounter(int liveSentCounter) {
+        this.liveSentCounter = liveSentCounter;
+    }
+
+    public void setCheckpointedSecond(int checkpointedSecond) {
+        this.checkpointedSecond = checkpointedSecond;
+    }
+
+    public void incrementLiveSentCounter() {
+        this.liveSentCounter++;
+    }
+
+    // 타이머 정지. 이미 예약된 이벤트는 발생 시점에 무시됩니다.
+    public void deactivate(long currentTick, int endSecond) {
+        if (active) {
+            this.frozenSecond = currentSecond(currentTick, endSecond);
+            this.active = false;
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 모든 게임이 공유하는 계층형 타이밍 휠(hierarchical timing wheel) 입니다.
+
+ * 기존에는 게임마다 scheduleAtFixedRate 작업을 하나씩 등록했기 때문에, 게임 수만큼 작업이 돌고
+ * 스레드 하나에서 sendLiveData 가 느려지면 다른 모든 게임의 1초가 밀렸습니다.
+
+ * 지금은 틱 스레드 하나가 1초(tickMillis)마다 휠을 한 칸 전진시키고, 해당 칸에 예약된 이벤트(장전/라이브/종료)만
+ * 제한된 크기의 워커 풀로 넘깁니다. 틱 스레드는 DB 나 WebSocket 작업을 직접 하지 않습니다.
+
+ * 휠 구성
+ * - level 0 : 64칸 x 1틱
+ * - level 1 : 64칸 x 64틱 (약 68분). 게임은 420초이므로 level 1 까지만 있으면 충분합니다.
+ * level 1 의 칸은 해당 구간이 시작될 때 level 0 으로 내려옵니다(cascade).
+
+ * 틱 간격은 GameClock 을 따릅니다. STEP 모드에서는 틱 스레드 없이 advance 를 호출할 때만 휠이 전진합니다.
+ */
+@Slf4j
+@Component
+public class GameTimingWheel {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_SIZE = 1 << WHEEL_BITS; // 64
+    private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+
+    @Getter
+    private final GameClock clock;
+    private final long tickMillis;
+    private final int workerThreads;
+    private final int queueCapacity;
+
+    @SuppressWarnings("unchecked")
+    private final Queue<Timeout>[] level0 = new Queue[WHEEL_SIZE];
+    @SuppressWarnings("unchecked")
+    private final Queue<Timeout>[] level1 = new Queue[WHEEL_SIZE];
+
+    // 다른 스레드에서 들어온 예약은 여기 쌓였다가 틱 스레드가 휠에 배치합니다
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+
+    private volatile long currentTick = 0;
+    private long startNanos;
+
+    private ScheduledExecutorService tickExecutor;
+    private ThreadPoolExecutor workers;
+
+    // 지표
+    private final AtomicLong maxJitterNanos = new AtomicLong();
+    private volatile long lastJitterNanos;
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+
+    @Autowired
+    public GameTimingWheel(GameClock clock,
+                           @Value("${advanced-invest.timer.worker-threads:8}") int workerThreads,
+                           @Value("${advanced-invest.timer.queue-capacity:20000}") int queueCapacity) {
+        this.clock = clock;
+        this.tickMillis = clock.getTickMillis();
+        this.workerThreads = workerThreads;
+        this.queueCapacity = queueCapacity;
+        for (int i = 0; i < WHEEL_SIZE; i++) {
+            level0[i] = new ArrayDeque<>();
+            level1[i] = new ArrayDeque<>();
+        }
+    }
+
+    public GameTimingWheel(long tickMillis, int workerThreads, int queueCapacity) {
+        this(GameClock.ofTickMillis(tickMillis), workerThreads, queueCapacity);
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger workerIndex = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "game-phase-worker-" + workerIndex.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        if (clock.isStepDriven()) {
+            return; // advance 로만 전진합니다
+        }
+        tickExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-timing-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        startNanos = System.nanoTime();
+        tickExecutor.scheduleAtFixedRate(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (tickExecutor != null) {
+            tickExecutor.shutdownNow();
+        }
+        if (workers != null) {
+            workers.shutdownNow();
+        }
+    }
+
+    public long currentTick() {
+        return currentTick;
+    }
+
+    // state 의 second 초에 listener 를 실행하도록 예약. 이미 지난 초라면 다음 틱에 바로 실행됩니다.
+    public void schedule(GameState state, int second, GamePhaseListener listener) {
+        pending.add(new Timeout(state, second, state.deadlineOf(second), listener));
+    }
+
+    // STEP 모드 전용. 휠을 seconds 틱만큼 호출한 스레드에서 바로 전진시킵니다 (단계 처리는 여전히 워커 풀에서 실행)
+    public synchronized void advance(int seconds) {
+        if (!clock.isStepDriven()) {
+            throw new IllegalStateException("STEP 모드에서만 수동으로 진행할 수 있습니다: " + clock.getMode());
+        }
+        for (int i = 0; i < seconds; i++) {
+            clock.stepped();
+            tick();
+        }
+    }
+
+    // 워커 풀이 비워질 때까지 기다립니다. (리플레이에서 한 틱의 단계 처리가 끝났는지 확인할 때 사용)
+    // 다음 단계 예약(pending) 은 다음 틱에 배치되므로 기다리지 않습니다
+    public boolean awaitIdle(long timeoutMillis) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        while (!workers.getQueue().isEmpty() || workers.getActiveCount() > 0) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(1);
+        }
+        return true;
+    }
+
+    // 틱 스레드 (STEP 모드에서는 advance) 전용
+    private void tick() {
+        try {
+            long now = currentTick + 1;
+            currentTick = now;
+            if (!clock.isStepDriven()) {
+                recordJitter(now);
+            }
+
+            Timeout timeout;
+            while ((timeout = pending.poll()) != null) {
+                place(timeout, now);
+            }
+
+            if ((now & WHEEL_MASK) == 0) {
+                cascade(level1[(int) ((now >>> WHEEL_BITS) & WHEEL_MASK)], now);
+            }
+
+            Queue<Timeout> bucket = level0[(int) (now & WHEEL_MASK)];
+            int size = bucket.size();
+            for (int i = 0; i < size; i++) {
+                place(bucket.poll(), now);
+            }
+        } catch (Exception e) {
+            // 틱 스레드가 죽으면 모든 게임이 멈추므로 예외를 삼킵니다
+            log.error("게임 타이머 틱 처리 실패", e);
+        }
+    }
+
+    private void cascade(Queue<Timeout> bucket, long now) {
+        Timeout timeout;
+        while ((timeout = bucket.poll()) != null) {
+            place(timeout, now);
+        }
+    }
+
+    private void place(Timeout timeout, long now) {
+        if (!timeout.state.isActive()) {
+            return; // 일시정지/종료된 게임의 예약은 버립니다
+        }
+        long delta = timeout.deadline - now;
+        if (delta <= 0) {
+            dispatch(timeout, now);
+        } else if (delta < WHEEL_SIZE) {
+            level0[(int) (timeout.deadline & WHEEL_MASK)].add(timeout);
+        } else {
+            // 범위를 넘는 예약도 cascade 시점에 다시 배치되므로 level 1 에 넣어둡니다
+            long slot = Math.min(timeout.deadline, now + (long) WHEEL_SIZE * WHEEL_SIZE - 1) >>> WHEEL_BITS;
+            level1[(int) (slot & WHEEL_MASK)].add(timeout);
+        }
+    }
+
+    private void dispatch(Timeout timeout, long now) {
+        try {
+            workers.execute(() -> {
+                if (timeout.state.isActive()) {
+                    timeout.listener.onPhase(timeout.state, timeout.second);
+                }
+            });
+            dispatched.incrementAndGet();
+        } catch (RejectedExecutionException e) {
+            // 워커 큐가 가득 찼다면 다음 틱에 다시 시도합니다
+            rejected.incrementAndGet();
+            level0[(int) ((now + 1) & WHEEL_MASK)].add(timeout);
+        }
+    }
+
+    private void recordJitter(long tick) {
+        long expected = startNanos + tick * TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        long jitter = Math.abs(System.nanoTime() - expected);
+        lastJitterNanos = jitter;
+        maxJitterNanos.accumulateAndGet(jitter, Math::max);
+    }
+
+    public long getMaxTickJitterMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(maxJitterNanos.get());
+    }
+
+    public long getLastTickJitterMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastJitterNanos);
+    }
+
+    public void resetJitter() {
+        maxJitterNanos.set(0);
+    }
+
+    public long getDispatchedCount() {
+        return dispatched.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public int getWorkerQueueSize() {
+        return workers == null ? 0 : workers.getQueue().size();
+    }
+
+    private record Timeout(GameState state, int second, long deadline, GamePhaseListener listener) {
+    }
+}
@@ -0,0 +1,242 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshot;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshotHolder;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
+import com.prgrms.ijuju.domain.wallet.dto.response.WalletResponseDTO;
+import com.prgrms.ijuju.domain.wallet.entity.PointType;
+import com.prgrms.ijuju.domain.wallet.entity.StockType;
+import com.prgrms.ijuju.domain.wallet.entity.TransactionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 주문 묶음(micro-batch) 하나를 한 트랜잭션으로 처리합니다.
+
+ * 1. 묶음에 등장하는 게임 / 지갑 / 포지션을 한 번씩만 읽고 잠급니다. (회원 / id 순서로 잠가 데드락을 피합니다)
+ * 2. 주문을 들어온 순서대로 메모리에서 적용합니다. 포인트 부족, 보유량 초과 같은 주문은 그 주문만 거절됩니다.
+ * 3. 바뀐 지갑 / 포인트 거래 내역 / 주식 거래 내역 / 포지션을 JDBC batch 로 한 번에 씁니다.
+
+ * 기존 buyStock / sellStock 이 주문마다 하던 일(게임 조회, 지갑 잠금, PointTransaction 저장, StockRecord 저장)을
+ * 묶음 단위로 합친 것 입니다. 가격은 MarketSnapshot 의 최신 종가를 사용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TradeBatchProcessor {
+
+    private static final double EPSILON = 1e-9;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MarketSnapshotHolder marketSnapshotHolder;
+
+    @Transactional
+    public BatchResult process(List<TradeOrder> orders) {
+        Set<Long> advIds = new TreeSet<>();
+        for (TradeOrder order : orders) {
+            advIds.add(order.getAdvId());
+        }
+
+        Map<Long, Long> gameOwners = loadGameOwners(advIds);
+        Map<Long, WalletRow> wallets = lockWallets(new TreeSet<>(gameOwners.values()));
+        Map<PositionKey, StockPosition> positions = lockPositions(advIds);
+
+        MarketSnapshot snapshot = marketSnapshotHolder.current();
+        LocalDateTime now = LocalDateTime.now();
+        List<TradeResult> results = new ArrayList<>(orders.size());
+        List<MapSqlParameterSource> pointTransactions = new ArrayList<>();
+        List<MapSqlParameterSource> stockRecords = new ArrayList<>();
+        Set<PositionKey> touchedPositions = new LinkedHashSet<>();
+
+        for (TradeOrder order : orders) {
+            String rejection = validate(order, gameOwners, wallets, snapshot);
+            if (rejection != null) {
+                results.add(TradeResult.rejected(order, rejection));
+                continue;
+            }
+
+            double price = snapshot.latestClose(order.getSymbol()).getAsDouble();
+            long points = BigDecimal.valueOf(price).multiply(BigDecimal.valueOf(order.getQuantity())).longValue();
+            WalletRow wallet = wallets.get(order.getMemberId());
+            PositionKey key = new PositionKey(order.getAdvId(), order.getSymbol());
+            StockPosition position = positions.computeIfAbsent(key, k -> new StockPosition(k.advId(), k.symbol()));
+
+            if (order.getTradeType() == TradeType.BUY) {
+                if (wallet.points < points) {
+                    results.add(TradeResult.rejected(order, "포인트가 부족합니다."));
+                    continue;
+                }
+                wallet.points -= points;
+            } else {
+                if (position.getQuantity() + EPSILON < order.getQuantity()) {
+                    results.add(TradeResult.rejected(order, "보유 수량보다 많은 주식을 판매할 수 없습니다."));
+                    continue;
+                }
+                wallet.points += points;
+            }
+            wallet.touched = true;
+            position.apply(order.getTradeType(), order.getQuantity(), BigDecimal.valueOf(price));
+            touchedPositions.add(key);
+
+            pointTransactions.add(new MapSqlParameterSource()
+                    .addValue("memberId", order.getMemberId())
+                    .addValue("transactionType", (order.getTradeType() == TradeType.BUY ? TransactionType.USED : TransactionType.EARNED).name())
+                    .addValue("points", points)
+                    .addValue("pointType", PointType.STOCK.name())
+                    .addValue("subType", StockType.ADVANCED.name())
+                    .addValue("createdAt", Timestamp.valueOf(now)));
+            stockRecords.add(new MapSqlParameterSource()
+                    .addValue("memberId", order.getMemberId())
+                    .addValue("advId", order.getAdvId())
+                    .addValue("symbol", order.getSymbol())
+                    .addValue("quantity", order.getQuantity())
+                    .addValue("pricePerUnit", BigDecimal.valueOf(price))
+                    .addValue("tradeType", order.getTradeType().name())
+                    .addValue("tradeDate", Timestamp.valueOf(now)));
+            results.add(TradeResult.completed(order, price, points, wallet.points));
+        }
+
+        writeWallets(wallets.values(), now);
+        batch("INSERT INTO point_transaction (member_id, transaction_type, points, point_type, sub_type, created_at) " +
+                "VALUES (:memberId, :transactionType, :points, :pointType, :subType, :createdAt)", pointTransactions);
+        batch("INSERT INTO stock_record (member_id, adv_id, symbol, quantity, price_per_unit, trade_type, trade_date) " +
+                "VALUES (:memberId, :advId, :symbol, :quantity, :pricePerUnit, :tradeType, :tradeDate)", stockRecords);
+        writePositions(positions, touchedPositions);
+
+        List<WalletResponseDTO> balances = new ArrayList<>();
+        for (WalletRow wallet : wallets.values()) {
+            if (wallet.touched) {
+                balances.add(new WalletResponseDTO(wallet.memberId, wallet.points, wallet.coins));
+            }
+        }
+        return new BatchResult(results, balances);
+    }
+
+    private String validate(TradeOrder order, Map<Long, Long> gameOwners, Map<Long, WalletRow> wallets, MarketSnapshot snapshot) {
+        Long owner = gameOwners.get(order.getAdvId());
+        if (owner == null) {
+            return "게임 찾지 못함 (AdvancedInvest Id 조회 불가)";
+        }
+        if (!owner.equals(order.getMemberId())) {
+            return "해당 게임의 회원이 아닙니다.";
+        }
+        if (!wallets.containsKey(order.getMemberId())) {
+            return "지갑을 찾을 수 없습니다.";
+        }
+        if (order.getQuantity() <= 0) {
+            return order.getTradeType() == TradeType.BUY ? "구매 수량은 0 보다 커야 한다" : "판매 수량은 0보다 커야 합니다.";
+        }
+        if (snapshot.latestClose(order.getSymbol()).isEmpty()) {
+            return "해당 주식이 존재하지 않음";
+        }
+        return null;
+    }
+
+    private Map<Long, Long> loadGameOwners(Set<Long> advIds) {
+        Map<Long, Long> owners = new HashMap<>();
+        jdbcTemplate.query("SELECT id, member_id FROM advanced_invest WHERE id IN (:ids)",
+                Map.of("ids", advIds),
+                rs -> {
+                    owners.put(rs.getLong("id"), rs.getLong("member_id"));
+                });
+        return owners;
+    }
+
+    private Map<Long, WalletRow> lockWallets(Set<Long> memberIds) {
+        Map<Long, WalletRow> wallets = new LinkedHashMap<>();
+        if (memberIds.isEmpty()) {
+            return wallets;
+        }
+        jdbcTemplate.query("SELECT id, member_id, current_points, current_coins FROM wallet " +
+                        "WHERE member_id IN (:memberIds) ORDER BY member_id FOR UPDATE",
+                Map.of("memberIds", memberIds),
+                rs -> {
+                    WalletRow wallet = new WalletRow(rs.getLong("id"), rs.getLong("member_id"),
+                            rs.getLong("current_points"), rs.getLong("current_coins"));
+                    wallets.put(wallet.memberId, wallet);
+                });
+        return wallets;
+    }
+
+    private Map<PositionKey, StockPosition> lockPositions(Set<Long> advIds) {
+        Map<PositionKey, StockPosition> positions = new HashMap<>();
+        jdbcTemplate.query("SELECT id, adv_id, symbol, quantity, total_cost, realized_pnl FROM stock_position " +
+                        "WHERE adv_id IN (:advIds) ORDER BY id FOR UPDATE",
+                Map.of("advIds", advIds),
+                rs -> {
+                    StockPosition position = StockPosition.restore(rs.getLong("id"), rs.getLong("adv_id"),
+                            rs.getString("symbol"), rs.getDouble("quantity"),
+                            rs.getBigDecimal("total_cost"), rs.getBigDecimal("realized_pnl"));
+                    positions.put(new PositionKey(position.getAdvId(), position.getSymbol()), position);
+                });
+        return positions;
+    }
+
+    private void writeWallets(Collection<WalletRow> wallets, LocalDateTime now) {
+        List<MapSqlParameterSource> updates = new ArrayList<>();
+        for (WalletRow wallet : wallets) {
+            if (wallet.touched) {
+                updates.add(new MapSqlParameterSource()
+                        .addValue("id", wallet.id)
+                        .addValue("points", wallet.points)
+                        .addValue("updatedAt", Timestamp.valueOf(now)));
+            }
+        }
+        batch("UPDATE wallet SET current_points = :points, updated_at = :updatedAt WHERE id = :id", updates);
+    }
+
+    private void writePositions(Map<PositionKey, StockPosition> positions, Set<PositionKey> touched) {
+        List<MapSqlParameterSource> inserts = new ArrayList<>();
+        List<MapSqlParameterSource> updates = new ArrayList<>();
+        for (PositionKey key : touched) {
+            StockPosition position = positions.get(key);
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("id", position.getId())
+                    .addValue("advId", position.getAdvId())
+                    .addValue("symbol", position.getSymbol())
+                    .addValue("quantity", position.getQuantity())
+                    .addValue("totalCost", position.getTotalCost())
+                    .addValue("realizedPnl", position.getRealizedPnl());
+            (position.getId() == null ? inserts : updates).add(params);
+        }
+        batch("INSERT INTO stock_position (adv_id, symbol, quantity, total_cost, realized_pnl) " +
+                "VALUES (:advId, :symbol, :quantity, :totalCost, :realizedPnl)", inserts);
+        batch("UPDATE stock_position SET quantity = :quantity, total_cost = :totalCost, realized_pnl = :realizedPnl " +
+                "WHERE id = :id", updates);
+    }
+
+    private void batch(String sql, List<MapSqlParameterSource> params) {
+        if (!params.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, params.toArray(new MapSqlParameterSource[0]));
+        }
+    }
+
+    private static final class WalletRow {
+        private final long id;
+        private final long memberId;
+        private long points;
+        private final long coins;
+        private boolean touched;
+
+        private WalletRow(long id, long memberId, long points, long coins) {
+            this.id = id;
+            this.memberId = memberId;
+            this.points = points;
+            this.coins = coins;
+        }
+    }
+
+    private record PositionKey(Long advId, String symbol) {
+    }
+
+    public record BatchResult(List<TradeResult> results, List<WalletResponseDTO> balances) {
+    }
+}
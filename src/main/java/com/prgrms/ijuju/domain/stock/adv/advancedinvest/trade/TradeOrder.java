@@ -0,0 +1,28 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import lombok.Getter;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * TradeOrderQueue 에 들어가는 주문 하나 입니다. 처리 결과는 result 로 돌려받습니다.
+ */
+@Getter
+public class TradeOrder {
+
+    private final Long advId;
+    private final Long memberId;
+    private final String symbol;
+    private final TradeType tradeType;
+    private final double quantity;
+    private final CompletableFuture<TradeResult> result = new CompletableFuture<>();
+
+    public TradeOrder(Long advId, Long memberId, String symbol, TradeType tradeType, double quantity) {
+        this.advId = advId;
+        this.memberId = memberId;
+        this.symbol = symbol;
+        this.tradeType = tradeType;
+        this.quantity = quantity;
+    }
+}
@@ -0,0 +1,192 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade;
+
+import com.prgrms.ijuju.domain.wallet.dto.response.WalletResponseDTO;
+import com.prgrms.ijuju.domain.wallet.handler.WebSocketHandler;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BUY_STOCK / SELL_STOCK 주문을 받아 묶음(micro-batch) 단위로 처리하는 큐 입니다.
+
+ * 60초(장 시작)에 모든 플레이어가 동시에 주문하면, 주문마다 트랜잭션 + 지갑 잠금 + insert 여러 번이 몰립니다.
+ * 그래서 주문을 회원 id 기준으로 샤드(shard)에 나눠 넣고, 샤드마다 전용 스레드 하나가
+ * 최대 maxBatch 개 또는 lingerMillis 동안 모인 주문을 TradeBatchProcessor 로 한 번에 처리합니다.
+
+ * - 같은 회원의 주문은 항상 같은 샤드, 같은 스레드에서 들어온 순서대로 처리됩니다.
+ * - 샤드끼리는 서로 다른 회원의 지갑 / 포지션만 다루므로 잠금이 겹치지 않습니다.
+ * - 묶음 처리 중 DB 오류가 나면 해당 묶음의 주문을 하나씩 다시 처리해서, 문제 있는 주문만 실패하게 합니다.
+ */
+@Slf4j
+@Component
+public class TradeOrderQueue {
+
+    private final TradeBatchProcessor tradeBatchProcessor;
+    private final WebSocketHandler walletWebSocketHandler;
+    private final int shards;
+    private final int maxBatch;
+    private final long lingerMillis;
+    private final int queueCapacity;
+
+    private final List<BlockingQueue<TradeOrder>> queues = new ArrayList<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean running;
+
+    // 지표
+    private final AtomicLong batchCount = new AtomicLong();
+    private final AtomicLong orderCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+    private final AtomicLong maxBatchSize = new AtomicLong();
+
+    public TradeOrderQueue(TradeBatchProcessor tradeBatchProcessor,
+                           WebSocketHandler walletWebSocketHandler,
+                           @Value("${advanced-invest.trade.shards:4}") int shards,
+                           @Value("${advanced-invest.trade.max-batch:200}") int maxBatch,
+                           @Value("${advanced-invest.trade.linger-millis:5}") long lingerMillis,
+                           @Value("${advanced-invest.trade.queue-capacity:10000}") int queueCapacity) {
+        this.tradeBatchProcessor = tradeBatchProcessor;
+        this.walletWebSocketHandler = walletWebSocketHandler;
+        this.shards = shards;
+        this.maxBatch = maxBatch;
+        this.lingerMillis = lingerMillis;
+        this.queueCapacity = queueCapacity;
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (int i = 0; i < shards; i++) {
+            BlockingQueue<TradeOrder> queue = new ArrayBlockingQueue<>(queueCapacity);
+            queues.add(queue);
+            Thread worker = new Thread(() -> drainLoop(queue), "trade-batch-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        workers.forEach(Thread::interrupt);
+        for (BlockingQueue<TradeOrder> queue : queues) {
+            TradeOrder order;
+            while ((order = queue.poll()) != null) {
+                order.getResult().complete(TradeResult.rejected(order, "서버가 종료 중입니다."));
+            }
+        }
+    }
+
+    public CompletableFuture<TradeResult> submit(TradeOrder order) {
+        BlockingQueue<TradeOrder> queue = queues.get(Math.floorMod(order.getMemberId().hashCode(), shards));
+        if (!running || !queue.offer(order)) {
+            rejectedCount.incrementAndGet();
+            order.getResult().complete(TradeResult.rejected(order, "주문이 너무 많습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return order.getResult();
+    }
+
+    private void drainLoop(BlockingQueue<TradeOrder> queue) {
+        List<TradeOrder> batch = new ArrayList<>(maxBatch);
+        while (running) {
+            try {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (batch.size() < maxBatch) {
+                    queue.drainTo(batch, maxBatch - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= maxBatch || remaining <= 0) {
+                        break;
+                    }
+                    TradeOrder next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                commit(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                batch.forEach(order -> order.getResult().complete(TradeResult.rejected(order, "서버가 종료 중입니다.")));
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void commit(List<TradeOrder> batch) {
+        batchCount.incrementAndGet();
+        orderCount.addAndGet(batch.size());
+        maxBatchSize.accumulateAndGet(batch.size(), Math::max);
+
+        TradeBatchProcessor.BatchResult result;
+        try {
+            result = tradeBatchProcessor.process(batch);
+        } catch (Exception e) {
+            log.warn("주문 묶음 처리 실패, 주문별로 다시 처리합니다: size={}", batch.size(), e);
+            for (TradeOrder order : batch) {
+                TradeBatchProcessor.BatchResult single;
+                try {
+                    single = tradeBatchProcessor.process(List.of(order));
+                } catch (Exception singleError) {
+                    log.error("주문 처리 실패: advId={}, symbol={}", order.getAdvId(), order.getSymbol(), singleError);
+                    order.getResult().complete(TradeResult.rejected(order, "거래 처리 중 오류가 발생했습니다."));
+                    continue;
+                }
+                complete(List.of(order), single);
+            }
+            return;
+        }
+        complete(batch, result);
+    }
+
+    // 커밋이 끝난 뒤에 결과를 돌려주고 지갑 화면을 갱신합니다
+    private void complete(List<TradeOrder> orders, TradeBatchProcessor.BatchResult result) {
+        for (int i = 0; i < orders.size(); i++) {
+            orders.get(i).getResult().complete(result.results().get(i));
+        }
+        for (WalletResponseDTO balance : result.balances()) {
+            try {
+                walletWebSocketHandler.sendPointUpdate(balance.getMemberId(), balance);
+            } catch (Exception e) {
+                log.warn("포인트 업데이트 전송 실패: memberId={}", balance.getMemberId(), e);
+            }
+        }
+    }
+
+    public long getBatchCount() {
+        return batchCount.get();
+    }
+
+    public long getOrderCount() {
+        return orderCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    public long getMaxBatchSize() {
+        return maxBatchSize.get();
+    }
+
+    public double getAverageBatchSize() {
+        long batches = batchCount.get();
+        return batches == 0 ? 0 : (double) orderCount.get() / batches;
+    }
+
+    public int getQueuedCount() {
+        return queues.stream().mapToInt(BlockingQueue::size).sum();
+    }
+}
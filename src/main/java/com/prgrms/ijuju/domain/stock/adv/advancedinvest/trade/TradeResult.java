@@ -0,0 +1,30 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+
+/**
+ * 주문 하나의 처리 결과 입니다. WebSocket 으로 그대로 JSON 직렬화되어 전송됩니다.
+ * 거절된 주문은 success = false 이고 message 에 사유가 담깁니다.
+ */
+public record TradeResult(
+        boolean success,
+        String message,
+        String stockSymbol,
+        TradeType tradeType,
+        double quantity,
+        double pricePerUnit,
+        long points,
+        long remainingPoints
+) {
+
+    public static TradeResult completed(TradeOrder order, double pricePerUnit, long points, long remainingPoints) {
+        String message = order.getTradeType() == TradeType.BUY ? "주식 구매가 완료되었습니다." : "주식 판매가 완료되었습니다.";
+        return new TradeResult(true, message, order.getSymbol(), order.getTradeType(), order.getQuantity(),
+                pricePerUnit, points, remainingPoints);
+    }
+
+    public static TradeResult rejected(TradeOrder order, String message) {
+        return new TradeResult(false, message, order.getSymbol(), order.getTradeType(), order.getQuantity(),
+                0, 0, 0);
+    }
+}
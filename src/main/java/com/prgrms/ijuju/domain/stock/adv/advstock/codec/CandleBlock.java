@@ -0,0 +1,52 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.codec;
+
+import lombok.Getter;
+
+/**
+ * 한 종목의 캔들(시가/고가/저가/종가/거래량/시간)을 열(column) 단위 원시 배열로 들고 있는 객체 입니다.
+ * AdvStock 의 candles 컬럼에는 이 객체가 CandleBlockCodec 으로 인코딩된 바이트가 저장됩니다.
+ */
+@Getter
+public final class CandleBlock {
+
+    public static final CandleBlock EMPTY = new CandleBlock(new double[0], new double[0], new double[0],
+            new double[0], new long[0], new long[0]);
+
+    private final double[] openPrices;
+    private final double[] highPrices;
+    private final double[] lowPrices;
+    private final double[] closePrices;
+    private final long[] volumes;
+    private final long[] timestamps;
+
+    public CandleBlock(double[] openPrices, double[] highPrices, double[] lowPrices, double[] closePrices,
+                       long[] volumes, long[] timestamps) {
+        int size = openPrices.length;
+        if (highPrices.length != size || lowPrices.length != size || closePrices.length != size
+                || volumes.length != size || timestamps.length != size) {
+            throw new IllegalStateException("캔들 값들의 길이가 mismatch 났습니다. > 모든 수치가 전달되지 않았습니다");
+        }
+        this.openPrices = openPrices;
+        this.highPrices = highPrices;
+        this.lowPrices = lowPrices;
+        this.closePrices = closePrices;
+        this.volumes = volumes;
+        this.timestamps = timestamps;
+    }
+
+    public int size() {
+        return openPrices.length;
+    }
+
+    // index 위치의 캔들 하나만 담은 블록
+    public CandleBlock slice(int index) {
+        return new CandleBlock(
+                new double[]{openPrices[index]},
+                new double[]{highPrices[index]},
+                new double[]{lowPrices[index]},
+                new double[]{closePrices[index]},
+                new long[]{volumes[index]},
+                new long[]{timestamps[index]}
+        );
+    }
+}
@@ -0,0 +1,94 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.codec;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * CandleBlock <-> byte[] 변환기 입니다.
+
+ * 예전에는 AdvStock 이 여섯 개의 @ElementCollection(EAGER) 으로 저장돼서, 종목 하나를 읽을 때
+ * 컬렉션 테이블 여섯 개를 조인하고 모든 값을 Double / Long 으로 박싱했습니다.
+ * 이제는 한 행(종목 + DataType)에 고정 폭 열 블록 하나를 저장하고, 읽을 때 바로 원시 배열로 풉니다.
+
+ * 포맷 (little endian)
+ * - magic   : short  (0x4342 = "CB")
+ * - version : byte   (1)
+ * - count   : int
+ * - open[count], high[count], low[count], close[count] : double
+ * - volume[count], timestamp[count]                   : long
+ */
+public final class CandleBlockCodec {
+
+    public static final short MAGIC = 0x4342;
+    public static final byte FORMAT_VERSION = 1;
+    public static final int HEADER_BYTES = Short.BYTES + Byte.BYTES + Integer.BYTES;
+    public static final int BYTES_PER_CANDLE = 6 * Long.BYTES;
+
+    private CandleBlockCodec() {
+    }
+
+    public static int encodedSize(int count) {
+        return HEADER_BYTES + count * BYTES_PER_CANDLE;
+    }
+
+    public static byte[] encode(CandleBlock block) {
+        int count = block.size();
+        ByteBuffer buffer = ByteBuffer.allocate(encodedSize(count)).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putShort(MAGIC);
+        buffer.put(FORMAT_VERSION);
+        buffer.putInt(count);
+
+        buffer.asDoubleBuffer().put(block.getOpenPrices());
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asDoubleBuffer().put(block.getHighPrices());
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asDoubleBuffer().put(block.getLowPrices());
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asDoubleBuffer().put(block.getClosePrices());
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asLongBuffer().put(block.getVolumes());
+        buffer.position(buffer.position() + count * Long.BYTES);
+        buffer.asLongBuffer().put(block.getTimestamps());
+
+        return buffer.array();
+    }
+
+    public static CandleBlock decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return CandleBlock.EMPTY;
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        if (buffer.getShort() != MAGIC) {
+            throw new IllegalStateException("캔들 블록 포맷이 아닙니다");
+        }
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalStateException("지원하지 않는 캔들 블록 버전입니다: " + version);
+        }
+        int count = buffer.getInt();
+        if (bytes.length != encodedSize(count)) {
+            throw new IllegalStateException("캔들 블록 길이가 올바르지 않습니다: " + bytes.length);
+        }
+
+        double[] open = new double[count];
+        double[] high = new double[count];
+        double[] low = new double[count];
+        double[] close = new double[count];
+        long[] volumes = new long[count];
+        long[] timestamps = new long[count];
+
+        buffer.asDoubleBuffer().get(open);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asDoubleBuffer().get(high);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asDoubleBuffer().get(low);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asDoubleBuffer().get(close);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        buffer.asLongBuffer().get(volumes);
+        buffer.position(buffer.position() + count * Long.BYTES);
+        buffer.asLongBuffer().get(timestamps);
+
+        return new CandleBlock(open, high, low, close, volumes, timestamps);
+    }
+}
@@ -1,17 +1,23 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlockCodec;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.util.AbstractList;
 import java.util.List;
 
+/**
+ * 캔들 데이터(시가/고가/저가/종가/거래량/시간)는 여섯 개의 @ElementCollection 대신 candles 컬럼 하나에
+ * 열 단위 블록으로 저장됩니다. 포맷은 CandleBlockCodec 을 참고
+ */
 @Entity
 @Getter
-@ToString
-@Builder
-@AllArgsConstructor
+@ToString(exclude = {"candles", "block", "lists"})
 @NoArgsConstructor
 @EntityListeners(value = { AuditingEntityListener.class })
 public class AdvStock {
@@ -22,24 +28,109 @@ public class AdvStock {
     private String symbol;  //주식 심볼 > 에: "AAPL"
     private String name;    //주식 이름 > 에: "Apple Inc."
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> openPrices;   //시가 'o'
+    private int candleCount; //캔들 개수
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> highPrices;   //고가 'h'
+    @JsonIgnore
+    @Lob
+    @Column(length = 16 * 1024 * 1024)
+    private byte[] candles;  //CandleBlockCodec 으로 인코딩된 캔들 블록
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> lowPrices;    //저가 'l'
+    @Enumerated(EnumType.STRING)
+    private DataType dataType;  //REFERENCE or LIVE or FORECAST > stock.constant 내부 확인
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Double> closePrices;  //종가 'c'
+    @Transient
+    private CandleBlock block;  //candles 를 디코딩한 결과 (처음 접근할 때 한 번만 디코딩)
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Long> volumes;      //거래량 'v'
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private CandleLists lists;  //호환용 List 뷰 (처음 접근할 때 한 번만 생성)
 
-    @ElementCollection(fetch = FetchType.EAGER)
-    private List<Long> timestamps;   //시간 't'
+    @Builder
+    public AdvStock(String symbol, String name, DataType dataType, CandleBlock block) {
+        this.symbol = symbol;
+        this.name = name;
+        this.dataType = dataType;
+        this.block = block;
+        this.candleCount = block.size();
+        this.candles = CandleBlockCodec.encode(block);
+    }
 
-    @Enumerated(EnumType.STRING)
-    private DataType dataType;  //REFERENCE or LIVE or FORECAST > stock.constant 내부 확인
-}
\ No newline at end of file
+    @JsonIgnore
+    public CandleBlock getBlock() {
+        if (block == null) {
+            block = CandleBlockCodec.decode(candles);
+        }
+        return block;
+    }
+
+    // 기존 List 기반 코드 / JSON 응답 호환용. 배열을 감싼 읽기 전용 뷰를 한 번만 만들어 재사용합니다 (박싱 복사 없음)
+    // 새 코드는 getBlock() 의 배열을 직접 쓰세요
+    public List<Double> getOpenPrices() {
+        return getLists().openPrices();
+    }
+
+    public List<Double> getHighPrices() {
+        return getLists().highPrices();
+    }
+
+    public List<Double> getLowPrices() {
+        return getLists().lowPrices();
+    }
+
+    public List<Double> getClosePrices() {
+        return getLists().closePrices();
+    }
+
+    public List<Long> getVolumes() {
+        return getLists().volumes();
+    }
+
+    public List<Long> getTimestamps() {
+        return getLists().timestamps();
+    }
+
+    private CandleLists getLists() {
+        if (lists == null) {
+            lists = CandleLists.of(getBlock());
+        }
+        return lists;
+    }
+
+    private record CandleLists(List<Double> openPrices, List<Double> highPrices, List<Double> lowPrices,
+                               List<Double> closePrices, List<Long> volumes, List<Long> timestamps) {
+
+        static CandleLists of(CandleBlock block) {
+            return new CandleLists(view(block.getOpenPrices()), view(block.getHighPrices()),
+                    view(block.getLowPrices()), view(block.getClosePrices()),
+                    view(block.getVolumes()), view(block.getTimestamps()));
+        }
+
+        private static List<Double> view(double[] values) {
+            return new AbstractList<>() {
+                @Override
+                public Double get(int index) {
+                    return values[index];
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+
+        private static List<Long> view(long[] values) {
+            return new AbstractList<>() {
+                @Override
+                public Long get(int index) {
+                    return values[index];
+                }
+
+                @Override
+                public int size() {
+                    return values.length;
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockDataFetcher;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockService;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshotHolder;
+import com.prgrms.ijuju.domain.stock.adv.advstock.util.DateUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * AdvStockScheduler 가 사용하는 Polygon 수집 파이프라인 입니다.
+
+ * 1. 종목별 REFERENCE / LIVE / FORECAST 요청을 제한된 크기의 스레드 풀에서 동시에 보냅니다.
+ *    실제 호출 속도는 AdvStockDataFetcher 안의 PolygonRateLimiter 가 결정합니다.
+ * 2. 결과는 DB 에 바로 쓰지 않고 메모리에 모아둡니다(staging).
+ * 3. 모든 종목이 성공했을 때만 replaceMarketData 로 한 트랜잭션 안에서 교체하고, 스냅샷을 갱신합니다.
+ *    하나라도 실패하면 남은 요청을 취소하고 기존 데이터를 그대로 둡니다.
+ */
+@Slf4j
+@Component
+public class AdvStockIngestionPipeline {
+
+    private final AdvStockDataFetcher advStockDataFetcher;
+    private final AdvStockService advStockService;
+    private final MarketSnapshotHolder marketSnapshotHolder;
+    private final int concurrency;
+    private final long timeoutSeconds;
+
+    public AdvStockIngestionPipeline(AdvStockDataFetcher advStockDataFetcher,
+                                     AdvStockService advStockService,
+                                     MarketSnapshotHolder marketSnapshotHolder,
+                                     @Value("${polygon.ingest.concurrency:8}") int concurrency,
+                                     @Value("${polygon.ingest.timeout-seconds:1800}") long timeoutSeconds) {
+        this.advStockDataFetcher = advStockDataFetcher;
+        this.advStockService = advStockService;
+        this.marketSnapshotHolder = marketSnapshotHolder;
+        this.concurrency = concurrency;
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    // 전체 수집 후 교체. 교체된 엔티티 수를 반환합니다.
+    public int refresh(List<String> symbols) {
+        long startNanos = System.nanoTime();
+        List<AdvStock> staged = stage(symbols);
+        advStockService.replaceMarketData(staged);
+        marketSnapshotHolder.refresh();
+        log.info("AdvStock 수집 완료: 종목 {}개, 엔티티 {}개, {}ms",
+                symbols.size(), staged.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return staged.size();
+    }
+
+    // 모든 종목의 데이터를 받아 엔티티로 만들어 둡니다. DB 에는 쓰지 않습니다.
+    public List<AdvStock> stage(List<String> symbols) {
+        String referenceStartDate = DateUtil.getReferenceStartDate();
+        String referenceEndDate = DateUtil.getReferenceEndDate();
+        String liveDate = DateUtil.getLiveDate();
+        String forecastStartDate = DateUtil.getForecastStartDate();
+        String forecastEndDate = DateUtil.getForecastEndDate();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(concurrency, symbols.size())), runnable -> {
+            Thread thread = new Thread(runnable, "polygon-ingest-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        CompletionService<List<AdvStock>> completionService = new ExecutorCompletionService<>(executor);
+
+        try {
+            for (String symbol : symbols) {
+                completionService.submit(() -> List.of(
+                        fetch(symbol, referenceStartDate, referenceEndDate, DataType.REFERENCE),
+                        fetch(symbol, liveDate, liveDate, DataType.LIVE),
+                        fetch(symbol, forecastStartDate, forecastEndDate, DataType.FORECAST)
+                ));
+            }
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            List<AdvStock> staged = new ArrayList<>(symbols.size() * 3);
+            for (int i = 0; i < symbols.size(); i++) {
+                Future<List<AdvStock>> done = completionService.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                if (done == null) {
+                    throw new IllegalStateException("AdvStock 수집 시간 초과: " + timeoutSeconds + "초");
+                }
+                staged.addAll(done.get());
+            }
+            return staged;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("AdvStock 수집 실패. 기존 데이터를 유지합니다", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("AdvStock 수집 중 인터럽트", e);
+        } finally {
+            // 실패 시 남은 요청 취소
+            executor.shutdownNow();
+        }
+    }
+
+    private AdvStock fetch(String symbol, String startDate, String endDate, DataType dataType) {
+        return advStockService.buildStockData(symbol, symbol + " Name",
+                advStockDataFetcher.fetchStockData(symbol, 1, "hour", startDate, endDate), dataType);
+    }
+}
@@ -0,0 +1,54 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Polygon 호출 횟수를 제한하는 토큰 버킷 입니다.
+ * 버킷에는 최대 burst 개의 토큰이 있고, 분당 requestsPerMinute 개의 속도로 다시 채워집니다.
+ * AdvStockDataFetcher 는 HTTP 요청(재시도 포함)을 보내기 직전에 acquire 를 호출합니다.
+
+ * 기본값(분당 5회)은 Polygon 무료 플랜 기준입니다. 유료 키를 쓴다면 polygon.rate-limit.* 로 올려주세요.
+ */
+@Component
+public class PolygonRateLimiter {
+
+    private final double permitsPerNano;
+    private final double burst;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    public PolygonRateLimiter(@Value("${polygon.rate-limit.requests-per-minute:5}") double requestsPerMinute,
+                              @Value("${polygon.rate-limit.burst:5}") int burst) {
+        if (requestsPerMinute <= 0 || burst <= 0) {
+            throw new IllegalArgumentException("requestsPerMinute 와 burst 는 0보다 커야 합니다");
+        }
+        this.permitsPerNano = requestsPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.burst = burst;
+        this.tokens = burst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 토큰 하나를 얻을 때까지 대기합니다
+    public void acquire() throws InterruptedException {
+        long waitNanos;
+        while ((waitNanos = tryAcquire()) > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    // 토큰을 얻었다면 0, 아니면 다음 토큰까지 남은 시간(ns)
+    private synchronized long tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(burst, tokens + (now - lastRefillNanos) * permitsPerNano);
+        lastRefillNanos = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / permitsPerNano));
+    }
+}
@@ -0,0 +1,152 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.migration;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlockCodec;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 예전 @ElementCollection 테이블(adv_stock_open_prices 등)에 남아 있는 캔들을 candles 블록 컬럼으로 옮깁니다.
+ * candles 가 비어 있는 행만 대상으로 하므로 여러 번 실행돼도 안전합니다.
+ * 옛 테이블은 지우지 않고 그대로 둡니다. (롤백 대비)
+
+ * 행 순서: 테이블에 순서 컬럼(@OrderColumn, 예: open_prices_order) 이 있으면 그 순서로 읽습니다.
+ * 없으면(@OrderColumn 없는 List 는 순서 컬럼이 없음) DB 가 돌려준 순서를 쓰되, 시간 값이 오름차순이 아니면
+ * 순서가 섞인 것으로 보고 그 종목은 옮기지 않습니다. 열 길이가 다른 종목도 마찬가지로 로그만 남기고 건너뜁니다.
+ * 건너뛴 종목은 candles 가 비어 있는 채로 남으므로 다음 수집(AdvStockScheduler) 때 다시 채워집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AdvStockCandleMigration {
+
+    private static final String[] LEGACY_TABLES = {
+            "adv_stock_open_prices", "adv_stock_high_prices", "adv_stock_low_prices",
+            "adv_stock_close_prices", "adv_stock_volumes", "adv_stock_timestamps"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 스냅샷(MarketSnapshotHolder)이 만들어지기 전에 실행되어야 합니다
+    @Order(0)
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void migrate() {
+        if (!legacyTablesExist()) {
+            return;
+        }
+
+        Map<String, String> orderColumns = orderColumns();
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM adv_stock WHERE candles IS NULL", Long.class);
+        int migrated = 0;
+        for (Long id : ids) {
+            long[] timestamps = readLongs("adv_stock_timestamps", "timestamps", id, orderColumns);
+            if (!orderColumns.containsKey("adv_stock_timestamps") && !isAscending(timestamps)) {
+                log.warn("AdvStock 캔들 변환 건너뜀: id={}, 순서 컬럼이 없고 시간 순서가 섞여 있습니다", id);
+                continue;
+            }
+            CandleBlock block;
+            try {
+                block = new CandleBlock(
+                        readDoubles("adv_stock_open_prices", "open_prices", id, orderColumns),
+                        readDoubles("adv_stock_high_prices", "high_prices", id, orderColumns),
+                        readDoubles("adv_stock_low_prices", "low_prices", id, orderColumns),
+                        readDoubles("adv_stock_close_prices", "close_prices", id, orderColumns),
+                        readLongs("adv_stock_volumes", "volumes", id, orderColumns),
+                        timestamps
+                );
+            } catch (IllegalStateException e) {
+                log.warn("AdvStock 캔들 변환 건너뜀: id={}, {}", id, e.getMessage());
+                continue;
+            }
+            jdbcTemplate.update("UPDATE adv_stock SET candles = ?, candle_count = ? WHERE id = ?",
+                    CandleBlockCodec.encode(block), block.size(), id);
+            migrated++;
+        }
+        if (!ids.isEmpty()) {
+            log.info("AdvStock 캔들 블록 변환 완료: {}건 / 대상 {}건", migrated, ids.size());
+        }
+    }
+
+    private double[] readDoubles(String table, String column, Long id, Map<String, String> orderColumns) {
+        return jdbcTemplate.queryForList(select(table, column, orderColumns), Double.class, id)
+                .stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    private long[] readLongs(String table, String column, Long id, Map<String, String> orderColumns) {
+        return jdbcTemplate.queryForList(select(table, column, orderColumns), Long.class, id)
+                .stream().mapToLong(Long::longValue).toArray();
+    }
+
+    private String select(String table, String column, Map<String, String> orderColumns) {
+        String sql = "SELECT " + column + " FROM " + table + " WHERE adv_stock_id = ?";
+        String orderColumn = orderColumns.get(table);
+        return orderColumn == null ? sql : sql + " ORDER BY " + orderColumn;
+    }
+
+    private static boolean isAscending(long[] values) {
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] < values[i - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 테이블별 순서 컬럼 (adv_stock_id 와 값 컬럼 외의 컬럼). 없는 테이블은 빠집니다
+    private Map<String, String> orderColumns() {
+        Map<String, String> orderColumns = new HashMap<>();
+        jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : LEGACY_TABLES) {
+                String valueColumn = table.substring("adv_stock_".length());
+                for (String name : new String[]{table, table.toUpperCase()}) {
+                    try (ResultSet columns = metaData.getColumns(null, null, name, null)) {
+                        while (columns.next()) {
+                            String column = columns.getString("COLUMN_NAME");
+                            if (!column.equalsIgnoreCase("adv_stock_id") && !column.equalsIgnoreCase(valueColumn)) {
+                                orderColumns.put(table, column);
+                            }
+                        }
+                    }
+                }
+            }
+            return null;
+        });
+        return orderColumns;
+    }
+
+    private boolean legacyTablesExist() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : LEGACY_TABLES) {
+                if (!tableExists(metaData, table) && !tableExists(metaData, table.toUpperCase())) {
+                    return false;
+                }
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private boolean tableExists(DatabaseMetaData metaData, String table) throws SQLException {
+        try (ResultSet tables = metaData.getTables(null, null, table, new String[]{"TABLE"})) {
+            return tables.next();
+        }
+    }
+}
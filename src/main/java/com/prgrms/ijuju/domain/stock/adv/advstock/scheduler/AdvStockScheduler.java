@@ -1,15 +1,14 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.scheduler;
 
-import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
-import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
-import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
-import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockDataFetcher;
-import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockService;
-import com.prgrms.ijuju.domain.stock.adv.advstock.util.DateUtil;
+import com.prgrms.ijuju.domain.stock.adv.advstock.ingest.AdvStockIngestionPipeline;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
  * Stock 엔티티의 알파이자 오메가 입니다
  * Scheduler 를 사용해 자동으로 아침 7시 기준 (한국 시간) 자동으로 실행 됩니다
@@ -17,51 +16,30 @@ import org.springframework.stereotype.Component;
  * symbol 내부에 있는 주식들의 수치를 가져옵니다. 가져오는 방식은 AdvStockDataFetcher 를 참고
  * 오늘을 20일 이라고 가정했을때 6~12일의 데이터를 Reference Data 로, 13일의 데이터를 Live Data 로 저장합니다
 
- * 현재 7시 기준으로 기존 데이터를 깔끔하게 날려버립니다. 원래 하루 지우고 하루 생성하고 하는 방식으로 할려고 했지만, 코드의 난잡성과 실제 성능 차이가 거의 안나는걸 확인했습니다.
- * 그렇기에 7시 기준으로 Reference 와 Live 데이터가 한번에 전부 삭제되고, 새로운 Reference 와 Live Data 를 불러옵니다.
+ * 수집할 종목은 polygon.symbols 설정값으로 정합니다. 수집은 AdvStockIngestionPipeline 이 동시에, 호출 제한을 지키며 진행합니다.
+ * 모든 종목을 다 받아온 뒤에만 REFERENCE / LIVE / FORECAST 데이터를 한 트랜잭션으로 교체합니다.
+ * 그래서 수집 중에도 게임은 기존 데이터를 그대로 볼 수 있고, 하나라도 실패하면 기존 데이터가 유지됩니다.
  * 보유 주식 에는 영향이 없습니다.
+
+ * 교체가 끝나면 MarketSnapshotHolder 를 갱신합니다. 게임 쪽은 DB 대신 이 스냅샷을 읽습니다.
  */
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class AdvStockScheduler {
 
-    private final AdvStockDataFetcher advStockDataFetcher;
-    private final AdvStockService advStockService;
-    private final AdvStockRepository advStockRepository;
+    private final AdvStockIngestionPipeline advStockIngestionPipeline;
+
+    @Value("${polygon.symbols:AAPL,MSFT,AMZN,TSLA}")
+    private List<String> symbols;
 
     @Scheduled(cron = "0 0 7 * * ?", zone = "Asia/Seoul")
     public void fetchAndUpdateStockDataDaily() {
-
-        //괴거 데이터 삭제용. 7시 리셋시 모든 데이터를 날린다
-        advStockRepository.deleteByDataType(DataType.REFERENCE);
-        advStockRepository.deleteByDataType(DataType.LIVE);
-        advStockRepository.deleteByDataType(DataType.FORECAST);
-
-
-
-        //테스트 용으로 일단 5개만 넣어뒀습니다.
-        String[] symbols = {"AAPL", "MSFT", "AMZN", "TSLA"};
-
-        String referenceStartDate = DateUtil.getReferenceStartDate();
-        String referenceEndDate = DateUtil.getReferenceEndDate();
-        String liveDate = DateUtil.getLiveDate();
-        String articleStartDate = DateUtil.getForecastStartDate();
-        String articleEndDate = DateUtil.getForecastEndDate();
-
-        for (String symbol : symbols) {
-            // Reference 데이터 저장
-            PolygonCandleResponse referenceData = advStockDataFetcher.fetchStockData(symbol, 1, "hour", referenceStartDate, referenceEndDate);
-            advStockService.saveStockData(symbol, symbol + " Name", referenceData, DataType.REFERENCE);
-
-            // Live 데이터 저장
-            PolygonCandleResponse liveData = advStockDataFetcher.fetchStockData(symbol, 1, "hour", liveDate, liveDate);
-            advStockService.saveStockData(symbol, symbol + " Name", liveData, DataType.LIVE);
-
-            // Forecast 데이터 저장
-            PolygonCandleResponse articleData = advStockDataFetcher.fetchStockData(symbol, 1, "hour", articleStartDate, articleEndDate);
-            advStockService.saveStockData(symbol, symbol + " Name", articleData, DataType.FORECAST);
+        try {
+            advStockIngestionPipeline.refresh(symbols);
+        } catch (IllegalStateException e) {
+            log.error("AdvStock 일일 갱신 실패. 기존 데이터를 유지합니다", e);
         }
-
     }
-}
\ No newline at end of file
+}
@@ -1,42 +1,104 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.service;
 
 import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
+import com.prgrms.ijuju.domain.stock.adv.advstock.ingest.PolygonRateLimiter;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClient;
 
 
 /**
 * 해당 클래스는 stock data 를 실제로 들고오는 서비스 클래스 입니다
 
-* 현재 API key 가 상수로 적혀있고 비어있습니다. 테스트 용도고 Advanced_Invest 엔티티 구현 후 환경변수로 설정하여 보안에 신경 쓸 예정입니다.
+* API key 와 base url 은 설정값(polygon.api.*)으로 주입받습니다. base url 은 테스트에서 스텁 서버를 가리키도록 바꿀 수 있습니다.
 
 * url format 같은 경우 symbol 로 저희가 원하는 주식을 들고오고, resolution 을 60으로 설정하여 1시간 단위의 데이터를 들고오게 설정하였습니다.
 
+* 모든 요청은 PolygonRateLimiter 의 토큰을 받은 뒤에 나갑니다. 429(Too Many Requests) 나 5xx 를 받으면
+* Retry-After 헤더(없으면 지수 백오프)만큼 기다렸다가 maxRetries 번까지 다시 시도합니다.
+
 * RestClient 의 경우 객체로 간단하게 api 를 호촐할 수 있는 Sping 내장 클래스 입니다. Template 상위호환이기에 썼습니다.
 * 자세한 사용 방식은 > https://docs.spring.io/spring-framework/reference/integration/rest-clients.html
  */
 
+@Slf4j
 @Service
 public class AdvStockDataFetcher {
 
-    private final RestClient restClient = RestClient.builder().build();
+    private static final String PATH = "/v2/aggs/ticker/%s/range/%d/%s/%s/%s";
 
-    @Value("${polygon.api.key}")
-    private String POLYGON_API_KEY;
+    private final RestClient restClient;
+    private final PolygonRateLimiter rateLimiter;
+    private final String apiKey;
+    private final String baseUrl;
+    private final int maxRetries;
+    private final long backoffMillis;
 
-    private static final String BASE_URL = "https://api.polygon.io/v2/aggs/ticker/%s/range/%d/%s/%s/%s";
+    public AdvStockDataFetcher(PolygonRateLimiter rateLimiter,
+                               @Value("${polygon.api.key}") String apiKey,
+                               @Value("${polygon.api.base-url:https://api.polygon.io}") String baseUrl,
+                               @Value("${polygon.api.max-retries:3}") int maxRetries,
+                               @Value("${polygon.api.backoff-millis:1000}") long backoffMillis) {
+        this.restClient = RestClient.builder().build();
+        this.rateLimiter = rateLimiter;
+        this.apiKey = apiKey;
+        this.baseUrl = baseUrl;
+        this.maxRetries = maxRetries;
+        this.backoffMillis = backoffMillis;
+    }
 
     public PolygonCandleResponse fetchStockData(String symbol, int multiplier, String time, String startDate, String endDate) {
         String url = String.format(
-                BASE_URL + "?adjusted=true&sort=asc&apiKey=%s",
-                symbol, multiplier, time, startDate, endDate, POLYGON_API_KEY
+                baseUrl + PATH + "?adjusted=true&sort=asc&apiKey=%s",
+                symbol, multiplier, time, startDate, endDate, apiKey
         );
 
+        for (int attempt = 0; ; attempt++) {
+            try {
+                rateLimiter.acquire();
+                return restClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .body(PolygonCandleResponse.class);
+            } catch (HttpStatusCodeException e) {
+                if (!isRetryable(e) || attempt >= maxRetries) {
+                    throw e;
+                }
+                long waitMillis = retryAfterMillis(e, attempt);
+                log.warn("Polygon 요청 재시도 {}/{} ({}): {} - {}ms 대기", attempt + 1, maxRetries, e.getStatusCode(), symbol, waitMillis);
+                sleep(waitMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Polygon 요청 대기 중 인터럽트: " + symbol, e);
+            }
+        }
+    }
+
+    private boolean isRetryable(HttpStatusCodeException e) {
+        return e.getStatusCode().value() == HttpStatus.TOO_MANY_REQUESTS.value() || e.getStatusCode().is5xxServerError();
+    }
+
+    private long retryAfterMillis(HttpStatusCodeException e, int attempt) {
+        String retryAfter = e.getResponseHeaders() == null ? null : e.getResponseHeaders().getFirst("Retry-After");
+        if (retryAfter != null) {
+            try {
+                return Long.parseLong(retryAfter.trim()) * 1000;
+            } catch (NumberFormatException ignored) {
+                // HTTP-date 형식은 지원하지 않으므로 백오프로 대신합니다
+            }
+        }
+        return backoffMillis << Math.min(attempt, 10);
+    }
 
-        return restClient.get()
-                .uri(url)
-                .retrieve()
-                .body(PolygonCandleResponse.class);
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Polygon 재시도 대기 중 인터럽트", e);
+        }
     }
 }
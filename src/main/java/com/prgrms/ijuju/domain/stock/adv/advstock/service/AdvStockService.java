@@ -11,6 +11,9 @@ import java.util.List;
 
  * SaveStockData 는 실세 서비스에서 사용이 되는 유일한 메소드 입니다. 간단하게 그냥 데이터를 저장하는 서비스 입니다.
 
+ * buildStockData 는 저장하지 않고 엔티티만 만들어 반환합니다. AdvStockIngestionPipeline 이 모든 종목을 먼저 모아둔 뒤
+ * replaceMarketData 로 한 번에 교체할 때 사용합니다.
+
  * deleteByDataType 은 생성은 해두었는데, 실제 사용을 할지에 대해선 미지수 입니다. 이또한 AdvStockScheduler 에서 담당하기 때문입니다. 테스트 할때도 그냥 DB에서 삭제해버리면 되서 일단 서비스만 만들어
  * 두었습니다. 그렇기에 현재 사용이 되지 않는 메소드 입니다. 좀 더 데이터를 크게 해서 테스트시 사용할 수 있어 냅둡니다.
  */
@@ -22,5 +25,9 @@ public interface AdvStockService {
 
     AdvStock saveStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType);
 
+    AdvStock buildStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType);
+
+    void replaceMarketData(List<AdvStock> stocks);
+
     void deleteByDataType(DataType dataType);
 }
@@ -1,11 +1,13 @@
 package com.prgrms.ijuju.domain.stock.adv.advstock.service;
 
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
 import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
 import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResponse;
 import com.prgrms.ijuju.domain.stock.adv.advstock.dto.PolygonCandleResult;
 import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
 import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
@@ -47,53 +49,66 @@ public class AdvStockServiceImpl implements AdvStockService {
         return AdvStock.builder()
                 .symbol(liveData.getSymbol())
                 .name(liveData.getName())
-                .openPrices(List.of(liveData.getOpenPrices().get(index)))
-                .highPrices(List.of(liveData.getHighPrices().get(index)))
-                .lowPrices(List.of(liveData.getLowPrices().get(index)))
-                .closePrices(List.of(liveData.getClosePrices().get(index)))
-                .volumes(List.of(liveData.getVolumes().get(index)))
-                .timestamps(List.of(liveData.getTimestamps().get(index)))
+                .block(liveData.getBlock().slice(index))
                 .dataType(DataType.LIVE)
                 .build();
     }
 
     @Override
     public AdvStock saveStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType) {
+        AdvStock advStock = buildStockData(symbol, name, response, dataType);
+
+        try {
+            return advStockRepository.save(advStock);
+        } catch (Exception e) {
+            throw new RuntimeException("저장 실패: " + symbol, e);
+        }
+    }
+
+    @Override
+    public AdvStock buildStockData(String symbol, String name, PolygonCandleResponse response, DataType dataType) {
 
         if (response.getResults() == null || response.getResults().isEmpty()) {
             throw new IllegalArgumentException("해당 주식에 어떠한 값도 없습니다: " + symbol);
         }
 
-        List<Double> openPrices = response.getResults().stream().map(PolygonCandleResult::getO).toList();
-        List<Double> highPrices = response.getResults().stream().map(PolygonCandleResult::getH).toList();
-        List<Double> lowPrices = response.getResults().stream().map(PolygonCandleResult::getL).toList();
-        List<Double> closePrices = response.getResults().stream().map(PolygonCandleResult::getC).toList();
-        List<Long> volumes = response.getResults().stream().map(PolygonCandleResult::getV).toList();
-        List<Long> timestamps = response.getResults().stream().map(PolygonCandleResult::getT).toList();
-
-        int size = response.getResults().size();
-        if (openPrices.size() != size || highPrices.size() != size || lowPrices.size() != size ||
-                closePrices.size() != size || volumes.size() != size || timestamps.size() != size) {
-            throw new IllegalStateException("해당 심볼의 값들이 mismatch 났습니다. > 모든 수치가 전달되지 않았습니다: " + symbol);
+        // PolygonCandleResult 를 한 번만 순회하면서 열 단위 원시 배열을 채웁니다
+        List<PolygonCandleResult> results = response.getResults();
+        int size = results.size();
+        double[] openPrices = new double[size];
+        double[] highPrices = new double[size];
+        double[] lowPrices = new double[size];
+        double[] closePrices = new double[size];
+        long[] volumes = new long[size];
+        long[] timestamps = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            PolygonCandleResult result = results.get(i);
+            openPrices[i] = result.getO();
+            highPrices[i] = result.getH();
+            lowPrices[i] = result.getL();
+            closePrices[i] = result.getC();
+            volumes[i] = result.getV();
+            timestamps[i] = result.getT();
         }
 
-        AdvStock advStock = AdvStock.builder()
+        return AdvStock.builder()
                 .symbol(symbol)
                 .name(name)
-                .openPrices(openPrices)
-                .highPrices(highPrices)
-                .lowPrices(lowPrices)
-                .closePrices(closePrices)
-                .volumes(volumes)
-                .timestamps(timestamps)
+                .block(new CandleBlock(openPrices, highPrices, lowPrices, closePrices, volumes, timestamps))
                 .dataType(dataType)
                 .build();
+    }
 
-        try {
-            return advStockRepository.save(advStock);
-        } catch (Exception e) {
-            throw new RuntimeException("저장 실패: " + symbol, e);
-        }
+    //기존 REFERENCE / LIVE / FORECAST 데이터를 지우고 새 데이터를 한 트랜잭션 안에서 저장합니다.
+    //중간에 실패하면 롤백되어 기존 데이터가 그대로 남습니다.
+    @Override
+    @Transactional
+    public void replaceMarketData(List<AdvStock> stocks) {
+        advStockRepository.deleteByDataType(DataType.REFERENCE);
+        advStockRepository.deleteByDataType(DataType.LIVE);
+        advStockRepository.deleteByDataType(DataType.FORECAST);
+        advStockRepository.saveAll(stocks);
     }
 
     @Override
@@ -0,0 +1,92 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.snapshot;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 하루 동안 변하지 않는 AdvStock 데이터(REFERENCE / LIVE / FORECAST)의 불변 스냅샷 입니다.
+
+ * AdvStock 은 7시 AdvStockScheduler 에서만 바뀌는데, 예전에는 게임마다 단계마다 findByDataType 으로
+ * EAGER 컬렉션 여섯 개를 매번 다시 읽었습니다. 이제 스케줄러가 끝나면 스냅샷을 한 번 만들고,
+ * 게임 쪽은 전부 이 스냅샷만 읽습니다. 스냅샷은 통째로 교체되므로 읽는 쪽에서 락이 필요 없습니다.
+
+ * version 은 스냅샷이 새로 만들어질 때마다 증가합니다. (프레임 캐시 등에서 키로 사용)
+ * REFERENCE 와 LIVE 가 모두 있는 종목은 거래량 창(VolumeWindows) 도 함께 미리 계산합니다.
+ */
+@Getter
+public final class MarketSnapshot {
+
+    public static final MarketSnapshot EMPTY = new MarketSnapshot(0L, List.of());
+
+    private final long version;
+    private final Map<DataType, List<SymbolSeries>> seriesByType;
+    private final Map<DataType, Map<String, SymbolSeries>> seriesBySymbol;
+    private final Map<String, VolumeWindows> volumeWindows;
+
+    private MarketSnapshot(long version, List<SymbolSeries> allSeries) {
+        Map<DataType, List<SymbolSeries>> byType = new EnumMap<>(DataType.class);
+        Map<DataType, Map<String, SymbolSeries>> bySymbol = new EnumMap<>(DataType.class);
+        for (DataType dataType : DataType.values()) {
+            byType.put(dataType, new ArrayList<>());
+            bySymbol.put(dataType, new HashMap<>());
+        }
+        for (SymbolSeries series : allSeries) {
+            byType.get(series.getDataType()).add(series);
+            bySymbol.get(series.getDataType()).put(series.getSymbol(), series);
+        }
+        byType.replaceAll((type, list) -> List.copyOf(list));
+        bySymbol.replaceAll((type, map) -> Map.copyOf(map));
+
+        this.version = version;
+        this.seriesByType = Collections.unmodifiableMap(byType);
+        this.seriesBySymbol = Collections.unmodifiableMap(bySymbol);
+
+        Map<String, VolumeWindows> windows = new HashMap<>();
+        Map<String, SymbolSeries> liveBySymbol = bySymbol.get(DataType.LIVE);
+        bySymbol.get(DataType.REFERENCE).forEach((symbol, reference) -> {
+            SymbolSeries live = liveBySymbol.get(symbol);
+            if (live != null) {
+                windows.put(symbol, VolumeWindows.of(reference, live));
+            }
+        });
+        this.volumeWindows = Map.copyOf(windows);
+    }
+
+    public static MarketSnapshot of(long version, List<AdvStock> stocks) {
+        return new MarketSnapshot(version, stocks.stream().map(SymbolSeries::from).toList());
+    }
+
+    public static MarketSnapshot ofSeries(long version, List<SymbolSeries> series) {
+        return new MarketSnapshot(version, series);
+    }
+
+    public List<SymbolSeries> series(DataType dataType) {
+        return seriesByType.get(dataType);
+    }
+
+    public Optional<SymbolSeries> find(String symbol, DataType dataType) {
+        return Optional.ofNullable(seriesBySymbol.get(dataType).get(symbol));
+    }
+
+    // 가장 최신 종가. LIVE 데이터가 있으면 LIVE 의 마지막 종가, 없으면 REFERENCE 의 마지막 종가
+    public OptionalDouble latestClose(String symbol) {
+        for (DataType dataType : new DataType[]{DataType.LIVE, DataType.REFERENCE}) {
+            SymbolSeries series = seriesBySymbol.get(dataType).get(symbol);
+            if (series != null && !series.isEmpty()) {
+                return OptionalDouble.of(series.latestClose());
+            }
+        }
+        return OptionalDouble.empty();
+    }
+
+    public Optional<VolumeWindows> volumeWindows(String symbol) {
+        return Optional.ofNullable(volumeWindows.get(symbol));
+    }
+
+    public boolean contains(String symbol) {
+        return seriesBySymbol.values().stream().anyMatch(map -> map.containsKey(symbol));
+    }
+}
@@ -0,0 +1,48 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.snapshot;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 MarketSnapshot 을 들고 있는 컴포넌트 입니다.
+ * 애플리케이션 시작 시, 그리고 AdvStockScheduler 가 데이터를 갱신한 직후에 refresh 가 호출됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MarketSnapshotHolder {
+
+    private final AdvStockRepository advStockRepository;
+
+    private final AtomicReference<MarketSnapshot> current = new AtomicReference<>(MarketSnapshot.EMPTY);
+    private final AtomicLong versionSequence = new AtomicLong();
+
+    public MarketSnapshot current() {
+        return current.get();
+    }
+
+    // AdvStockCandleMigration(@Order(0)) 이후에 실행됩니다
+    @Order(1)
+    @EventListener(ApplicationReadyEvent.class)
+    public void init() {
+        refresh();
+    }
+
+    // DB 에서 한 번 읽어 새 스냅샷을 만들고 통째로 교체합니다
+    @Transactional(readOnly = true)
+    public MarketSnapshot refresh() {
+        MarketSnapshot snapshot = MarketSnapshot.of(versionSequence.incrementAndGet(), advStockRepository.findAll());
+        current.set(snapshot);
+        log.info("AdvStock 스냅샷 갱신: version={}", snapshot.getVersion());
+        return snapshot;
+    }
+}
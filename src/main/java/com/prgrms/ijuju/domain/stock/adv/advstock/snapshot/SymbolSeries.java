@@ -0,0 +1,71 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.snapshot;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import lombok.Getter;
+
+
+/**
+ * 한 종목, 한 DataType 의 캔들 데이터를 원시 배열(double[] / long[])로 들고 있는 불변 객체 입니다.
+ * 배열은 MarketSnapshot 이 만들어진 뒤 절대 수정되지 않으므로, 꺼내 쓰는 쪽에서도 값을 바꾸면 안됩니다.
+ */
+@Getter
+public final class SymbolSeries {
+
+    private final String symbol;
+    private final String name;
+    private final DataType dataType;
+    private final double[] openPrices;
+    private final double[] highPrices;
+    private final double[] lowPrices;
+    private final double[] closePrices;
+    private final long[] volumes;
+    private final long[] timestamps;
+
+    public SymbolSeries(String symbol, String name, DataType dataType,
+                        double[] openPrices, double[] highPrices, double[] lowPrices, double[] closePrices,
+                        long[] volumes, long[] timestamps) {
+        int size = openPrices.length;
+        if (highPrices.length != size || lowPrices.length != size || closePrices.length != size
+                || volumes.length != size || timestamps.length != size) {
+            throw new IllegalStateException("해당 심볼의 값들이 mismatch 났습니다: " + symbol);
+        }
+        this.symbol = symbol;
+        this.name = name;
+        this.dataType = dataType;
+        this.openPrices = openPrices;
+        this.highPrices = highPrices;
+        this.lowPrices = lowPrices;
+        this.closePrices = closePrices;
+        this.volumes = volumes;
+        this.timestamps = timestamps;
+    }
+
+    public static SymbolSeries from(AdvStock advStock) {
+        CandleBlock block = advStock.getBlock();
+        return new SymbolSeries(
+                advStock.getSymbol(),
+                advStock.getName(),
+                advStock.getDataType(),
+                block.getOpenPrices(),
+                block.getHighPrices(),
+                block.getLowPrices(),
+                block.getClosePrices(),
+                block.getVolumes(),
+                block.getTimestamps()
+        );
+    }
+
+    public int size() {
+        return openPrices.length;
+    }
+
+    public boolean isEmpty() {
+        return openPrices.length == 0;
+    }
+
+    public double latestClose() {
+        return closePrices[closePrices.length - 1];
+    }
+}
@@ -0,0 +1,79 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.snapshot;
+
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * GET_VOLUMES 응답용으로 미리 계산해 둔 종목별 거래량 창(window) 입니다.
+
+ * 창은 REFERENCE 의 최근 8개 뒤에 LIVE 의 처음 8개를 이어 붙인 배열(ring) 의 연속 구간이고,
+ * LiveData 를 k 번 보냈다면 REFERENCE 에서 (8 - k) 개, LIVE 에서 k 개를 가져온 구간입니다.
+ * k = 0 ~ 8 인 9개의 창과 JSON 문자열을 스냅샷을 만들 때 한 번만 계산하므로, 요청마다 DB 조회나 리스트 복사가 없습니다.
+ */
+public final class VolumeWindows {
+
+    public static final int WINDOW_SIZE = 8;
+
+    @Getter
+    private final String symbol;
+    private final long[] ring;          // REFERENCE 최근 8개 + LIVE 처음 8개
+    private final long[][] windows;     // liveSentCounter(0 ~ 8) 별 창
+    private final String[] volumesJson; // {"volumes":[...]}
+    private final String[] pushJson;    // {"symbol":"AAPL","volumes":[...]}
+
+    private VolumeWindows(String symbol, long[] referenceVolumes, long[] liveVolumes) {
+        int referenceCount = Math.min(referenceVolumes.length, WINDOW_SIZE);
+        int liveCount = Math.min(liveVolumes.length, WINDOW_SIZE);
+
+        this.symbol = symbol;
+        this.ring = new long[referenceCount + liveCount];
+        System.arraycopy(referenceVolumes, referenceVolumes.length - referenceCount, ring, 0, referenceCount);
+        System.arraycopy(liveVolumes, 0, ring, referenceCount, liveCount);
+
+        this.windows = new long[WINDOW_SIZE + 1][];
+        this.volumesJson = new String[WINDOW_SIZE + 1];
+        this.pushJson = new String[WINDOW_SIZE + 1];
+        for (int counter = 0; counter <= WINDOW_SIZE; counter++) {
+            int from = Math.max(0, referenceCount - (WINDOW_SIZE - counter));
+            int to = referenceCount + Math.min(counter, liveCount);
+            windows[counter] = Arrays.copyOfRange(ring, from, to);
+
+            String array = toJsonArray(windows[counter]);
+            volumesJson[counter] = "{\"volumes\":" + array + "}";
+            pushJson[counter] = "{\"symbol\":\"" + symbol + "\",\"volumes\":" + array + "}";
+        }
+    }
+
+    public static VolumeWindows of(SymbolSeries reference, SymbolSeries live) {
+        return new VolumeWindows(reference.getSymbol(), reference.getVolumes(), live.getVolumes());
+    }
+
+    // liveSentCounter 에 해당하는 창. 배열은 공유되므로 수정하면 안됩니다
+    public long[] window(int liveSentCounter) {
+        return windows[clamp(liveSentCounter)];
+    }
+
+    public String volumesJson(int liveSentCounter) {
+        return volumesJson[clamp(liveSentCounter)];
+    }
+
+    public String pushJson(int liveSentCounter) {
+        return pushJson[clamp(liveSentCounter)];
+    }
+
+    private static int clamp(int liveSentCounter) {
+        return Math.max(0, Math.min(liveSentCounter, WINDOW_SIZE));
+    }
+
+    private static String toJsonArray(long[] values) {
+        StringBuilder builder = new StringBuilder(values.length * 8 + 2).append('[');
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append(values[i]);
+        }
+        return builder.append(']').toString();
+    }
+}
@@ -3,6 +3,7 @@ package com.prgrms.ijuju.domain.stock.adv.stockrecord.controller;
 import com.prgrms.ijuju.domain.member.entity.Member;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.request.StockRecordRequestDto;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.response.StockPositionResponseDto;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.response.StockRecordResponseDto;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockRecord;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.service.StockRecordService;
@@ -43,17 +44,25 @@ public class StockRecordController {
     }
 
     // 특정 주식의 보유량 조회
-    @GetMapping("/{memberId}/{stockSymbol}/quantity")
-    public ResponseEntity<Double> getOwnedStock(@PathVariable Long memberId, @PathVariable String stockSymbol) {
-        double quantity = stockRecordService.calculateOwnedStock(memberId, stockSymbol);
+    @GetMapping("/{advId}/{stockSymbol}/quantity")
+    public ResponseEntity<Double> getOwnedStock(@PathVariable Long advId, @PathVariable String stockSymbol) {
+        double quantity = stockRecordService.calculateOwnedStock(advId, stockSymbol);
         return ResponseEntity.ok(quantity);
     }
 
     // 모든 주식의 보유량 조회
-    @GetMapping("/{memberId}/quantities")
-    public ResponseEntity<Map<String, Double>> getAllOwnedStocks(@PathVariable Long memberId) {
-        Map<String, Double> ownedStocks = stockRecordService.calculateAllOwnedStocks(memberId);
+    @GetMapping("/{advId}/quantities")
+    public ResponseEntity<Map<String, Double>> getAllOwnedStocks(@PathVariable Long advId) {
+        Map<String, Double> ownedStocks = stockRecordService.calculateAllOwnedStocks(advId);
         return ResponseEntity.ok(ownedStocks);
     }
-}
 
+    // 모든 주식의 포지션(평균 단가, 실현 손익 포함) 조회
+    @GetMapping("/{advId}/positions")
+    public ResponseEntity<List<StockPositionResponseDto>> getPositions(@PathVariable Long advId) {
+        List<StockPositionResponseDto> response = stockRecordService.getPositions(advId).stream()
+                .map(StockPositionResponseDto::fromEntity)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(response);
+    }
+}
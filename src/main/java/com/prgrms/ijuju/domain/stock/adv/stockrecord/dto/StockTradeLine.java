@@ -0,0 +1,9 @@
+package com.prgrms.ijuju.domain.stock.adv.stockrecord.dto;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+
+import java.math.BigDecimal;
+
+// StockPositionReconciler 가 거래 내역을 다시 접을 때 쓰는 한 줄 요약
+public record StockTradeLine(Long advId, String symbol, TradeType tradeType, double quantity, BigDecimal pricePerUnit) {
+}
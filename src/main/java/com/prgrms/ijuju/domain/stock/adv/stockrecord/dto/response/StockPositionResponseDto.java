@@ -0,0 +1,28 @@
+package com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.response;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
+import lombok.*;
+
+import java.math.BigDecimal;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class StockPositionResponseDto {
+    private String stockSymbol;
+    private double quantity;
+    private BigDecimal averageCost;
+    private BigDecimal totalCost;
+    private BigDecimal realizedPnl;
+
+    public static StockPositionResponseDto fromEntity(StockPosition position) {
+        return StockPositionResponseDto.builder()
+                .stockSymbol(position.getSymbol())
+                .quantity(position.getQuantity())
+                .averageCost(position.getAverageCost())
+                .totalCost(position.getTotalCost())
+                .realizedPnl(position.getRealizedPnl())
+                .build();
+    }
+}
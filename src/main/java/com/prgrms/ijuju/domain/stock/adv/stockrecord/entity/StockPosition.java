@@ -0,0 +1,115 @@
+package com.prgrms.ijuju.domain.stock.adv.stockrecord.entity;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 게임(advId) 하나에서 종목별 보유 현황 입니다. StockRecord 가 저장될 때 같은 트랜잭션 안에서 함께 갱신됩니다.
+ * 보유량을 구할 때 거래 내역 전체를 다시 더하지 않고 이 행 하나만 읽으면 됩니다.
+
+ * totalCost 는 현재 보유 수량의 매입 원가(이동평균법) 이고, 판매 시 평균 단가 기준으로 차감됩니다.
+ * realizedPnl 은 판매 금액 - 판매 수량의 매입 원가 의 누적값 입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_stock_position_adv_symbol", columnNames = {"adv_id", "symbol"}))
+public class StockPosition {
+
+    private static final double EPSILON = 1e-9;
+    private static final BigDecimal MONEY_TOLERANCE = new BigDecimal("0.0001");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "adv_id", nullable = false)
+    private Long advId;
+
+    @Column(nullable = false)
+    private String symbol;
+
+    private double quantity;
+
+    @Column(precision = 19, scale = 4)
+    private BigDecimal totalCost = BigDecimal.ZERO;
+
+    @Column(precision = 19, scale = 4)
+    private BigDecimal realizedPnl = BigDecimal.ZERO;
+
+    public StockPosition(Long advId, String symbol) {
+        this.advId = advId;
+        this.symbol = symbol;
+    }
+
+    // JDBC 로 읽어온 값으로 포지션을 만들 때 사용합니다 (TradeBatchProcessor)
+    public static StockPosition restore(Long id, Long advId, String symbol, double quantity,
+                                        BigDecimal totalCost, BigDecimal realizedPnl) {
+        StockPosition position = new StockPosition(advId, symbol);
+        position.id = id;
+        position.quantity = quantity;
+        position.totalCost = totalCost;
+        position.realizedPnl = realizedPnl;
+        return position;
+    }
+
+    // 거래 하나를 반영합니다
+    public void apply(TradeType tradeType, double tradeQuantity, BigDecimal pricePerUnit) {
+        BigDecimal amount = pricePerUnit.multiply(BigDecimal.valueOf(tradeQuantity));
+        if (tradeType == TradeType.BUY) {
+            quantity += tradeQuantity;
+            totalCost = totalCost.add(amount);
+            return;
+        }
+
+        if (tradeQuantity > quantity + EPSILON) {
+            throw new IllegalArgumentException("보유 수량보다 많은 주식을 판매할 수 없습니다.");
+        }
+        BigDecimal costOfSold = getAverageCost().multiply(BigDecimal.valueOf(tradeQuantity));
+        realizedPnl = realizedPnl.add(amount.subtract(costOfSold));
+        quantity -= tradeQuantity;
+        if (quantity < EPSILON) {
+            // 전량 매도 시 부동소수 오차가 남지 않도록 정리
+            quantity = 0;
+            totalCost = BigDecimal.ZERO;
+        } else {
+            totalCost = totalCost.subtract(costOfSold);
+        }
+    }
+
+    public void apply(StockRecord record) {
+        apply(record.getTradeType(), record.getQuantity(), record.getPricePerUnit());
+    }
+
+    // 평균 매입 단가
+    public BigDecimal getAverageCost() {
+        if (quantity < EPSILON) {
+            return BigDecimal.ZERO;
+        }
+        return totalCost.divide(BigDecimal.valueOf(quantity), 4, RoundingMode.HALF_UP);
+    }
+
+    // reconcile 용 : 다른 포지션과 값이 같은지 비교합니다
+    public boolean matches(StockPosition other) {
+        return Math.abs(quantity - other.quantity) < 1e-6
+                && closeTo(totalCost, other.totalCost)
+                && closeTo(realizedPnl, other.realizedPnl);
+    }
+
+    // DB 컬럼 scale(4) 이하의 차이는 무시합니다
+    private static boolean closeTo(BigDecimal a, BigDecimal b) {
+        return a.subtract(b).abs().compareTo(MONEY_TOLERANCE) <= 0;
+    }
+
+    public void overwrite(StockPosition rebuilt) {
+        this.quantity = rebuilt.quantity;
+        this.totalCost = rebuilt.totalCost;
+        this.realizedPnl = rebuilt.realizedPnl;
+    }
+}
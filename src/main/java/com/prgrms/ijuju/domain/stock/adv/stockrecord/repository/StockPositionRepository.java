@@ -0,0 +1,23 @@
+package com.prgrms.ijuju.domain.stock.adv.stockrecord.repository;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StockPositionRepository extends JpaRepository<StockPosition, Long> {
+
+    Optional<StockPosition> findByAdvIdAndSymbol(Long advId, String symbol);
+
+    List<StockPosition> findByAdvId(Long advId);
+
+    // 같은 포지션을 동시에 갱신하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM StockPosition p WHERE p.advId = :advId AND p.symbol = :symbol")
+    Optional<StockPosition> findForUpdate(@Param("advId") Long advId, @Param("symbol") String symbol);
+}
@@ -1,14 +1,21 @@
 package com.prgrms.ijuju.domain.stock.adv.stockrecord.repository;
 
 
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.StockTradeLine;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockRecord;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
-import java.util.Optional;
 
 public interface StockRecordRepository extends JpaRepository<StockRecord, Long> {
     List<StockRecord> findByMemberId(Long advancedInvestId); // 특정 AdvancedInvest ID로 거래 내역 조회
 
     List<StockRecord> findByMemberIdAndSymbol(Long memberId, String symbol); // 특정 주식 심볼의 거래 내역 조회
-}
\ No newline at end of file
+
+    // 포지션 재계산(reconcile) 용. 엔티티 대신 필요한 컬럼만 거래 순서대로 읽습니다
+    @Query("SELECT new com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.StockTradeLine(" +
+            "r.advancedInvest.id, r.symbol, r.tradeType, r.quantity, r.pricePerUnit) " +
+            "FROM StockRecord r WHERE r.advancedInvest IS NOT NULL ORDER BY r.id")
+    List<StockTradeLine> findAllTradeLines();
+}
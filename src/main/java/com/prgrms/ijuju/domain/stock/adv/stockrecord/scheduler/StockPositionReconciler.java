@@ -0,0 +1,83 @@
+package com.prgrms.ijuju.domain.stock.adv.stockrecord.scheduler;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.StockTradeLine;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.repository.StockPositionRepository;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.repository.StockRecordRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * StockRecord(거래 내역)를 처음부터 다시 접어서 StockPosition 과 비교하는 작업 입니다.
+ * 값이 다른 포지션(drift)은 로그로 남기고 거래 내역 기준으로 덮어씁니다.
+ * 게임이 모두 끝난 새벽 시간에 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockPositionReconciler {
+
+    private final StockRecordRepository stockRecordRepository;
+    private final StockPositionRepository stockPositionRepository;
+
+    @Scheduled(cron = "0 30 4 * * ?", zone = "Asia/Seoul")
+    @Transactional
+    public ReconcileReport reconcile() {
+        Map<PositionKey, StockPosition> rebuilt = new HashMap<>();
+        for (StockTradeLine line : stockRecordRepository.findAllTradeLines()) {
+            PositionKey key = new PositionKey(line.advId(), line.symbol());
+            StockPosition position = rebuilt.computeIfAbsent(key, k -> new StockPosition(k.advId(), k.symbol()));
+            try {
+                position.apply(line.tradeType(), line.quantity(), line.pricePerUnit());
+            } catch (IllegalArgumentException e) {
+                // 거래 내역 자체가 잘못된 경우(보유량 초과 판매). 해당 거래는 건너뜁니다
+                log.warn("거래 내역 재계산 실패: advId={}, symbol={}", key.advId(), key.symbol(), e);
+            }
+        }
+
+        int drifted = 0;
+        for (StockPosition stored : stockPositionRepository.findAll()) {
+            PositionKey key = new PositionKey(stored.getAdvId(), stored.getSymbol());
+            StockPosition expected = rebuilt.remove(key);
+            if (expected == null) {
+                expected = new StockPosition(key.advId(), key.symbol()); // 거래 내역이 없는 포지션은 0 으로
+            }
+            if (!stored.matches(expected)) {
+                drifted++;
+                log.warn("포지션 불일치: advId={}, symbol={}, 저장값 quantity={} cost={} pnl={}, 재계산 quantity={} cost={} pnl={}",
+                        key.advId(), key.symbol(),
+                        stored.getQuantity(), stored.getTotalCost(), stored.getRealizedPnl(),
+                        expected.getQuantity(), expected.getTotalCost(), expected.getRealizedPnl());
+                stored.overwrite(expected);
+            }
+        }
+
+        // 거래 내역은 있는데 포지션 행이 없는 경우
+        int created = rebuilt.size();
+        if (created > 0) {
+            log.warn("누락된 포지션 {}건을 생성합니다", created);
+            stockPositionRepository.saveAll(rebuilt.values());
+        }
+
+        ReconcileReport report = new ReconcileReport(drifted, created);
+        log.info("포지션 재계산 완료: {}", report);
+        return report;
+    }
+
+    private record PositionKey(Long advId, String symbol) {
+    }
+
+    public record ReconcileReport(int drifted, int created) {
+
+        public boolean clean() {
+            return drifted == 0 && created == 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.prgrms.ijuju.domain.stock.adv.stockrecord.service;
 
 import com.prgrms.ijuju.domain.member.entity.Member;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.request.StockRecordRequestDto;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockRecord;
 
 import java.util.List;
@@ -23,4 +24,7 @@ public interface StockRecordService {
 
     // 모든 주식의 보유량 계산
     Map<String, Double> calculateAllOwnedStocks(Long advId);
+
+    // 모든 주식의 포지션(보유량, 평균 단가, 실현 손익) 조회
+    List<StockPosition> getPositions(Long advId);
 }
\ No newline at end of file
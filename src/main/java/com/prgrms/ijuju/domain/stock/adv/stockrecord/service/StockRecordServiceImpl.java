@@ -1,29 +1,48 @@
 package com.prgrms.ijuju.domain.stock.adv.stockrecord.service;
 
 import com.prgrms.ijuju.domain.member.entity.Member;
-import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.request.StockRecordRequestDto;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockRecord;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.repository.StockPositionRepository;
 import com.prgrms.ijuju.domain.stock.adv.stockrecord.repository.StockRecordRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * 보유량은 거래 내역을 매번 다시 더하지 않고 StockPosition((advId, symbol) 당 한 행)에서 읽습니다.
+ * saveRecord 가 거래 내역 저장과 포지션 갱신을 같은 트랜잭션 안에서 처리합니다.
+ */
 @Service
 @RequiredArgsConstructor
 public class StockRecordServiceImpl implements StockRecordService {
 
     private final StockRecordRepository stockRecordRepository;
+    private final StockPositionRepository stockPositionRepository;
+    private final AdvancedInvestRepository advancedInvestRepository;
 
-    // 거래 내역 저장
+    // 거래 내역 저장 + 포지션 갱신
     @Transactional
     public StockRecord saveRecord(StockRecordRequestDto requestDto, Member member) {
         // RequestDto를 사용하여 StockRecord 엔티티 생성
         StockRecord record = requestDto.toEntity(member);
+        Long advId = requestDto.getAdvId();
+        if (advId == null) {
+            throw new IllegalArgumentException("거래 내역에는 게임(AdvancedInvest) ID 가 필요합니다.");
+        }
+        record.setAdvancedInvest(advancedInvestRepository.getReferenceById(advId));
+
+        // 포지션은 행 잠금 후 갱신합니다. 판매 수량이 보유량보다 많으면 예외가 발생해 거래 내역도 롤백됩니다
+        StockPosition position = stockPositionRepository.findForUpdate(advId, record.getSymbol())
+                .orElseGet(() -> new StockPosition(advId, record.getSymbol()));
+        position.apply(record);
+        stockPositionRepository.save(position);
 
         // 데이터베이스에 저장
         return stockRecordRepository.save(record);
@@ -43,37 +62,25 @@ public class StockRecordServiceImpl implements StockRecordService {
 
     // 보유 주식 계산
     @Transactional(readOnly = true)
-    public double calculateOwnedStock(Long memberId, String symbol) {
-        List<StockRecord> records = stockRecordRepository.findByMemberIdAndSymbol(memberId, symbol);
-
-        double totalBought = records.stream()
-                .filter(record -> record.getTradeType() == TradeType.BUY)
-                .mapToDouble(StockRecord::getQuantity)
-                .sum();
-
-        double totalSold = records.stream()
-                .filter(record -> record.getTradeType() == TradeType.SELL)
-                .mapToDouble(StockRecord::getQuantity)
-                .sum();
-
-        return totalBought - totalSold;
+    public double calculateOwnedStock(Long advId, String symbol) {
+        return stockPositionRepository.findByAdvIdAndSymbol(advId, symbol)
+                .map(StockPosition::getQuantity)
+                .orElse(0.0);
     }
 
     // 모든 주식의 보유량 계산
     @Transactional(readOnly = true)
-    public Map<String, Double> calculateAllOwnedStocks(Long memberId) {
-        List<StockRecord> records = stockRecordRepository.findByMemberId(memberId);
-
-        // 주식별 보유량 계산
-        Map<String, Double> ownedStocks = new HashMap<>();
-        for (StockRecord record : records) {
-            ownedStocks.putIfAbsent(record.getSymbol(), 0.0); // 초기값 설정
-            double updatedQuantity = record.getTradeType() == TradeType.BUY
-                    ? ownedStocks.get(record.getSymbol()) + record.getQuantity()
-                    : ownedStocks.get(record.getSymbol()) - record.getQuantity();
-            ownedStocks.put(record.getSymbol(), updatedQuantity);
+    public Map<String, Double> calculateAllOwnedStocks(Long advId) {
+        Map<String, Double> ownedStocks = new LinkedHashMap<>();
+        for (StockPosition position : stockPositionRepository.findByAdvId(advId)) {
+            ownedStocks.put(position.getSymbol(), position.getQuantity());
         }
-
         return ownedStocks; // 주식 심볼별 최종 보유량 반환
     }
-}
\ No newline at end of file
+
+    // 모든 주식의 포지션(보유량, 평균 단가, 실현 손익) 조회
+    @Transactional(readOnly = true)
+    public List<StockPosition> getPositions(Long advId) {
+        return stockPositionRepository.findByAdvId(advId);
+    }
+}
@@ -0,0 +1,248 @@
+package com.prgrms.ijuju.domain.stock.mid.cache;
+
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockPriceRow;
+import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockPriceResponse;
+import com.prgrms.ijuju.domain.stock.mid.event.MidStockPricesRolledOverEvent;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 중급 종목별 가격(과거 15일 ~ 미래 15일) 을 메모리에 들고 있는 캐시 입니다.
+ * 가격은 매일 00:01 StockPriceScheduler 에서만 바뀌는데, 예전에는 매수 / 매도 / 차트 조회마다 MidStockPrice 를 다시 읽었습니다.
+
+ * - 종목마다 low / high / avg 를 primitive 배열로, 날짜는 epoch day 배열(오름차순) 로 들고 있어서 날짜 조회는 이진 탐색입니다.
+ * - 처음 조회한 종목만 읽어서 담고(lazy), 최대 maxStocks 개 종목까지 가장 오래 안 쓴 종목부터 내보냅니다(LRU).
+ * - MidStockPricesRolledOverEvent(하루 가격 교체 완료) 를 받으면 담겨 있던 종목을 쿼리 한 번(묶음당) 으로 다시 읽어 통째로 교체합니다.
+ *   교체 전에 시작한 조회가 읽어 온 값은 이전 세대에 담기므로 새 세대에 섞이지 않습니다.
+ */
+@Slf4j
+@Component
+public class MidStockPriceCache {
+
+    public static final int CHART_PRICE_COUNT = 16; // find2WeeksPriceInfo 와 같은 개수
+    public static final int FUTURE_DAYS = 14;       // 오늘부터 2주 뒤 날짜까지
+    private static final int REFRESH_BATCH_SIZE = 1000;
+
+    private final MidStockPriceRepository midStockPriceRepository;
+    private final int maxStocks;
+
+    private final AtomicReference<Generation> current;
+
+    // 지표
+    private final AtomicLong hitCount = new AtomicLong();
+    private final AtomicLong missCount = new AtomicLong();
+    private final AtomicLong evictionCount = new AtomicLong();
+    private final AtomicLong refreshCount = new AtomicLong();
+
+    public MidStockPriceCache(MidStockPriceRepository midStockPriceRepository,
+                              @Value("${mid-stock.price-cache.max-stocks:10000}") int maxStocks) {
+        if (maxStocks <= 0) {
+            throw new IllegalArgumentException("max-stocks 는 0 보다 커야 합니다: " + maxStocks);
+        }
+        this.midStockPriceRepository = midStockPriceRepository;
+        this.maxStocks = maxStocks;
+        this.current = new AtomicReference<>(new Generation());
+    }
+
+    @EventListener(MidStockPricesRolledOverEvent.class)
+    public void onPricesRolledOver(MidStockPricesRolledOverEvent event) {
+        refresh();
+    }
+
+    // 지금 담겨 있는 종목들을 다시 읽어서 새 세대로 교체합니다
+    public void refresh() {
+        List<Long> stockIds = current.get().stockIds();
+        Generation next = new Generation();
+        for (int from = 0; from < stockIds.size(); from += REFRESH_BATCH_SIZE) {
+            List<Long> batch = stockIds.subList(from, Math.min(from + REFRESH_BATCH_SIZE, stockIds.size()));
+            Map<Long, List<MidStockPriceRow>> grouped = new HashMap<>();
+            for (MidStockPriceRow row : midStockPriceRepository.findAllRowsByStockIds(batch)) {
+                grouped.computeIfAbsent(row.stockId(), k -> new ArrayList<>()).add(row);
+            }
+            grouped.forEach((stockId, rows) -> next.put(stockId, PriceSeries.of(rows)));
+        }
+        current.set(next);
+        refreshCount.incrementAndGet();
+        log.info("중급 가격 캐시 갱신: 종목 {}개", next.size());
+    }
+
+    // 해당 날짜의 평균 가격. 같은 날 가격이 여러 개면 가장 늦은 것 (기존 findTodayPrice 와 같음)
+    public Optional<Long> findAvgPrice(Long stockId, LocalDate date) {
+        PriceSeries series = series(stockId);
+        int index = series.lastOn(date.toEpochDay());
+        return index < 0 ? Optional.empty() : Optional.of(series.avgPrices[index]);
+    }
+
+    // 가장 오래된 가격부터 CHART_PRICE_COUNT 개 (기존 find2WeeksPriceInfo 와 같음)
+    public List<MidStockPriceResponse> findChartPrices(Long stockId) {
+        PriceSeries series = series(stockId);
+        return series.responses(0, Math.min(CHART_PRICE_COUNT, series.size()));
+    }
+
+    // today 부터 FUTURE_DAYS 일 뒤 날짜까지의 가격, 날짜 오름차순
+    public List<MidStockPriceResponse> findFuturePrices(Long stockId, LocalDate today) {
+        PriceSeries series = series(stockId);
+        long from = today.toEpochDay();
+        return series.responses(series.firstOnOrAfter(from), series.firstOnOrAfter(from + FUTURE_DAYS + 1));
+    }
+
+    private PriceSeries series(Long stockId) {
+        Generation generation = current.get();
+        PriceSeries series = generation.get(stockId);
+        if (series != null) {
+            hitCount.incrementAndGet();
+            return series;
+        }
+        missCount.incrementAndGet();
+        List<MidStockPriceRow> rows = midStockPriceRepository.findAllRowsByStockIds(List.of(stockId));
+        if (rows.isEmpty()) {
+            return PriceSeries.EMPTY; // 가격이 아직 없는 종목은 담지 않습니다
+        }
+        series = PriceSeries.of(rows);
+        generation.put(stockId, series);
+        return series;
+    }
+
+    public long getHitCount() {
+        return hitCount.get();
+    }
+
+    public long getMissCount() {
+        return missCount.get();
+    }
+
+    public double getHitRate() {
+        long hits = hitCount.get();
+        long total = hits + missCount.get();
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshCount.get();
+    }
+
+    public int size() {
+        return current.get().size();
+    }
+
+    // 한 번의 갱신 동안 쓰는 종목 -> 가격 LRU (접근 순서 LinkedHashMap)
+    private final class Generation {
+
+        private final LinkedHashMap<Long, PriceSeries> entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, PriceSeries> eldest) {
+                if (size() > maxStocks) {
+                    evictionCount.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+
+        private synchronized PriceSeries get(Long stockId) {
+            return entries.get(stockId);
+        }
+
+        private synchronized void put(Long stockId, PriceSeries series) {
+            entries.put(stockId, series);
+        }
+
+        private synchronized List<Long> stockIds() {
+            return new ArrayList<>(entries.keySet());
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+    }
+
+    // 한 종목의 가격. 모든 배열은 같은 위치가 같은 가격이고 priceDate 오름차순 입니다
+    private static final class PriceSeries {
+
+        private static final PriceSeries EMPTY = new PriceSeries(new long[0], new long[0], new long[0], new long[0], new LocalDateTime[0]);
+
+        private final long[] epochDays;
+        private final long[] lowPrices;
+        private final long[] highPrices;
+        private final long[] avgPrices;
+        private final LocalDateTime[] priceDates;
+
+        private PriceSeries(long[] epochDays, long[] lowPrices, long[] highPrices, long[] avgPrices, LocalDateTime[] priceDates) {
+            this.epochDays = epochDays;
+            this.lowPrices = lowPrices;
+            this.highPrices = highPrices;
+            this.avgPrices = avgPrices;
+            this.priceDates = priceDates;
+        }
+
+        // rows 는 priceDate 오름차순
+        private static PriceSeries of(List<MidStockPriceRow> rows) {
+            int size = rows.size();
+            long[] epochDays = new long[size];
+            long[] lowPrices = new long[size];
+            long[] highPrices = new long[size];
+            long[] avgPrices = new long[size];
+            LocalDateTime[] priceDates = new LocalDateTime[size];
+            for (int i = 0; i < size; i++) {
+                MidStockPriceRow row = rows.get(i);
+                epochDays[i] = row.priceDate().toLocalDate().toEpochDay();
+                lowPrices[i] = row.lowPrice();
+                highPrices[i] = row.highPrice();
+                avgPrices[i] = row.avgPrice();
+                priceDates[i] = row.priceDate();
+            }
+            return new PriceSeries(epochDays, lowPrices, highPrices, avgPrices, priceDates);
+        }
+
+        private int size() {
+            return epochDays.length;
+        }
+
+        // epochDay 이상인 첫 위치 (없으면 size)
+        private int firstOnOrAfter(long epochDay) {
+            int low = 0;
+            int high = epochDays.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (epochDays[mid] < epochDay) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        // epochDay 인 마지막 위치 (없으면 -1)
+        private int lastOn(long epochDay) {
+            int index = firstOnOrAfter(epochDay + 1) - 1;
+            return index >= 0 && epochDays[index] == epochDay ? index : -1;
+        }
+
+        private List<MidStockPriceResponse> responses(int from, int to) {
+            List<MidStockPriceResponse> responses = new ArrayList<>(Math.max(0, to - from));
+            for (int i = from; i < to; i++) {
+                responses.add(new MidStockPriceResponse(highPrices[i], lowPrices[i], avgPrices[i], priceDates[i]));
+            }
+            return responses;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.prgrms.ijuju.domain.stock.mid.chart;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 시간순으로 들어오는 점을 LTTB(Largest-Triangle-Three-Buckets) 로 threshold 개까지 줄여서 바로 넘깁니다.
+ * 전체 점을 모으지 않고 한 줄씩 받을 수 있도록 만든 스트리밍 버전이라, 전체 개수(total) 를 먼저 알아야 합니다.
+
+ * - 첫 점과 끝 점은 그대로 두고, 나머지를 threshold - 2 개의 연속된 구간(bucket) 으로 나눕니다.
+ * - 구간마다 "앞에서 고른 점 - 후보 - 다음 구간의 평균점" 삼각형이 가장 큰 후보 하나를 고릅니다.
+ * - 다음 구간이 다 들어와야 현재 구간을 고를 수 있으므로 메모리에는 구간 두 개만 남습니다.
+ * - 끝 점인지는 다음 점이 오지 않아야 알 수 있어서 마지막으로 받은 점은 한 점 늦게 구간에 넣습니다.
+ * total 이 실제로 들어온 점 수와 달라도(조회 중 행이 추가 / 삭제) 구간이 어긋날 뿐 순서와 첫 / 끝 점은 유지됩니다.
+ */
+public final class LttbDownsampler<T> {
+
+    private final Consumer<T> sink;
+    private final ToDoubleFunction<T> x;
+    private final ToDoubleFunction<T> y;
+    private final boolean passThrough;
+    private final int lastBucket;
+    private final double bucketWidth;
+
+    private long received;
+    private T tail;                 // 마지막으로 받은 점 (끝 점일 수 있음)
+    private double selectedX;       // 바로 앞 구간에서 고른 점
+    private double selectedY;
+    private List<T> current = new ArrayList<>();
+    private List<T> next = new ArrayList<>();
+    private int currentBucket;
+    private int emitted;
+
+    public LttbDownsampler(long total, int threshold, ToDoubleFunction<T> x, ToDoubleFunction<T> y, Consumer<T> sink) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("threshold 는 3 이상이어야 합니다: " + threshold);
+        }
+        this.sink = sink;
+        this.x = x;
+        this.y = y;
+        this.passThrough = total <= threshold;
+        this.lastBucket = threshold - 3;
+        this.bucketWidth = passThrough ? 1 : (double) (total - 2) / (threshold - 2);
+    }
+
+    public void accept(T point) {
+        if (passThrough) {
+            emit(point);
+            return;
+        }
+        long index = received++;
+        if (index == 0) {
+            emit(point);
+            selectedX = x.applyAsDouble(point);
+            selectedY = y.applyAsDouble(point);
+            return;
+        }
+        if (tail != null) {
+            place(tail, index - 1);
+        }
+        tail = point;
+    }
+
+    // 남은 구간을 고르고 끝 점을 넘깁니다. 넘긴 점의 수를 돌려줍니다
+    public int finish() {
+        if (passThrough || tail == null) {
+            return emitted;
+        }
+        if (!next.isEmpty()) {
+            advance();
+        }
+        if (!current.isEmpty()) {
+            select(current, x.applyAsDouble(tail), y.applyAsDouble(tail));
+            current = new ArrayList<>();
+        }
+        emit(tail);
+        tail = null;
+        return emitted;
+    }
+
+    private void place(T point, long index) {
+        int bucket = (int) Math.min((long) ((index - 1) / bucketWidth), lastBucket);
+        while (bucket > currentBucket + 1) {
+            advance();
+        }
+        if (bucket == currentBucket) {
+            current.add(point);
+        } else {
+            next.add(point);
+        }
+    }
+
+    // next 가 다 들어왔으므로 current 에서 하나를 고르고 한 칸 이동합니다
+    private void advance() {
+        if (!current.isEmpty()) {
+            List<T> target = next.isEmpty() ? current : next;
+            double sumX = 0;
+            double sumY = 0;
+            for (T point : target) {
+                sumX += x.applyAsDouble(point);
+                sumY += y.applyAsDouble(point);
+            }
+            select(current, sumX / target.size(), sumY / target.size());
+        }
+        current = next;
+        next = new ArrayList<>();
+        currentBucket++;
+    }
+
+    private void select(List<T> bucket, double nextX, double nextY) {
+        T best = null;
+        double bestArea = -1;
+        for (T point : bucket) {
+            double px = x.applyAsDouble(point);
+            double py = y.applyAsDouble(point);
+            double area = Math.abs((selectedX - nextX) * (py - selectedY) - (selectedX - px) * (nextY - selectedY));
+            if (area > bestArea) {
+                bestArea = area;
+                best = point;
+            }
+        }
+        emit(best);
+        selectedX = x.applyAsDouble(best);
+        selectedY = y.applyAsDouble(best);
+    }
+
+    private void emit(T point) {
+        sink.accept(point);
+        emitted++;
+    }
+}
@@ -1,7 +1,9 @@
 package com.prgrms.ijuju.domain.stock.mid.controller;
 
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockChartRange;
 import com.prgrms.ijuju.domain.stock.mid.dto.request.MidStockTradePointRequest;
 import com.prgrms.ijuju.domain.stock.mid.dto.response.*;
+import com.prgrms.ijuju.domain.stock.mid.service.MidStockChartService;
 import com.prgrms.ijuju.domain.stock.mid.service.MidStockService;
 import com.prgrms.ijuju.domain.stock.mid.service.MidStockTradeService;
 import com.prgrms.ijuju.global.auth.SecurityUser;
@@ -9,12 +11,16 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -27,6 +33,7 @@ import java.util.Map;
 public class MidStockController {
     private final MidStockService midStockService;
     private final MidStockTradeService midStockTradeService;
+    private final MidStockChartService midStockChartService;
 
     // 중급거래목록 3가지 가져오기
     @GetMapping("/list")
@@ -57,6 +64,16 @@ public class MidStockController {
         return ResponseEntity.ok(stocksAndTrades);
     }
 
+    // 종목별 보유 현황 (투자 포인트, 평균 매입가, 거래 수)
+    @GetMapping("/positions")
+    public ResponseEntity<List<MidStockPositionResponse>> findPositions(@AuthenticationPrincipal SecurityUser securityUser) {
+        log.info("중급 보유 현황 조회");
+        Long memberId = securityUser.getId();
+        List<MidStockPositionResponse> positions = midStockService.getMemberPositions(memberId);
+
+        return ResponseEntity.ok(positions);
+    }
+
     // 2주치 가격 데이터 제공
     @GetMapping("/{midStockId}/price")
     public ResponseEntity<List<MidStockPriceResponse>> findStockPrices(@PathVariable Long midStockId) {
@@ -65,6 +82,21 @@ public class MidStockController {
         return ResponseEntity.ok(prices);
     }
 
+    // 기간별 가격 차트 (from, to 포함. 비우면 보관 중인 전체 기간). points 를 주면 LTTB 로 그 개수까지 줄입니다
+    // 가격 목록을 만들지 않고 DB 에서 읽는 대로 응답에 씁니다
+    @GetMapping("/{midStockId}/chart")
+    public ResponseEntity<StreamingResponseBody> streamStockChart(@PathVariable Long midStockId,
+                                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                                  @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                                                                  @RequestParam(required = false) Integer points) {
+        MidStockChartRange range = midStockChartService.chartRange(from, to, points);
+        StreamingResponseBody body = out -> midStockChartService.writeChart(midStockId, range, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     // 오늘 거래가능한지 확인
     @GetMapping("/{midStockId}/available")
     public ResponseEntity<TradeAvailableResponse> isTradeAvailable(@PathVariable Long midStockId, @AuthenticationPrincipal SecurityUser securityUser) {
@@ -0,0 +1,7 @@
+package com.prgrms.ijuju.domain.stock.mid.dto;
+
+import java.time.LocalDate;
+
+// 기간 차트 조회 조건. from ~ to (둘 다 포함), points 가 null 이면 줄이지 않음
+public record MidStockChartRange(LocalDate from, LocalDate to, Integer points) {
+}
@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.stock.mid.dto;
+
+// 종목별 가장 최근 가격의 평균값 (하루 가격 생성 작업이 한 번에 읽는 한 줄)
+public record MidStockLatestPrice(Long stockId, long avgPrice) {
+}
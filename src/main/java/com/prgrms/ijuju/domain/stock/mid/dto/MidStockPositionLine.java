@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.stock.mid.dto;
+
+// MidStockPositionReconciler 가 BUY 거래를 (회원, 종목) 별로 다시 합친 한 줄
+public record MidStockPositionLine(Long memberId, Long midStockId, Long investedPoints, Double shares, Long lotCount) {
+}
@@ -0,0 +1,7 @@
+package com.prgrms.ijuju.domain.stock.mid.dto;
+
+import java.time.LocalDateTime;
+
+// 가격 캐시가 종목 가격을 채울 때 읽는 한 줄 (엔티티를 만들지 않도록 필요한 컬럼만)
+public record MidStockPriceRow(Long stockId, long lowPrice, long highPrice, long avgPrice, LocalDateTime priceDate) {
+}
@@ -0,0 +1,17 @@
+package com.prgrms.ijuju.domain.stock.mid.dto;
+
+// 매도 정산 시 보유 중인 BUY 거래를 한 번에 합친 결과. 거래가 없으면 합계는 null 입니다
+public record MidStockSettlement(Long lotCount, Long investedPoints, Double payoutPoints) {
+
+    public boolean isEmpty() {
+        return lotCount == null || lotCount == 0;
+    }
+
+    public long invested() {
+        return investedPoints == null ? 0 : investedPoints;
+    }
+
+    public long payout() {
+        return payoutPoints == null ? 0 : Math.round(payoutPoints);
+    }
+}
@@ -0,0 +1,5 @@
+package com.prgrms.ijuju.domain.stock.mid.dto;
+
+// 특정 날짜에 거래한 (회원, 종목). 하루 거래 제한 추적기를 시작할 때 채우는 한 줄
+public record MidStockTraderLine(Long memberId, Long midStockId) {
+}
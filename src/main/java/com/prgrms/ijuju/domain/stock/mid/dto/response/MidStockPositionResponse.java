@@ -0,0 +1,23 @@
+package com.prgrms.ijuju.domain.stock.mid.dto.response;
+
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPosition;
+import lombok.Builder;
+
+@Builder
+public record MidStockPositionResponse(
+        Long midStockId,
+        String midName,
+        long investedPoints,
+        long averagePrice,
+        int lotCount
+) {
+    public static MidStockPositionResponse of(MidStockPosition position) {
+        return new MidStockPositionResponse(
+                position.getMidStock().getId(),
+                position.getMidStock().getStockName(),
+                position.getInvestedPoints(),
+                position.getAveragePrice(),
+                position.getLotCount()
+        );
+    }
+}
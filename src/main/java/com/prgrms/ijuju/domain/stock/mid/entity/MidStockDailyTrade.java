@@ -0,0 +1,46 @@
+package com.prgrms.ijuju.domain.stock.mid.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * "종목당 하루 매수 한 번, 매도 한 번" 제한의 DB 기록 입니다.
+ * 매수 / 매도 트랜잭션 안에서 한 행씩 넣고, (회원, 종목, 날짜, 거래 종류) unique 제약으로 같은 날 두 번째 거래를 막습니다.
+ * 평소 확인은 메모리의 MidStockTradeLimitTracker 가 하고, 이 테이블은 여러 서버 / 동시 요청에서의 최종 방어선입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_mid_stock_daily_trade",
+        columnNames = {"member_id", "mid_stock_id", "trade_date", "trade_type"}),
+        indexes = @Index(name = "idx_mid_stock_daily_trade_date", columnList = "trade_date"))
+public class MidStockDailyTrade {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @Column(name = "mid_stock_id", nullable = false)
+    private Long midStockId;
+
+    @Column(name = "trade_date", nullable = false)
+    private LocalDate tradeDate;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "trade_type", nullable = false)
+    private TradeType tradeType;
+
+    public MidStockDailyTrade(Long memberId, Long midStockId, LocalDate tradeDate, TradeType tradeType) {
+        this.memberId = memberId;
+        this.midStockId = midStockId;
+        this.tradeDate = tradeDate;
+        this.tradeType = tradeType;
+    }
+}
@@ -0,0 +1,74 @@
+package com.prgrms.ijuju.domain.stock.mid.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 회원 한 명의 중급 종목별 보유 현황 입니다. MidStockTradeService 의 매수/매도와 같은 트랜잭션 안에서 갱신됩니다.
+ * 보유 목록을 보여줄 때 BUY 거래 전체를 읽지 않고 종목당 이 행 하나만 읽습니다.
+
+ * 거래 하나(tradePoint 포인트를 pricePerStock 에 매수)는 tradePoint / pricePerStock 주를 산 것과 같으므로
+ * shares 에 그 합을 들고 있고, 평균 매입가는 investedPoints / shares (투자 포인트 가중) 입니다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(uniqueConstraints = @UniqueConstraint(name = "uk_mid_stock_position_member_stock",
+        columnNames = {"member_id", "mid_stock_id"}))
+public class MidStockPosition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "member_id", nullable = false)
+    private Long memberId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "mid_stock_id", nullable = false)
+    private MidStock midStock;
+
+    private long investedPoints;  // 보유 중인 거래의 투자 포인트 합
+
+    private double shares;        // 보유 중인 거래의 tradePoint / pricePerStock 합
+
+    private int lotCount;         // 보유 중인 BUY 거래 수
+
+    public MidStockPosition(Long memberId, MidStock midStock) {
+        this.memberId = memberId;
+        this.midStock = midStock;
+    }
+
+    // 매수 거래 하나를 반영합니다
+    public void addLot(long tradePoint, long pricePerStock) {
+        if (pricePerStock <= 0) {
+            throw new IllegalArgumentException("매수 가격은 0보다 커야 합니다: " + pricePerStock);
+        }
+        investedPoints += tradePoint;
+        shares += (double) tradePoint / pricePerStock;
+        lotCount++;
+    }
+
+    // 평균 매입가 (투자 포인트 가중)
+    public long getAveragePrice() {
+        if (shares <= 0) {
+            return 0;
+        }
+        return Math.round(investedPoints / shares);
+    }
+
+    // reconcile 용 : 거래 내역으로 다시 계산한 값과 같은지 비교합니다
+    public boolean matches(long investedPoints, double shares, int lotCount) {
+        return this.investedPoints == investedPoints
+                && this.lotCount == lotCount
+                && Math.abs(this.shares - shares) <= 1e-9 * Math.max(1, Math.abs(shares));
+    }
+
+    public void overwrite(long investedPoints, double shares, int lotCount) {
+        this.investedPoints = investedPoints;
+        this.shares = shares;
+        this.lotCount = lotCount;
+    }
+}
@@ -11,6 +11,11 @@ import com.prgrms.ijuju.global.common.entity.BaseTimeEntity;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "highPrice", "lowPrice", "avgPrice", "priceDate"})
+@Table(indexes = {
+        @Index(name = "idx_mid_stock_price_price_date", columnList = "price_date"),
+        // 종목별 날짜 범위 조회(차트 / 캐시) 가 테이블을 읽지 않도록 가격 컬럼까지 담은 covering 인덱스
+        @Index(name = "idx_mid_stock_price_stock_date_cover", columnList = "mid_stock_id, price_date, low_price, high_price, avg_price")
+})
 public class MidStockPrice extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -10,6 +10,7 @@ import lombok.*;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @ToString(of = {"id", "tradePoint", "pricePerStock", "tradeType"})
+@Table(indexes = @Index(name = "idx_mid_stock_trade_member_stock_created", columnList = "member_id, mid_stock_id, created_at"))
 public class MidStockTrade extends BaseTimeEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
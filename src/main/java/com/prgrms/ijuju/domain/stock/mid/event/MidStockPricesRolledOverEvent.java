@@ -0,0 +1,7 @@
+package com.prgrms.ijuju.domain.stock.mid.event;
+
+/**
+ * StockPriceScheduler 가 하루 가격 교체(MidStockPriceRolloverJob) 를 마친 뒤 발행합니다. MidStockPriceCache 가 받아서 캐시를 다시 만듭니다.
+ */
+public record MidStockPricesRolledOverEvent(int generatedCount) {
+}
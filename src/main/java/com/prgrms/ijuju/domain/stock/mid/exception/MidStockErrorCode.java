@@ -8,7 +8,8 @@ public enum MidStockErrorCode {
     MEMBER_NOT_FOUND("MID_STOCK_003", "[중급] 해당 회원이 존재하지 않습니다.", HttpStatus.NOT_FOUND),
     PRICE_NOT_FOUND("MID_STOCK_004", "[중급] 오늘의 주식 가격이 아직 생성되지 않았습니다.", HttpStatus.NOT_FOUND),
     ALREADY_BOUGHT("MID_STOCK_005", "[중급] 이미 매수를 했습니다.", HttpStatus.BAD_REQUEST),
-    ALREADY_SOLD("MID_STOCK_006", "[중급] 이미 매도를 했습니다.", HttpStatus.BAD_REQUEST);
+    ALREADY_SOLD("MID_STOCK_006", "[중급] 이미 매도를 했습니다.", HttpStatus.BAD_REQUEST),
+    INVALID_CHART_RANGE("MID_STOCK_007", "[중급] 차트 조회 기간 또는 점 개수가 올바르지 않습니다.", HttpStatus.BAD_REQUEST);
     
 
     private final String code;
@@ -0,0 +1,12 @@
+package com.prgrms.ijuju.domain.stock.mid.generator;
+
+/**
+ * 한 번의 일괄 생성 결과 입니다. i 번째 원소끼리 한 종목의 가격이며, 엔티티 대신 열 단위 배열로 들고 있다가
+ * 그대로 batch INSERT 에 넘깁니다.
+ */
+public record GeneratedPrices(long[] stockIds, long[] lowPrices, long[] highPrices, long[] avgPrices) {
+
+    public int size() {
+        return stockIds.length;
+    }
+}
@@ -0,0 +1,313 @@
+package com.prgrms.ijuju.domain.stock.mid.generator;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+/**
+ * 중급 주식의 하루 가격(저가/고가/평균)을 만드는 생성기 입니다.
+ * 기존 MidStockChartService.generatePrice 는 저가/고가를 뽑고 평균이 직전 평균의 ±5% 를 벗어나면 다시 뽑는
+ * 기각 샘플링(while(true)) 이었습니다. 여기서는 그 루프가 "받아들인" 결과의 분포에서 바로 한 번에 뽑습니다.
+
+ * 기존 방식에서 저가 L 은 [minLow, maxLow) 의 정수 중 균등, 고가 H 는 [L+1, 1.2L) 의 정수 중 균등이었고
+ * (L+H)/2 가 범위 안에 있을 때만 채택했습니다. 따라서 채택된 결과는
+ * - L 의 확률 ∝ (L 에서 채택되는 고가 개수) / (L 에서 가능한 고가 개수)
+ * - L 이 정해지면 H 는 채택되는 구간 안에서 균등
+ * 입니다. 저가 후보가 적으면(저가 종목) 누적분포를 정확히 만들고, 많으면 직전 평균으로 정규화한 모양이
+ * 가격과 상관없이 같다는 점을 이용해 미리 만들어 둔 표에서 역변환으로 뽑습니다.
+
+ * 종목마다 SplittableRandom 스트림을 따로 나눠 주므로 종목 단위로 병렬 생성해도 결과가 seed 에 대해 결정적입니다.
+ * 조건을 만족하는 가격이 없는 종목은 로그만 남기고 결과에서 빼므로, 한 종목 때문에 전체 생성이 멈추지 않습니다.
+ */
+@Slf4j
+@Component
+public class MidStockPriceGenerator {
+
+    public static final double PRICE_CHANGE_RATE = 0.05;
+
+    private static final int EXACT_LIMIT = 512;    // 채택 가능한 저가 후보가 이보다 적으면 정확한 누적분포 사용
+    private static final int SEGMENTS = 4096;      // 정규화된 저가(x = L / 직전 평균) 표의 구간 수
+    private static final double MIN_X = 0.8;
+    private static final double MAX_X = 1.2;
+    private static final double DX = (MAX_X - MIN_X) / SEGMENTS;
+
+    // x 에서의 (채택 고가 길이 / 전체 고가 길이) 와 그 누적값
+    private static final double[] DENSITY = new double[SEGMENTS + 1];
+    private static final double[] CUMULATIVE = new double[SEGMENTS + 1];
+
+    static {
+        for (int i = 0; i <= SEGMENTS; i++) {
+            DENSITY[i] = normalizedWeight(MIN_X + i * DX);
+        }
+        for (int i = 1; i <= SEGMENTS; i++) {
+            CUMULATIVE[i] = CUMULATIVE[i - 1] + (DENSITY[i - 1] + DENSITY[i]) / 2 * DX;
+        }
+    }
+
+    private final long seed;
+
+    public MidStockPriceGenerator(@Value("${mid-stock.generator.seed:0}") long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * 종목별 가격을 병렬로 생성합니다. seed 가 0 이면 호출마다 새로운 seed 를 사용합니다.
+     * seed 를 정했다면 가격 날짜를 섞어서(seed ^ epochDay) 같은 날짜는 재현되고 날마다 다른 가격이 나오게 합니다.
+     */
+    public GeneratedPrices generate(long[] stockIds, long[] lastAvgPrices, LocalDate priceDate) {
+        return generate(stockIds, lastAvgPrices,
+                seed != 0 ? seed ^ priceDate.toEpochDay() : ThreadLocalRandom.current().nextLong());
+    }
+
+    public GeneratedPrices generate(long[] stockIds, long[] lastAvgPrices, long rootSeed) {
+        if (stockIds.length != lastAvgPrices.length) {
+            throw new IllegalArgumentException("종목 수와 직전 평균 가격 수가 다릅니다: "
+                    + stockIds.length + " != " + lastAvgPrices.length);
+        }
+        int size = stockIds.length;
+
+        // split 은 스레드에 안전하지 않으므로 스트림은 먼저 순서대로 나눠 둡니다
+        SplittableRandom root = new SplittableRandom(rootSeed);
+        SplittableRandom[] streams = new SplittableRandom[size];
+        for (int i = 0; i < size; i++) {
+            streams[i] = root.split();
+        }
+
+        long[] lowPrices = new long[size];
+        long[] highPrices = new long[size];
+        long[] avgPrices = new long[size];
+        boolean[] skipped = new boolean[size];
+        IntStream.range(0, size).parallel().forEach(i -> {
+            try {
+                Draw draw = draw(lastAvgPrices[i], baseMinPrice(stockIds[i]), streams[i]);
+                lowPrices[i] = draw.lowPrice();
+                highPrices[i] = draw.highPrice();
+                avgPrices[i] = draw.avgPrice();
+            } catch (IllegalStateException e) {
+                log.warn("중급 가격 생성 건너뜀: stockId={}, {}", stockIds[i], e.getMessage());
+                skipped[i] = true;
+            }
+        });
+        return compact(stockIds, lowPrices, highPrices, avgPrices, skipped);
+    }
+
+    // 건너뛴 종목을 뺀 결과. 건너뛴 종목이 없으면 배열을 그대로 씁니다
+    private static GeneratedPrices compact(long[] stockIds, long[] lowPrices, long[] highPrices, long[] avgPrices,
+                                           boolean[] skipped) {
+        int kept = 0;
+        for (boolean skip : skipped) {
+            kept += skip ? 0 : 1;
+        }
+        if (kept == stockIds.length) {
+            return new GeneratedPrices(stockIds.clone(), lowPrices, highPrices, avgPrices);
+        }
+        long[] ids = new long[kept];
+        long[] lows = new long[kept];
+        long[] highs = new long[kept];
+        long[] avgs = new long[kept];
+        for (int i = 0, j = 0; i < stockIds.length; i++) {
+            if (!skipped[i]) {
+                ids[j] = stockIds[i];
+                lows[j] = lowPrices[i];
+                highs[j] = highPrices[i];
+                avgs[j] = avgPrices[i];
+                j++;
+            }
+        }
+        return new GeneratedPrices(ids, lows, highs, avgs);
+    }
+
+    /**
+     * 기존 기각 샘플링이 채택했을 분포에서 한 번에 가격을 뽑습니다.
+     * 채택 가능한 조합이 없으면(기준 최소가가 직전 평균보다 훨씬 큰 경우, 기존 코드는 무한 루프) 예외를 던집니다.
+     */
+    public static Draw draw(long lastAvgPrice, long baseMinPrice, RandomGenerator random) {
+        long minLowPrice = Math.max(baseMinPrice, (long) (lastAvgPrice * 0.8));
+        long lowSpan = (long) (lastAvgPrice * 1.2) - minLowPrice;
+
+        // |avg - last| <= last * 0.05 를 정수 평균 범위로 바꿉니다
+        long tolerance = (long) Math.floor(lastAvgPrice * PRICE_CHANGE_RATE);
+        long minAvg = lastAvgPrice - tolerance;
+        long maxAvg = lastAvgPrice + tolerance;
+
+        long lowFrom = from(minLowPrice, lowSpan);
+        long lowTo = to(minLowPrice, lowSpan);
+
+        // 채택 조건 두 개는 저가에 대해 각각 단조이므로, 채택 가능한 저가는 하나의 구간입니다
+        long feasibleFrom = firstLowReaching(lowFrom, lowTo, minAvg);
+        long feasibleTo = lastLowWithin(lowFrom, lowTo, maxAvg);
+        if (feasibleFrom > feasibleTo) {
+            throw new IllegalStateException("조건을 만족하는 가격이 없습니다: lastAvgPrice=" + lastAvgPrice
+                    + ", baseMinPrice=" + baseMinPrice);
+        }
+
+        long lowPrice = feasibleTo - feasibleFrom < EXACT_LIMIT
+                ? sampleLowExact(feasibleFrom, feasibleTo, minAvg, maxAvg, random)
+                : sampleLowScaled(feasibleFrom, feasibleTo, lastAvgPrice, random);
+
+        long highFrom = Math.max(highFrom(lowPrice), 2 * minAvg - lowPrice);
+        long highTo = Math.min(highTo(lowPrice), 2 * maxAvg + 1 - lowPrice);
+        long highPrice = highFrom + random.nextLong(highTo - highFrom + 1);
+
+        return new Draw(lowPrice, highPrice, (lowPrice + highPrice) / 2);
+    }
+
+    // 기본 최소 가격
+    public static long baseMinPrice(long stockId) {
+        if (stockId % 3 == 1) {
+            return 10L;
+        } else if (stockId % 3 == 2) {
+            return 500L;
+        }
+        return 10000L;
+    }
+
+    // 채택 가능한 저가 후보가 적을 때: 후보마다 채택 확률을 계산해서 누적분포를 만듭니다
+    private static long sampleLowExact(long from, long to, long minAvg, long maxAvg, RandomGenerator random) {
+        int count = (int) (to - from + 1);
+        double[] cumulative = new double[count];
+        double total = 0;
+        for (int i = 0; i < count; i++) {
+            total += exactWeight(from + i, minAvg, maxAvg);
+            cumulative[i] = total;
+        }
+        double target = random.nextDouble() * total;
+        int lo = 0;
+        int hi = count - 1;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (cumulative[mid] > target) {
+                hi = mid;
+            } else {
+                lo = mid + 1;
+            }
+        }
+        return from + lo;
+    }
+
+    // 채택 가능한 저가 후보가 많을 때: 정규화된 표를 [from, to + 1) 구간으로 잘라서 역변환합니다
+    private static long sampleLowScaled(long from, long to, long lastAvgPrice, RandomGenerator random) {
+        double start = cumulativeAt((double) from / lastAvgPrice);
+        double end = cumulativeAt((double) (to + 1) / lastAvgPrice);
+        double target = start + random.nextDouble() * (end - start);
+
+        int lo = 0;
+        int hi = SEGMENTS - 1;
+        while (lo < hi) {
+            int mid = (lo + hi + 1) >>> 1;
+            if (CUMULATIVE[mid] <= target) {
+                lo = mid;
+            } else {
+                hi = mid - 1;
+            }
+        }
+        double x = MIN_X + (lo + withinSegment(lo, target - CUMULATIVE[lo])) * DX;
+        long lowPrice = (long) Math.floor(x * lastAvgPrice);
+        return Math.max(from, Math.min(to, lowPrice));
+    }
+
+    private static double cumulativeAt(double x) {
+        if (x <= MIN_X) {
+            return 0;
+        }
+        if (x >= MAX_X) {
+            return CUMULATIVE[SEGMENTS];
+        }
+        int segment = Math.min(SEGMENTS - 1, (int) ((x - MIN_X) / DX));
+        double t = (x - MIN_X) / DX - segment;
+        double f0 = DENSITY[segment];
+        double f1 = DENSITY[segment + 1];
+        return CUMULATIVE[segment] + (f0 * t + (f1 - f0) * t * t / 2) * DX;
+    }
+
+    // 구간 안에서 밀도가 선형이라고 보고 mass 만큼 누적되는 위치 t(0~1) 를 구합니다
+    private static double withinSegment(int segment, double mass) {
+        double f0 = DENSITY[segment];
+        double f1 = DENSITY[segment + 1];
+        double a = (f1 - f0) / 2 * DX;
+        double b = f0 * DX;
+        double denominator = b + Math.sqrt(Math.max(0, b * b + 4 * a * mass));
+        if (denominator <= 0) {
+            return 0;
+        }
+        return Math.max(0, Math.min(1, 2 * mass / denominator));
+    }
+
+    // 연속 근사: 고가는 [x, 1.2x], 채택 조건은 (x + h) / 2 가 [0.95, 1.05] 안
+    private static double normalizedWeight(double x) {
+        double accepted = Math.min(1.2 * x, 2 * (1 + PRICE_CHANGE_RATE) - x)
+                - Math.max(x, 2 * (1 - PRICE_CHANGE_RATE) - x);
+        return Math.max(0, accepted) / (0.2 * x);
+    }
+
+    private static double exactWeight(long lowPrice, long minAvg, long maxAvg) {
+        long span = highSpan(lowPrice);
+        long accepted = Math.min(highTo(lowPrice), 2 * maxAvg + 1 - lowPrice)
+                - Math.max(highFrom(lowPrice), 2 * minAvg - lowPrice) + 1;
+        return accepted <= 0 ? 0 : (double) accepted / Math.max(1, Math.abs(span));
+    }
+
+    // 평균이 minAvg 이상이 될 수 있는 가장 작은 저가 (L + 최대 고가 >= 2 * minAvg).
+    // L + 최대 고가 ≈ 2.2L 이므로 근사값에서 시작해 정수 경계까지 몇 칸만 움직입니다
+    private static long firstLowReaching(long from, long to, long minAvg) {
+        long low = Math.max(from, Math.min(to + 1, (long) ((2 * minAvg) / 2.2)));
+        while (low > from && reaches(low - 1, minAvg)) {
+            low--;
+        }
+        while (low <= to && !reaches(low, minAvg)) {
+            low++;
+        }
+        return low;
+    }
+
+    // 평균이 maxAvg 이하가 될 수 있는 가장 큰 저가 (L + 최소 고가 <= 2 * maxAvg + 1). 고가가 저가보다 크므로 대부분 maxAvg
+    private static long lastLowWithin(long from, long to, long maxAvg) {
+        long low = Math.max(from - 1, Math.min(to, maxAvg));
+        while (low < to && within(low + 1, maxAvg)) {
+            low++;
+        }
+        while (low >= from && !within(low, maxAvg)) {
+            low--;
+        }
+        return low;
+    }
+
+    private static boolean reaches(long lowPrice, long minAvg) {
+        return lowPrice + highTo(lowPrice) >= 2 * minAvg;
+    }
+
+    private static boolean within(long lowPrice, long maxAvg) {
+        return lowPrice + highFrom(lowPrice) <= 2 * maxAvg + 1;
+    }
+
+    // 기존 코드의 고가 = (L + 1) + (long) (((long) (L * 1.2) - (L + 1)) * random)
+    private static long highSpan(long lowPrice) {
+        return (long) (lowPrice * 1.2) - (lowPrice + 1);
+    }
+
+    private static long highFrom(long lowPrice) {
+        return from(lowPrice + 1, highSpan(lowPrice));
+    }
+
+    private static long highTo(long lowPrice) {
+        return to(lowPrice + 1, highSpan(lowPrice));
+    }
+
+    // base + (long) (span * u), u ∈ [0, 1) 가 가질 수 있는 정수 범위 (long 변환은 0 쪽으로 버림)
+    private static long from(long base, long span) {
+        return span < 0 ? base + span + 1 : base;
+    }
+
+    private static long to(long base, long span) {
+        return span > 0 ? base + span - 1 : base;
+    }
+
+    public record Draw(long lowPrice, long highPrice, long avgPrice) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.prgrms.ijuju.domain.stock.mid.repository;
+
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockDailyTrade;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+
+public interface MidStockDailyTradeRepository extends JpaRepository<MidStockDailyTrade, Long> {
+
+    // 지난 날짜의 기록 정리 (trade_date 인덱스)
+    @Modifying
+    @Query("DELETE FROM MidStockDailyTrade d WHERE d.tradeDate < :date")
+    int deleteAllBefore(@Param("date") LocalDate date);
+}
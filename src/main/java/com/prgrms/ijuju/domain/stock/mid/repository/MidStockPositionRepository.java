@@ -0,0 +1,30 @@
+package com.prgrms.ijuju.domain.stock.mid.repository;
+
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPosition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface MidStockPositionRepository extends JpaRepository<MidStockPosition, Long> {
+
+    // 보유 목록 화면용. 종목 이름까지 한 번에 가져옵니다
+    @Query("SELECT p FROM MidStockPosition p JOIN FETCH p.midStock " +
+            "WHERE p.memberId = :memberId ORDER BY p.midStock.id")
+    List<MidStockPosition> findAllByMemberIdWithStock(@Param("memberId") Long memberId);
+
+    // 같은 포지션을 동시에 갱신하지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM MidStockPosition p WHERE p.memberId = :memberId AND p.midStock.id = :midStockId")
+    Optional<MidStockPosition> findForUpdate(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId);
+
+    // 전량 매도 시 포지션 삭제
+    @Modifying
+    @Query("DELETE FROM MidStockPosition p WHERE p.memberId = :memberId AND p.midStock.id = :midStockId")
+    int deleteByMemberIdAndMidStockId(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId);
+}
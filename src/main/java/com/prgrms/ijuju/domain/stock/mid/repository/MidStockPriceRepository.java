@@ -1,12 +1,22 @@
 package com.prgrms.ijuju.domain.stock.mid.repository;
 
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockLatestPrice;
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockPriceRow;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 public interface MidStockPriceRepository extends JpaRepository<MidStockPrice, Long>, MidStockPriceRepositoryCustom {
@@ -15,10 +25,57 @@ public interface MidStockPriceRepository extends JpaRepository<MidStockPrice, Lo
     @Query("DELETE FROM MidStockPrice  p WHERE p.priceDate < :date")
     void deleteOldData(@Param("date")LocalDateTime date);
 
-    // 오늘 날짜의 평균 가격 가져오기
+    // date 이전 가격의 id (price_date 인덱스). 하루 작업이 묶음 단위로 나눠서 지울 때 사용
+    @Query("SELECT p.id FROM MidStockPrice p WHERE p.priceDate < :date ORDER BY p.priceDate, p.id")
+    List<Long> findExpiredIds(@Param("date") LocalDateTime date, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM MidStockPrice p WHERE p.id IN :ids")
+    int deleteAllByIds(@Param("ids") List<Long> ids);
+
+    // [start, end) 에 이미 가격이 있는 종목 (price_date 인덱스). 가격 교체를 같은 날 다시 돌릴 때 중복 생성을 막습니다
+    @Query("SELECT DISTINCT p.midStock.id FROM MidStockPrice p WHERE p.priceDate >= :start AND p.priceDate < :end")
+    List<Long> findStockIdsWithPriceBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 모든 종목의 최신 평균 가격을 종목별 MAX(price_date) 로 묶어서 한 번에 가져옵니다
+    @Query("SELECT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockLatestPrice(p.midStock.id, p.avgPrice) " +
+            "FROM MidStockPrice p " +
+            "WHERE (p.midStock.id, p.priceDate) IN " +
+            "(SELECT p2.midStock.id, MAX(p2.priceDate) FROM MidStockPrice p2 GROUP BY p2.midStock.id)")
+    List<MidStockLatestPrice> findAllLatestPrices();
+
+    // 가격 캐시용. 여러 종목의 모든 가격을 종목, 날짜 순으로 한 번에 가져옵니다 ((mid_stock_id, price_date) 인덱스)
+    @Query("SELECT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockPriceRow(" +
+            "p.midStock.id, p.lowPrice, p.highPrice, p.avgPrice, p.priceDate) " +
+            "FROM MidStockPrice p " +
+            "WHERE p.midStock.id IN :stockIds " +
+            "ORDER BY p.midStock.id, p.priceDate, p.id")
+    List<MidStockPriceRow> findAllRowsByStockIds(@Param("stockIds") Collection<Long> stockIds);
+
+    // 차트용. [start, end) 의 가격을 날짜 순으로 한 줄씩 흘려 읽습니다 (covering 인덱스만 읽음, 트랜잭션 안에서 닫아야 함)
+    // (MySQL 에서 실제로 스트리밍하려면 접속 URL 에 useCursorFetch=true 가 필요합니다)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockPriceRow(" +
+            "p.midStock.id, p.lowPrice, p.highPrice, p.avgPrice, p.priceDate) " +
+            "FROM MidStockPrice p " +
+            "WHERE p.midStock.id = :stockId " +
+            "AND p.priceDate >= :start AND p.priceDate < :end " +
+            "ORDER BY p.priceDate, p.id")
+    Stream<MidStockPriceRow> streamRowsBetween(@Param("stockId") Long stockId,
+                                               @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // [start, end) 의 가격 수 (차트를 줄일 때 구간 크기 계산용)
+    @Query("SELECT COUNT(p) FROM MidStockPrice p " +
+            "WHERE p.midStock.id = :stockId " +
+            "AND p.priceDate >= :start AND p.priceDate < :end")
+    long countBetween(@Param("stockId") Long stockId,
+                      @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // [start, end) 사이의 평균 가격 (오늘 가격은 start = 오늘 0시, end = 내일 0시). (mid_stock_id, price_date) 인덱스 범위 조건
     @Query("SELECT p.avgPrice FROM MidStockPrice p " +
             "WHERE p.midStock.id = :stockId " +
-            "AND FUNCTION('DATE', p.priceDate) = CURRENT_DATE")
-    long findTodayAvgPrice(@Param("stockId") Long stockId);
+            "AND p.priceDate >= :start AND p.priceDate < :end")
+    Optional<Long> findAvgPriceBetween(@Param("stockId") Long stockId,
+                                       @Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
 }
@@ -2,7 +2,9 @@ package com.prgrms.ijuju.domain.stock.mid.repository;
 
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.generator.GeneratedPrices;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -12,4 +14,5 @@ public interface MidStockPriceRepositoryCustom {
     Optional<MidStockPrice> findTodayPrice(Long stockId);
     List<MidStockPrice> findByMidStockId(Long stockId);
     List<MidStockPrice> findFuture2WeeksPriceInfo(Long stockId);
+    int insertAll(GeneratedPrices prices, LocalDateTime priceDate);
 }
@@ -3,20 +3,32 @@ package com.prgrms.ijuju.domain.stock.mid.repository;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
 import com.prgrms.ijuju.domain.stock.mid.entity.QMidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.generator.GeneratedPrices;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 @Repository
 public class MidStockPriceRepositoryImpl implements MidStockPriceRepositoryCustom {
+    private static final String INSERT_SQL = "INSERT INTO mid_stock_price " +
+            "(mid_stock_id, low_price, high_price, avg_price, price_date, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final int INSERT_BATCH_SIZE = 1000;
+
     private final JPAQueryFactory queryFactory;
+    private final JdbcTemplate jdbcTemplate;
 
-    public MidStockPriceRepositoryImpl(EntityManager em) {
+    public MidStockPriceRepositoryImpl(EntityManager em, JdbcTemplate jdbcTemplate) {
         this.queryFactory = new JPAQueryFactory(em);
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -48,7 +60,7 @@ public class MidStockPriceRepositoryImpl implements MidStockPriceRepositoryCusto
     public Optional<MidStockPrice> findTodayPrice(Long stockId) {
         QMidStockPrice midStockPrice = QMidStockPrice.midStockPrice;
 
-        LocalDateTime startOfDay = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
+        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
         LocalDateTime endOfDay = startOfDay.plusDays(1);
 
         return Optional.ofNullable(
@@ -56,7 +68,8 @@ public class MidStockPriceRepositoryImpl implements MidStockPriceRepositoryCusto
                         .selectFrom(midStockPrice)
                         .where(
                                 midStockPrice.midStock.id.eq(stockId)
-                                        .and(midStockPrice.priceDate.between(startOfDay, endOfDay))
+                                        .and(midStockPrice.priceDate.goe(startOfDay))
+                                        .and(midStockPrice.priceDate.lt(endOfDay))
                         )
                         .orderBy(midStockPrice.priceDate.desc())
                         .fetchFirst()
@@ -77,16 +90,37 @@ public class MidStockPriceRepositoryImpl implements MidStockPriceRepositoryCusto
     public List<MidStockPrice> findFuture2WeeksPriceInfo(Long midStockId) {
         QMidStockPrice midStockPrice = QMidStockPrice.midStockPrice;
 
-        LocalDateTime startDate = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        LocalDateTime endDate = startDate.plusWeeks(2).withHour(23).withMinute(59).withSecond(59);
+        // 오늘 0시부터 2주 뒤 날짜가 끝날 때까지 [startDate, endDate)
+        LocalDateTime startDate = LocalDate.now().atStartOfDay();
+        LocalDateTime endDate = startDate.plusWeeks(2).plusDays(1);
 
         return queryFactory
                 .selectFrom(midStockPrice)
                 .where(
                         midStockPrice.midStock.id.eq(midStockId),
-                        midStockPrice.priceDate.between(startDate, endDate)
+                        midStockPrice.priceDate.goe(startDate),
+                        midStockPrice.priceDate.lt(endDate)
                 )
+                .orderBy(midStockPrice.priceDate.asc())
                 .fetch();
     }
 
+    // 일괄 생성한 가격을 엔티티 없이 batch INSERT 로 저장합니다. (영속성 컨텍스트와 감사 리스너를 거치지 않으므로 시간 컬럼도 직접 채웁니다)
+    @Override
+    public int insertAll(GeneratedPrices prices, LocalDateTime priceDate) {
+        Timestamp date = Timestamp.valueOf(priceDate);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Integer> indexes = IntStream.range(0, prices.size()).boxed().toList();
+        jdbcTemplate.batchUpdate(INSERT_SQL, indexes, INSERT_BATCH_SIZE, (ps, i) -> {
+            ps.setLong(1, prices.stockIds()[i]);
+            ps.setLong(2, prices.lowPrices()[i]);
+            ps.setLong(3, prices.highPrices()[i]);
+            ps.setLong(4, prices.avgPrices()[i]);
+            ps.setTimestamp(5, date);
+            ps.setTimestamp(6, now);
+            ps.setTimestamp(7, now);
+        });
+        return prices.size();
+    }
+
 }
@@ -2,6 +2,13 @@ package com.prgrms.ijuju.domain.stock.mid.repository;
 
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface MidStockRepository extends JpaRepository<MidStock, Long> {
+
+    // 가격 생성에는 종목 id 만 필요하므로 엔티티를 만들지 않습니다
+    @Query("SELECT s.id FROM MidStock s ORDER BY s.id")
+    List<Long> findAllIds();
 }
@@ -1,10 +1,15 @@
 package com.prgrms.ijuju.domain.stock.mid.repository;
 
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockPositionLine;
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockSettlement;
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockTraderLine;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockTrade;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +21,27 @@ public interface MidStockTradeRepository extends JpaRepository<MidStockTrade, Lo
             "AND t.tradeType = 'BUY'")
     List<MidStockTrade> findAllBuyMidStock(@Param("memberId") Long memberId);
 
+    // 보유중인 모든 거래를 종목과 함께 조회 (종목별로 묶을 때 종목을 다시 읽지 않도록 fetch join)
+    @Query("SELECT t FROM MidStockTrade t JOIN FETCH t.midStock " +
+            "WHERE t.member.id = :memberId " +
+            "AND t.tradeType = 'BUY' " +
+            "ORDER BY t.midStock.id, t.id")
+    List<MidStockTrade> findAllBuyMidStockWithStock(@Param("memberId") Long memberId);
+
+    // 포지션 재계산(reconcile) 용. BUY 거래를 (회원, 종목) 별로 합칩니다
+    @Query("SELECT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockPositionLine(" +
+            "t.member.id, t.midStock.id, SUM(t.tradePoint), SUM(t.tradePoint * 1.0 / t.pricePerStock), COUNT(t)) " +
+            "FROM MidStockTrade t WHERE t.tradeType = 'BUY' " +
+            "GROUP BY t.member.id, t.midStock.id")
+    List<MidStockPositionLine> findAllPositionLines();
+
+    // 한 (회원, 종목) 만 다시 합칩니다. 보유 중인 BUY 거래가 없으면 비어 있습니다
+    @Query("SELECT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockPositionLine(" +
+            "t.member.id, t.midStock.id, SUM(t.tradePoint), SUM(t.tradePoint * 1.0 / t.pricePerStock), COUNT(t)) " +
+            "FROM MidStockTrade t WHERE t.tradeType = 'BUY' AND t.member.id = :memberId AND t.midStock.id = :midStockId " +
+            "GROUP BY t.member.id, t.midStock.id")
+    Optional<MidStockPositionLine> findPositionLine(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId);
+
     // 보유중인 특정 종목 조회
     @Query("SELECT t FROM MidStockTrade t " +
             "WHERE t.member.id = :memberId " +
@@ -23,18 +49,36 @@ public interface MidStockTradeRepository extends JpaRepository<MidStockTrade, Lo
             "AND t.midStock.id = :midStockId")
     List<MidStockTrade> findBuyMidStock(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId);
 
-    //오늘 매수했는지 확인
-    @Query("SELECT t FROM MidStockTrade t " +
+    // [start, end) 사이에 매수한 (회원, 종목). (member_id, mid_stock_id, created_at) 인덱스의 범위 조건
+    @Query("SELECT DISTINCT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockTraderLine(t.member.id, t.midStock.id) " +
+            "FROM MidStockTrade t " +
+            "WHERE t.createdAt >= :start AND t.createdAt < :end")
+    List<MidStockTraderLine> findBuyersBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // [start, end) 사이에 매도한 (회원, 종목). 매도하면 거래가 SELL 로 바뀌면서 updatedAt 이 매도 시각이 됩니다
+    @Query("SELECT DISTINCT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockTraderLine(t.member.id, t.midStock.id) " +
+            "FROM MidStockTrade t " +
+            "WHERE t.tradeType = 'SELL' " +
+            "AND t.updatedAt >= :start AND t.updatedAt < :end")
+    List<MidStockTraderLine> findSellersBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+    // 매도 정산 금액. 거래마다 tradePoint * (오늘 평균가 / 매수가) 를 반올림해서 더합니다 (기존 거래별 계산과 같음)
+    @Query("SELECT new com.prgrms.ijuju.domain.stock.mid.dto.MidStockSettlement(" +
+            "COUNT(t), SUM(t.tradePoint), SUM(ROUND(t.tradePoint * :avgPrice * 1.0 / t.pricePerStock, 0))) " +
+            "FROM MidStockTrade t " +
             "WHERE t.member.id = :memberId " +
             "AND t.midStock.id = :midStockId " +
-            "AND FUNCTION('DATE', t.createdAt) = CURRENT_DATE")
-    Optional<MidStockTrade> findTodayBuyMidStock(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId);
+            "AND t.tradeType = 'BUY'")
+    MidStockSettlement settleBuyMidStock(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId,
+                                         @Param("avgPrice") long avgPrice);
 
-    // 오늘 매도했는지 확인
-    @Query("SELECT t FROM MidStockTrade t " +
+    // 보유 중인 거래를 한 번의 UPDATE 로 매도 처리합니다. 벌크 UPDATE 는 감사(auditing) 를 거치지 않으므로 updatedAt 도 직접 씁니다
+    @Modifying
+    @Query("UPDATE MidStockTrade t " +
+            "SET t.tradeType = com.prgrms.ijuju.domain.stock.mid.entity.TradeType.SELL, t.updatedAt = :now " +
             "WHERE t.member.id = :memberId " +
             "AND t.midStock.id = :midStockId " +
-            "AND t.tradeType = 'SELL' " +
-            "AND FUNCTION('DATE', t.updatedAt) = CURRENT_DATE")
-    Optional<MidStockTrade> findTodaySellMidStock(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId);
+            "AND t.tradeType = com.prgrms.ijuju.domain.stock.mid.entity.TradeType.BUY")
+    int sellAllBuyMidStock(@Param("memberId") Long memberId, @Param("midStockId") Long midStockId,
+                           @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,154 @@
+package com.prgrms.ijuju.domain.stock.mid.scheduler;
+
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockPositionLine;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPosition;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPositionRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockTradeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 보유 중인 BUY 거래를 (회원, 종목) 별로 다시 합쳐서 MidStockPosition 과 비교하는 작업 입니다.
+ * 값이 다른 포지션은 로그로 남기고 거래 내역 기준으로 덮어쓰며, 거래가 없는 포지션은 지우고 빠진 포지션은 만듭니다.
+ * 포지션 테이블이 생기기 전의 거래도 채워지도록 시작할 때 한 번, 이후 매일 새벽에 실행됩니다.
+
+ * 거래가 열려 있는 동안 돌기 때문에 먼저 잠금 없이 전체를 훑어 어긋난 (회원, 종목) 만 고르고,
+ * 고른 키마다 짧은 트랜잭션에서 매수 / 매도와 같은 포지션 행 잠금(findForUpdate) 을 잡은 뒤 다시 합쳐서 고칩니다.
+ * 훑은 뒤 커밋된 거래가 오래된 합계로 덮어써지지 않고, 한 키의 실패가 전체를 롤백하지 않습니다.
+ */
+@Slf4j
+@Component
+public class MidStockPositionReconciler {
+
+    private final MidStockTradeRepository midStockTradeRepository;
+    private final MidStockPositionRepository midStockPositionRepository;
+    private final MidStockRepository midStockRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public MidStockPositionReconciler(MidStockTradeRepository midStockTradeRepository,
+                                      MidStockPositionRepository midStockPositionRepository,
+                                      MidStockRepository midStockRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.midStockTradeRepository = midStockTradeRepository;
+        this.midStockPositionRepository = midStockPositionRepository;
+        this.midStockRepository = midStockRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Scheduled(cron = "0 40 4 * * ?", zone = "Asia/Seoul")
+    public ReconcileReport reconcile() {
+        Set<PositionKey> candidates = readOnlyTransaction.execute(status -> findCandidates());
+
+        int drifted = 0;
+        int created = 0;
+        int removed = 0;
+        for (PositionKey key : candidates) {
+            try {
+                Fix fix = transactionTemplate.execute(status -> fixUnderLock(key));
+                switch (fix) {
+                    case DRIFTED -> drifted++;
+                    case CREATED -> created++;
+                    case REMOVED -> removed++;
+                    case NONE -> {
+                    }
+                }
+            } catch (DataIntegrityViolationException e) {
+                // 만들려던 포지션을 그 사이 매수가 먼저 만들었음. 다음 실행에서 다시 확인합니다
+                log.info("중급 포지션 생성 건너뜀: memberId={}, midStockId={}", key.memberId(), key.midStockId());
+            }
+        }
+
+        ReconcileReport report = new ReconcileReport(drifted, created, removed);
+        log.info("중급 포지션 재계산 완료: 후보 {}건, {}", candidates.size(), report);
+        return report;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // 잠금 없이 훑어서 값이 다르거나, 거래가 없거나, 빠진 포지션의 키를 고릅니다
+    private Set<PositionKey> findCandidates() {
+        Map<PositionKey, MidStockPositionLine> rebuilt = new HashMap<>();
+        for (MidStockPositionLine line : midStockTradeRepository.findAllPositionLines()) {
+            rebuilt.put(new PositionKey(line.memberId(), line.midStockId()), line);
+        }
+
+        Set<PositionKey> candidates = new LinkedHashSet<>();
+        for (MidStockPosition stored : midStockPositionRepository.findAll()) {
+            PositionKey key = new PositionKey(stored.getMemberId(), stored.getMidStock().getId());
+            MidStockPositionLine expected = rebuilt.remove(key);
+            if (expected == null
+                    || !stored.matches(expected.investedPoints(), expected.shares(), expected.lotCount().intValue())) {
+                candidates.add(key);
+            }
+        }
+        candidates.addAll(rebuilt.keySet()); // 거래 내역은 있는데 포지션 행이 없는 경우
+        return candidates;
+    }
+
+    // 포지션 행을 잠근 뒤 그 키의 거래만 다시 합쳐서 고칩니다
+    private Fix fixUnderLock(PositionKey key) {
+        Optional<MidStockPosition> stored = midStockPositionRepository.findForUpdate(key.memberId(), key.midStockId());
+        Optional<MidStockPositionLine> expected = midStockTradeRepository.findPositionLine(key.memberId(), key.midStockId());
+
+        if (stored.isPresent()) {
+            MidStockPosition position = stored.get();
+            if (expected.isEmpty()) { // 보유 중인 거래가 없는 포지션
+                midStockPositionRepository.delete(position);
+                return Fix.REMOVED;
+            }
+            MidStockPositionLine line = expected.get();
+            if (position.matches(line.investedPoints(), line.shares(), line.lotCount().intValue())) {
+                return Fix.NONE; // 훑은 뒤 들어온 거래로 이미 맞춰진 경우
+            }
+            log.warn("중급 포지션 불일치: memberId={}, midStockId={}, 저장값 invested={} shares={} lots={}, 재계산 invested={} shares={} lots={}",
+                    key.memberId(), key.midStockId(),
+                    position.getInvestedPoints(), position.getShares(), position.getLotCount(),
+                    line.investedPoints(), line.shares(), line.lotCount());
+            position.overwrite(line.investedPoints(), line.shares(), line.lotCount().intValue());
+            return Fix.DRIFTED;
+        }
+
+        if (expected.isEmpty()) {
+            return Fix.NONE; // 그 사이 전량 매도됨
+        }
+        MidStockPositionLine line = expected.get();
+        log.warn("누락된 중급 포지션 생성: memberId={}, midStockId={}", key.memberId(), key.midStockId());
+        MidStockPosition position = new MidStockPosition(line.memberId(), midStockRepository.getReferenceById(line.midStockId()));
+        position.overwrite(line.investedPoints(), line.shares(), line.lotCount().intValue());
+        midStockPositionRepository.saveAndFlush(position); // unique 제약 위반을 이 키의 트랜잭션 안에서 확인합니다
+        return Fix.CREATED;
+    }
+
+    private enum Fix {
+        NONE, DRIFTED, CREATED, REMOVED
+    }
+
+    private record PositionKey(Long memberId, Long midStockId) {
+    }
+
+    public record ReconcileReport(int drifted, int created, int removed) {
+
+        public boolean clean() {
+            return drifted == 0 && created == 0 && removed == 0;
+        }
+    }
+}
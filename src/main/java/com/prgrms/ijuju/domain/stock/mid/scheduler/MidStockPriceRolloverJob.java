@@ -0,0 +1,215 @@
+package com.prgrms.ijuju.domain.stock.mid.scheduler;
+
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockLatestPrice;
+import com.prgrms.ijuju.domain.stock.mid.generator.GeneratedPrices;
+import com.prgrms.ijuju.domain.stock.mid.generator.MidStockPriceGenerator;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 중급 주식의 하루 가격 교체(rollover) 작업 입니다.
+
+ * 예전에는 종목마다 generateDailyPrice 를 호출해서 deleteOldData(테이블 전체 DELETE) / findLatestPrice / INSERT 를
+ * 종목 수만큼 반복했습니다. 지금은 종목 수와 상관없이
+ * 1. 보관 기간이 지난 가격을 price_date 인덱스로 batchSize 개씩 찾아서 묶음마다 별도 트랜잭션으로 한 번 지우고
+ * 2. 모든 종목의 최신 평균 가격을 종목별로 묶은 쿼리 하나로 읽고
+ * 3. 메모리에서 가격을 생성한 뒤 (MidStockPriceGenerator)
+ * 4. batch INSERT 한 번으로 저장합니다.
+ * 같은 날 다시 실행되면(재시도 / 수동 실행) 그 날짜에 이미 가격이 있는 종목은 건너뛰므로 하루에 한 종목당 가격은 하나입니다.
+ * (findAvgPriceBetween 이 하루에 한 행만 있다고 가정합니다)
+
+ * 진행 단계(phase) 와 단계별 처리 건수, 마지막 실행의 단계별 소요 시간을 지표로 노출합니다.
+ */
+@Slf4j
+@Component
+public class MidStockPriceRolloverJob {
+
+    public static final int DAYS_TO_KEEP = 15; // 사실상 30일치 데이터를 유지
+
+    public enum Phase {
+        IDLE, PURGING, LOADING, GENERATING, INSERTING
+    }
+
+    private final MidStockRepository midStockRepository;
+    private final MidStockPriceRepository midStockPriceRepository;
+    private final MidStockPriceGenerator midStockPriceGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final int deleteBatchSize;
+
+    // 진행 상황
+    private volatile Phase phase = Phase.IDLE;
+    private final AtomicLong phaseProgress = new AtomicLong();
+
+    // 지표
+    private final AtomicLong runCount = new AtomicLong();
+    private final AtomicLong totalDeletedCount = new AtomicLong();
+    private final AtomicLong totalGeneratedCount = new AtomicLong();
+    private volatile long lastDeletedCount;
+    private volatile long lastGeneratedCount;
+    private volatile long lastPurgeNanos;
+    private volatile long lastLoadNanos;
+    private volatile long lastGenerateNanos;
+    private volatile long lastInsertNanos;
+
+    public MidStockPriceRolloverJob(MidStockRepository midStockRepository,
+                                    MidStockPriceRepository midStockPriceRepository,
+                                    MidStockPriceGenerator midStockPriceGenerator,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${mid-stock.rollover.delete-batch-size:1000}") int deleteBatchSize) {
+        this.midStockRepository = midStockRepository;
+        this.midStockPriceRepository = midStockPriceRepository;
+        this.midStockPriceGenerator = midStockPriceGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.deleteBatchSize = deleteBatchSize;
+    }
+
+    // now 기준으로 오래된 가격을 지우고, 모든 종목의 (now + DAYS_TO_KEEP) 일자 가격을 만들어 저장합니다. 생성한 건수를 돌려줍니다
+    public synchronized int run(LocalDateTime now) {
+        try {
+            long started = System.nanoTime();
+            enter(Phase.PURGING);
+            long deleted = purge(now.minusDays(DAYS_TO_KEEP));
+            long purged = System.nanoTime();
+
+            enter(Phase.LOADING);
+            LocalDateTime priceDate = now.plusDays(DAYS_TO_KEEP);
+            LocalDateTime dayStart = priceDate.toLocalDate().atStartOfDay();
+            Set<Long> alreadyPriced = new HashSet<>(
+                    midStockPriceRepository.findStockIdsWithPriceBetween(dayStart, dayStart.plusDays(1)));
+            List<Long> stockIds = midStockRepository.findAllIds().stream()
+                    .filter(id -> !alreadyPriced.contains(id))
+                    .toList();
+            if (!alreadyPriced.isEmpty()) {
+                log.info("중급 가격 교체: {} 가격이 이미 있는 종목 {}개는 건너뜁니다", priceDate.toLocalDate(), alreadyPriced.size());
+            }
+            long[] ids = new long[stockIds.size()];
+            long[] lastAvgPrices = new long[stockIds.size()];
+            Map<Long, Long> latestPrices = loadLatestPrices();
+            for (int i = 0; i < ids.length; i++) {
+                ids[i] = stockIds.get(i);
+                Long latest = latestPrices.get(ids[i]);
+                lastAvgPrices[i] = latest != null ? latest : MidStockPriceGenerator.baseMinPrice(ids[i]) * 10;
+                phaseProgress.incrementAndGet();
+            }
+            long loaded = System.nanoTime();
+
+            enter(Phase.GENERATING);
+            GeneratedPrices prices = midStockPriceGenerator.generate(ids, lastAvgPrices, priceDate.toLocalDate());
+            phaseProgress.set(prices.size());
+            long generated = System.nanoTime();
+
+            enter(Phase.INSERTING);
+            Integer inserted = transactionTemplate.execute(status -> midStockPriceRepository.insertAll(prices, priceDate));
+            int insertedCount = inserted == null ? 0 : inserted;
+            phaseProgress.set(insertedCount);
+            long finished = System.nanoTime();
+
+            lastDeletedCount = deleted;
+            lastGeneratedCount = insertedCount;
+            lastPurgeNanos = purged - started;
+            lastLoadNanos = loaded - purged;
+            lastGenerateNanos = generated - loaded;
+            lastInsertNanos = finished - generated;
+            runCount.incrementAndGet();
+            totalDeletedCount.addAndGet(deleted);
+            totalGeneratedCount.addAndGet(insertedCount);
+            log.info("중급 가격 교체 완료: 삭제 {}건, 생성 {}건, {}ms", deleted, insertedCount,
+                    TimeUnit.NANOSECONDS.toMillis(finished - started));
+            return insertedCount;
+        } finally {
+            enter(Phase.IDLE);
+        }
+    }
+
+    private long purge(LocalDateTime cutoff) {
+        long purged = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> {
+                List<Long> ids = midStockPriceRepository.findExpiredIds(cutoff, PageRequest.of(0, deleteBatchSize));
+                return ids.isEmpty() ? 0 : midStockPriceRepository.deleteAllByIds(ids);
+            });
+            if (deleted == null || deleted == 0) {
+                return purged;
+            }
+            purged += deleted;
+            phaseProgress.addAndGet(deleted);
+            if (deleted < deleteBatchSize) {
+                return purged;
+            }
+        }
+    }
+
+    private Map<Long, Long> loadLatestPrices() {
+        List<MidStockLatestPrice> rows = midStockPriceRepository.findAllLatestPrices();
+        Map<Long, Long> latestPrices = new HashMap<>(rows.size() * 2);
+        for (MidStockLatestPrice row : rows) {
+            latestPrices.putIfAbsent(row.stockId(), row.avgPrice()); // 같은 시각의 가격이 둘이면 하나만 사용
+        }
+        return latestPrices;
+    }
+
+    private void enter(Phase next) {
+        phase = next;
+        phaseProgress.set(0);
+    }
+
+    public Phase getPhase() {
+        return phase;
+    }
+
+    // 현재 단계에서 처리한 건수 (삭제한 가격 / 읽은 종목 / 생성한 가격 / 저장한 가격)
+    public long getPhaseProgress() {
+        return phaseProgress.get();
+    }
+
+    public long getRunCount() {
+        return runCount.get();
+    }
+
+    public long getTotalDeletedCount() {
+        return totalDeletedCount.get();
+    }
+
+    public long getTotalGeneratedCount() {
+        return totalGeneratedCount.get();
+    }
+
+    public long getLastDeletedCount() {
+        return lastDeletedCount;
+    }
+
+    public long getLastGeneratedCount() {
+        return lastGeneratedCount;
+    }
+
+    public long getLastPurgeMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastPurgeNanos);
+    }
+
+    public long getLastLoadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastLoadNanos);
+    }
+
+    public long getLastGenerateMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastGenerateNanos);
+    }
+
+    public long getLastInsertMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastInsertNanos);
+    }
+}
@@ -1,31 +1,27 @@
 package com.prgrms.ijuju.domain.stock.mid.scheduler;
 
-import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
-import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
-import com.prgrms.ijuju.domain.stock.mid.service.MidStockChartService;
+import com.prgrms.ijuju.domain.stock.mid.event.MidStockPricesRolledOverEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
-@Transactional
 @Slf4j
 public class StockPriceScheduler {
-    private final MidStockChartService midStockChartService;
-    private final MidStockRepository midStockRepository;
+    private final MidStockPriceRolloverJob midStockPriceRolloverJob;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Scheduled(cron = "0 1 0 * * *") // 매일 오전 12시 실행
     public void generateDailyPrices() {
-        List<MidStock> stocks = midStockRepository.findAll();
-        for (MidStock stock : stocks) {
-            midStockChartService.generateDailyPrice(stock);
-        }
-        log.info("중급 가격 생성 성공");
+        // 트랜잭션은 작업이 단계별로 나눠서 잡습니다
+        int generated = midStockPriceRolloverJob.run(LocalDateTime.now());
+        log.info("중급 가격 생성 성공: {}건", generated);
+        eventPublisher.publishEvent(new MidStockPricesRolledOverEvent(generated)); // 가격 캐시 갱신
     }
 
 }
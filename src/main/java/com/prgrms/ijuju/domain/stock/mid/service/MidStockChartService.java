@@ -1,87 +1,134 @@
 package com.prgrms.ijuju.domain.stock.mid.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.prgrms.ijuju.domain.stock.mid.chart.LttbDownsampler;
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockChartRange;
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockPriceRow;
+import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockPriceResponse;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.exception.MidInvalidChartRangeException;
+import com.prgrms.ijuju.domain.stock.mid.generator.MidStockPriceGenerator;
 import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
-import lombok.RequiredArgsConstructor;
+import com.prgrms.ijuju.domain.stock.mid.scheduler.MidStockPriceRolloverJob;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Random;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
 @Transactional
 @Slf4j
 public class MidStockChartService {
-    private static final int DAYS_TO_KEEP = 15; // 사실상 30일치 데이터를 유지
-    private static final double PRICE_CHANGE_RATE = 0.05;
-    private final Random random = new Random();
-    private final MidStockPriceRepository midStockPriceRepository;
-
-    public void generateDailyPrice(MidStock midStock) {
-        log.info("중급 하루 한번 가격 생성");
-        // 15일 이전 데이터 삭제
-        LocalDateTime twoWeekDaysAgo = LocalDateTime.now().minusDays(DAYS_TO_KEEP);
-        midStockPriceRepository.deleteOldData(twoWeekDaysAgo);
 
-        long lastAvgPrice = midStockPriceRepository.findLatestPrice(midStock)
-                .map(MidStockPrice::getAvgPrice)
-                .orElse(getBaseMinPrice(midStock) * 10);
-
-        LocalDateTime now = LocalDateTime.now().plusDays(DAYS_TO_KEEP);
-        MidStockPrice newPrice = generatePrice(midStock, lastAvgPrice, now);
+    private final MidStockPriceRepository midStockPriceRepository;
+    private final ObjectWriter priceWriter;
+    private final ObjectMapper objectMapper;
+    private final int maxDays;
+    private final int maxPoints;
 
-        midStockPriceRepository.save(newPrice);
+    public MidStockChartService(MidStockPriceRepository midStockPriceRepository,
+                                ObjectMapper objectMapper,
+                                @Value("${mid-stock.chart.max-days:3660}") int maxDays,
+                                @Value("${mid-stock.chart.max-points:2000}") int maxPoints) {
+        this.midStockPriceRepository = midStockPriceRepository;
+        this.objectMapper = objectMapper;
+        // 점마다 flush 하지 않고 응답 버퍼가 찰 때 내보냅니다
+        this.priceWriter = objectMapper.writerFor(MidStockPriceResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.maxDays = maxDays;
+        this.maxPoints = maxPoints;
     }
 
     // 가격 생성
     public MidStockPrice generatePrice(MidStock stock, long lastAvgPrice, LocalDateTime date) {
-        long baseMinPrice;
-
-        baseMinPrice = getBaseMinPrice(stock);
-
-        while (true) {
-            // 최소 가격 보장
-            long minLowPrice = Math.max(baseMinPrice, (long)(lastAvgPrice * 0.8));
-            long maxLowPrice = (long)(lastAvgPrice * 1.2);
+        MidStockPriceGenerator.Draw draw = MidStockPriceGenerator.draw(
+                lastAvgPrice, MidStockPriceGenerator.baseMinPrice(stock.getId()), ThreadLocalRandom.current());
+        return MidStockPrice.builder()
+                .lowPrice(draw.lowPrice())
+                .highPrice(draw.highPrice())
+                .avgPrice(draw.avgPrice())
+                .priceDate(date)
+                .midStock(stock)
+                .build();
+    }
 
-            // 저가 계산 (최소 가격 이상 보장)
-            long lowPrice = minLowPrice + (long)((maxLowPrice - minLowPrice) * random.nextDouble());
+    // 기간 차트 조건 검증. 기간을 비우면 보관 중인 전체 기간 (오늘 - DAYS_TO_KEEP ~ 오늘 + DAYS_TO_KEEP)
+    public MidStockChartRange chartRange(LocalDate from, LocalDate to, Integer points) {
+        LocalDate today = LocalDate.now();
+        LocalDate start = from != null ? from : today.minusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP);
+        LocalDate end = to != null ? to : today.plusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP);
+        if (end.isBefore(start)) {
+            throw new MidInvalidChartRangeException("from 이 to 보다 늦습니다: " + start + " ~ " + end);
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxDays) {
+            throw new MidInvalidChartRangeException("조회 기간은 최대 " + maxDays + "일 입니다: " + start + " ~ " + end);
+        }
+        if (points != null && (points < 3 || points > maxPoints)) {
+            throw new MidInvalidChartRangeException("points 는 3 이상 " + maxPoints + " 이하여야 합니다: " + points);
+        }
+        return new MidStockChartRange(start, end, points);
+    }
 
-            // 고가 계산 (저가보다 항상 높게)
-            long minHighPrice = lowPrice + 1; // 최소한 저가보다 1원 이상
-            long maxHighPrice = (long)(lowPrice * 1.2);
-            long highPrice = minHighPrice + (long)((maxHighPrice - minHighPrice) * random.nextDouble());
+    /**
+     * 기간 차트를 JSON 배열로 out 에 씁니다. 쓴 점의 개수를 돌려줍니다.
+     * 가격 목록을 메모리에 만들지 않고 DB 에서 한 줄씩 읽어 바로 쓰고, points 가 있으면 LTTB 로 줄이면서 씁니다.
+     * StreamingResponseBody 가 요청 스레드가 아닌 곳에서 호출하므로 트랜잭션은 여기서 엽니다.
+     */
+    @Transactional(readOnly = true)
+    public int writeChart(Long midStockId, MidStockChartRange range, OutputStream out) throws IOException {
+        LocalDateTime start = range.from().atStartOfDay();
+        LocalDateTime end = range.to().plusDays(1).atStartOfDay();
 
-            // 평균가격 계산
-            long avgPrice = (lowPrice + highPrice) / 2;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            int[] written = {0};
+            Consumer<MidStockPriceRow> sink = row -> {
+                try {
+                    priceWriter.writeValue(generator, new MidStockPriceResponse(
+                            row.highPrice(), row.lowPrice(), row.avgPrice(), row.priceDate()));
+                    written[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            };
 
-            // 가격 변동폭 체크
-            if (Math.abs(avgPrice - lastAvgPrice) <= lastAvgPrice * PRICE_CHANGE_RATE) {
-                return MidStockPrice.builder()
-                        .lowPrice(lowPrice)
-                        .highPrice(highPrice)
-                        .avgPrice(avgPrice)
-                        .priceDate(date)
-                        .midStock(stock)
-                        .build();
+            try {
+                if (range.points() == null) {
+                    try (Stream<MidStockPriceRow> rows = midStockPriceRepository.streamRowsBetween(midStockId, start, end)) {
+                        rows.forEach(sink);
+                    }
+                } else {
+                    long total = midStockPriceRepository.countBetween(midStockId, start, end);
+                    LttbDownsampler<MidStockPriceRow> downsampler = new LttbDownsampler<>(total, range.points(),
+                            row -> row.priceDate().toEpochSecond(ZoneOffset.UTC), MidStockPriceRow::avgPrice, sink);
+                    try (Stream<MidStockPriceRow> rows = midStockPriceRepository.streamRowsBetween(midStockId, start, end)) {
+                        rows.forEach(downsampler::accept);
+                    }
+                    downsampler.finish();
+                }
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 클라이언트가 연결을 끊은 경우 등
             }
-        }
-    }
 
-    // 기본 최소 가격
-    private static long getBaseMinPrice(MidStock stock) {
-        long basePrice;
-        if (stock.getId() % 3 == 1) {
-            basePrice = 10L;
-        } else if (stock.getId() % 3 == 2) {
-            basePrice = 500L;
-        } else {
-            basePrice = 10000L;
+            generator.writeEndArray();
+            generator.flush();
+            return written[0];
         }
-        return basePrice;
     }
 }
@@ -1,13 +1,14 @@
 package com.prgrms.ijuju.domain.stock.mid.service;
 
+import com.prgrms.ijuju.domain.stock.mid.cache.MidStockPriceCache;
+import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockPositionResponse;
 import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockPriceResponse;
 import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockResponse;
 import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockTradeInfo;
 import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockWithTradesResponse;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
-import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockTrade;
-import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPositionRepository;
 import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
 import com.prgrms.ijuju.domain.stock.mid.repository.MidStockTradeRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +16,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -26,7 +29,8 @@ import java.util.stream.Collectors;
 public class MidStockService {
     private final MidStockRepository midStockRepository;
     private final MidStockTradeRepository midStockTradeRepository;
-    private final MidStockPriceRepository midStockPriceRepository;
+    private final MidStockPriceCache midStockPriceCache;
+    private final MidStockPositionRepository midStockPositionRepository;
 
     @Transactional(readOnly = true)
     public List<MidStockResponse> findAllStocks() {
@@ -46,42 +50,42 @@ public class MidStockService {
                 .collect(Collectors.toList());
     }
 
+    // 종목별 보유 현황 (투자 포인트, 평균 매입가, 거래 수). 거래 내역이 아닌 MidStockPosition 을 읽습니다
+    @Transactional(readOnly = true)
+    public List<MidStockPositionResponse> getMemberPositions(Long memberId) {
+        log.info("중급 보유 현황 조회");
+        return midStockPositionRepository.findAllByMemberIdWithStock(memberId).stream()
+                .map(MidStockPositionResponse::of)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public List<MidStockWithTradesResponse> getMemberStocksAndTrades(Long memberId) {
         log.info("중급 모든 보유 주식 조회");
-        // 회원의 모든 buy 거래 데이터 조회
-        List<MidStockTrade> buyTrades = midStockTradeRepository.findAllBuyMidStock(memberId);
+        // 회원의 모든 buy 거래 데이터를 종목과 함께 한 번에 조회
+        List<MidStockTrade> buyTrades = midStockTradeRepository.findAllBuyMidStockWithStock(memberId);
 
-        // 거래 데이터를 종목별로 그룹화
+        // 거래 데이터를 종목별로 그룹화 (종목 id 순서 유지)
         Map<Long, List<MidStockTrade>> tradeByStockId = buyTrades.stream()
-                .collect(Collectors.groupingBy(trade -> trade.getMidStock().getId()));
+                .collect(Collectors.groupingBy(trade -> trade.getMidStock().getId(),
+                        LinkedHashMap::new, Collectors.toList()));
 
         // 그룹화된 데이터를 MidStockWithTradesResponse로 변환
-        return tradeByStockId.entrySet().stream()
-                .map(entry -> {
-                    Long stockId = entry.getKey();
-                    List<MidStockTrade> trades = entry.getValue();
-                    return MidStockWithTradesResponse.of(trades);
-                })
+        return tradeByStockId.values().stream()
+                .map(MidStockWithTradesResponse::of)
                 .toList();
     }
 
     @Transactional(readOnly = true)
     public List<MidStockPriceResponse> findStockChartInfo(Long midStockId) {
         log.info("중급 종목 차트 정보 2주치");
-        List<MidStockPrice> priceResponses = midStockPriceRepository.find2WeeksPriceInfo(midStockId);
-        return priceResponses.stream()
-                .map(MidStockPriceResponse::of)
-                .collect(Collectors.toList());
+        return midStockPriceCache.findChartPrices(midStockId);
     }
 
     @Transactional(readOnly = true)
     public List<MidStockPriceResponse> findStockFutureChartInfo(Long midStockId) {
         log.info("중급 종목 차트 현재부터 미래 정보 2주치");
-        List<MidStockPrice> priceResponses = midStockPriceRepository.findFuture2WeeksPriceInfo(midStockId);
-        return priceResponses.stream()
-                .map(MidStockPriceResponse::of)
-                .collect(Collectors.toList());
+        return midStockPriceCache.findFuturePrices(midStockId, LocalDate.now());
     }
 
 }
@@ -2,18 +2,22 @@ package com.prgrms.ijuju.domain.stock.mid.service;
 
 import com.prgrms.ijuju.domain.member.entity.Member;
 import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.mid.cache.MidStockPriceCache;
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockSettlement;
 import com.prgrms.ijuju.domain.stock.mid.dto.response.TradeAvailableResponse;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
-import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPosition;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockTrade;
 import com.prgrms.ijuju.domain.stock.mid.entity.TradeType;
 import com.prgrms.ijuju.domain.stock.mid.exception.*;
-import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPositionRepository;
 import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
 import com.prgrms.ijuju.domain.stock.mid.repository.MidStockTradeRepository;
+import com.prgrms.ijuju.domain.stock.mid.tracker.MidStockTradeLimitTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import com.prgrms.ijuju.domain.wallet.dto.request.PointRequestDTO;
 import com.prgrms.ijuju.domain.wallet.dto.request.StockPointRequestDTO;
@@ -26,7 +30,8 @@ import com.prgrms.ijuju.domain.wallet.entity.Wallet;
 import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
 import com.prgrms.ijuju.domain.wallet.exception.WalletException;
 
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Service
@@ -36,7 +41,9 @@ import java.util.Optional;
 public class MidStockTradeService {
     private final MidStockTradeRepository midStockTradeRepository;
     private final MidStockRepository midStockRepository;
-    private final MidStockPriceRepository midStockPriceRepository;
+    private final MidStockPriceCache midStockPriceCache;
+    private final MidStockPositionRepository midStockPositionRepository;
+    private final MidStockTradeLimitTracker midStockTradeLimitTracker;
     private final MemberRepository memberRepository;
     private final WalletService WalletService;
     private final WalletRepository walletRepository;
@@ -48,9 +55,13 @@ public class MidStockTradeService {
 
         Member member = memberRepository.findById(memberId)
                 .orElseThrow(MidMemberNotFoundException::new);
-        // 오늘 매수 했는지 확인
-        Optional<MidStockTrade> todayBuyMidStock = midStockTradeRepository.findTodayBuyMidStock(memberId, midStockId);
-        if (todayBuyMidStock.isPresent()) {
+        // 보유 현황을 먼저 잠급니다. sellStock 과 같은 순서(포지션 -> 지갑 / 거래) 로 잠가야 교착이 생기지 않습니다
+        MidStockPosition position = midStockPositionRepository.findForUpdate(memberId, midStockId)
+                .orElseGet(() -> new MidStockPosition(memberId, midStock));
+        // 오늘 매수 했는지 확인 (메모리), 오늘 매수 기록을 남김 (unique 제약으로 동시 매수 방지)
+        LocalDate today = LocalDate.now();
+        if (midStockTradeLimitTracker.isBought(memberId, midStockId, today)
+                || !midStockTradeLimitTracker.claim(memberId, midStockId, today, TradeType.BUY)) {
             throw new MidAlreadyBoughtException();
         }
         // 포인트가 충분한지 거래 가능 여부 확인 추가해야함  tradePoint 와 멤버의 잔여 포인트 그거 계산
@@ -70,46 +81,63 @@ public class MidStockTradeService {
                 .build();
         WalletService.simulateStockInvestment(stockPointRequestDTO);
         // 거래 내역 저장
+        long pricePerStock = getCurrentStockPrice(midStockId);
         MidStockTrade trade = MidStockTrade.builder()
                 .midStock(midStock)
                 .tradePoint(tradePoint)
                 .tradeType(TradeType.BUY)
-                .pricePerStock(getCurrentStockPrice(midStockId))
+                .pricePerStock(pricePerStock)
                 .member(member)
                 .build();
         midStockTradeRepository.save(trade);
 
+        // 보유 현황 갱신
+        position.addLot(tradePoint, pricePerStock);
+        midStockPositionRepository.save(position);
+
         return isWarning;
     }
 
     // 매도 주문
+    // 보유 중인 거래 전체를 읽어서 하나씩 SELL 로 바꾸지 않고, 정산 금액은 SUM 쿼리 하나로 계산하고 매도 처리는 UPDATE 한 번으로 합니다
     public long sellStock(Long memberId, Long midStockId) {
-        long totalPoints = 0; // 매도시 포인트
-        long investedPoints = 0; //투자한 포인트
-        // 보유중인 주식 조회
-        List<MidStockTrade> buyMidStock = midStockTradeRepository.findBuyMidStock(memberId, midStockId);
-        if (buyMidStock.isEmpty()) {
+        LocalDate today = LocalDate.now();
+
+        // 같은 종목의 매수와 동시에 정산되지 않도록 보유 현황 행을 잠급니다
+        midStockPositionRepository.findForUpdate(memberId, midStockId);
+
+        Optional<Long> todayAvgPrice = midStockPriceCache.findAvgPrice(midStockId, today);
+
+        // 보유중인 주식 정산 금액 계산
+        MidStockSettlement settlement = midStockTradeRepository.settleBuyMidStock(memberId, midStockId, todayAvgPrice.orElse(0L));
+        if (settlement.isEmpty()) {
             throw new MidStockNotFoundException();
         }
 
-        // 오늘 매도 했는지 확인
-        Optional<MidStockTrade> todaySellMidStock = midStockTradeRepository.findTodaySellMidStock(memberId, midStockId);
-        if (todaySellMidStock.isPresent()) {
+        // 오늘 매도 했는지 확인 (메모리)
+        if (midStockTradeLimitTracker.isSold(memberId, midStockId, today)) {
+            throw new MidAlreadySoldException();
+        }
+        if (todayAvgPrice.isEmpty()) {
+            throw new MidPriceNotFoundException();
+        }
+
+        // 오늘 매도 기록을 남김 (unique 제약으로 동시 매도 방지)
+        if (!midStockTradeLimitTracker.claim(memberId, midStockId, today, TradeType.SELL)) {
             throw new MidAlreadySoldException();
         }
 
         // 매수 -> 매도
-        for (MidStockTrade midStockTrade : buyMidStock) {
-            midStockTrade.changeTradeType(TradeType.SELL);
+        int sold = midStockTradeRepository.sellAllBuyMidStock(memberId, midStockId, LocalDateTime.now());
+        if (sold != settlement.lotCount()) {
+            throw new IllegalStateException("정산 중 보유 거래가 변경되었습니다: 정산 " + settlement.lotCount() + "건, 매도 " + sold + "건");
         }
 
-        // 수익 계산
-        long todayAvgPrice = midStockPriceRepository.findTodayAvgPrice(midStockId);
-        for (MidStockTrade midStockTrade : buyMidStock) {
-            double rate = (double) todayAvgPrice / midStockTrade.getPricePerStock();
-            totalPoints += Math.round(midStockTrade.getTradePoint() * rate);
-            investedPoints += midStockTrade.getTradePoint();
-        }
+        // 전량 매도이므로 보유 현황 삭제
+        midStockPositionRepository.deleteByMemberIdAndMidStockId(memberId, midStockId);
+
+        long totalPoints = settlement.payout(); // 매도시 포인트
+        long investedPoints = settlement.invested(); //투자한 포인트
 
         // 포인트 처리 로직 추가해야함
         StockPointRequestDTO stockPointRequestDTO = StockPointRequestDTO.builder()
@@ -124,26 +152,13 @@ public class MidStockTradeService {
         return totalPoints - investedPoints;
     }
 
-    // 하루한번 거래가능 체크
+    // 하루한번 거래가능 체크. 버튼 표시용이라 DB 를 읽지 않고 메모리 추적기만 봅니다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TradeAvailableResponse isTradeAvailable(Long memberId, Long midStockId) {
-        boolean isPossibleBuy;
-        boolean isPossibleSell;
-
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MidMemberNotFoundException::new);
-
-        MidStock midStock = midStockRepository.findById(midStockId)
-                .orElseThrow(MidStockNotFoundException::new);
-
-        Optional<MidStockTrade> todayBuyMidStock = midStockTradeRepository.findTodayBuyMidStock(memberId, midStockId);
-        Optional<MidStockTrade> todaySellMidStock = midStockTradeRepository.findTodaySellMidStock(memberId, midStockId);
-
-        isPossibleBuy = todayBuyMidStock.isEmpty();
-        isPossibleSell = todaySellMidStock.isEmpty();
-
+        LocalDate today = LocalDate.now();
         return TradeAvailableResponse.builder()
-                .isPossibleBuy(isPossibleBuy)
-                .isPossibleSell(isPossibleSell)
+                .isPossibleBuy(!midStockTradeLimitTracker.isBought(memberId, midStockId, today))
+                .isPossibleSell(!midStockTradeLimitTracker.isSold(memberId, midStockId, today))
                 .build();
     }
 
@@ -154,10 +169,9 @@ public class MidStockTradeService {
         return wallet.getCurrentPoints() >= tradePoint;
     }
 
-    // 현재 주식 가격 조회
+    // 현재 주식 가격 조회 (가격 캐시)
     private long getCurrentStockPrice(Long midStockId) {
-        return midStockPriceRepository.findTodayPrice(midStockId)
-                .map(MidStockPrice::getAvgPrice)
+        return midStockPriceCache.findAvgPrice(midStockId, LocalDate.now())
                 .orElseThrow(MidPriceNotFoundException::new);
     }
 
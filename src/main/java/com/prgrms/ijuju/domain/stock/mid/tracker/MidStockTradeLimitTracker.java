@@ -0,0 +1,132 @@
+package com.prgrms.ijuju.domain.stock.mid.tracker;
+
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockTraderLine;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockDailyTrade;
+import com.prgrms.ijuju.domain.stock.mid.entity.TradeType;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockDailyTradeRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockTradeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 중급 주식의 "종목당 하루 매수 한 번, 매도 한 번" 제한을 메모리에서 확인하는 추적기 입니다.
+ * 예전에는 매수 / 매도 / 거래 가능 여부 조회마다 오늘 거래를 찾는 쿼리를 실행했습니다.
+
+ * - (회원, 종목, epoch day, 거래 종류) 를 ConcurrentHashMap 기반 Set 에 들고 있어서 확인은 잠금도 DB 조회도 없습니다.
+ * - 시작할 때 오늘 거래 내역으로 채우고, 이후에는 거래 트랜잭션이 커밋된 뒤에만 추가합니다 (롤백된 거래는 남지 않음).
+ * - 최종 방어선은 MidStockDailyTrade 의 unique 제약입니다. claim 이 같은 트랜잭션 안에서 행을 넣고,
+ *   다른 서버나 동시 요청이 먼저 넣었다면 false 를 돌려줍니다.
+ * - 매일 0시 5분에 지난 날짜의 키와 기록을 지웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MidStockTradeLimitTracker {
+
+    private final MidStockTradeRepository midStockTradeRepository;
+    private final MidStockDailyTradeRepository midStockDailyTradeRepository;
+
+    private final Set<TradeKey> traded = ConcurrentHashMap.newKeySet();
+
+    // 지표
+    private final AtomicLong claimCount = new AtomicLong();
+    private final AtomicLong rejectedCount = new AtomicLong();
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        LocalDate today = LocalDate.now();
+        LocalDateTime start = today.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        int buys = 0;
+        for (MidStockTraderLine line : midStockTradeRepository.findBuyersBetween(start, end)) {
+            traded.add(TradeKey.of(line.memberId(), line.midStockId(), today, TradeType.BUY));
+            buys++;
+        }
+        int sells = 0;
+        for (MidStockTraderLine line : midStockTradeRepository.findSellersBetween(start, end)) {
+            traded.add(TradeKey.of(line.memberId(), line.midStockId(), today, TradeType.SELL));
+            sells++;
+        }
+        log.info("중급 하루 거래 제한 추적기 준비: 매수 {}건, 매도 {}건", buys, sells);
+    }
+
+    public boolean isBought(Long memberId, Long midStockId, LocalDate date) {
+        return traded.contains(TradeKey.of(memberId, midStockId, date, TradeType.BUY));
+    }
+
+    public boolean isSold(Long memberId, Long midStockId, LocalDate date) {
+        return traded.contains(TradeKey.of(memberId, midStockId, date, TradeType.SELL));
+    }
+
+    /**
+     * 현재 트랜잭션 안에서 그날의 거래 기록을 넣습니다. 이미 기록이 있으면 (unique 제약 위반) false 입니다.
+     * 제약 위반이 나면 현재 트랜잭션은 롤백되어야 하므로 호출한 쪽은 예외를 던져야 합니다.
+     * 메모리 추적기에는 트랜잭션이 커밋된 뒤에 추가합니다.
+     */
+    public boolean claim(Long memberId, Long midStockId, LocalDate date, TradeType tradeType) {
+        try {
+            midStockDailyTradeRepository.saveAndFlush(new MidStockDailyTrade(memberId, midStockId, date, tradeType));
+        } catch (DataIntegrityViolationException e) {
+            rejectedCount.incrementAndGet();
+            traded.add(TradeKey.of(memberId, midStockId, date, tradeType)); // 다른 곳에서 이미 커밋된 거래
+            return false;
+        }
+        claimCount.incrementAndGet();
+        TradeKey key = TradeKey.of(memberId, midStockId, date, tradeType);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    traded.add(key);
+                }
+            });
+        } else {
+            traded.add(key);
+        }
+        return true;
+    }
+
+    @Scheduled(cron = "0 5 0 * * *") // 매일 오전 12시 5분
+    @Transactional
+    public void dropPastDays() {
+        LocalDate today = LocalDate.now();
+        long todayEpochDay = today.toEpochDay();
+        traded.removeIf(key -> key.epochDay() < todayEpochDay);
+        int deleted = midStockDailyTradeRepository.deleteAllBefore(today);
+        log.info("중급 하루 거래 제한 정리: 지난 기록 {}건 삭제, 남은 키 {}개", deleted, traded.size());
+    }
+
+    public int size() {
+        return traded.size();
+    }
+
+    public long getClaimCount() {
+        return claimCount.get();
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount.get();
+    }
+
+    private record TradeKey(long memberId, long midStockId, long epochDay, TradeType tradeType) {
+
+        private static TradeKey of(Long memberId, Long midStockId, LocalDate date, TradeType tradeType) {
+            return new TradeKey(memberId, midStockId, date.toEpochDay(), tradeType);
+        }
+    }
+}
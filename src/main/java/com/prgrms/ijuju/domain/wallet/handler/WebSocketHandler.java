@@ -2,6 +2,8 @@ package com.prgrms.ijuju.domain.wallet.handler;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.prgrms.ijuju.domain.wallet.dto.response.WalletResponseDTO;
+import com.prgrms.ijuju.global.websocket.Delivery;
+import com.prgrms.ijuju.global.websocket.OutboundSessionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -19,6 +21,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class WebSocketHandler extends TextWebSocketHandler {
 
     private final ObjectMapper objectMapper;
+    private final OutboundSessionRegistry outboundSessionRegistry;
     private final ConcurrentHashMap<Long, WebSocketSession> userSessions = new ConcurrentHashMap<>();
 
     @Override
@@ -32,6 +35,7 @@ public class WebSocketHandler extends TextWebSocketHandler {
     public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
         Long memberId = extractMemberId(session);
         userSessions.remove(memberId);
+        outboundSessionRegistry.remove(session);
         log.info("웹소켓 연결 종료: memberId={}", memberId);
     }
 
@@ -40,7 +44,8 @@ public class WebSocketHandler extends TextWebSocketHandler {
         if (session != null && session.isOpen()) {
             try {
                 String message = objectMapper.writeValueAsString(response);
-                session.sendMessage(new TextMessage(message));
+                // 포인트는 최신 잔액만 의미가 있으므로 밀리면 오래된 알림부터 버립니다
+                outboundSessionRegistry.send(session, new TextMessage(message), Delivery.DROPPABLE);
             } catch (IOException e) {
                 log.error("포인트 업데이트 메시지 전송 실패: memberId={}", memberId, e);
             }
@@ -1,28 +1,84 @@
 package com.prgrms.ijuju.global.util;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.global.websocket.Delivery;
+import com.prgrms.ijuju.global.websocket.OutboundSessionRegistry;
 import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
 import org.springframework.web.socket.WebSocketSession;
 
+/**
+ * 모든 전송은 OutboundSessionRegistry 의 세션별 송신 큐를 거칩니다. 호출한 스레드는 전송을 기다리지 않습니다.
+ * (스프링 컨텍스트 없이 쓰는 경우에만 세션 단위로 동기화해서 바로 보냅니다)
+ */
 public class WebSocketUtil {
 
     private static final ObjectMapper objectMapper = new ObjectMapper();
 
+    private static volatile OutboundSessionRegistry registry;
+
+    public static void setRegistry(OutboundSessionRegistry outboundSessionRegistry) {
+        registry = outboundSessionRegistry;
+    }
+
     // 객체를 JSON 으로 변환하는 send 메소드
     // AdvancedInvest 용. 혹시 채팅 만들때 쓰면 작동 안할 가능성 200%. 혹시 다른 send 를 만들어야 하면 말해주세요 메소드 이름 바꾸겠습니다
     public static void send(WebSocketSession session, Object data) {
+        send(session, data, Delivery.RELIABLE);
+    }
+
+    public static void send(WebSocketSession session, Object data, Delivery delivery) {
         try {
-            if (session.isOpen()) {
+            String jsonData = objectMapper.writeValueAsString(data);
+            send(session, new TextMessage(jsonData), delivery);
+        } catch (Exception e) {
+            e.printStackTrace();
+            throw new RuntimeException("메시지 전송 실패", e);
+        }
+    }
 
-                String jsonData = objectMapper.writeValueAsString(data);
+    // 이미 직렬화된 프레임을 그대로 전송하는 send 메소드
+    // MarketFrameCache 에서 만든 프레임처럼 여러 세션이 같은 메시지를 공유할 때 사용합니다
+    public static void send(WebSocketSession session, WebSocketMessage<?> message) {
+        send(session, message, Delivery.RELIABLE);
+    }
 
-                session.sendMessage(new TextMessage(jsonData));
-            } else {
-                System.out.println("WebSocket 세션 없음");
+    public static void send(WebSocketSession session, WebSocketMessage<?> message, Delivery delivery) {
+        if (!session.isOpen()) {
+            System.out.println("WebSocket 세션 없음");
+            return;
+        }
+        OutboundSessionRegistry current = registry;
+        if (current != null) {
+            current.send(session, message, delivery);
+            return;
+        }
+        try {
+            synchronized (session) {
+                session.sendMessage(message);
             }
         } catch (Exception e) {
             e.printStackTrace();
             throw new RuntimeException("메시지 전송 실패", e);
         }
     }
-}
\ No newline at end of file
+
+    // 앞서 보낸 메시지가 모두 전송된 뒤 세션을 닫습니다 (게임 종료 신호 등이 사라지지 않도록)
+    public static void close(WebSocketSession session) {
+        if (!session.isOpen()) {
+            return;
+        }
+        OutboundSessionRegistry current = registry;
+        if (current != null) {
+            current.closeAfterDrain(session);
+            return;
+        }
+        try {
+            synchronized (session) {
+                session.close();
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+}
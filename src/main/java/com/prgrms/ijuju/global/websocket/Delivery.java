@@ -0,0 +1,11 @@
+package com.prgrms.ijuju.global.websocket;
+
+/**
+ * 메시지를 세션 송신 큐에 넣을 때의 전달 정책 입니다.
+ */
+public enum Delivery {
+    // 시세 / 포인트 갱신처럼 최신 값만 의미 있는 메시지. 버퍼가 차면 가장 오래된 것부터 버립니다
+    DROPPABLE,
+    // 거래 결과 / 게임 진행 알림처럼 반드시 전달되어야 하는 메시지. 버리지 않습니다
+    RELIABLE
+}
@@ -0,0 +1,272 @@
+package com.prgrms.ijuju.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * WebSocketSession 하나의 송신 큐 입니다.
+
+ * WebSocketSession.sendMessage 는 스레드 안전하지 않고, 느린 클라이언트에게 보내면 호출한 스레드가 그대로 막힙니다.
+ * 그래서 호출하는 쪽(게임 타이머, 요청 스레드, 지갑 알림)은 큐에 넣기만 하고,
+ * 실제 전송은 공용 송신 풀에서 세션마다 한 번에 한 스레드만 순서대로 처리합니다.
+
+ * - DROPPABLE 메시지가 bufferSize 개를 넘으면 가장 오래된 DROPPABLE 메시지를 버립니다.
+ * - RELIABLE 메시지는 버리지 않습니다. 대신 reliableLimit 개를 넘게 쌓이면 세션을 닫습니다.
+ * - 메시지 하나를 보내는 데 sendTimeLimit 이상 걸리면 세션을 닫습니다. sendMessage 가 돌아오지 않을 수도 있으므로
+ *   보내는 쪽(send)에서도 진행 중인 전송이 언제 시작됐는지 확인해서 닫습니다. (ConcurrentWebSocketSessionDecorator 와 같은 방식)
+ * - 송신 작업이 시작된 뒤에도 큐의 메시지가 sendTimeLimit 이상 기다렸다면 세션을 닫습니다.
+ *   송신 풀이 바빠서 작업이 늦게 시작된 시간은 클라이언트 탓이 아니므로 세지 않습니다.
+ * - 게임 종료처럼 마지막 메시지를 보낸 뒤 닫아야 할 때는 closeAfterDrain 을 씁니다. 송신 스레드가 큐를 다 보낸 뒤 닫으므로
+ *   마지막 메시지가 사라지지 않고, sendMessage 와 close 가 동시에 불리지도 않습니다.
+ */
+@Slf4j
+public class OutboundSession {
+
+    private final WebSocketSession delegate;
+    private final Executor sender;
+    private final int bufferSize;
+    private final int reliableLimit;
+    private final long sendTimeLimitNanos;
+
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private int droppableCount;
+    private int reliableCount;
+    private final AtomicBoolean flushing = new AtomicBoolean();
+    private volatile boolean closed;
+    private volatile long flushStartNanos;   // 지금 실행 중인 송신 작업이 시작된 시각
+    private volatile long sendStartNanos;    // 진행 중인 sendMessage 가 시작된 시각 (없으면 0)
+    private final AtomicReference<Runnable> afterDrainClose = new AtomicReference<>(); // closeAfterDrain 요청. 큐를 다 보낸 뒤 닫고 실행합니다
+
+    // 지표
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile int maxDepth;
+
+    public OutboundSession(WebSocketSession delegate, Executor sender, int bufferSize, int reliableLimit, long sendTimeLimitMillis) {
+        this.delegate = delegate;
+        this.sender = sender;
+        this.bufferSize = bufferSize;
+        this.reliableLimit = reliableLimit;
+        this.sendTimeLimitNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeLimitMillis);
+    }
+
+    public void send(WebSocketMessage<?> message, Delivery delivery) {
+        if (closed || afterDrainClose.get() != null || !delegate.isOpen()) {
+            return;
+        }
+        long sendStart = sendStartNanos;
+        if (sendStart != 0 && System.nanoTime() - sendStart > sendTimeLimitNanos) {
+            close("전송 시간 초과");
+            return;
+        }
+
+        boolean overflow = false;
+        synchronized (queue) {
+            if (delivery == Delivery.DROPPABLE) {
+                if (droppableCount >= bufferSize) {
+                    dropOldestDroppable();
+                }
+                droppableCount++;
+            } else {
+                overflow = ++reliableCount > reliableLimit;
+            }
+            queue.addLast(new Entry(message, delivery, System.nanoTime()));
+            maxDepth = Math.max(maxDepth, queue.size());
+        }
+
+        if (overflow) {
+            close("RELIABLE 메시지 한도 초과");
+            return;
+        }
+        startFlush();
+    }
+
+    // 이미 넣은 메시지를 모두 보낸 뒤 세션을 닫고 onClosed 를 실행합니다. 이후의 send 는 무시합니다
+    public void closeAfterDrain(Runnable onClosed) {
+        if (closed) {
+            onClosed.run();
+            return;
+        }
+        afterDrainClose.set(onClosed);
+        if (!startFlush() && !flushing.get() && !closed) {
+            closeNow(); // 송신 풀이 종료된 경우
+        }
+    }
+
+    // 송신 작업이 없으면 시작합니다. 송신 풀에 넣지 못하면 false
+    private boolean startFlush() {
+        if (flushing.compareAndSet(false, true)) {
+            try {
+                sender.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                flushing.set(false); // 서버 종료 중
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void dropOldestDroppable() {
+        Iterator<Entry> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().delivery == Delivery.DROPPABLE) {
+                iterator.remove();
+                droppableCount--;
+                dropped.incrementAndGet();
+                return;
+            }
+        }
+    }
+
+    // 송신 풀에서만 실행됩니다. 세션당 동시에 하나만 실행됩니다
+    private void flush() {
+        flushStartNanos = System.nanoTime();
+        while (true) {
+            Entry entry;
+            synchronized (queue) {
+                entry = queue.pollFirst();
+                if (entry != null) {
+                    if (entry.delivery == Delivery.DROPPABLE) {
+                        droppableCount--;
+                    } else {
+                        reliableCount--;
+                    }
+                }
+            }
+
+            if (entry == null) {
+                if (afterDrainClose.get() != null) { // 다 보냈으므로 닫습니다
+                    closeNow();
+                    flushing.set(false);
+                    return;
+                }
+                flushing.set(false);
+                // flushing 을 내리는 사이에 들어온 메시지나 닫기 요청이 있으면 다시 처리합니다
+                synchronized (queue) {
+                    if ((queue.isEmpty() && afterDrainClose.get() == null) || !flushing.compareAndSet(false, true)) {
+                        return;
+                    }
+                }
+                flushStartNanos = System.nanoTime();
+                continue;
+            }
+
+            if (closed || !delegate.isOpen()) {
+                clear();
+                runAfterDrainClose();
+                return;
+            }
+
+            long start = System.nanoTime();
+            if (start - Math.max(entry.enqueuedNanos, flushStartNanos) > sendTimeLimitNanos) {
+                close("송신 대기 시간 초과");
+                return;
+            }
+            sendStartNanos = start;
+            try {
+                delegate.sendMessage(entry.message);
+                sent.incrementAndGet();
+            } catch (Exception e) {
+                log.warn("WebSocket 메시지 전송 실패: sessionId={}", delegate.getId(), e);
+                close("전송 실패");
+                return;
+            } finally {
+                sendStartNanos = 0;
+            }
+            if (closed) {
+                clear(); // 전송 중에 보내는 쪽에서 닫은 경우
+                runAfterDrainClose();
+                return;
+            }
+            if (System.nanoTime() - start > sendTimeLimitNanos) {
+                close("전송 시간 초과");
+                return;
+            }
+        }
+    }
+
+    private void close(String reason) {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        clear();
+        log.warn("느린 WebSocket 세션 종료: sessionId={}, 사유={}", delegate.getId(), reason);
+        try {
+            delegate.close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (Exception e) {
+            log.debug("WebSocket 세션 종료 실패: sessionId={}", delegate.getId(), e);
+        }
+        runAfterDrainClose();
+    }
+
+    // closeAfterDrain 요청에 따른 정상 종료
+    private void closeNow() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        clear();
+        try {
+            delegate.close();
+        } catch (Exception e) {
+            log.debug("WebSocket 세션 종료 실패: sessionId={}", delegate.getId(), e);
+        }
+        runAfterDrainClose();
+    }
+
+    private void runAfterDrainClose() {
+        Runnable onClosed = afterDrainClose.getAndSet(null);
+        if (onClosed != null) {
+            onClosed.run();
+        }
+    }
+
+    private void clear() {
+        synchronized (queue) {
+            queue.clear();
+            droppableCount = 0;
+            reliableCount = 0;
+        }
+    }
+
+    public String getId() {
+        return delegate.getId();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public int getQueueDepth() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public int getMaxQueueDepth() {
+        return maxDepth;
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    private record Entry(WebSocketMessage<?> message, Delivery delivery, long enqueuedNanos) {
+    }
+}
@@ -0,0 +1,110 @@
+package com.prgrms.ijuju.global.websocket;
+
+import com.prgrms.ijuju.global.util.WebSocketUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 모든 WebSocket 핸들러(고급 투자, 지갑, 채팅)가 공유하는 세션별 송신 큐 모음 입니다.
+ * 세션이 처음 메시지를 보낼 때 OutboundSession 이 만들어지고, 연결이 끊기면 핸들러가 remove 를 호출합니다.
+ * 설정값은 websocket.outbound.* 를 참고
+ */
+@Slf4j
+@Component
+public class OutboundSessionRegistry {
+
+    private final int bufferSize;
+    private final int reliableLimit;
+    private final long sendTimeLimitMillis;
+    private final int senderThreads;
+
+    private final Map<String, OutboundSession> sessions = new ConcurrentHashMap<>();
+    private ExecutorService sender;
+
+    public OutboundSessionRegistry(@Value("${websocket.outbound.buffer-size:256}") int bufferSize,
+                                   @Value("${websocket.outbound.reliable-limit:1024}") int reliableLimit,
+                                   @Value("${websocket.outbound.send-time-limit-millis:5000}") long sendTimeLimitMillis,
+                                   @Value("${websocket.outbound.sender-threads:8}") int senderThreads) {
+        this.bufferSize = bufferSize;
+        this.reliableLimit = reliableLimit;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.senderThreads = senderThreads;
+    }
+
+    @PostConstruct
+    public void start() {
+        AtomicInteger index = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "ws-sender-" + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        WebSocketUtil.setRegistry(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        WebSocketUtil.setRegistry(null);
+        sender.shutdownNow();
+    }
+
+    public void send(WebSocketSession session, WebSocketMessage<?> message, Delivery delivery) {
+        OutboundSession outbound = sessions.computeIfAbsent(session.getId(),
+                id -> new OutboundSession(session, sender, bufferSize, reliableLimit, sendTimeLimitMillis));
+        outbound.send(message, delivery);
+        if (outbound.isClosed()) {
+            sessions.remove(session.getId(), outbound);
+        }
+    }
+
+    public void remove(WebSocketSession session) {
+        sessions.remove(session.getId());
+    }
+
+    // 송신 큐에 남은 메시지를 모두 보낸 뒤 세션을 닫고 큐를 지웁니다. 보낸 적 없는 세션은 바로 닫습니다
+    public void closeAfterDrain(WebSocketSession session) {
+        OutboundSession outbound = sessions.get(session.getId());
+        if (outbound == null) {
+            try {
+                session.close();
+            } catch (Exception e) {
+                log.debug("WebSocket 세션 종료 실패: sessionId={}", session.getId(), e);
+            }
+            return;
+        }
+        outbound.closeAfterDrain(() -> sessions.remove(session.getId(), outbound));
+    }
+
+    // 세션별 큐 지표. 큐가 깊은 세션부터 정렬됩니다
+    public List<SessionQueueStats> stats() {
+        return sessions.values().stream()
+                .map(SessionQueueStats::from)
+                .sorted(Comparator.comparingInt(SessionQueueStats::queueDepth).reversed())
+                .toList();
+    }
+
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    public record SessionQueueStats(String sessionId, int queueDepth, int maxQueueDepth, long sent, long dropped) {
+
+        static SessionQueueStats from(OutboundSession session) {
+            return new SessionQueueStats(session.getId(), session.getQueueDepth(), session.getMaxQueueDepth(),
+                    session.getSentCount(), session.getDroppedCount());
+        }
+    }
+}
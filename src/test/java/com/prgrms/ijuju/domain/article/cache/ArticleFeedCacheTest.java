@@ -0,0 +1,247 @@
+package com.prgrms.ijuju.domain.article.cache;
+
+import com.prgrms.ijuju.domain.article.controller.ArticleController;
+import com.prgrms.ijuju.domain.article.dto.ArticleResponseDto;
+import com.prgrms.ijuju.domain.article.entity.Article;
+import com.prgrms.ijuju.domain.article.event.ArticlesRefreshedEvent;
+import com.prgrms.ijuju.domain.article.repository.ArticleRepository;
+import com.prgrms.ijuju.domain.article.scheduler.ArticleScheduler;
+import com.prgrms.ijuju.domain.article.service.ArticleService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleFeedCacheTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private ArticleFeedCache articleFeedCache;
+    @Autowired
+    private ArticleService articleService;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        articleRepository.deleteAll();
+        mockMvc = MockMvcBuilders.standaloneSetup(new ArticleController(articleService, mock(ArticleScheduler.class))).build();
+    }
+
+    private void saveArticles(int count) {
+        List<Article> articles = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            articles.add(Article.builder()
+                    .stockSymbol(i % 2 == 0 ? "AAPL" : "TSLA")
+                    .trendPrediction("SHORT_TERM")
+                    .content("기사 " + i)
+                    .duration(3)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        }
+        articleRepository.saveAll(articles);
+    }
+
+    @Test
+    @DisplayName("keyset 페이지를 이어 받으면 최신순으로 빠짐없이, 겹치지 않게 모든 기사를 받는다")
+    void pagesByKeyset() {
+        // given
+        saveArticles(25);
+        articleFeedCache.refresh();
+
+        // when
+        List<Long> seen = new ArrayList<>();
+        Long cursor = null;
+        int pages = 0;
+        do {
+            ArticlePage page = articleFeedCache.page(null, cursor, 10);
+            page.articles().forEach(article -> seen.add(article.getArticleId()));
+            cursor = page.nextCursor();
+            pages++;
+        } while (cursor != null);
+
+        // then
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(25).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+        assertThat(articleFeedCache.page("AAPL", null, 100).articles())
+                .hasSize(13)
+                .extracting(ArticleResponseDto::getStockSymbol).containsOnly("AAPL");
+        assertThat(articleFeedCache.page("NONE", null, 10).articles()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("스케줄러 완료 이벤트를 받으면 캐시를 다시 만들고, 기사가 바뀌었을 때만 ETag 가 바뀐다")
+    void refreshesOnSchedulerEvent() {
+        // given
+        saveArticles(4);
+        articleFeedCache.refresh();
+        String before = articleFeedCache.etag();
+        saveArticles(2); // 캐시는 아직 그대로
+
+        // when
+        int cachedBeforeEvent = articleFeedCache.all(null).size();
+        eventPublisher.publishEvent(new ArticlesRefreshedEvent(2));
+        String after = articleFeedCache.etag();
+        eventPublisher.publishEvent(new ArticlesRefreshedEvent(0));
+
+        // then
+        assertThat(cachedBeforeEvent).isEqualTo(4);
+        assertThat(articleFeedCache.all(null)).hasSize(6);
+        assertThat(after).isNotEqualTo(before);
+        assertThat(articleFeedCache.etag()).isEqualTo(after);
+    }
+
+    @Test
+    @DisplayName("If-None-Match 가 현재 ETag 와 같으면 304, 페이지 요청에는 X-Next-Cursor 헤더를 준다")
+    void supportsEtagAndCursorHeader() throws Exception {
+        // given
+        saveArticles(5);
+        articleFeedCache.refresh();
+        String etag = articleFeedCache.etag();
+        long oldestOfFirstPage = articleFeedCache.page(null, null, 2).nextCursor();
+
+        // when & then
+        mockMvc.perform(get("/api/v1/articles"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(jsonPath("$.length()").value(5));
+
+        mockMvc.perform(get("/api/v1/articles").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        MvcResult firstPage = mockMvc.perform(get("/api/v1/articles").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", String.valueOf(oldestOfFirstPage)))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andReturn();
+
+        mockMvc.perform(get("/api/v1/articles/TSLA")
+                        .param("size", "2")
+                        .param("cursor", firstPage.getResponse().getHeader("X-Next-Cursor")))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("X-Next-Cursor"))
+                .andExpect(jsonPath("$[0].stockSymbol").value("TSLA"));
+    }
+
+    @Test
+    @DisplayName("다른 노드가 기사를 바꾸면 주기 확인에서 기사 수 / 최대 id 가 달라진 것을 보고 다시 읽는다")
+    void refreshesWhenVersionChanges() {
+        // given
+        saveArticles(3);
+        articleFeedCache.refresh();
+        long refreshes = articleFeedCache.getRefreshCount();
+
+        // when : 바뀐 것이 없으면 다시 읽지 않음
+        articleFeedCache.checkForChanges();
+        long unchanged = articleFeedCache.getRefreshCount();
+        saveArticles(2); // 다른 노드가 저장 (이벤트 없음)
+        articleFeedCache.checkForChanges();
+
+        // then
+        assertThat(unchanged).isEqualTo(refreshes);
+        assertThat(articleFeedCache.getRefreshCount()).isEqualTo(refreshes + 1);
+        assertThat(articleFeedCache.all(null)).hasSize(5);
+    }
+
+    @Test
+    @DisplayName("페이지 없는 전체 조회는 예전과 같이 articleId 오름차순이다")
+    void unpagedListIsOldestFirst() {
+        // given
+        saveArticles(6);
+        articleFeedCache.refresh();
+
+        // when
+        List<ArticleResponseDto> all = articleService.getAllArticles();
+        List<ArticleResponseDto> aapl = articleService.getArticlesBySymbol("AAPL");
+
+        // then
+        assertThat(all).extracting(ArticleResponseDto::getArticleId).hasSize(6).isSorted();
+        assertThat(aapl).extracting(ArticleResponseDto::getArticleId).hasSize(3).isSorted();
+    }
+
+    @Test
+    @DisplayName("size 가 0 이하이면 ETag 가 같아도 400 을 돌려준다")
+    void rejectsNonPositiveSize() throws Exception {
+        // given
+        saveArticles(1);
+        articleFeedCache.refresh();
+        String etag = articleFeedCache.etag();
+
+        // when & then
+        mockMvc.perform(get("/api/v1/articles").param("size", "0").header("If-None-Match", etag))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/articles/AAPL").param("size", "-1"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("부하 테스트 : 캐시 조회가 매번 DB 를 읽던 조회보다 초당 처리량이 높다")
+    void loadTest() throws Exception {
+        // given
+        saveArticles(200);
+        articleFeedCache.refresh();
+        int threads = 8;
+        int requestsPerThread = 500;
+        Supplier<Object> database = () -> articleRepository.findByStockSymbol("AAPL").stream()
+                .map(ArticleResponseDto::toResponse)
+                .toList();
+        Supplier<Object> cached = () -> articleService.getArticlesBySymbol("AAPL");
+
+        // when
+        run(database, threads, 50); // 워밍업
+        run(cached, threads, 50);
+        double databaseRps = run(database, threads, requestsPerThread);
+        double cachedRps = run(cached, threads, requestsPerThread);
+        System.out.printf("기사 종목별 조회 (%d 스레드): DB %.0f req/s / 캐시 %.0f req/s%n", threads, databaseRps, cachedRps);
+
+        // then
+        assertThat(cachedRps).isGreaterThan(databaseRps);
+    }
+
+    private static double run(Supplier<Object> request, int threads, int requestsPerThread) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            long started = System.nanoTime();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < requestsPerThread; i++) {
+                        request.get();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return threads * requestsPerThread / ((System.nanoTime() - started) / 1e9);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.prgrms.ijuju.domain.article.component;
+
+import com.prgrms.ijuju.domain.article.data.Trend;
+import com.prgrms.ijuju.domain.article.data.TrendStats;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AdvTrendAnalyzerImplTest {
+
+    private static final long HOUR = 3_600_000L;
+    private static final long DAY_START = LocalDate.of(2024, 11, 4).atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+
+    private final AdvTrendAnalyzerImpl analyzer = new AdvTrendAnalyzerImpl(ZoneOffset.UTC, 4);
+
+    @AfterEach
+    void tearDown() {
+        analyzer.shutdown();
+    }
+
+    private static AdvStock stock(String symbol, long[] timestamps, double[] closes) {
+        int size = timestamps.length;
+        return AdvStock.builder()
+                .symbol(symbol)
+                .name(symbol + " Inc.")
+                .dataType(DataType.FORECAST)
+                .block(new CandleBlock(closes.clone(), closes.clone(), closes.clone(), closes, new long[size], timestamps))
+                .build();
+    }
+
+    // 하루에 두 캔들(0시, 12시). 그날 변화율이 changes[d] % 가 되도록 종가를 만듭니다
+    private static AdvStock dailyStock(double... changes) {
+        long[] timestamps = new long[changes.length * 2];
+        double[] closes = new double[changes.length * 2];
+        double price = 100;
+        for (int d = 0; d < changes.length; d++) {
+            timestamps[d * 2] = DAY_START + d * 24 * HOUR;
+            timestamps[d * 2 + 1] = DAY_START + d * 24 * HOUR + 12 * HOUR;
+            closes[d * 2] = price;
+            price = price * (1 + changes[d] / 100);
+            closes[d * 2 + 1] = price;
+        }
+        return stock("TEST", timestamps, closes);
+    }
+
+    @Test
+    @DisplayName("SHORT_TERM / MID_TERM 은 날짜 순서대로 앞쪽 3일 / 7일로 계산한다")
+    void keepsDateOrder() {
+        // given : UP, DOWN, STABLE, UP, UP, DOWN, STABLE, UP
+        AdvStock stock = dailyStock(5, -5, 1, 3, 4, -3, 0, 6);
+
+        // when
+        List<Trend> trends = analyzer.analyzeTrends(stock);
+
+        // then
+        assertThat(trends).extracting(Trend::getDurationType).containsExactly("SHORT_TERM", "MID_TERM", "LONG_TERM");
+        assertThat(trends.get(0).getDescription()).isEqualTo("UP: 1일, DOWN: 1일, STABLE: 1일");
+        assertThat(trends.get(1).getDescription()).isEqualTo("UP: 1일, DOWN: 1일, STABLE: 1일, UP: 2일, DOWN: 1일, STABLE: 1일");
+        assertThat(trends.get(2).getDescription()).isEqualTo("UP: 1일, DOWN: 1일, STABLE: 1일, UP: 2일, DOWN: 1일, STABLE: 1일, UP: 1일");
+        assertThat(trends).extracting(Trend::getStockSymbol).containsOnly("TEST");
+    }
+
+    @Test
+    @DisplayName("일간 수익률, 이동평균, 변동성, 연속 일수를 계산한다")
+    void computesStats() {
+        // given
+        AdvStock stock = dailyStock(10, 10, -10, 0);
+
+        // when
+        TrendStats stats = analyzer.analyze(stock);
+
+        // then
+        assertThat(stats.days()).isEqualTo(4);
+        assertThat(stats.getDayCloses()).containsExactly(new double[]{110, 121, 108.9, 108.9}, within(1e-9));
+        assertThat(stats.getDailyReturns()).containsExactly(new double[]{10, 10, -10, 0}, within(1e-9));
+        assertThat(stats.movingAverage(2)).containsExactly(new double[]{110, 115.5, 114.95, 108.9}, within(1e-9));
+        assertThat(stats.cumulativeReturn(4)).isCloseTo(8.9, within(1e-9));
+        assertThat(stats.volatility(4)).isCloseTo(Math.sqrt((7.5 * 7.5 * 2 + 12.5 * 12.5 + 2.5 * 2.5) / 3), within(1e-9));
+        assertThat(stats.longestStreak("UP", 4)).isEqualTo(2);
+        assertThat(stats.longestStreak("DOWN", 4)).isEqualTo(1);
+        assertThat(stats.dailyTrends()).extracting(daily -> daily.getDate().toString())
+                .containsExactly("2024-11-04", "2024-11-05", "2024-11-06", "2024-11-07");
+    }
+
+    @Test
+    @DisplayName("timestamp 정렬이 깨져 있어도 같은 결과를 낸다")
+    void sortsUnorderedCandles() {
+        // given
+        AdvStock sorted = dailyStock(5, -5, 1, 3);
+        long[] timestamps = sorted.getBlock().getTimestamps().clone();
+        double[] closes = sorted.getBlock().getClosePrices().clone();
+        for (int i = 0; i < timestamps.length / 2; i++) { // 뒤집기
+            int j = timestamps.length - 1 - i;
+            long t = timestamps[i];
+            timestamps[i] = timestamps[j];
+            timestamps[j] = t;
+            double c = closes[i];
+            closes[i] = closes[j];
+            closes[j] = c;
+        }
+
+        // when
+        TrendStats expected = analyzer.analyze(sorted);
+        TrendStats actual = analyzer.analyze(stock("TEST", timestamps, closes));
+
+        // then
+        assertThat(actual.getEpochDays()).containsExactly(expected.getEpochDays());
+        assertThat(actual.getDayChanges()).containsExactly(expected.getDayChanges(), within(1e-9));
+    }
+
+    @Test
+    @DisplayName("서머타임으로 하루가 23시간인 날도 거래일 경계를 정확히 나눈다")
+    void bucketsAcrossDaylightSaving() {
+        // given : 뉴욕 2024-03-10 은 23시간. 3월 10일 0시부터 3월 11일 23시까지 1시간 캔들 47개
+        ZoneId newYork = ZoneId.of("America/New_York");
+        AdvTrendAnalyzerImpl local = new AdvTrendAnalyzerImpl(newYork, 1);
+        long start = LocalDate.of(2024, 3, 10).atStartOfDay(newYork).toInstant().toEpochMilli();
+        long[] timestamps = new long[47];
+        double[] closes = new double[47];
+        for (int i = 0; i < 47; i++) {
+            timestamps[i] = start + i * HOUR;
+            closes[i] = i < 23 ? 100 + i : 200 + i;
+        }
+
+        // when
+        TrendStats stats = local.analyze(stock("NY", timestamps, closes));
+        local.shutdown();
+
+        // then
+        assertThat(stats.getEpochDays()).containsExactly(
+                LocalDate.of(2024, 3, 10).toEpochDay(), LocalDate.of(2024, 3, 11).toEpochDay());
+        assertThat(stats.getDayCloses()).containsExactly(122, 246);
+    }
+
+    @Test
+    @DisplayName("500 종목 x 3주치 1시간 캔들을 ForkJoinPool 로 나눠 분석해도 순차 분석과 결과가 같다")
+    void benchmarkParallelAnalysis() {
+        // given
+        int symbols = 500;
+        int candles = 21 * 24;
+        Random random = new Random(15);
+        List<AdvStock> stocks = new ArrayList<>(symbols);
+        for (int s = 0; s < symbols; s++) {
+            long[] timestamps = new long[candles];
+            double[] closes = new double[candles];
+            double price = 50 + s;
+            for (int i = 0; i < candles; i++) {
+                timestamps[i] = DAY_START + i * HOUR;
+                price = Math.max(1, price * (1 + random.nextGaussian() / 100));
+                closes[i] = price;
+            }
+            AdvStock stock = stock("SYM" + s, timestamps, closes);
+            stock.getBlock(); // 디코딩은 측정에서 제외
+            stocks.add(stock);
+        }
+        for (int i = 0; i < 3; i++) { // 워밍업
+            stocks.forEach(analyzer::analyzeTrends);
+            analyzer.analyzeAll(stocks);
+        }
+
+        // when
+        long started = System.nanoTime();
+        List<Trend> sequential = stocks.stream().flatMap(stock -> analyzer.analyzeTrends(stock).stream()).toList();
+        long sequentialNanos = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        List<Trend> parallel = analyzer.analyzeAll(stocks);
+        long parallelNanos = System.nanoTime() - started;
+
+        System.out.printf("%d 종목 x %d 캔들: 순차 %.2fms / ForkJoinPool %.2fms%n",
+                symbols, candles, sequentialNanos / 1e6, parallelNanos / 1e6);
+
+        // then
+        assertThat(parallel).hasSize(symbols * 3);
+        assertThat(parallel).isEqualTo(sequential);
+    }
+}
@@ -0,0 +1,191 @@
+package com.prgrms.ijuju.domain.article.expiry;
+
+import com.prgrms.ijuju.domain.article.entity.Article;
+import com.prgrms.ijuju.domain.article.entity.GeneratedContent;
+import com.prgrms.ijuju.domain.article.repository.ArticleRepository;
+import com.prgrms.ijuju.domain.article.repository.GeneratedContentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleExpiryPurgerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 12, 1, 7, 30);
+
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private GeneratedContentRepository generatedContentRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM articles");
+        generatedContentRepository.deleteAll();
+    }
+
+    private ArticleExpiryPurger purger(int batchSize) {
+        return new ArticleExpiryPurger(articleRepository, generatedContentRepository, transactionManager, eventPublisher,
+                batchSize, 0, 30);
+    }
+
+    private Article article(LocalDateTime createdAt, int duration) {
+        return Article.builder()
+                .stockSymbol("AAPL")
+                .trendPrediction("SHORT_TERM")
+                .content("기사")
+                .duration(duration)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    // rows 개 중 expiredRatio 비율만 NOW 기준으로 만료된 기사를 JDBC batch 로 넣습니다
+    private void insertArticles(int rows, int expiredEvery) {
+        List<Object[]> batch = new ArrayList<>(10_000);
+        for (int i = 0; i < rows; i++) {
+            LocalDateTime createdAt = i % expiredEvery == 0 ? NOW.minusDays(20) : NOW.minusDays(1);
+            batch.add(new Object[]{"SYM" + (i % 500), "LONG_TERM", "기사 " + i, 14,
+                    Timestamp.valueOf(createdAt), Timestamp.valueOf(createdAt.plusDays(14))});
+            if (batch.size() == 10_000 || i == rows - 1) {
+                jdbcTemplate.batchUpdate("INSERT INTO articles (stock_symbol, trend_prediction, content, duration, created_at, expires_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?)", batch);
+                batch.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("유효 기간(30일) 이 지난 기사 본문 캐시만 묶음 단위로 지운다")
+    void purgesExpiredGeneratedContentInChunks() {
+        // given : 31일 전 본문 5개는 만료, 1일 전 본문 2개는 유지
+        for (int i = 0; i < 5; i++) {
+            generatedContentRepository.save(new GeneratedContent("old-" + i, "본문", NOW.minusDays(31)));
+        }
+        for (int i = 0; i < 2; i++) {
+            generatedContentRepository.save(new GeneratedContent("new-" + i, "본문", NOW.minusDays(1)));
+        }
+        ArticleExpiryPurger purger = purger(2);
+
+        // when
+        int purged = purger.purgeGeneratedContent(NOW);
+
+        // then
+        assertThat(purged).isEqualTo(5);
+        assertThat(purger.getChunkCount()).isEqualTo(3);
+        assertThat(purger.getPurgedContentCount()).isEqualTo(5);
+        assertThat(generatedContentRepository.findAll()).extracting(GeneratedContent::getContentHash)
+                .containsExactlyInAnyOrder("new-0", "new-1");
+    }
+
+    @Test
+    @DisplayName("저장된 기사의 createdAt / duration 을 바꾸면 expiresAt 도 다시 계산된다")
+    void recomputesExpiryOnUpdate() {
+        // given
+        Article article = articleRepository.save(article(NOW.minusDays(1), 3));
+
+        // when
+        article.setDuration(14);
+        articleRepository.save(article);
+        LocalDateTime afterDuration = articleRepository.findById(article.getArticleId()).orElseThrow().getExpiresAt();
+        article.setCreatedAt(NOW.minusDays(20));
+        articleRepository.save(article);
+
+        // then
+        assertThat(afterDuration).isEqualTo(NOW.minusDays(1).plusDays(14));
+        assertThat(articleRepository.findById(article.getArticleId()).orElseThrow().getExpiresAt())
+                .isEqualTo(NOW.minusDays(20).plusDays(14));
+        assertThat(purger(10).purge(NOW)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장할 때 expiresAt 을 계산하고, 만료된 기사만 batchSize 개씩 나눠 지운다")
+    void purgesExpiredInChunks() {
+        // given : 3일짜리 기사 7개는 만료, 14일짜리 3개는 아직 유지
+        for (int i = 0; i < 7; i++) {
+            articleRepository.save(article(NOW.minusDays(3).minusMinutes(i), 3));
+        }
+        for (int i = 0; i < 3; i++) {
+            articleRepository.save(article(NOW.minusDays(3), 14));
+        }
+        ArticleExpiryPurger purger = purger(3);
+
+        // when
+        int purged = purger.purge(NOW);
+
+        // then
+        assertThat(purged).isEqualTo(7);
+        assertThat(purger.getChunkCount()).isEqualTo(3); // 3 + 3 + 1
+        assertThat(articleRepository.findAll())
+                .hasSize(3)
+                .allSatisfy(article -> assertThat(article.getExpiresAt()).isEqualTo(NOW.plusDays(11)));
+        assertThat(purger.purge(NOW)).isZero();
+    }
+
+    @Test
+    @DisplayName("expires_at 이 없는 예전 기사는 시작 시 createdAt + duration 으로 채운다")
+    void backfillsMissingExpiry() {
+        // given
+        jdbcTemplate.update("INSERT INTO articles (stock_symbol, trend_prediction, content, duration, created_at) " +
+                "VALUES ('AAPL', 'MID_TERM', '예전 기사', 7, ?)", Timestamp.valueOf(NOW.minusDays(10)));
+
+        // when
+        int filled = purger(1000).backfill();
+
+        // then
+        assertThat(filled).isEqualTo(1);
+        assertThat(articleRepository.findAll()).singleElement()
+                .satisfies(article -> assertThat(article.getExpiresAt()).isEqualTo(NOW.minusDays(3)));
+        assertThat(purger(1000).purge(NOW)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("벤치마크 : 기사 테이블 전체를 훑던 DELETE 한 문장보다, 인덱스 + 묶음 삭제가 한 번에 잡는 잠금 시간이 짧다")
+    void benchmarkAgainstFullScanDelete() {
+        // given : -Darticle.expiry.benchmark-rows=1000000 으로 100만 건 측정
+        int rows = Integer.getInteger("article.expiry.benchmark-rows", 200_000);
+        int expiredEvery = 10; // 10% 만료
+        insertArticles(rows, expiredEvery);
+
+        // when : 예전 방식 (컬럼에 식을 씌운 조건, 한 트랜잭션). H2 에는 INTERVAL 컬럼 DAY 가 없어서 같은 뜻의 DATEADD 로 씁니다
+        long started = System.nanoTime();
+        int legacyDeleted = jdbcTemplate.update("DELETE FROM articles WHERE DATEADD(DAY, duration, created_at) <= ?",
+                Timestamp.valueOf(NOW));
+        long legacyMillis = (System.nanoTime() - started) / 1_000_000;
+
+        jdbcTemplate.update("DELETE FROM articles");
+        insertArticles(rows, expiredEvery);
+        ArticleExpiryPurger purger = purger(1000);
+        started = System.nanoTime();
+        int purged = purger.purge(NOW);
+        long purgeMillis = (System.nanoTime() - started) / 1_000_000;
+
+        System.out.printf("기사 %,d건 중 %,d건 만료: 기존 DELETE %dms (잠금 %dms) / 묶음 삭제 %dms (%d번, 최대 잠금 %dms)%n",
+                rows, purged, legacyMillis, legacyMillis, purgeMillis, purger.getChunkCount(), purger.getMaxChunkMillis());
+
+        // then
+        assertThat(legacyDeleted).isEqualTo(rows / expiredEvery);
+        assertThat(purged).isEqualTo(legacyDeleted);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM articles", Long.class)).isEqualTo(rows - purged);
+        assertThat(purger.getMaxChunkMillis()).isLessThan(legacyMillis);
+    }
+}
@@ -0,0 +1,150 @@
+package com.prgrms.ijuju.domain.article.service;
+
+import com.prgrms.ijuju.domain.article.data.Trend;
+import com.prgrms.ijuju.domain.article.entity.Article;
+import com.prgrms.ijuju.domain.article.llm.FakeLlmClient;
+import com.prgrms.ijuju.domain.article.llm.LlmClient;
+import com.prgrms.ijuju.domain.article.repository.ArticleRepository;
+import com.prgrms.ijuju.domain.article.repository.GeneratedContentRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class ArticleGenerationPipelineTest {
+
+    @Autowired
+    private ArticleRepository articleRepository;
+    @Autowired
+    private GeneratedContentRepository generatedContentRepository;
+
+    private ArticleGenerationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        generatedContentRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (pipeline != null) {
+            pipeline.shutdown();
+        }
+    }
+
+    private ArticleGenerationPipeline pipeline(LlmClient llmClient, int concurrency) {
+        pipeline = new ArticleGenerationPipeline(new ArticleGenerationService(llmClient, articleRepository), llmClient,
+                generatedContentRepository, concurrency, 3, 10, 30);
+        return pipeline;
+    }
+
+    private static List<Trend> trends(int count) {
+        List<Trend> trends = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            trends.add(new Trend("SHORT_TERM", "UP: " + (i + 1) + "일", "SYM" + i));
+        }
+        return trends;
+    }
+
+    @Test
+    @DisplayName("LLM 호출을 concurrency 개까지 동시에 진행하고, 첫 호출이 실패한 트렌드는 재시도해서 모두 생성한다")
+    void generatesConcurrentlyWithRetries() {
+        // given : 호출마다 50ms 걸리는 대역, 트렌드 40개를 8개씩 동시에
+        FakeLlmClient llmClient = new FakeLlmClient(50, 3);
+        ArticleGenerationPipeline pipeline = pipeline(llmClient, 8);
+        List<Trend> trends = trends(40);
+        ArticleGenerationService formatter = new ArticleGenerationService(llmClient, articleRepository);
+        long failing = trends.stream()
+                .filter(trend -> llmClient.failsFirst(formatter.userPrompt(formatter.formatTrendData(trend))))
+                .count();
+
+        // when
+        long started = System.nanoTime();
+        List<Article> articles = pipeline.generate(trends);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        System.out.printf("트렌드 %d개 -> 기사 %d개, LLM 호출 %d번, 재시도 %d번, 최대 동시 호출 %d (%dms)%n",
+                trends.size(), articles.size(), llmClient.getCallCount(), pipeline.getRetryCount(),
+                llmClient.getMaxInFlight(), elapsedMillis);
+
+        // then
+        assertThat(failing).isPositive();
+        assertThat(articles).hasSize(40);
+        assertThat(articles).extracting(Article::getStockSymbol)
+                .containsExactlyElementsOf(trends.stream().map(Trend::getStockSymbol).toList());
+        assertThat(articles).allSatisfy(article -> assertThat(article.getContent()).startsWith("[모의 기사]"));
+        assertThat(pipeline.getRetryCount()).isEqualTo(failing);
+        assertThat(llmClient.getCallCount()).isEqualTo(40 + failing);
+        assertThat(llmClient.getMaxInFlight()).isBetween(2, 8);
+        assertThat(elapsedMillis).isLessThan(40 * 50); // 순차 호출보다 빠릅니다
+    }
+
+    @Test
+    @DisplayName("같은 트렌드 설명은 캐시에서 가져오고, 한 묶음 안의 중복도 한 번만 생성한다")
+    void servesRepeatedTrendsFromCache() {
+        // given : 공백만 다른 설명도 같은 트렌드로 봅니다
+        FakeLlmClient llmClient = new FakeLlmClient(0, 0);
+        ArticleGenerationPipeline pipeline = pipeline(llmClient, 4);
+        List<Trend> today = new ArrayList<>(trends(10));
+        today.add(new Trend("SHORT_TERM", "UP: 1일", "SYM0"));
+        List<Trend> tomorrow = new ArrayList<>(trends(10));
+        tomorrow.set(0, new Trend("SHORT_TERM", "  UP:   1일 ", "SYM0"));
+
+        // when
+        List<Article> first = pipeline.generate(today);
+        long callsAfterFirst = llmClient.getCallCount();
+        List<Article> second = pipeline.generate(tomorrow);
+
+        // then
+        assertThat(first).hasSize(11);
+        assertThat(callsAfterFirst).isEqualTo(10);
+        assertThat(llmClient.getCallCount()).isEqualTo(10);
+        assertThat(pipeline.getCacheHitCount()).isEqualTo(10);
+        assertThat(generatedContentRepository.count()).isEqualTo(10);
+        assertThat(second).extracting(Article::getContent)
+                .containsExactlyElementsOf(first.subList(0, 10).stream().map(Article::getContent).toList());
+    }
+
+    @Test
+    @DisplayName("끝까지 실패한 트렌드만 빼고 나머지 기사는 돌려준다")
+    void skipsPermanentFailures() {
+        // given
+        AtomicInteger badCalls = new AtomicInteger();
+        LlmClient llmClient = new LlmClient() {
+            @Override
+            public String complete(String systemPrompt, String userPrompt) {
+                if (userPrompt.contains("SYM3")) {
+                    badCalls.incrementAndGet();
+                    throw new IllegalStateException("503 Service Unavailable");
+                }
+                return "기사: " + userPrompt;
+            }
+
+            @Override
+            public String model() {
+                return "test";
+            }
+        };
+        ArticleGenerationPipeline pipeline = pipeline(llmClient, 4);
+
+        // when
+        List<Article> articles = pipeline.generate(trends(6));
+
+        // then
+        assertThat(articles).extracting(Article::getStockSymbol).containsExactly("SYM0", "SYM1", "SYM2", "SYM4", "SYM5");
+        assertThat(badCalls.get()).isEqualTo(3);
+        assertThat(pipeline.getRetryCount()).isEqualTo(2);
+        assertThat(pipeline.getFailureCount()).isEqualTo(1);
+        assertThat(generatedContentRepository.count()).isEqualTo(5);
+    }
+}
@@ -0,0 +1,161 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.dto.response.AdvStockResponseDto;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.SymbolSeries;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.web.socket.BinaryMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class BinaryFrameCodecTest {
+
+    private static final int WEEK_OF_HOURLY_CANDLES = 7 * 24;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    // 종목마다 일주일치 1시간 캔들 (가격은 소수 2자리 랜덤 워크)
+    private static List<SymbolSeries> market(int symbols, int candles, DataType dataType) {
+        Random random = new Random(symbols);
+        List<SymbolSeries> market = new ArrayList<>(symbols);
+        for (int s = 0; s < symbols; s++) {
+            double[] open = new double[candles];
+            double[] high = new double[candles];
+            double[] low = new double[candles];
+            double[] close = new double[candles];
+            long[] timestamps = new long[candles];
+            double price = 50 + s;
+            for (int i = 0; i < candles; i++) {
+                open[i] = Math.round(price * 100) / 100.0;
+                close[i] = Math.round((price + random.nextGaussian()) * 100) / 100.0;
+                high[i] = Math.max(open[i], close[i]) + 0.25;
+                low[i] = Math.min(open[i], close[i]) - 0.25;
+                timestamps[i] = 1_700_000_000_000L + i * 3_600_000L;
+                price = close[i];
+            }
+            market.add(new SymbolSeries("SYM" + s, "Symbol " + s + " Inc.", dataType,
+                    open, high, low, close, new long[candles], timestamps));
+        }
+        return market;
+    }
+
+    @Test
+    @DisplayName("ReferenceData 바이너리 프레임은 디코딩하면 원래 캔들과 같다")
+    void roundTripsReference() {
+        // given
+        List<SymbolSeries> reference = market(4, WEEK_OF_HOURLY_CANDLES, DataType.REFERENCE);
+
+        // when
+        BinaryFrameCodec.DecodedFrame decoded = BinaryFrameCodec.decode(BinaryFrameCodec.encodeReference(reference));
+
+        // then
+        assertThat(decoded.frameType()).isEqualTo(BinaryFrameCodec.REFERENCE);
+        assertThat(decoded.series()).hasSize(4);
+        for (int s = 0; s < 4; s++) {
+            SymbolSeries expected = reference.get(s);
+            SymbolSeries actual = decoded.series().get(s);
+            assertThat(actual.getSymbol()).isEqualTo(expected.getSymbol());
+            assertThat(actual.getName()).isEqualTo(expected.getName());
+            assertThat(actual.getTimestamps()).containsExactly(expected.getTimestamps());
+            for (int i = 0; i < expected.size(); i++) {
+                assertThat(actual.getOpenPrices()[i]).isCloseTo(expected.getOpenPrices()[i], within(1e-9));
+                assertThat(actual.getHighPrices()[i]).isCloseTo(expected.getHighPrices()[i], within(1e-9));
+                assertThat(actual.getLowPrices()[i]).isCloseTo(expected.getLowPrices()[i], within(1e-9));
+                assertThat(actual.getClosePrices()[i]).isCloseTo(expected.getClosePrices()[i], within(1e-9));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("LiveData 바이너리 프레임은 livePhase 번째 캔들만 담고, 데이터가 모자란 종목은 뺀다")
+    void encodesSingleLiveCandle() {
+        // given
+        List<SymbolSeries> live = new ArrayList<>(market(3, 6, DataType.LIVE));
+        live.addAll(market(1, 2, DataType.LIVE).stream()
+                .map(series -> new SymbolSeries("SHORT", "Short Inc.", DataType.LIVE, series.getOpenPrices(),
+                        series.getHighPrices(), series.getLowPrices(), series.getClosePrices(),
+                        series.getVolumes(), series.getTimestamps()))
+                .toList());
+
+        // when
+        BinaryFrameCodec.DecodedFrame decoded = BinaryFrameCodec.decode(BinaryFrameCodec.encodeLive(live, 4));
+
+        // then
+        assertThat(decoded.livePhase()).isEqualTo(4);
+        assertThat(decoded.series()).extracting(SymbolSeries::getSymbol).containsExactly("SYM0", "SYM1", "SYM2");
+        assertThat(decoded.series().get(1).size()).isEqualTo(1);
+        assertThat(decoded.series().get(1).getClosePrices()[0]).isCloseTo(live.get(1).getClosePrices()[4], within(1e-9));
+        assertThat(decoded.series().get(1).getTimestamps()[0]).isEqualTo(live.get(1).getTimestamps()[4]);
+    }
+
+    @ParameterizedTest(name = "{0} 종목")
+    @ValueSource(ints = {4, 50, 500})
+    @DisplayName("일주일치 ReferenceData 의 바이너리 프레임은 JSON 프레임의 15% 이하이다 (인코딩 시간은 출력만)")
+    void benchmarkAgainstJson(int symbols) throws Exception {
+        // given
+        List<SymbolSeries> reference = market(symbols, WEEK_OF_HOURLY_CANDLES, DataType.REFERENCE);
+        List<AdvStockResponseDto> dtos = reference.stream()
+                .flatMap(series -> AdvStockResponseDto.fromSeriesForReference(series).stream())
+                .toList();
+        int rounds = symbols >= 500 ? 5 : 20;
+        for (int i = 0; i < 3; i++) { // 워밍업
+            objectMapper.writeValueAsBytes(dtos);
+            BinaryFrameCodec.encodeReference(reference);
+        }
+
+        // when
+        long jsonNanos = 0;
+        long binaryNanos = 0;
+        int jsonSize = 0;
+        int binarySize = 0;
+        for (int i = 0; i < rounds; i++) {
+            long started = System.nanoTime();
+            jsonSize = objectMapper.writeValueAsBytes(dtos).length;
+            jsonNanos += System.nanoTime() - started;
+
+            started = System.nanoTime();
+            binarySize = BinaryFrameCodec.encodeReference(reference).length;
+            binaryNanos += System.nanoTime() - started;
+        }
+        System.out.printf("%d 종목 ReferenceData: JSON %,d bytes %.2fms / binary %,d bytes %.2fms (%.1f%%)%n",
+                symbols, jsonSize, jsonNanos / rounds / 1e6, binarySize, binaryNanos / rounds / 1e6,
+                binarySize * 100.0 / jsonSize);
+
+        // then
+        assertThat(binarySize).isLessThan(jsonSize * 15 / 100);
+    }
+
+    @Test
+    @DisplayName("바이너리 프레임도 스냅샷 단계마다 한 번만 인코딩되고, 세션마다 새 BinaryMessage 로 감싼다")
+    void cachesBinaryFrames() {
+        // given
+        MarketFrameCache cache = new MarketFrameCache(objectMapper);
+        List<SymbolSeries> live = market(4, 6, DataType.LIVE);
+        int[] encoded = {0};
+
+        // when
+        BinaryMessage first = cache.binaryFrame(1L, DataType.LIVE, 2, () -> {
+            encoded[0]++;
+            return BinaryFrameCodec.encodeLive(live, 2);
+        });
+        BinaryMessage second = cache.binaryFrame(1L, DataType.LIVE, 2, () -> {
+            encoded[0]++;
+            return BinaryFrameCodec.encodeLive(live, 2);
+        });
+
+        // then
+        assertThat(encoded[0]).isEqualTo(1);
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.getPayload().array()).isSameAs(first.getPayload().array());
+        assertThat(cache.getHitCount()).isEqualTo(1);
+    }
+}
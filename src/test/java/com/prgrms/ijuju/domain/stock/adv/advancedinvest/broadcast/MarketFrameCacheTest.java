@@ -0,0 +1,68 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.socket.TextMessage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MarketFrameCacheTest {
+
+    private MarketFrameCache marketFrameCache;
+
+    @BeforeEach
+    void setUp() {
+        marketFrameCache = new MarketFrameCache(new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("같은 키의 프레임은 한 번만 직렬화되고 모든 세션이 같은 객체를 공유한다")
+    void serializesOncePerKey() {
+        // given
+        AtomicInteger serialized = new AtomicInteger();
+        List<Map<String, Object>> payload = List.of(Map.of("symbol", "AAPL", "closePrice", 100.5));
+
+        // when
+        TextMessage first = null;
+        for (int i = 0; i < 100; i++) {
+            TextMessage frame = marketFrameCache.frame(1L, DataType.LIVE, 0, () -> {
+                serialized.incrementAndGet();
+                return payload;
+            });
+            if (first == null) {
+                first = frame;
+            }
+            assertThat(frame).isSameAs(first);
+        }
+
+        // then
+        assertThat(serialized.get()).isEqualTo(1);
+        assertThat(marketFrameCache.getMissCount()).isEqualTo(1);
+        assertThat(marketFrameCache.getHitCount()).isEqualTo(99);
+        assertThat(marketFrameCache.getHitRate()).isEqualTo(0.99);
+        assertThat(marketFrameCache.getBytesSaved()).isEqualTo(99L * first.getPayloadLength());
+        assertThat(first.getPayload()).contains("AAPL");
+    }
+
+    @Test
+    @DisplayName("스냅샷 version 이 바뀌면 이전 프레임은 버린다")
+    void evictsOldVersion() {
+        // given
+        marketFrameCache.frame(1L, DataType.REFERENCE, MarketFrameCache.REFERENCE_PHASE, () -> List.of("old"));
+        marketFrameCache.frame(1L, DataType.LIVE, 0, () -> List.of("old"));
+
+        // when
+        TextMessage frame = marketFrameCache.frame(2L, DataType.REFERENCE, MarketFrameCache.REFERENCE_PHASE, () -> List.of("new"));
+
+        // then
+        assertThat(marketFrameCache.size()).isEqualTo(1);
+        assertThat(frame.getPayload()).contains("new");
+    }
+}
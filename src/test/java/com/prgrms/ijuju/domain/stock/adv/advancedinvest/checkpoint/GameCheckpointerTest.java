@@ -0,0 +1,139 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.checkpoint;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster.GameStateStore;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.constant.GameStage;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameState;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameTimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GameCheckpointerTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private AdvancedInvestRepository advancedInvestRepository;
+    @Autowired
+    private GameStateStore gameStateStore;
+    @Autowired
+    private GameCheckpointer contextCheckpointer;
+
+    private Long createMember() {
+        String loginId = "cp" + UUID.randomUUID().toString().substring(0, 8);
+        return memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .pw("test1234@")
+                .username(loginId)
+                .email(loginId + "@test.com")
+                .birth(LocalDate.parse("2000-01-01"))
+                .build()).getId();
+    }
+
+    // 진행 중(stage = PRE_MARKET, paused = false) 인 게임 count 개를 JDBC 배치로 넣습니다
+    private List<Long> createRunningGames(Long memberId, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{memberId, System.currentTimeMillis()});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO advanced_invest (member_id, start_time, paused, current_second, played_today, stage) " +
+                "VALUES (?, ?, false, 0, false, 'PRE_MARKET')", rows);
+        return jdbcTemplate.queryForList("SELECT id FROM advanced_invest WHERE member_id = ? ORDER BY id", Long.class, memberId);
+    }
+
+    @Test
+    @DisplayName("게임 10,000개의 체크포인트를 CASE UPDATE 10번으로 쓰고, 바뀌지 않은 게임은 다시 쓰지 않는다")
+    void coalescesTenThousandGames() {
+        // given : 타이머를 시작하지 않은 휠이라 틱이 0 에 멈춰 있습니다 (진행 초 = 시작 초)
+        int games = 10_000;
+        Long memberId = createMember();
+        List<Long> gameIds = createRunningGames(memberId, games);
+        GameTimingWheel wheel = new GameTimingWheel(1000, 1, 10);
+        GameCheckpointer checkpointer = new GameCheckpointer(jdbcTemplate, wheel, advancedInvestRepository, gameStateStore, 1000);
+        for (int i = 0; i < games; i++) {
+            checkpointer.track(new GameState(gameIds.get(i), null, i % 421, wheel.currentTick()));
+        }
+
+        // when
+        long started = System.nanoTime();
+        checkpointer.checkpoint();
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        checkpointer.checkpoint(); // 그대로인 게임만 있는 두 번째 주기
+
+        // then : 게임마다 UPDATE 한 번 (10,000) 대신 1,000 행씩 10번
+        assertThat(checkpointer.getStatementCount()).isEqualTo(10);
+        assertThat(checkpointer.getRowCount()).isEqualTo(games);
+        assertThat(checkpointer.getSkippedCount()).isEqualTo(games);
+        assertThat(elapsedMillis).isLessThan(5_000);
+
+        AdvancedInvest sample = advancedInvestRepository.findById(gameIds.get(200)).orElseThrow();
+        assertThat(sample.getCurrentSecond()).isEqualTo(200);
+        assertThat(sample.getStage()).isEqualTo(GameStage.MARKET_OPEN);
+        AdvancedInvest last = advancedInvestRepository.findById(gameIds.get(420)).orElseThrow();
+        assertThat(last.getStage()).isEqualTo(GameStage.POST_MARKET);
+
+        jdbcTemplate.update("UPDATE advanced_invest SET stage = NULL WHERE member_id = ?", memberId);
+    }
+
+    @Test
+    @DisplayName("일시정지/종료된 게임은 체크포인트에서 빠지고 기록도 덮어쓰지 않는다")
+    void skipsPausedGames() {
+        // given
+        List<Long> gameIds = createRunningGames(createMember(), 2);
+        GameTimingWheel wheel = new GameTimingWheel(1000, 1, 10);
+        GameCheckpointer checkpointer = new GameCheckpointer(jdbcTemplate, wheel, advancedInvestRepository, gameStateStore, 1000);
+        GameState running = new GameState(gameIds.get(0), null, 100, wheel.currentTick());
+        GameState paused = new GameState(gameIds.get(1), null, 100, wheel.currentTick());
+        checkpointer.track(running);
+        checkpointer.track(paused);
+
+        // when
+        paused.deactivate(wheel.currentTick(), 420);
+        checkpointer.checkpoint();
+
+        // then
+        assertThat(checkpointer.getRowCount()).isEqualTo(1);
+        assertThat(checkpointer.getTrackedCount()).isEqualTo(1);
+        assertThat(advancedInvestRepository.findById(gameIds.get(1)).orElseThrow().getCurrentSecond()).isZero();
+
+        jdbcTemplate.update("UPDATE advanced_invest SET stage = NULL WHERE id IN (?, ?)", gameIds.get(0), gameIds.get(1));
+    }
+
+    @Test
+    @DisplayName("재시작 시 타이머가 돌던 게임은 마지막 체크포인트 초로 일시정지되어 재개할 수 있다")
+    void recoversRunningGamesAsPaused() {
+        // given : 서버가 내려가기 전 135초까지 체크포인트된 게임
+        Long memberId = createMember();
+        Long gameId = createRunningGames(memberId, 1).get(0);
+        jdbcTemplate.update("UPDATE advanced_invest SET current_second = 135, stage = 'MARKET_OPEN' WHERE id = ?", gameId);
+
+        // when
+        int recovered = contextCheckpointer.recover();
+
+        // then
+        assertThat(recovered).isGreaterThanOrEqualTo(1);
+        AdvancedInvest game = advancedInvestRepository.findById(gameId).orElseThrow();
+        assertThat(game.isPaused()).isTrue();
+        assertThat(game.getCurrentSecond()).isEqualTo(135);
+        assertThat(game.getStage()).isEqualTo(GameStage.MARKET_OPEN);
+        assertThat(advancedInvestRepository.findRunningIds()).doesNotContain(gameId);
+    }
+}
@@ -0,0 +1,247 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.cluster;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.broadcast.MarketFrameCache;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.checkpoint.GameCheckpointer;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal.GameJournal;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.GameJobLockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.GameNodeRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.GameOwnershipRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.service.AdvancedInvestServiceImpl;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameTimingWheel;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade.TradeOrderQueue;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshotHolder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 H2 DB 를 공유하는 두 노드(node-a, node-b) 를 한 프로세스 안에 띄워서 확인합니다.
+ * node-a 는 스프링 컨텍스트의 서비스이고, node-b 는 같은 리포지토리를 쓰지만 자기만의 타이밍 휠과 저장소(nodeId) 를 가진 서비스입니다.
+ */
+@SpringBootTest(properties = {
+        "advanced-invest.cluster.store=database",
+        "advanced-invest.cluster.node-id=node-a",
+        "advanced-invest.cluster.sync-millis=600000"
+})
+@ActiveProfiles("test")
+class GameClusterTest {
+
+    @Autowired
+    private AdvancedInvestServiceImpl nodeA;
+    @Autowired
+    private AdvancedInvestRepository advancedInvestRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MarketSnapshotHolder marketSnapshotHolder;
+    @Autowired
+    private MarketFrameCache marketFrameCache;
+    @Autowired
+    private TradeOrderQueue tradeOrderQueue;
+    @Autowired
+    private GameOwnershipRepository gameOwnershipRepository;
+    @Autowired
+    private GameNodeRepository gameNodeRepository;
+    @Autowired
+    private GameJobLockRepository gameJobLockRepository;
+    @Autowired
+    private GameStateStore storeA;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private GameJournal gameJournal;
+
+    private GameTimingWheel wheelB;
+    private AdvancedInvestServiceImpl nodeB;
+
+    @BeforeEach
+    void setUp() {
+        wheelB = new GameTimingWheel(1000, 2, 1000);
+        wheelB.start();
+        nodeB = newNode("node-b", 60_000, wheelB);
+        nodeA.syncCluster(); // node-a 생존 신호
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheelB.shutdown();
+    }
+
+    private AdvancedInvestServiceImpl newNode(String nodeId, long leaseMillis, GameTimingWheel wheel) {
+        DatabaseGameStateStore store = new DatabaseGameStateStore(gameOwnershipRepository, gameNodeRepository,
+                gameJobLockRepository, nodeId, leaseMillis);
+        store.register();
+        return new AdvancedInvestServiceImpl(advancedInvestRepository, marketSnapshotHolder, marketFrameCache,
+                memberRepository, tradeOrderQueue, wheel, store,
+                new GameCheckpointer(jdbcTemplate, wheel, advancedInvestRepository, store, 1000), gameJournal);
+    }
+
+    private Long createGame() {
+        String loginId = "gc" + UUID.randomUUID().toString().substring(0, 8);
+        Member member = memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .pw("test1234@")
+                .username(loginId)
+                .email(loginId + "@test.com")
+                .birth(LocalDate.parse("2000-01-01"))
+                .build());
+        return advancedInvestRepository.save(AdvancedInvest.builder()
+                .member(member)
+                .startTime(System.currentTimeMillis())
+                .build()).getId();
+    }
+
+    private WebSocketSession session() {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.isOpen()).thenReturn(true);
+        when(session.getId()).thenReturn(UUID.randomUUID().toString());
+        return session;
+    }
+
+    @Test
+    @DisplayName("node-a 에서 시작한 게임을 node-b 에서 조회하고 일시정지할 수 있다")
+    void pauseOnOtherNode() {
+        // given : 30초부터 시작 (다음 단계가 60초이므로 테스트 중에는 메시지가 나가지 않습니다)
+        Long gameId = createGame();
+        nodeA.startGameTimer(session(), gameId, 30);
+
+        // when
+        int remaining = nodeB.getRemainingTime(gameId);
+        nodeB.pauseGame(gameId);
+
+        // then : 기록은 즉시 반영되고, node-a 의 타이머는 동기화 주기에 멈춥니다
+        assertThat(remaining).isBetween(380, 390);
+        AdvancedInvest game = advancedInvestRepository.findById(gameId).orElseThrow();
+        assertThat(game.isPaused()).isTrue();
+        assertThat(game.getCurrentSecond()).isBetween(30, 40);
+        assertThat(nodeA.isRunningLocally(gameId)).isTrue();
+
+        nodeA.syncCluster();
+
+        assertThat(nodeA.isRunningLocally(gameId)).isFalse();
+        GameRecord record = storeA.find(gameId).orElseThrow();
+        assertThat(record.paused()).isTrue();
+        assertThat(record.command()).isNull();
+        assertThat(nodeA.getRemainingTime(gameId)).isEqualTo(420 - game.getCurrentSecond());
+    }
+
+    @Test
+    @DisplayName("일시정지한 게임을 다른 노드에서 재개하면 소유권이 옮겨가고, 어느 노드에서든 종료할 수 있다")
+    void resumeAndEndAcrossNodes() throws Exception {
+        // given
+        Long gameId = createGame();
+        WebSocketSession sessionA = session();
+        nodeA.startGameTimer(sessionA, gameId, 30);
+        nodeA.pauseGame(gameId);
+
+        // when : node-b 로 다시 접속해서 재개
+        WebSocketSession sessionB = session();
+        nodeB.resumeGame(sessionB, gameId);
+        nodeA.syncCluster(); // node-a 는 멈춰 있던 로컬 게임을 지웁니다
+
+        // then
+        assertThat(storeA.find(gameId).orElseThrow().ownerNode()).isEqualTo("node-b");
+        assertThat(nodeB.isRunningLocally(gameId)).isTrue();
+        assertThat(nodeA.isRunningLocally(gameId)).isFalse();
+        assertThat(nodeA.getRemainingTime(gameId)).isBetween(380, 390);
+
+        // when : node-a 에서 종료
+        nodeA.endGame(gameId);
+
+        // then : 기록은 즉시 종료되고, node-b 는 동기화 주기에 타이머를 멈추고 웹소켓을 닫습니다
+        assertThat(advancedInvestRepository.findById(gameId).orElseThrow().isPlayedToday()).isTrue();
+        assertThat(storeA.find(gameId).orElseThrow().command()).isEqualTo(GameCommand.END);
+
+        nodeB.syncCluster();
+
+        assertThat(nodeB.isRunningLocally(gameId)).isFalse();
+        assertThat(storeA.find(gameId)).isEmpty();
+        verify(sessionB, timeout(1_000)).close(); // 송신 큐를 비운 뒤 닫습니다
+        verify(sessionA, never()).close(); // 옮겨가기 전 node-a 의 게임은 이미 지워졌습니다
+    }
+
+    @Test
+    @DisplayName("아침 리셋은 모든 노드에서 불려도 한 노드만 게임을 종료한다")
+    void dailyResetRunsOnOneNode() {
+        // given : node-a 에서 진행 중인 게임, node-b 에서 일시정지한 게임
+        jdbcTemplate.update("UPDATE adv_game_job_lock SET run_date = NULL");
+        Long running = createGame();
+        nodeA.startGameTimer(session(), running, 30);
+        Long paused = createGame();
+        nodeB.startGameTimer(session(), paused, 30);
+        nodeB.pauseGame(paused);
+
+        // when : 같은 시각에 두 노드 모두 리셋
+        nodeA.resetPlayedTodayStatus();
+        nodeB.resetPlayedTodayStatus();
+
+        // then : 두 게임 모두 한 번씩만 종료되고, ENDED 이벤트도 한 번씩만 남습니다
+        assertThat(endedEvents(running)).isEqualTo(1);
+        assertThat(endedEvents(paused)).isEqualTo(1);
+        assertThat(advancedInvestRepository.findById(running).orElseThrow().isPlayedToday()).isTrue();
+        assertThat(advancedInvestRepository.findById(paused).orElseThrow().isPlayedToday()).isTrue();
+        assertThat(gameJobLockRepository.findById("daily-reset").orElseThrow().getNodeId()).isEqualTo("node-a");
+    }
+
+    private long endedEvents(Long gameId) {
+        gameJournal.flush();
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM adv_game_event WHERE game_id = ? AND type = 'ENDED'",
+                Long.class, gameId);
+    }
+
+    @Test
+    @DisplayName("생존 신호가 끊긴 노드의 게임은 다른 노드가 인계받아 마지막 초로 일시정지하고, 원래 노드는 타이머를 멈춘다")
+    void takesOverGamesOfDeadNode() throws InterruptedException {
+        // given : node-a 에서 진행 중인 게임, node-c 는 임대 시간(lease) 이 아주 짧습니다
+        Long gameId = createGame();
+        WebSocketSession sessionA = session();
+        nodeA.startGameTimer(sessionA, gameId, 30);
+        GameTimingWheel wheelC = new GameTimingWheel(1000, 1, 100);
+        wheelC.start();
+        AdvancedInvestServiceImpl nodeC = newNode("node-c", 50, wheelC);
+
+        try {
+            // when : node-a 가 생존 신호를 보내지 못한 채 임대 시간이 지남
+            Thread.sleep(200);
+            nodeC.syncCluster();
+
+            // then
+            GameRecord record = storeA.find(gameId).orElseThrow();
+            assertThat(record.ownerNode()).isEqualTo("node-c");
+            assertThat(record.paused()).isTrue();
+            AdvancedInvest game = advancedInvestRepository.findById(gameId).orElseThrow();
+            assertThat(game.isPaused()).isTrue();
+            assertThat(game.getCurrentSecond()).isEqualTo(record.pausedSecond()).isGreaterThanOrEqualTo(30);
+
+            // 두 번째 인계 시도는 아무 것도 가져가지 않습니다
+            nodeC.syncCluster();
+            assertThat(storeA.find(gameId).orElseThrow().ownerNode()).isEqualTo("node-c");
+
+            // 늦게 깨어난 node-a 는 소유권을 잃은 게임의 타이머를 멈추고 웹소켓을 닫습니다
+            assertThat(nodeA.isRunningLocally(gameId)).isTrue();
+            nodeA.syncCluster();
+            assertThat(nodeA.isRunningLocally(gameId)).isFalse();
+            assertThat(storeA.find(gameId).orElseThrow().ownerNode()).isEqualTo("node-c");
+            verify(sessionA, timeout(1_000)).close();
+        } finally {
+            nodeC.endGame(gameId);
+            wheelC.shutdown();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.journal;
+
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class GameJournalTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private GameJournalReader reader;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM adv_game_event");
+    }
+
+    // 시작 → 단계 7번 → 일시정지/재개 → 거래(구매 1, 판매 1) → 종료
+    private static List<GameEvent> playedGame(long gameId, long memberId, long buyPoints, long sellPoints) {
+        List<GameEvent> events = new ArrayList<>();
+        events.add(GameEvent.started(gameId, memberId));
+        for (int second = 0; second <= 360; second += 60) {
+            events.add(GameEvent.of(gameId, GameEventType.PHASE_CHANGED, second));
+        }
+        events.add(GameEvent.of(gameId, GameEventType.PAUSED, 95));
+        events.add(GameEvent.of(gameId, GameEventType.RESUMED, 95));
+        events.add(GameEvent.trade(gameId, memberId, 100, "AAPL", TradeType.BUY, 2, buyPoints / 2.0, buyPoints));
+        events.add(GameEvent.trade(gameId, memberId, 300, "AAPL", TradeType.SELL, 2, sellPoints / 2.0, sellPoints));
+        events.add(GameEvent.of(gameId, GameEventType.ENDED, 420));
+        return events;
+    }
+
+    @Test
+    @DisplayName("게임 2,000개의 이벤트를 batch INSERT 로 쓰고, 한 번 훑어서 게임별 요약으로 접는다")
+    void foldsJournalIntoSummaries() {
+        // given : 큐 용량(1,000) 보다 많은 이벤트라 append 한 스레드가 직접 기록하는 경우도 생깁니다
+        int games = 2_000;
+        GameJournal journal = new GameJournal(jdbcTemplate, 500, 1_000, 1_000, 30_000, 1_000);
+        for (int g = 1; g <= games; g++) {
+            playedGame(g, 1_000 + g, 100, 100 + g).forEach(journal::append);
+        }
+        int eventsPerGame = playedGame(0, 0, 0, 0).size();
+
+        // when
+        journal.flush();
+        List<GameSummary> summaries = new ArrayList<>();
+        long started = System.nanoTime();
+        long folded = reader.forEachSummary(summaries::add);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+        System.out.printf("이벤트 %,d건 -> INSERT batch %d번, 요약 %,d개 (%dms)%n",
+                journal.getWrittenCount(), journal.getStatementCount(), summaries.size(), elapsedMillis);
+
+        // then
+        assertThat(journal.getWrittenCount()).isEqualTo((long) games * eventsPerGame);
+        assertThat(journal.getStatementCount()).isEqualTo((long) games * eventsPerGame / 500);
+        assertThat(journal.getInlineFlushCount()).isPositive();
+        assertThat(journal.getQueuedCount()).isZero();
+        assertThat(folded).isEqualTo((long) games * eventsPerGame);
+        assertThat(summaries).hasSize(games);
+        assertThat(summaries).extracting(GameSummary::getGameId).isSorted();
+
+        GameSummary last = summaries.get(games - 1);
+        assertThat(last.getMemberId()).isEqualTo(1_000L + games);
+        assertThat(last.isEnded()).isTrue();
+        assertThat(last.getLastSecond()).isEqualTo(420);
+        assertThat(last.getPhaseCount()).isEqualTo(7);
+        assertThat(last.getPauseCount()).isEqualTo(1);
+        assertThat(last.getResumeCount()).isEqualTo(1);
+        assertThat(last.getTradeCount()).isEqualTo(2);
+        assertThat(last.getNetPoints()).isEqualTo(games);
+    }
+
+    @Test
+    @DisplayName("기록에 실패한 묶음은 버리지 않고 다음 flush 에서 다른 이벤트보다 먼저 다시 쓴다")
+    void retriesFailedBatchInOrder() {
+        // given : 첫 batch INSERT 만 실패하는 DB
+        JdbcTemplate flaky = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+                .doCallRealMethod()
+                .when(flaky).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        GameJournal journal = new GameJournal(flaky, 500, 1_000, 0, 0, 1_000);
+        playedGame(7L, 70L, 200, 260).forEach(journal::append);
+
+        // when
+        journal.flush();
+        long writtenAfterFailure = journal.getWrittenCount();
+        journal.append(GameEvent.started(8L, 80L));
+        journal.flush();
+
+        // then
+        int eventsPerGame = playedGame(0, 0, 0, 0).size();
+        assertThat(writtenAfterFailure).isZero();
+        assertThat(journal.getFailedCount()).isEqualTo(eventsPerGame);
+        assertThat(journal.getWrittenCount()).isEqualTo(eventsPerGame + 1);
+        assertThat(reader.timeline(7L)).hasSize(eventsPerGame);
+        assertThat(jdbcTemplate.queryForList("SELECT game_id FROM adv_game_event ORDER BY id", Long.class))
+                .endsWith(7L, 8L);
+    }
+
+    @Test
+    @DisplayName("DB 장애로 큐가 가득 차면 append 는 정해진 시간까지만 기다리고 이벤트를 버린다")
+    void dropsInsteadOfBlockingWhenQueueStaysFull() {
+        // given : 모든 batch INSERT 가 실패하고, 다시 쓰기까지 오래 기다리는 저널 (큐 10, 묶음 5, 대기 50ms)
+        JdbcTemplate down = spy(jdbcTemplate);
+        doThrow(new DataAccessResourceFailureException("DB 연결 끊김"))
+                .when(down).batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class));
+        GameJournal journal = new GameJournal(down, 5, 10, 60_000, 60_000, 50);
+
+        // when
+        long started = System.nanoTime();
+        for (int second = 0; second < 30; second++) {
+            journal.append(GameEvent.of(9L, GameEventType.PHASE_CHANGED, second));
+        }
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+
+        // then : 실패한 묶음(5건) 과 큐(10건) 에 들어가지 못한 이벤트는 버려집니다
+        assertThat(elapsedMillis).isLessThan(5_000);
+        assertThat(journal.getQueuedCount()).isEqualTo(10);
+        assertThat(journal.getDroppedCount()).isPositive();
+
+        // 인터럽트된 스레드와 종료된 저널은 기다리지 않습니다
+        long droppedBefore = journal.getDroppedCount();
+        Thread.currentThread().interrupt();
+        journal.append(GameEvent.of(9L, GameEventType.PAUSED, 30));
+        assertThat(Thread.interrupted()).isTrue();
+        journal.shutdown();
+        journal.append(GameEvent.of(9L, GameEventType.ENDED, 30));
+        assertThat(journal.getDroppedCount()).isEqualTo(droppedBefore + 2);
+    }
+
+    @Test
+    @DisplayName("게임 하나의 이벤트는 기록된 순서대로 다시 읽을 수 있다")
+    void readsTimeline() {
+        // given
+        GameJournal journal = new GameJournal(jdbcTemplate, 500, 1_000, 1_000, 30_000, 1_000);
+        playedGame(7L, 70L, 200, 260).forEach(journal::append);
+        journal.append(GameEvent.started(8L, 80L)); // 다른 게임
+        journal.flush();
+
+        // when
+        List<GameEvent> timeline = reader.timeline(7L);
+        GameSummary summary = reader.summarize(7L).orElseThrow();
+
+        // then
+        assertThat(timeline).extracting(GameEvent::type).containsExactly(
+                GameEventType.STARTED,
+                GameEventType.PHASE_CHANGED, GameEventType.PHASE_CHANGED, GameEventType.PHASE_CHANGED,
+                GameEventType.PHASE_CHANGED, GameEventType.PHASE_CHANGED, GameEventType.PHASE_CHANGED,
+                GameEventType.PHASE_CHANGED,
+                GameEventType.PAUSED, GameEventType.RESUMED,
+                GameEventType.TRADE, GameEventType.TRADE,
+                GameEventType.ENDED);
+        GameEvent sell = timeline.get(11);
+        assertThat(sell.memberId()).isEqualTo(70L);
+        assertThat(sell.symbol()).isEqualTo("AAPL");
+        assertThat(sell.tradeType()).isEqualTo(TradeType.SELL);
+        assertThat(sell.second()).isEqualTo(300);
+        assertThat(sell.points()).isEqualTo(260);
+        assertThat(timeline.get(1).memberId()).isNull();
+
+        assertThat(summary.getPointsSpent()).isEqualTo(200);
+        assertThat(summary.getPointsEarned()).isEqualTo(260);
+        assertThat(reader.summarize(9L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리더보드는 끝난 게임만 거래 수익 순으로 보여준다")
+    void ranksEndedGames() {
+        // given
+        GameJournal journal = new GameJournal(jdbcTemplate, 500, 1_000, 1_000, 30_000, 1_000);
+        playedGame(1L, 10L, 100, 150).forEach(journal::append); // +50
+        playedGame(2L, 20L, 100, 400).forEach(journal::append); // +300
+        playedGame(3L, 30L, 100, 50).forEach(journal::append);  // -50
+        playedGame(4L, 40L, 100, 200).forEach(journal::append); // +100
+        journal.append(GameEvent.started(5L, 50L));             // 진행 중
+        journal.append(GameEvent.trade(5L, 50L, 120, "TSLA", TradeType.SELL, 1, 9_999, 9_999));
+        journal.flush();
+
+        // when
+        List<GameSummary> top = reader.leaderboard(3);
+
+        // then
+        assertThat(top).extracting(GameSummary::getGameId).containsExactly(2L, 4L, 1L);
+        assertThat(top).extracting(GameSummary::getNetPoints).containsExactly(300L, 100L, 50L);
+    }
+}
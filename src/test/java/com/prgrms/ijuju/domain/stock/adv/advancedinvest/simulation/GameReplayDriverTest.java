@@ -0,0 +1,107 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.simulation;
+
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer.GameTimingWheel;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshotHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties = {
+        "advanced-invest.clock.mode=step",
+        "advanced-invest.simulation.count-queries=true"
+})
+@ActiveProfiles("test")
+class GameReplayDriverTest {
+
+    @Autowired
+    private GameReplayDriver gameReplayDriver;
+    @Autowired
+    private GameTimingWheel gameTimingWheel;
+    @Autowired
+    private AdvStockRepository advStockRepository;
+    @Autowired
+    private MarketSnapshotHolder marketSnapshotHolder;
+
+    private static final String SYMBOL = "RP" + UUID.randomUUID().toString().substring(0, 6);
+
+    private static CandleBlock block(int size) {
+        double[] prices = DoubleStream.generate(() -> 100).limit(size).toArray();
+        return new CandleBlock(prices, prices, prices, prices,
+                LongStream.rangeClosed(1, size).map(i -> i * 1000).toArray(),
+                LongStream.rangeClosed(1, size).toArray());
+    }
+
+    @BeforeEach
+    void setUp() {
+        if (!marketSnapshotHolder.current().contains(SYMBOL)) {
+            for (DataType dataType : List.of(DataType.REFERENCE, DataType.LIVE)) {
+                advStockRepository.save(AdvStock.builder()
+                        .symbol(SYMBOL)
+                        .name(SYMBOL + " Name")
+                        .dataType(dataType)
+                        .block(block(dataType == DataType.REFERENCE ? 30 : 6))
+                        .build());
+            }
+            marketSnapshotHolder.refresh();
+        }
+    }
+
+    @Test
+    @DisplayName("STEP 시계로 1,000 게임의 420초 시나리오(주문, 일시정지, 재개) 를 실제 7분 없이 끝까지 돌린다")
+    void replaysThousandGames() throws InterruptedException {
+        // given : 장전 매수 -> 장중 매수/일시정지/재개 -> 장후 매도
+        ReplayScript script = new ReplayScript(10_000, List.of(
+                ReplayScript.Step.buy(30, SYMBOL, 2),
+                ReplayScript.Step.buy(90, SYMBOL, 3),
+                ReplayScript.Step.pause(150),
+                ReplayScript.Step.resume(170),
+                ReplayScript.Step.sell(400, SYMBOL, 5)
+        ));
+
+        // when
+        long started = System.currentTimeMillis();
+        ReplayReport report = gameReplayDriver.run(script, 1_000);
+        long elapsed = System.currentTimeMillis() - started;
+
+        // then
+        assertThat(report.completedGames()).isEqualTo(1_000);
+        assertThat(report.trades()).isEqualTo(3_000);
+        assertThat(report.rejectedTrades()).isZero();
+        assertThat(report.tradeLatencyP50Millis()).isLessThanOrEqualTo(report.tradeLatencyP99Millis());
+        assertThat(report.queries()).isPositive();
+        assertThat(report.queriesPerGame()).isGreaterThan(0);
+        // ReferenceData 1 + LiveData 6 + 종료 1 + 장 열림/닫힘 안내 2 이상
+        assertThat(report.messagesPerGame()).isGreaterThanOrEqualTo(10);
+        assertThat(elapsed).isLessThan(420_000);
+    }
+
+    @Test
+    @DisplayName("STEP 모드의 휠만 수동으로 진행할 수 있다")
+    void advanceOnlyInStepMode() {
+        // given
+        long before = gameTimingWheel.currentTick();
+        GameTimingWheel realtime = new GameTimingWheel(1000, 1, 10);
+
+        // when
+        gameTimingWheel.advance(3);
+
+        // then
+        assertThat(gameTimingWheel.currentTick()).isEqualTo(before + 3);
+        assertThatThrownBy(() -> realtime.advance(1)).isInstanceOf(IllegalStateException.class);
+    }
+}
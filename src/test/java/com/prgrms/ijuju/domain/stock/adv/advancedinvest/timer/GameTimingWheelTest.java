@@ -0,0 +1,113 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.timer;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GameTimingWheelTest {
+
+    private GameTimingWheel wheel;
+
+    @AfterEach
+    void tearDown() {
+        if (wheel != null) {
+            wheel.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("예약한 단계가 0초부터 420초까지 순서대로 실행된다")
+    void firesPhasesInOrder() throws InterruptedException {
+        // given
+        wheel = new GameTimingWheel(2, 2, 100);
+        wheel.start();
+        List<Integer> fired = new CopyOnWriteArrayList<>();
+        CountDownLatch ended = new CountDownLatch(1);
+
+        GameState state = new GameState(1L, null, 0, wheel.currentTick());
+
+        // when
+        wheel.schedule(state, 0, new GamePhaseListener() {
+            @Override
+            public void onPhase(GameState s, int second) {
+                fired.add(second);
+                if (second == 420) {
+                    ended.countDown();
+                    return;
+                }
+                wheel.schedule(s, second + 60, this);
+            }
+        });
+
+        // then
+        assertThat(ended.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(fired).containsExactly(0, 60, 120, 180, 240, 300, 360, 420);
+    }
+
+    @Test
+    @DisplayName("일시정지된 게임의 예약은 실행되지 않는다")
+    void skipsDeactivatedGame() throws InterruptedException {
+        // given
+        wheel = new GameTimingWheel(2, 1, 10);
+        wheel.start();
+        AtomicLong fired = new AtomicLong();
+        GameState state = new GameState(1L, null, 0, wheel.currentTick());
+
+        // when
+        wheel.schedule(state, 30, (s, second) -> fired.incrementAndGet());
+        state.deactivate(wheel.currentTick(), 420);
+        Thread.sleep(200);
+
+        // then
+        assertThat(fired.get()).isZero();
+        assertThat(state.currentSecond(wheel.currentTick(), 420)).isLessThan(30);
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 게임 10,000개에서도 1초 틱 지터가 50ms 미만이다")
+    void tenThousandGamesKeepTickJitter() throws InterruptedException {
+        // given
+        int games = 10_000;
+        wheel = new GameTimingWheel(1000, 8, 20_000);
+        wheel.start();
+        AtomicLong fired = new AtomicLong();
+        GamePhaseListener listener = new GamePhaseListener() {
+            @Override
+            public void onPhase(GameState s, int second) {
+                fired.incrementAndGet();
+                // 단계 처리에 시간이 걸리는 상황을 흉내냅니다
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (second < 420) {
+                    wheel.schedule(s, second + 1, this);
+                }
+            }
+        };
+
+        // 시작 시점을 흩뿌려서 매 틱마다 수천 개의 이벤트가 발생하도록 합니다
+        for (int i = 0; i < games; i++) {
+            GameState state = new GameState((long) i, null, i % 5, wheel.currentTick());
+            wheel.schedule(state, (i % 5) + 1, listener);
+        }
+
+        // when
+        Thread.sleep(1500);
+        wheel.resetJitter(); // 워밍업 구간 제외
+        Thread.sleep(5000);
+
+        // then
+        assertThat(fired.get()).isGreaterThan(games);
+        assertThat(wheel.getMaxTickJitterMillis()).isLessThan(50);
+    }
+}
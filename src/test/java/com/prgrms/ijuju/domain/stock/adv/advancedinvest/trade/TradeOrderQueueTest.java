@@ -0,0 +1,145 @@
+package com.prgrms.ijuju.domain.stock.adv.advancedinvest.trade;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshotHolder;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.repository.StockPositionRepository;
+import com.prgrms.ijuju.domain.wallet.entity.Wallet;
+import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class TradeOrderQueueTest {
+
+    @Autowired
+    private TradeOrderQueue tradeOrderQueue;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private AdvancedInvestRepository advancedInvestRepository;
+    @Autowired
+    private AdvStockRepository advStockRepository;
+    @Autowired
+    private StockPositionRepository stockPositionRepository;
+    @Autowired
+    private MarketSnapshotHolder marketSnapshotHolder;
+
+    private static final String SYMBOL = "TQ" + UUID.randomUUID().toString().substring(0, 6);
+
+    @BeforeEach
+    void setUp() {
+        if (!marketSnapshotHolder.current().contains(SYMBOL)) {
+            // 최신 종가 100 인 종목
+            advStockRepository.save(AdvStock.builder()
+                    .symbol(SYMBOL)
+                    .name(SYMBOL + " Name")
+                    .dataType(DataType.LIVE)
+                    .block(new CandleBlock(new double[]{100}, new double[]{100}, new double[]{100},
+                            new double[]{100}, new long[]{1}, new long[]{1}))
+                    .build());
+            marketSnapshotHolder.refresh();
+        }
+    }
+
+    private Long createGame(long points) {
+        String loginId = "tq" + UUID.randomUUID().toString().substring(0, 8);
+        Member member = memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .pw("test1234@")
+                .username(loginId)
+                .email(loginId + "@test.com")
+                .birth(LocalDate.parse("2000-01-01"))
+                .build());
+        walletRepository.save(Wallet.builder()
+                .member(member)
+                .currentCoins(0L)
+                .currentPoints(points)
+                .build());
+        return advancedInvestRepository.save(AdvancedInvest.builder()
+                .member(member)
+                .startTime(System.currentTimeMillis())
+                .build()).getId();
+    }
+
+    private Long memberOf(Long advId) {
+        return advancedInvestRepository.findById(advId).orElseThrow().getMember().getId();
+    }
+
+    @Test
+    @DisplayName("같은 회원의 주문은 들어온 순서대로 처리되고, 포인트가 부족한 주문만 거절된다")
+    void keepsPerMemberOrdering() {
+        // given : 1,000 포인트, 1주 = 100 포인트
+        Long advId = createGame(1_000);
+        Long memberId = memberOf(advId);
+
+        // when : 6주 구매 -> 5주 구매(거절) -> 3주 판매 -> 6주 구매
+        List<CompletableFuture<TradeResult>> futures = List.of(
+                tradeOrderQueue.submit(new TradeOrder(advId, memberId, SYMBOL, TradeType.BUY, 6)),
+                tradeOrderQueue.submit(new TradeOrder(advId, memberId, SYMBOL, TradeType.BUY, 5)),
+                tradeOrderQueue.submit(new TradeOrder(advId, memberId, SYMBOL, TradeType.SELL, 3)),
+                tradeOrderQueue.submit(new TradeOrder(advId, memberId, SYMBOL, TradeType.BUY, 6))
+        );
+        List<TradeResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+        // then
+        assertThat(results).extracting(TradeResult::success).containsExactly(true, false, true, true);
+        assertThat(results.get(3).remainingPoints()).isEqualTo(100);
+        assertThat(walletRepository.findAll()).filteredOn(w -> w.getMember().getId().equals(memberId))
+                .singleElement().extracting(Wallet::getCurrentPoints).isEqualTo(100L);
+        StockPosition position = stockPositionRepository.findByAdvIdAndSymbol(advId, SYMBOL).orElseThrow();
+        assertThat(position.getQuantity()).isEqualTo(9.0);
+    }
+
+    @Test
+    @DisplayName("여러 회원이 동시에 주문하면 묶음으로 처리된다")
+    void groupsBurstIntoBatches() {
+        // given
+        List<Long> games = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            games.add(createGame(10_000));
+        }
+        List<Long> members = games.stream().map(this::memberOf).toList();
+        long batchesBefore = tradeOrderQueue.getBatchCount();
+
+        // when : 장 시작 순간처럼 모든 회원이 한 번에 10건씩 주문
+        List<CompletableFuture<TradeResult>> futures = new ArrayList<>();
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < games.size(); i++) {
+                futures.add(tradeOrderQueue.submit(new TradeOrder(games.get(i), members.get(i), SYMBOL, TradeType.BUY, 1)));
+            }
+        }
+        futures.forEach(CompletableFuture::join);
+
+        // then
+        assertThat(futures).allSatisfy(future -> assertThat(future.join().success()).isTrue());
+        assertThat(tradeOrderQueue.getBatchCount() - batchesBefore).isLessThan(futures.size());
+        for (Long advId : games) {
+            assertThat(stockPositionRepository.findByAdvIdAndSymbol(advId, SYMBOL).orElseThrow().getQuantity())
+                    .isEqualTo(10.0);
+        }
+    }
+}
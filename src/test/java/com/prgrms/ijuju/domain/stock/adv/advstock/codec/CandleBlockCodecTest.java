@@ -0,0 +1,85 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.codec;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CandleBlockCodecTest {
+
+    private CandleBlock sample(int count) {
+        double[] open = new double[count];
+        double[] high = new double[count];
+        double[] low = new double[count];
+        double[] close = new double[count];
+        long[] volumes = new long[count];
+        long[] timestamps = new long[count];
+        for (int i = 0; i < count; i++) {
+            open[i] = 100 + i * 0.25;
+            high[i] = open[i] + 1.5;
+            low[i] = open[i] - 1.5;
+            close[i] = open[i] + 0.5;
+            volumes[i] = 1_000_000L + i;
+            timestamps[i] = 1_700_000_000_000L + i * 86_400_000L;
+        }
+        return new CandleBlock(open, high, low, close, volumes, timestamps);
+    }
+
+    @Test
+    @DisplayName("인코딩한 블록을 디코딩하면 모든 값이 그대로 복원된다")
+    void roundTrip() {
+        // given
+        CandleBlock block = sample(365);
+
+        // when
+        CandleBlock decoded = CandleBlockCodec.decode(CandleBlockCodec.encode(block));
+
+        // then
+        assertThat(decoded.size()).isEqualTo(365);
+        assertThat(decoded.getOpenPrices()).containsExactly(block.getOpenPrices());
+        assertThat(decoded.getHighPrices()).containsExactly(block.getHighPrices());
+        assertThat(decoded.getLowPrices()).containsExactly(block.getLowPrices());
+        assertThat(decoded.getClosePrices()).containsExactly(block.getClosePrices());
+        assertThat(decoded.getVolumes()).containsExactly(block.getVolumes());
+        assertThat(decoded.getTimestamps()).containsExactly(block.getTimestamps());
+    }
+
+    @Test
+    @DisplayName("인코딩 크기는 헤더 + 캔들당 48바이트로 고정된다")
+    void fixedWidthSize() {
+        // when
+        byte[] bytes = CandleBlockCodec.encode(sample(365));
+
+        // then
+        assertThat(bytes).hasSize(CandleBlockCodec.HEADER_BYTES + 365 * 48);
+        assertThat(CandleBlockCodec.decode(CandleBlockCodec.encode(CandleBlock.EMPTY)).size()).isZero();
+    }
+
+    @Test
+    @DisplayName("포맷이 다른 바이트는 디코딩하지 않는다")
+    void rejectsForeignBytes() {
+        // given
+        byte[] bytes = CandleBlockCodec.encode(sample(3));
+        bytes[0] = 0;
+
+        // when & then
+        assertThatThrownBy(() -> CandleBlockCodec.decode(bytes))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("slice 는 해당 인덱스의 캔들 하나만 담는다")
+    void slice() {
+        // given
+        CandleBlock block = sample(10);
+
+        // when
+        CandleBlock one = block.slice(3);
+
+        // then
+        assertThat(one.size()).isEqualTo(1);
+        assertThat(one.getClosePrices()[0]).isEqualTo(block.getClosePrices()[3]);
+        assertThat(one.getTimestamps()[0]).isEqualTo(block.getTimestamps()[3]);
+    }
+}
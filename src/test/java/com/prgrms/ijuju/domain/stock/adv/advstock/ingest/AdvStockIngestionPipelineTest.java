@@ -0,0 +1,171 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.ingest;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockDataFetcher;
+import com.prgrms.ijuju.domain.stock.adv.advstock.service.AdvStockServiceImpl;
+import com.prgrms.ijuju.domain.stock.adv.advstock.snapshot.MarketSnapshotHolder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 로컬 스텁 HTTP 서버(지연 + 429 주입)를 상대로 수집 파이프라인을 검증합니다.
+ */
+class AdvStockIngestionPipelineTest {
+
+    private static final String CANDLES = """
+            {"adjusted":true,"queryCount":2,"status":"OK","ticker":"%s","results":[
+            {"c":101.5,"h":102.0,"l":99.5,"o":100.0,"t":1700000000000,"v":1000,"vw":100.7},
+            {"c":102.5,"h":103.0,"l":100.5,"o":101.5,"t":1700003600000,"v":1200,"vw":101.9}]}
+            """;
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> attempts = new ConcurrentHashMap<>();
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private volatile String failingSymbol;
+
+    private AdvStockRepository advStockRepository;
+    private MarketSnapshotHolder marketSnapshotHolder;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/v2/aggs/ticker/", this::handle);
+        server.setExecutor(Executors.newFixedThreadPool(32));
+        server.start();
+
+        advStockRepository = mock(AdvStockRepository.class);
+        marketSnapshotHolder = mock(MarketSnapshotHolder.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    // 요청마다 10ms 지연, 각 URL 의 첫 번째 요청은 429 로 응답합니다
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        String path = exchange.getRequestURI().getPath();
+        String symbol = path.split("/")[4];
+        try {
+            Thread.sleep(10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        int status;
+        byte[] body;
+        if (symbol.equals(failingSymbol)) {
+            status = 500;
+            body = "{}".getBytes(StandardCharsets.UTF_8);
+        } else if (attempts.computeIfAbsent(path, key -> new AtomicInteger()).getAndIncrement() == 0) {
+            throttled.incrementAndGet();
+            status = 429;
+            body = "{\"status\":\"ERROR\"}".getBytes(StandardCharsets.UTF_8);
+        } else {
+            status = 200;
+            body = CANDLES.formatted(symbol).getBytes(StandardCharsets.UTF_8);
+        }
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private AdvStockIngestionPipeline pipeline(double requestsPerMinute, int burst) {
+        String baseUrl = "http://127.0.0.1:" + server.getAddress().getPort();
+        AdvStockDataFetcher fetcher = new AdvStockDataFetcher(
+                new PolygonRateLimiter(requestsPerMinute, burst), "test-key", baseUrl, 3, 5);
+        return new AdvStockIngestionPipeline(fetcher, new AdvStockServiceImpl(advStockRepository),
+                marketSnapshotHolder, 16, 120);
+    }
+
+    private List<String> symbols(int count) {
+        return IntStream.range(0, count).mapToObj(i -> "SYM" + i).toList();
+    }
+
+    @Test
+    @DisplayName("429 를 받아도 재시도해서 500개 종목을 모두 수집한 뒤 한 번에 교체한다")
+    @SuppressWarnings("unchecked")
+    void refreshesFiveHundredSymbols() {
+        // given
+        AdvStockIngestionPipeline pipeline = pipeline(60_000, 100);
+        List<String> symbols = symbols(500);
+
+        // when
+        long start = System.nanoTime();
+        int saved = pipeline.refresh(symbols);
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.printf("500 종목 수집: %dms, 요청 %d회 (429 %d회)%n", elapsedMillis, requests.get(), throttled.get());
+
+        // then
+        assertThat(saved).isEqualTo(1500);
+        assertThat(throttled.get()).isEqualTo(1500);
+        assertThat(requests.get()).isEqualTo(3000);
+
+        ArgumentCaptor<List<AdvStock>> captor = ArgumentCaptor.forClass(List.class);
+        verify(advStockRepository).saveAll(captor.capture());
+        assertThat(captor.getValue()).hasSize(1500);
+        assertThat(captor.getValue()).filteredOn(stock -> stock.getDataType() == DataType.LIVE).hasSize(500);
+        verify(advStockRepository).deleteByDataType(DataType.REFERENCE);
+        verify(marketSnapshotHolder).refresh();
+    }
+
+    @Test
+    @DisplayName("한 종목이라도 실패하면 기존 데이터를 지우지 않는다")
+    void keepsExistingDataOnFailure() {
+        // given
+        AdvStockIngestionPipeline pipeline = pipeline(60_000, 100);
+        failingSymbol = "SYM7";
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.refresh(symbols(20)))
+                .isInstanceOf(IllegalStateException.class);
+        verify(advStockRepository, never()).deleteByDataType(any());
+        verify(advStockRepository, never()).saveAll(any());
+        verify(marketSnapshotHolder, never()).refresh();
+    }
+
+    @Test
+    @DisplayName("토큰 버킷이 분당 호출 수를 제한한다")
+    void rateLimiterPacesRequests() throws InterruptedException {
+        // given : 초당 20회, 버스트 1
+        PolygonRateLimiter limiter = new PolygonRateLimiter(1200, 1);
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < 21; i++) {
+            limiter.acquire();
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // then : 첫 토큰 이후 20개는 50ms 간격
+        assertThat(elapsedMillis).isGreaterThanOrEqualTo(950);
+    }
+}
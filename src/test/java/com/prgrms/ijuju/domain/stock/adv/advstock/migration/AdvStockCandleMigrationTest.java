@@ -0,0 +1,216 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.migration;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.codec.CandleBlockCodec;
+import com.prgrms.ijuju.domain.stock.adv.advstock.entity.AdvStock;
+import com.prgrms.ijuju.domain.stock.adv.advstock.repository.AdvStockRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AdvStockCandleMigrationTest {
+
+    private static final String[] VALUE_COLUMNS = {
+            "open_prices", "high_prices", "low_prices", "close_prices", "volumes", "timestamps"
+    };
+
+    @Autowired
+    private AdvStockCandleMigration migration;
+    @Autowired
+    private AdvStockRepository advStockRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        createLegacyTables(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dropLegacyTables();
+        ids.forEach(id -> jdbcTemplate.update("DELETE FROM adv_stock WHERE id = ?", id));
+        ids.clear();
+    }
+
+    private void createLegacyTables(boolean withOrderColumn) {
+        for (String column : VALUE_COLUMNS) {
+            String type = column.equals("volumes") || column.equals("timestamps") ? "BIGINT" : "DOUBLE";
+            jdbcTemplate.execute("CREATE TABLE adv_stock_" + column + " (adv_stock_id BIGINT NOT NULL, "
+                    + column + " " + type
+                    + (withOrderColumn ? ", " + column + "_order INT NOT NULL" : "") + ")");
+        }
+    }
+
+    private void dropLegacyTables() {
+        for (String column : VALUE_COLUMNS) {
+            jdbcTemplate.execute("DROP TABLE IF EXISTS adv_stock_" + column);
+        }
+    }
+
+    // candles 가 비어 있는 옛 종목 행을 만들고, 캔들은 order 순서의 역순으로 옛 테이블에 넣습니다
+    private Long insertLegacyStock(String symbol, int count, boolean withOrderColumn) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO adv_stock (symbol, name, candle_count, data_type) VALUES (?, ?, 0, 'REFERENCE')",
+                    Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, symbol);
+            ps.setString(2, symbol);
+            return ps;
+        }, keyHolder);
+        Long id = Objects.requireNonNull(keyHolder.getKey()).longValue();
+        ids.add(id);
+
+        for (String column : VALUE_COLUMNS) {
+            List<Object[]> rows = new ArrayList<>(count);
+            for (int i = count - 1; i >= 0; i--) {
+                Object value = switch (column) {
+                    case "volumes" -> 1_000L + i;
+                    case "timestamps" -> 1_700_000_000_000L + i * 86_400_000L;
+                    default -> 100.0 + i;
+                };
+                rows.add(withOrderColumn ? new Object[]{id, value, i} : new Object[]{id, value});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO adv_stock_" + column + " VALUES (?, ?" + (withOrderColumn ? ", ?" : "") + ")", rows);
+        }
+        return id;
+    }
+
+    private byte[] candles(Long id) {
+        return jdbcTemplate.queryForObject("SELECT candles FROM adv_stock WHERE id = ?", byte[].class, id);
+    }
+
+    @Test
+    @DisplayName("순서 컬럼이 있으면 그 순서대로 옮긴다")
+    void migratesInOrderColumnOrder() {
+        // given
+        Long id = insertLegacyStock("ORDR", 30, true);
+
+        // when
+        migration.migrate();
+
+        // then
+        CandleBlock block = CandleBlockCodec.decode(candles(id));
+        assertThat(block.size()).isEqualTo(30);
+        assertThat(block.getTimestamps()).isSorted();
+        assertThat(block.getOpenPrices()[0]).isEqualTo(100.0);
+        assertThat(block.getVolumes()[29]).isEqualTo(1_029L);
+    }
+
+    @Test
+    @DisplayName("열 길이가 다르거나 순서 컬럼 없이 시간이 섞인 종목은 건너뛰고 나머지는 옮긴다")
+    void skipsBrokenStocks() {
+        // given : 길이가 다른 종목과 정상 종목
+        Long broken = insertLegacyStock("BRKN", 10, true);
+        jdbcTemplate.update("DELETE FROM adv_stock_volumes WHERE adv_stock_id = ? AND volumes_order = 0", broken);
+        Long healthy = insertLegacyStock("HLTH", 10, true);
+
+        // when
+        migration.migrate();
+
+        // then
+        assertThat(candles(broken)).isNull();
+        assertThat(CandleBlockCodec.decode(candles(healthy)).size()).isEqualTo(10);
+
+        // given : 순서 컬럼이 없고 역순으로 저장된 종목
+        dropLegacyTables();
+        createLegacyTables(false);
+        Long unordered = insertLegacyStock("UNOR", 10, false);
+
+        // when
+        migration.migrate();
+
+        // then
+        assertThat(candles(unordered)).isNull();
+    }
+
+    @Test
+    @DisplayName("호환용 List 는 한 번 만든 뷰를 재사용한다")
+    void compatListsAreCached() {
+        // given
+        Long id = insertLegacyStock("LIST", 5, true);
+        migration.migrate();
+
+        // when / then
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            AdvStock stock = advStockRepository.findById(id).orElseThrow();
+            assertThat(stock.getClosePrices()).isSameAs(stock.getClosePrices())
+                    .containsExactly(100.0, 101.0, 102.0, 103.0, 104.0);
+            assertThat(stock.getTimestamps()).isSameAs(stock.getTimestamps()).hasSize(5);
+        });
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 종목 200개 x 캔들 365개 로딩 - 옛 @ElementCollection 테이블 vs 캔들 블록")
+    void benchmarkLoad() {
+        // given
+        int stocks = 200;
+        int candles = 365;
+        List<Long> benchmarkIds = new ArrayList<>(stocks);
+        for (int i = 0; i < stocks; i++) {
+            benchmarkIds.add(insertLegacyStock("B" + i, candles, true));
+        }
+        migration.migrate();
+
+        // when : 옛 방식 (종목마다 여섯 테이블을 읽어 박싱된 List 로 보관)
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        long start = System.nanoTime();
+        List<List<List<?>>> legacy = new ArrayList<>(stocks);
+        for (Long id : benchmarkIds) {
+            List<List<?>> columns = new ArrayList<>(VALUE_COLUMNS.length);
+            for (String column : VALUE_COLUMNS) {
+                Class<?> type = column.equals("volumes") || column.equals("timestamps") ? Long.class : Double.class;
+                columns.add(jdbcTemplate.queryForList("SELECT " + column + " FROM adv_stock_" + column
+                        + " WHERE adv_stock_id = ? ORDER BY " + column + "_order", type, id));
+            }
+            legacy.add(columns);
+        }
+        long legacyNanos = System.nanoTime() - start;
+        System.gc();
+        long legacyHeap = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+
+        // 캔들 블록 (종목 조회 + 블록 디코딩)
+        List<CandleBlock> blocks = new ArrayList<>(stocks);
+        System.gc();
+        heapBefore = runtime.totalMemory() - runtime.freeMemory();
+        start = System.nanoTime();
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                advStockRepository.findAllById(benchmarkIds).forEach(stock -> blocks.add(stock.getBlock())));
+        long blockNanos = System.nanoTime() - start;
+        System.gc();
+        long blockHeap = runtime.totalMemory() - runtime.freeMemory() - heapBefore;
+
+        // then
+        System.out.printf("종목 %d개 x 캔들 %d개 로딩 - 옛 테이블: %dms (쿼리 %,d번), 캔들 블록: %dms (쿼리 1번)%n",
+                stocks, candles, legacyNanos / 1_000_000, stocks * VALUE_COLUMNS.length, blockNanos / 1_000_000);
+        System.out.printf("보관 힙 (대략) - 박싱 List: %,dKB, 캔들 블록: %,dKB%n", legacyHeap / 1024, blockHeap / 1024);
+        assertThat(legacy).hasSize(stocks);
+        assertThat(blocks).hasSize(stocks).allSatisfy(block -> assertThat(block.size()).isEqualTo(candles));
+    }
+}
@@ -0,0 +1,89 @@
+package com.prgrms.ijuju.domain.stock.adv.advstock.snapshot;
+
+import com.prgrms.ijuju.domain.stock.adv.advstock.constant.DataType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VolumeWindowsTest {
+
+    private static SymbolSeries series(DataType dataType, long[] volumes) {
+        double[] prices = new double[volumes.length];
+        return new SymbolSeries("AAPL", "Apple", dataType, prices, prices, prices, prices, volumes, new long[volumes.length]);
+    }
+
+    // 기존 getRecentVolumes 의 조합 방식
+    private static List<Long> legacyWindow(long[] reference, long[] live, int counter) {
+        int referenceCount = Math.max(0, 8 - counter);
+        int liveCount = Math.min(counter, 8);
+        List<Long> combined = new ArrayList<>();
+        for (int i = Math.max(reference.length - referenceCount, 0); i < reference.length; i++) {
+            combined.add(reference[i]);
+        }
+        for (int i = 0; i < Math.min(liveCount, live.length); i++) {
+            combined.add(live[i]);
+        }
+        return combined;
+    }
+
+    @Test
+    @DisplayName("liveSentCounter 0 ~ 8 의 창이 기존 조합 방식과 같다")
+    void matchesLegacyCombination() {
+        // given
+        long[] reference = LongStream.rangeClosed(1, 30).toArray();
+        long[] live = LongStream.rangeClosed(101, 106).toArray(); // LiveData 는 6개
+
+        // when
+        VolumeWindows windows = VolumeWindows.of(series(DataType.REFERENCE, reference), series(DataType.LIVE, live));
+
+        // then
+        for (int counter = 0; counter <= 8; counter++) {
+            assertThat(windows.window(counter)).containsExactly(
+                    legacyWindow(reference, live, counter).stream().mapToLong(Long::longValue).toArray());
+        }
+        assertThat(windows.window(2)).containsExactly(25, 26, 27, 28, 29, 30, 101, 102);
+        assertThat(windows.volumesJson(2)).isEqualTo("{\"volumes\":[25,26,27,28,29,30,101,102]}");
+        assertThat(windows.pushJson(0)).isEqualTo("{\"symbol\":\"AAPL\",\"volumes\":[23,24,25,26,27,28,29,30]}");
+    }
+
+    @Test
+    @DisplayName("데이터가 8개보다 적어도 있는 만큼만 담고, 범위를 벗어난 카운터는 끝 값으로 맞춘다")
+    void handlesShortSeries() {
+        // given
+        long[] reference = {1, 2, 3};
+        long[] live = {10};
+
+        // when
+        VolumeWindows windows = VolumeWindows.of(series(DataType.REFERENCE, reference), series(DataType.LIVE, live));
+
+        // then
+        for (int counter = 0; counter <= 8; counter++) {
+            assertThat(windows.window(counter)).containsExactly(
+                    legacyWindow(reference, live, counter).stream().mapToLong(Long::longValue).toArray());
+        }
+        assertThat(windows.window(-1)).isSameAs(windows.window(0));
+        assertThat(windows.window(20)).isSameAs(windows.window(8));
+    }
+
+    @Test
+    @DisplayName("스냅샷은 REFERENCE 와 LIVE 가 모두 있는 종목만 창을 만든다")
+    void snapshotBuildsWindowsForCompleteSymbols() {
+        // given
+        SymbolSeries reference = series(DataType.REFERENCE, new long[]{1, 2});
+        SymbolSeries live = series(DataType.LIVE, new long[]{3});
+
+        // when
+        MarketSnapshot complete = MarketSnapshot.ofSeries(1L, List.of(reference, live));
+        MarketSnapshot referenceOnly = MarketSnapshot.ofSeries(2L, List.of(reference));
+
+        // then
+        assertThat(complete.volumeWindows("AAPL")).isPresent();
+        assertThat(complete.volumeWindows("AAPL").get().window(1)).containsExactly(1, 2, 3);
+        assertThat(referenceOnly.volumeWindows("AAPL")).isEmpty();
+    }
+}
@@ -0,0 +1,120 @@
+package com.prgrms.ijuju.domain.stock.adv.stockrecord.service;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.entity.AdvancedInvest;
+import com.prgrms.ijuju.domain.stock.adv.advancedinvest.repository.AdvancedInvestRepository;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.constant.TradeType;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.dto.request.StockRecordRequestDto;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.entity.StockPosition;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.repository.StockPositionRepository;
+import com.prgrms.ijuju.domain.stock.adv.stockrecord.scheduler.StockPositionReconciler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class StockRecordServiceTest {
+
+    @Autowired
+    private StockRecordService stockRecordService;
+    @Autowired
+    private StockPositionRepository stockPositionRepository;
+    @Autowired
+    private StockPositionReconciler stockPositionReconciler;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private AdvancedInvestRepository advancedInvestRepository;
+
+    private Member member;
+    private Long advId;
+
+    @BeforeEach
+    void setUp() {
+        member = memberRepository.save(Member.builder()
+                .loginId("position1")
+                .pw("test1234@")
+                .username("position")
+                .email("position@test.com")
+                .birth(LocalDate.parse("2000-01-01"))
+                .build());
+        advId = advancedInvestRepository.save(AdvancedInvest.builder()
+                .member(member)
+                .startTime(System.currentTimeMillis())
+                .build()).getId();
+    }
+
+    private void trade(TradeType tradeType, double quantity, long price) {
+        stockRecordService.saveRecord(StockRecordRequestDto.builder()
+                .memberId(member.getId())
+                .advId(advId)
+                .stockSymbol("AAPL")
+                .tradeType(tradeType)
+                .quantity(quantity)
+                .price(BigDecimal.valueOf(price))
+                .build(), member);
+    }
+
+    @Test
+    @DisplayName("거래를 저장하면 포지션의 보유량, 평균 단가, 실현 손익이 함께 갱신된다")
+    void saveRecordUpdatesPosition() {
+        // given
+        trade(TradeType.BUY, 10, 100);
+        trade(TradeType.BUY, 10, 120);
+
+        // when
+        trade(TradeType.SELL, 5, 130);
+
+        // then
+        StockPosition position = stockPositionRepository.findByAdvIdAndSymbol(advId, "AAPL").orElseThrow();
+        assertThat(stockRecordService.calculateOwnedStock(advId, "AAPL")).isEqualTo(15.0);
+        assertThat(stockRecordService.calculateAllOwnedStocks(advId)).containsEntry("AAPL", 15.0);
+        assertThat(position.getAverageCost()).isEqualByComparingTo("110");
+        assertThat(position.getTotalCost()).isEqualByComparingTo("1650");
+        assertThat(position.getRealizedPnl()).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("보유량보다 많이 판매하면 예외가 발생한다")
+    void sellMoreThanOwned() {
+        // given
+        trade(TradeType.BUY, 3, 100);
+
+        // when & then
+        assertThatThrownBy(() -> trade(TradeType.SELL, 4, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("reconcile 은 거래 내역과 다른 포지션을 찾아 바로잡는다")
+    void reconcileFixesDrift() {
+        // given
+        trade(TradeType.BUY, 10, 100);
+        trade(TradeType.SELL, 4, 110);
+        assertThat(stockPositionReconciler.reconcile().clean()).isTrue();
+
+        StockPosition position = stockPositionRepository.findByAdvIdAndSymbol(advId, "AAPL").orElseThrow();
+        position.apply(TradeType.BUY, 1, BigDecimal.ONE); // 거래 내역 없이 포지션만 변경
+
+        // when
+        StockPositionReconciler.ReconcileReport report = stockPositionReconciler.reconcile();
+
+        // then
+        assertThat(report.drifted()).isEqualTo(1);
+        assertThat(stockRecordService.calculateOwnedStock(advId, "AAPL")).isEqualTo(6.0);
+        assertThat(position.getRealizedPnl()).isEqualByComparingTo("40");
+    }
+}
@@ -0,0 +1,194 @@
+package com.prgrms.ijuju.domain.stock.mid.cache;
+
+import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockPriceResponse;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.event.MidStockPricesRolledOverEvent;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MidStockPriceCacheTest {
+
+    private static final int DAYS = 15;
+
+    @Autowired
+    private MidStockRepository midStockRepository;
+    @Autowired
+    private MidStockPriceRepository midStockPriceRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // 오늘 기준 -15일 ~ +15일, 매일 00:01 가격. avg 는 base + 날짜 차이
+    private MidStock stockWithPrices(String name, long base) {
+        MidStock stock = midStockRepository.save(new MidStock(name));
+        LocalDateTime today = LocalDate.now().atTime(0, 1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int day = -DAYS; day <= DAYS; day++) {
+            rows.add(priceRow(stock.getId(), base + day, today.plusDays(day)));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO mid_stock_price " +
+                "(mid_stock_id, low_price, high_price, avg_price, price_date, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+        return stock;
+    }
+
+    private Object[] priceRow(Long stockId, long avgPrice, LocalDateTime priceDate) {
+        Timestamp date = Timestamp.valueOf(priceDate);
+        return new Object[]{stockId, avgPrice - 1, avgPrice + 1, avgPrice, date, date, date};
+    }
+
+    @Test
+    @DisplayName("캐시는 기존 쿼리와 같은 오늘 가격 / 2주 차트 / 미래 2주 가격을 돌려주고, 두 번째 조회부터는 DB 를 읽지 않는다")
+    void servesSameResultsAsQueries() {
+        // given
+        MidStockPriceCache cache = new MidStockPriceCache(midStockPriceRepository, 10);
+        MidStock stock = stockWithPrices("캐시", 1_000);
+        LocalDate today = LocalDate.now();
+
+        // when
+        long todayAvgPrice = cache.findAvgPrice(stock.getId(), today).orElseThrow();
+        List<MidStockPriceResponse> chart = cache.findChartPrices(stock.getId());
+        List<MidStockPriceResponse> future = cache.findFuturePrices(stock.getId(), today);
+
+        // then
+        assertThat(todayAvgPrice).isEqualTo(midStockPriceRepository.findTodayPrice(stock.getId()).orElseThrow().getAvgPrice());
+        assertThat(chart).containsExactlyElementsOf(midStockPriceRepository.find2WeeksPriceInfo(stock.getId()).stream()
+                .map(MidStockPriceResponse::of).toList());
+        assertThat(future).hasSize(MidStockPriceCache.FUTURE_DAYS + 1)
+                .isSortedAccordingTo(Comparator.comparing(MidStockPriceResponse::priceDate))
+                .containsExactlyInAnyOrderElementsOf(midStockPriceRepository.findFuture2WeeksPriceInfo(stock.getId()).stream()
+                        .map(MidStockPriceResponse::of).toList());
+        assertThat(cache.findAvgPrice(stock.getId(), today.plusDays(DAYS + 1))).isEmpty();
+        assertThat(cache.getMissCount()).isEqualTo(1);
+        assertThat(cache.getHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("가격이 없는 종목은 캐시에 담지 않는다")
+    void doesNotCacheStocksWithoutPrices() {
+        // given
+        MidStockPriceCache cache = new MidStockPriceCache(midStockPriceRepository, 10);
+        MidStock stock = midStockRepository.save(new MidStock("가격없음"));
+
+        // when / then
+        assertThat(cache.findAvgPrice(stock.getId(), LocalDate.now())).isEmpty();
+        assertThat(cache.findChartPrices(stock.getId())).isEmpty();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getMissCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("최대 종목 수를 넘으면 가장 오래 안 쓴 종목부터 내보낸다")
+    void evictsLeastRecentlyUsedStock() {
+        // given
+        MidStockPriceCache cache = new MidStockPriceCache(midStockPriceRepository, 2);
+        MidStock first = stockWithPrices("첫번째", 100);
+        MidStock second = stockWithPrices("두번째", 200);
+        MidStock third = stockWithPrices("세번째", 300);
+        LocalDate today = LocalDate.now();
+
+        // when
+        cache.findAvgPrice(first.getId(), today);
+        cache.findAvgPrice(second.getId(), today);
+        cache.findAvgPrice(first.getId(), today);  // first 를 최근에 사용
+        cache.findAvgPrice(third.getId(), today);  // second 가 나감
+        long missesBefore = cache.getMissCount();
+        cache.findAvgPrice(first.getId(), today);
+        cache.findAvgPrice(second.getId(), today);
+
+        // then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.getEvictionCount()).isEqualTo(2);
+        assertThat(cache.getMissCount() - missesBefore).isEqualTo(1); // second 만 다시 읽음
+        assertThatThrownBy(() -> new MidStockPriceCache(midStockPriceRepository, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("가격 교체 이벤트를 받으면 담겨 있던 종목을 다시 읽어 새 가격으로 교체한다")
+    void refreshesOnRolloverEvent() {
+        // given
+        MidStockPriceCache cache = new MidStockPriceCache(midStockPriceRepository, 10);
+        MidStock stock = stockWithPrices("교체", 1_000);
+        LocalDate today = LocalDate.now();
+        int before = cache.findFuturePrices(stock.getId(), today).size();
+        jdbcTemplate.update("DELETE FROM mid_stock_price WHERE mid_stock_id = ? AND price_date < ?",
+                stock.getId(), Timestamp.valueOf(today.atStartOfDay()));
+        jdbcTemplate.update("INSERT INTO mid_stock_price " +
+                        "(mid_stock_id, low_price, high_price, avg_price, price_date, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                priceRow(stock.getId(), 2_000, today.plusDays(DAYS + 1).atTime(0, 1)));
+        assertThat(cache.findChartPrices(stock.getId()).get(0).priceDate().toLocalDate()).isBefore(today); // 아직 이전 가격
+
+        // when
+        cache.onPricesRolledOver(new MidStockPricesRolledOverEvent(1));
+
+        // then
+        long misses = cache.getMissCount();
+        assertThat(cache.getRefreshCount()).isEqualTo(1);
+        assertThat(cache.findChartPrices(stock.getId()).get(0).priceDate().toLocalDate()).isEqualTo(today);
+        assertThat(cache.findAvgPrice(stock.getId(), today.plusDays(DAYS + 1))).contains(2_000L);
+        assertThat(cache.findFuturePrices(stock.getId(), today)).hasSize(before);
+        assertThat(cache.getMissCount()).isEqualTo(misses);
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 종목 100개에 대한 오늘 가격 + 차트 조회 10,000번")
+    void benchmarkLookups() {
+        // given
+        int stocks = 100;
+        int lookups = 10_000;
+        List<Long> stockIds = new ArrayList<>(stocks);
+        for (int i = 0; i < stocks; i++) {
+            stockIds.add(stockWithPrices("벤치마크" + i, 1_000 + i).getId());
+        }
+        MidStockPriceCache cache = new MidStockPriceCache(midStockPriceRepository, stocks);
+        LocalDate today = LocalDate.now();
+
+        // when : 기존 방식 (조회마다 쿼리)
+        long start = System.nanoTime();
+        long legacySum = 0;
+        for (int i = 0; i < lookups; i++) {
+            Long stockId = stockIds.get(i % stocks);
+            legacySum += midStockPriceRepository.findTodayPrice(stockId).map(MidStockPrice::getAvgPrice).orElseThrow();
+            legacySum += midStockPriceRepository.find2WeeksPriceInfo(stockId).size();
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        // 캐시
+        start = System.nanoTime();
+        long cachedSum = 0;
+        for (int i = 0; i < lookups; i++) {
+            Long stockId = stockIds.get(i % stocks);
+            cachedSum += cache.findAvgPrice(stockId, today).orElseThrow();
+            cachedSum += cache.findChartPrices(stockId).size();
+        }
+        long cachedNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("조회 %,d번 - 쿼리: %dms, 캐시: %dms (적중률 %.3f)%n",
+                lookups, legacyNanos / 1_000_000, cachedNanos / 1_000_000, cache.getHitRate());
+        assertThat(cachedSum).isEqualTo(legacySum);
+        assertThat(cache.getMissCount()).isEqualTo(stocks);
+    }
+}
@@ -0,0 +1,127 @@
+package com.prgrms.ijuju.domain.stock.mid.chart;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LttbDownsamplerTest {
+
+    private static List<Integer> downsample(double[] values, long total, int threshold) {
+        List<Integer> picked = new ArrayList<>();
+        LttbDownsampler<Integer> downsampler = new LttbDownsampler<>(total, threshold, i -> i, i -> values[i], picked::add);
+        for (int i = 0; i < values.length; i++) {
+            downsampler.accept(i);
+        }
+        assertThat(downsampler.finish()).isEqualTo(picked.size());
+        return picked;
+    }
+
+    // 전체 점을 메모리에 두고 고르는 일반적인 LTTB (비교 기준)
+    private static List<Integer> batchLttb(double[] values, int threshold) {
+        int n = values.length;
+        double every = (double) (n - 2) / (threshold - 2);
+        List<Integer> picked = new ArrayList<>();
+        picked.add(0);
+        int a = 0;
+        for (int bucket = 0; bucket < threshold - 2; bucket++) {
+            double avgX = n - 1;
+            double avgY = values[n - 1];
+            if (bucket < threshold - 3) {
+                int avgStart = (int) Math.floor((bucket + 1) * every) + 1;
+                int avgEnd = Math.min((int) Math.floor((bucket + 2) * every) + 1, n);
+                avgX = 0;
+                avgY = 0;
+                for (int j = avgStart; j < avgEnd; j++) {
+                    avgX += j;
+                    avgY += values[j];
+                }
+                avgX /= avgEnd - avgStart;
+                avgY /= avgEnd - avgStart;
+            }
+            int from = (int) Math.floor(bucket * every) + 1;
+            int to = (int) Math.floor((bucket + 1) * every) + 1;
+            double bestArea = -1;
+            int best = from;
+            for (int j = from; j < to; j++) {
+                double area = Math.abs((a - avgX) * (values[j] - values[a]) - (a - j) * (avgY - values[a]));
+                if (area > bestArea) {
+                    bestArea = area;
+                    best = j;
+                }
+            }
+            picked.add(best);
+            a = best;
+        }
+        picked.add(n - 1);
+        return picked;
+    }
+
+    private static double[] randomWalk(Random random, int n) {
+        double[] values = new double[n];
+        double value = 1_000;
+        for (int i = 0; i < n; i++) {
+            value += random.nextGaussian() * 10;
+            values[i] = value;
+        }
+        return values;
+    }
+
+    @Test
+    @DisplayName("한 줄씩 받아도 전체를 모아서 고르는 LTTB 와 같은 점을 고른다")
+    void matchesBatchLttb() {
+        Random random = new Random(7);
+        for (int run = 0; run < 500; run++) {
+            // given : 구간 크기가 정수인 경우 두 구현의 구간 경계가 같습니다
+            int threshold = 3 + random.nextInt(60);
+            int n = (threshold - 2) * (1 + random.nextInt(10)) + 2;
+            double[] values = randomWalk(random, n);
+
+            // when / then
+            assertThat(downsample(values, n, threshold)).isEqualTo(batchLttb(values, threshold));
+        }
+    }
+
+    @Test
+    @DisplayName("threshold 개의 점을 시간 순서대로 남기고 첫 점과 끝 점, 뾰족한 점을 유지한다")
+    void keepsEndpointsAndSpikes() {
+        // given : 365 일 중 200 번째 날에 급등
+        double[] values = new double[365];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = 1_000 + (i % 7);
+        }
+        values[200] = 5_000;
+
+        // when
+        List<Integer> picked = downsample(values, values.length, 100);
+
+        // then
+        assertThat(picked).hasSize(100).isSorted().doesNotHaveDuplicates();
+        assertThat(picked.get(0)).isZero();
+        assertThat(picked.get(picked.size() - 1)).isEqualTo(364);
+        assertThat(picked).contains(200);
+    }
+
+    @Test
+    @DisplayName("점이 threshold 이하이면 그대로 넘기고, 예상 개수와 실제 개수가 달라도 순서와 끝 점은 지킨다")
+    void passesThroughAndToleratesCountDrift() {
+        Random random = new Random(11);
+        double[] small = randomWalk(random, 50);
+        assertThat(downsample(small, small.length, 100)).hasSize(50);
+
+        double[] values = randomWalk(random, 500);
+        for (long total : new long[]{480, 520}) {
+            List<Integer> picked = downsample(values, total, 50);
+            assertThat(picked).isSorted().doesNotHaveDuplicates();
+            assertThat(picked.get(0)).isZero();
+            assertThat(picked.get(picked.size() - 1)).isEqualTo(499);
+        }
+        assertThatThrownBy(() -> new LttbDownsampler<Integer>(10, 2, i -> i, i -> i, i -> {
+        })).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,247 @@
+package com.prgrms.ijuju.domain.stock.mid.generator;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MidStockPriceGeneratorTest {
+
+    private static final int SAMPLES = 20_000;
+
+    @ParameterizedTest(name = "직전 평균 {0}, 최소 가격 {1}")
+    @CsvSource({
+            "100, 10",          // 후보가 적어 정확한 누적분포를 사용
+            "600, 500",         // 최소 가격에 저가 범위가 잘림
+            "5000, 500",        // 정규화된 표 사용
+            "12000, 10000",
+            "1000000, 10000"
+    })
+    @DisplayName("한 번에 뽑은 가격 분포가 기존 기각 샘플링의 분포와 같다 (Kolmogorov-Smirnov)")
+    void matchesRejectionSamplingDistribution(long lastAvgPrice, long baseMinPrice) {
+        // given
+        Random legacyRandom = new Random(42);
+        SplittableRandom random = new SplittableRandom(42);
+        long[][] legacy = new long[3][SAMPLES];
+        long[][] drawn = new long[3][SAMPLES];
+
+        // when
+        for (int i = 0; i < SAMPLES; i++) {
+            long[] expected = legacyGeneratePrice(lastAvgPrice, baseMinPrice, legacyRandom);
+            MidStockPriceGenerator.Draw draw = MidStockPriceGenerator.draw(lastAvgPrice, baseMinPrice, random);
+            for (int c = 0; c < 3; c++) {
+                legacy[c][i] = expected[c];
+            }
+            drawn[0][i] = draw.lowPrice();
+            drawn[1][i] = draw.highPrice();
+            drawn[2][i] = draw.avgPrice();
+        }
+
+        // then
+        // 유의수준 0.001 의 두 표본 KS 임계값
+        double critical = 1.95 * Math.sqrt(2.0 / SAMPLES);
+        assertThat(ksDistance(legacy[0], drawn[0])).as("저가").isLessThan(critical);
+        assertThat(ksDistance(legacy[1], drawn[1])).as("고가").isLessThan(critical);
+        assertThat(ksDistance(legacy[2], drawn[2])).as("평균").isLessThan(critical);
+    }
+
+    @Test
+    @DisplayName("생성된 가격은 항상 기존 제약(최소 가격, 저가 < 고가, 평균 ±5%)을 만족한다")
+    void alwaysSatisfiesConstraints() {
+        // given
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (long lastAvgPrice : new long[]{10, 11, 57, 100, 501, 9_999, 10_000, 123_456, 10_000_000}) {
+            for (long baseMinPrice : new long[]{10, 500, 10_000}) {
+                if (baseMinPrice > lastAvgPrice) {
+                    continue;
+                }
+                for (int i = 0; i < 1_000; i++) {
+                    // when
+                    MidStockPriceGenerator.Draw draw = MidStockPriceGenerator.draw(lastAvgPrice, baseMinPrice, random);
+
+                    // then
+                    assertThat(draw.lowPrice()).isGreaterThanOrEqualTo(baseMinPrice);
+                    assertThat(draw.highPrice()).isGreaterThan(draw.lowPrice());
+                    assertThat(draw.avgPrice()).isEqualTo((draw.lowPrice() + draw.highPrice()) / 2);
+                    assertThat((double) Math.abs(draw.avgPrice() - lastAvgPrice))
+                            .isLessThanOrEqualTo(lastAvgPrice * MidStockPriceGenerator.PRICE_CHANGE_RATE);
+                }
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("만족하는 가격이 없으면 무한히 다시 뽑지 않고 예외를 던진다")
+    void throwsWhenNoPriceIsPossible() {
+        assertThatThrownBy(() -> MidStockPriceGenerator.draw(100, 10_000, new SplittableRandom(1)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("같은 seed 로 생성하면 병렬로 생성해도 종목별 결과가 같다")
+    void sameSeedIsDeterministic() {
+        // given
+        MidStockPriceGenerator generator = new MidStockPriceGenerator(0);
+        int size = 10_000;
+        long[] stockIds = new long[size];
+        long[] lastAvgPrices = new long[size];
+        for (int i = 0; i < size; i++) {
+            stockIds[i] = i + 1;
+            lastAvgPrices[i] = MidStockPriceGenerator.baseMinPrice(i + 1) * 10;
+        }
+
+        // when
+        GeneratedPrices first = generator.generate(stockIds, lastAvgPrices, 2024L);
+        GeneratedPrices second = generator.generate(stockIds, lastAvgPrices, 2024L);
+
+        // then
+        assertThat(first.size()).isEqualTo(size);
+        assertThat(first.stockIds()).isEqualTo(stockIds);
+        assertThat(first.lowPrices()).isEqualTo(second.lowPrices());
+        assertThat(first.highPrices()).isEqualTo(second.highPrices());
+        assertThat(first.avgPrices()).isEqualTo(second.avgPrices());
+    }
+
+    @Test
+    @DisplayName("종목 수와 직전 가격 수가 다르면 예외가 발생한다")
+    void rejectsMismatchedInput() {
+        MidStockPriceGenerator generator = new MidStockPriceGenerator(1);
+
+        assertThatThrownBy(() -> generator.generate(new long[]{1, 2}, new long[]{100}, LocalDate.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("만족하는 가격이 없는 종목은 건너뛰고 나머지 종목은 생성한다")
+    void skipsInfeasibleStocks() {
+        // given : 3 번 종목은 최소 가격이 10,000 인데 직전 평균이 100
+        MidStockPriceGenerator generator = new MidStockPriceGenerator(1);
+        long[] stockIds = {1, 2, 3, 4};
+        long[] lastAvgPrices = {100, 5_000, 100, 100};
+
+        // when
+        GeneratedPrices prices = generator.generate(stockIds, lastAvgPrices, LocalDate.of(2024, 1, 1));
+
+        // then
+        assertThat(prices.stockIds()).containsExactly(1, 2, 4);
+        assertThat(prices.avgPrices()).hasSize(3).allSatisfy(avg -> assertThat(avg).isPositive());
+    }
+
+    @Test
+    @DisplayName("seed 를 정해도 날짜가 다르면 다른 가격을, 같은 날짜면 같은 가격을 만든다")
+    void fixedSeedVariesByDate() {
+        // given
+        MidStockPriceGenerator generator = new MidStockPriceGenerator(42);
+        long[] stockIds = new long[100];
+        long[] lastAvgPrices = new long[100];
+        Arrays.setAll(stockIds, i -> i + 1);
+        Arrays.setAll(lastAvgPrices, i -> MidStockPriceGenerator.baseMinPrice(i + 1) * 100);
+        LocalDate today = LocalDate.of(2024, 1, 1);
+
+        // when
+        GeneratedPrices first = generator.generate(stockIds, lastAvgPrices, today);
+        GeneratedPrices again = generator.generate(stockIds, lastAvgPrices, today);
+        GeneratedPrices nextDay = generator.generate(stockIds, lastAvgPrices, today.plusDays(1));
+
+        // then
+        assertThat(again.avgPrices()).isEqualTo(first.avgPrices());
+        assertThat(nextDay.avgPrices()).isNotEqualTo(first.avgPrices());
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 기각 샘플링과 한 번에 뽑기, 10,000 종목 병렬 생성 비교")
+    void benchmark() {
+        // given
+        int draws = 1_000_000;
+        long lastAvgPrice = 1_000_000;
+        long baseMinPrice = 10_000;
+        Random legacyRandom = new Random(1);
+        SplittableRandom random = new SplittableRandom(1);
+        long sink = 0;
+
+        // 워밍업
+        for (int i = 0; i < draws / 10; i++) {
+            sink += legacyGeneratePrice(lastAvgPrice, baseMinPrice, legacyRandom)[2];
+            sink += MidStockPriceGenerator.draw(lastAvgPrice, baseMinPrice, random).avgPrice();
+        }
+
+        // when
+        long start = System.nanoTime();
+        for (int i = 0; i < draws; i++) {
+            sink += legacyGeneratePrice(lastAvgPrice, baseMinPrice, legacyRandom)[2];
+        }
+        long legacyNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < draws; i++) {
+            sink += MidStockPriceGenerator.draw(lastAvgPrice, baseMinPrice, random).avgPrice();
+        }
+        long drawNanos = System.nanoTime() - start;
+
+        int stocks = 10_000;
+        long[] stockIds = new long[stocks];
+        long[] lastAvgPrices = new long[stocks];
+        Arrays.setAll(stockIds, i -> i + 1);
+        Arrays.setAll(lastAvgPrices, i -> MidStockPriceGenerator.baseMinPrice(i + 1) * 100);
+        MidStockPriceGenerator generator = new MidStockPriceGenerator(0);
+        generator.generate(stockIds, lastAvgPrices, 1L);
+        start = System.nanoTime();
+        GeneratedPrices prices = generator.generate(stockIds, lastAvgPrices, 2L);
+        long bulkNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("기각 샘플링 %,d회: %dms (%.0fns/회)%n", draws, legacyNanos / 1_000_000, (double) legacyNanos / draws);
+        System.out.printf("한 번에 뽑기 %,d회: %dms (%.0fns/회)%n", draws, drawNanos / 1_000_000, (double) drawNanos / draws);
+        System.out.printf("종목 %,d개 병렬 생성: %dms (sink=%d)%n", stocks, bulkNanos / 1_000_000, sink % 10);
+        assertThat(prices.size()).isEqualTo(stocks);
+    }
+
+    // 기존 MidStockChartService.generatePrice 의 기각 샘플링 (비교 기준)
+    private static long[] legacyGeneratePrice(long lastAvgPrice, long baseMinPrice, Random random) {
+        while (true) {
+            long minLowPrice = Math.max(baseMinPrice, (long) (lastAvgPrice * 0.8));
+            long maxLowPrice = (long) (lastAvgPrice * 1.2);
+            long lowPrice = minLowPrice + (long) ((maxLowPrice - minLowPrice) * random.nextDouble());
+
+            long minHighPrice = lowPrice + 1;
+            long maxHighPrice = (long) (lowPrice * 1.2);
+            long highPrice = minHighPrice + (long) ((maxHighPrice - minHighPrice) * random.nextDouble());
+
+            long avgPrice = (lowPrice + highPrice) / 2;
+            if (Math.abs(avgPrice - lastAvgPrice) <= lastAvgPrice * MidStockPriceGenerator.PRICE_CHANGE_RATE) {
+                return new long[]{lowPrice, highPrice, avgPrice};
+            }
+        }
+    }
+
+    // 두 표본의 경험적 누적분포 사이 최대 거리
+    private static double ksDistance(long[] a, long[] b) {
+        long[] x = a.clone();
+        long[] y = b.clone();
+        Arrays.sort(x);
+        Arrays.sort(y);
+        int i = 0;
+        int j = 0;
+        double distance = 0;
+        while (i < x.length && j < y.length) {
+            long value = Math.min(x[i], y[j]);
+            while (i < x.length && x[i] == value) {
+                i++;
+            }
+            while (j < y.length && y[j] == value) {
+                j++;
+            }
+            distance = Math.max(distance, Math.abs((double) i / x.length - (double) j / y.length));
+        }
+        return distance;
+    }
+}
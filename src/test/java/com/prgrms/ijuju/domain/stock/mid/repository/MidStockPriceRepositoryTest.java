@@ -2,6 +2,7 @@ package com.prgrms.ijuju.domain.stock.mid.repository;
 
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
 import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.generator.GeneratedPrices;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,6 +14,7 @@ import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
@@ -121,6 +123,30 @@ class MidStockPriceRepositoryTest {
         assertThat(latestPrice.get().getPriceDate()).isEqualTo(now);
     }
 
+    @Test
+    @DisplayName("일괄 생성한 가격을 batch INSERT 로 저장한다")
+    void insertAll() {
+        // given
+        MidStock other = midStockRepository.save(new MidStock("다른주식"));
+        GeneratedPrices prices = new GeneratedPrices(
+                new long[]{stock.getId(), other.getId()},
+                new long[]{900L, 90L},
+                new long[]{1000L, 110L},
+                new long[]{950L, 100L});
+
+        // when
+        int inserted = midStockPriceRepository.insertAll(prices, now);
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+        List<MidStockPrice> saved = midStockPriceRepository.findByMidStockId(other.getId());
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getLowPrice()).isEqualTo(90L);
+        assertThat(saved.get(0).getHighPrice()).isEqualTo(110L);
+        assertThat(saved.get(0).getAvgPrice()).isEqualTo(100L);
+        assertThat(saved.get(0).getCreatedAt()).isNotNull();
+    }
+
 //    @Test
 //    @DisplayName("가격 이력을 페이징하여 조회한다")
 //    void findPriceHistory() {
@@ -179,4 +205,27 @@ class MidStockPriceRepositoryTest {
             assertThat(prices.get(i).getHighPrice()).isEqualTo(2900L - (i * 100));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("오늘부터 2주 뒤까지의 미래 가격을 날짜 오름차순으로 조회한다")
+    void findFuture2WeeksPriceInfoIsOrdered() {
+        // given : 날짜가 섞인 순서로 저장
+        LocalDateTime today = LocalDate.now().atTime(0, 1);
+        for (int day : new int[]{7, 0, 14, 3, 15, -1, 10}) {
+            midStockPriceRepository.save(MidStockPrice.builder()
+                    .midStock(stock)
+                    .highPrice(1000L + day)
+                    .lowPrice(900L + day)
+                    .avgPrice(950L + day)
+                    .priceDate(today.plusDays(day))
+                    .build());
+        }
+
+        // when
+        List<MidStockPrice> prices = midStockPriceRepository.findFuture2WeeksPriceInfo(stock.getId());
+
+        // then
+        assertThat(prices).extracting(MidStockPrice::getAvgPrice)
+                .containsExactly(950L, 953L, 957L, 960L, 964L);
+    }
+}
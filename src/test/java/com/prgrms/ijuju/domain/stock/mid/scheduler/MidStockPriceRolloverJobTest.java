@@ -0,0 +1,188 @@
+package com.prgrms.ijuju.domain.stock.mid.scheduler;
+
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.generator.MidStockPriceGenerator;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MidStockPriceRolloverJobTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 12, 1, 0, 1);
+
+    @Autowired
+    private MidStockRepository midStockRepository;
+    @Autowired
+    private MidStockPriceRepository midStockPriceRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM mid_stock_price");
+    }
+
+    private MidStockPriceRolloverJob job(int deleteBatchSize) {
+        return new MidStockPriceRolloverJob(midStockRepository, midStockPriceRepository,
+                new MidStockPriceGenerator(0), transactionManager, deleteBatchSize);
+    }
+
+    private void insertPrice(long stockId, long avgPrice, LocalDateTime priceDate) {
+        Timestamp date = Timestamp.valueOf(priceDate);
+        jdbcTemplate.update("INSERT INTO mid_stock_price " +
+                        "(mid_stock_id, low_price, high_price, avg_price, price_date, created_at, updated_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                stockId, avgPrice - 1, avgPrice + 1, avgPrice, date, date, date);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 가격은 묶음 단위로 지우고, 모든 종목에 최신 가격 기준으로 새 가격을 하나씩 만든다")
+    void purgesInChunksAndGeneratesFromLatestPrices() {
+        // given
+        MidStock traded = midStockRepository.save(new MidStock("거래중"));
+        MidStock fresh = midStockRepository.save(new MidStock("신규"));
+        for (int i = 0; i < 5; i++) {
+            insertPrice(traded.getId(), 700, NOW.minusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP + 1 + i));
+        }
+        insertPrice(traded.getId(), 900, NOW.minusDays(2));
+        insertPrice(traded.getId(), 1_000, NOW.minusDays(1)); // 최신
+        long stocks = midStockRepository.count();
+        MidStockPriceRolloverJob job = job(2);
+
+        // when
+        int generated = job.run(NOW);
+
+        // then
+        assertThat(generated).isEqualTo(stocks);
+        assertThat(job.getLastDeletedCount()).isEqualTo(5);
+        assertThat(job.getPhase()).isEqualTo(MidStockPriceRolloverJob.Phase.IDLE);
+        assertThat(job.getRunCount()).isEqualTo(1);
+        assertThat(midStockPriceRepository.findExpiredIds(
+                NOW.minusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP), PageRequest.of(0, 10))).isEmpty();
+
+        MidStockPrice tradedPrice = midStockPriceRepository.findLatestPrice(traded).orElseThrow();
+        assertThat(tradedPrice.getPriceDate()).isEqualTo(NOW.plusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP));
+        assertThat((double) Math.abs(tradedPrice.getAvgPrice() - 1_000)).isLessThanOrEqualTo(1_000 * 0.05);
+
+        // 가격이 없던 종목은 기본 최소 가격의 10배에서 시작합니다
+        long initial = MidStockPriceGenerator.baseMinPrice(fresh.getId()) * 10;
+        MidStockPrice freshPrice = midStockPriceRepository.findLatestPrice(fresh).orElseThrow();
+        assertThat((double) Math.abs(freshPrice.getAvgPrice() - initial)).isLessThanOrEqualTo(initial * 0.05);
+    }
+
+    @Test
+    @DisplayName("같은 날 다시 실행하면 이미 가격이 있는 종목은 건너뛰어 하루에 가격이 하나만 남는다")
+    void rerunOnSameDayIsIdempotent() {
+        // given
+        MidStock stock = midStockRepository.save(new MidStock("재실행"));
+        long stocks = midStockRepository.count();
+        MidStockPriceRolloverJob job = job(1000);
+        job.run(NOW);
+
+        // when : 같은 날 다른 시각에 다시 실행
+        int generated = job.run(NOW.plusHours(3));
+
+        // then
+        LocalDateTime dayStart = NOW.plusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP).toLocalDate().atStartOfDay();
+        assertThat(generated).isZero();
+        assertThat(midStockPriceRepository.count()).isEqualTo(stocks);
+        assertThat(midStockPriceRepository.findAvgPriceBetween(stock.getId(), dayStart, dayStart.plusDays(1))).isPresent();
+    }
+
+    @Test
+    @DisplayName("종목별 최신 가격을 한 번의 묶음 쿼리로 가져온다")
+    void findsAllLatestPricesInOneQuery() {
+        // given
+        MidStock first = midStockRepository.save(new MidStock("첫번째"));
+        MidStock second = midStockRepository.save(new MidStock("두번째"));
+        insertPrice(first.getId(), 100, NOW.minusDays(3));
+        insertPrice(first.getId(), 110, NOW.minusDays(1));
+        insertPrice(second.getId(), 5_000, NOW.minusDays(2));
+
+        // when / then
+        assertThat(midStockPriceRepository.findAllLatestPrices())
+                .extracting(price -> price.stockId() + ":" + price.avgPrice())
+                .containsExactlyInAnyOrder(first.getId() + ":110", second.getId() + ":5000");
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 중급 종목 10,000개의 하루 가격 교체")
+    void benchmarkTenThousandStocks() {
+        // given
+        int stocks = 10_000;
+        int days = MidStockPriceRolloverJob.DAYS_TO_KEEP + 1; // 종목마다 가장 오래된 하루치가 만료 대상
+        Timestamp created = Timestamp.valueOf(NOW);
+        List<Object[]> stockRows = new ArrayList<>(stocks);
+        for (int i = 0; i < stocks; i++) {
+            stockRows.add(new Object[]{"벤치마크" + i, created, created});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO mid_stock (stock_name, created_at, updated_at) VALUES (?, ?, ?)", stockRows);
+        List<Long> stockIds = midStockRepository.findAllIds();
+        List<Object[]> priceRows = new ArrayList<>(stockIds.size() * days);
+        for (Long stockId : stockIds) {
+            long avgPrice = MidStockPriceGenerator.baseMinPrice(stockId) * 10;
+            for (int day = 1; day <= days; day++) {
+                Timestamp date = Timestamp.valueOf(NOW.minusDays(day));
+                priceRows.add(new Object[]{stockId, avgPrice - 1, avgPrice + 1, avgPrice, date, created, created});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO mid_stock_price " +
+                "(mid_stock_id, low_price, high_price, avg_price, price_date, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", priceRows);
+        MidStockPriceRolloverJob job = job(1000);
+
+        // 기존 방식(종목마다 deleteOldData + findLatestPrice + save) 을 일부 종목으로 측정합니다
+        int sampled = 100;
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        long start = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> {
+            for (MidStock stock : midStockRepository.findAllById(stockIds.subList(0, sampled))) {
+                midStockPriceRepository.deleteOldData(NOW.minusDays(days + 1)); // 지울 행은 없지만 매번 테이블을 훑습니다
+                long lastAvgPrice = midStockPriceRepository.findLatestPrice(stock).map(MidStockPrice::getAvgPrice).orElseThrow();
+                midStockPriceRepository.save(MidStockPrice.builder()
+                        .lowPrice(lastAvgPrice - 1).highPrice(lastAvgPrice + 1).avgPrice(lastAvgPrice)
+                        .priceDate(NOW.minusDays(days + 1)).midStock(stock).build());
+            }
+        });
+        long legacyNanos = System.nanoTime() - start;
+        jdbcTemplate.update("DELETE FROM mid_stock_price WHERE price_date < ?", Timestamp.valueOf(NOW.minusDays(days)));
+
+        // when
+        start = System.nanoTime();
+        int generated = job.run(NOW);
+        long rolloverMillis = (System.nanoTime() - start) / 1_000_000;
+
+        // then
+        System.out.printf("기존 방식: 종목 %d개 %dms -> 종목 %,d개 환산 %,dms%n", sampled, legacyNanos / 1_000_000,
+                stockIds.size(), legacyNanos / 1_000_000 * stockIds.size() / sampled);
+        System.out.printf("가격 교체: 종목 %,d개 %dms (삭제 %,d건 %dms / 최신 가격 조회 %dms / 생성 %dms / INSERT %dms)%n",
+                stockIds.size(), rolloverMillis, job.getLastDeletedCount(), job.getLastPurgeMillis(),
+                job.getLastLoadMillis(), job.getLastGenerateMillis(), job.getLastInsertMillis());
+        assertThat(generated).isEqualTo(stockIds.size());
+        assertThat(job.getLastDeletedCount()).isEqualTo(stockIds.size());
+
+        jdbcTemplate.update("DELETE FROM mid_stock_price");
+        jdbcTemplate.update("DELETE FROM mid_stock WHERE stock_name LIKE '벤치마크%'");
+    }
+}
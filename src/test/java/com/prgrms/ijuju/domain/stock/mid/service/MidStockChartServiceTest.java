@@ -0,0 +1,168 @@
+package com.prgrms.ijuju.domain.stock.mid.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.prgrms.ijuju.domain.stock.mid.dto.MidStockChartRange;
+import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockPriceResponse;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
+import com.prgrms.ijuju.domain.stock.mid.exception.MidInvalidChartRangeException;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import com.prgrms.ijuju.domain.stock.mid.scheduler.MidStockPriceRolloverJob;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MidStockChartServiceTest {
+
+    private static final LocalDate FIRST_DAY = LocalDate.of(2024, 1, 1);
+    private static final int DAYS = 366; // 2024 년 한 해
+
+    @Autowired
+    private MidStockChartService midStockChartService;
+    @Autowired
+    private MidStockRepository midStockRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MidStock stock;
+
+    @BeforeEach
+    void setUp() {
+        stock = midStockRepository.save(new MidStock("차트"));
+        Timestamp created = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = new ArrayList<>(DAYS);
+        for (int day = DAYS - 1; day >= 0; day--) { // 날짜 역순으로 저장해도 날짜 순으로 나와야 합니다
+            long avgPrice = 1_000 + Math.round(200 * Math.sin(day / 9.0)) + (day == 200 ? 3_000 : 0);
+            rows.add(new Object[]{stock.getId(), avgPrice - 10, avgPrice + 10, avgPrice,
+                    Timestamp.valueOf(FIRST_DAY.plusDays(day).atTime(0, 1)), created, created});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO mid_stock_price " +
+                "(mid_stock_id, low_price, high_price, avg_price, price_date, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM mid_stock_price WHERE mid_stock_id = ?", stock.getId());
+        midStockRepository.deleteById(stock.getId());
+    }
+
+    private List<MidStockPriceResponse> chart(LocalDate from, LocalDate to, Integer points) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int written = midStockChartService.writeChart(stock.getId(), midStockChartService.chartRange(from, to, points), out);
+        List<MidStockPriceResponse> prices = objectMapper.readValue(out.toByteArray(), new TypeReference<>() {
+        });
+        assertThat(prices).hasSize(written);
+        return prices;
+    }
+
+    @Test
+    @DisplayName("기간 안의 가격을 날짜 순으로 모두 스트리밍한다 (from, to 포함)")
+    void streamsWholeRangeInDateOrder() throws IOException {
+        // when
+        List<MidStockPriceResponse> march = chart(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), null);
+        List<MidStockPriceResponse> year = chart(FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1), null);
+
+        // then
+        assertThat(march).hasSize(31)
+                .isSortedAccordingTo(Comparator.comparing(MidStockPriceResponse::priceDate));
+        assertThat(march.get(0).priceDate()).isEqualTo(LocalDate.of(2024, 3, 1).atTime(0, 1));
+        assertThat(march.get(0).highPrice() - march.get(0).lowPrice()).isEqualTo(20);
+        assertThat(year).hasSize(DAYS);
+        assertThat(chart(LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 31), null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("points 를 주면 LTTB 로 그 개수까지 줄이고, 처음 / 마지막 날과 급등한 날은 남긴다")
+    void downsamplesToRequestedPoints() throws IOException {
+        // when
+        List<MidStockPriceResponse> prices = chart(FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1), 100);
+
+        // then
+        assertThat(prices).hasSize(100)
+                .isSortedAccordingTo(Comparator.comparing(MidStockPriceResponse::priceDate));
+        assertThat(prices.get(0).priceDate().toLocalDate()).isEqualTo(FIRST_DAY);
+        assertThat(prices.get(99).priceDate().toLocalDate()).isEqualTo(FIRST_DAY.plusDays(DAYS - 1));
+        assertThat(prices).extracting(MidStockPriceResponse::priceDate)
+                .contains(FIRST_DAY.plusDays(200).atTime(0, 1));
+        assertThat(chart(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), 100)).hasSize(31);
+    }
+
+    @Test
+    @DisplayName("기간이 뒤집혔거나 너무 길거나 points 가 범위를 벗어나면 거절하고, 비우면 보관 기간 전체를 쓴다")
+    void validatesRange() {
+        LocalDate today = LocalDate.now();
+        assertThatThrownBy(() -> midStockChartService.chartRange(today, today.minusDays(1), null))
+                .isInstanceOf(MidInvalidChartRangeException.class);
+        assertThatThrownBy(() -> midStockChartService.chartRange(today.minusYears(20), today, null))
+                .isInstanceOf(MidInvalidChartRangeException.class);
+        assertThatThrownBy(() -> midStockChartService.chartRange(null, null, 2))
+                .isInstanceOf(MidInvalidChartRangeException.class);
+        assertThatThrownBy(() -> midStockChartService.chartRange(null, null, 1_000_000))
+                .isInstanceOf(MidInvalidChartRangeException.class);
+        assertThat(midStockChartService.chartRange(null, null, null)).isEqualTo(new MidStockChartRange(
+                today.minusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP), today.plusDays(MidStockPriceRolloverJob.DAYS_TO_KEEP), null));
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 1년치 100점 차트를 10,000명이 동시에 조회")
+    void benchmarkTenThousandViewers() throws Exception {
+        // given
+        int viewers = 10_000;
+        int threads = 64;
+        MidStockChartRange full = midStockChartService.chartRange(FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1), null);
+        MidStockChartRange downsampled = midStockChartService.chartRange(FIRST_DAY, FIRST_DAY.plusDays(DAYS - 1), 100);
+        ByteArrayOutputStream fullBody = new ByteArrayOutputStream();
+        ByteArrayOutputStream downsampledBody = new ByteArrayOutputStream();
+        midStockChartService.writeChart(stock.getId(), full, fullBody);
+        midStockChartService.writeChart(stock.getId(), downsampled, downsampledBody);
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<Integer>> results = new ArrayList<>(viewers);
+        long start = System.nanoTime();
+        for (int i = 0; i < viewers; i++) {
+            results.add(executor.submit(() -> midStockChartService.writeChart(stock.getId(), downsampled, OutputStream.nullOutputStream())));
+        }
+        long points = 0;
+        for (Future<Integer> result : results) {
+            points += result.get();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        // then
+        System.out.printf("1년치 차트 응답 크기 - 전체 %d점: %,dB, LTTB 100점: %,dB%n",
+                DAYS, fullBody.size(), downsampledBody.size());
+        System.out.printf("LTTB 100점 차트 %,d회 (스레드 %d): %dms, %.0f회/초%n",
+                viewers, threads, elapsedNanos / 1_000_000, viewers / (elapsedNanos / 1e9));
+        assertThat(points).isEqualTo(100L * viewers);
+    }
+}
@@ -0,0 +1,183 @@
+package com.prgrms.ijuju.domain.stock.mid.service;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockPositionResponse;
+import com.prgrms.ijuju.domain.stock.mid.dto.response.MidStockWithTradesResponse;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPosition;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockTrade;
+import com.prgrms.ijuju.domain.stock.mid.entity.TradeType;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPositionRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockTradeRepository;
+import com.prgrms.ijuju.domain.stock.mid.scheduler.MidStockPositionReconciler;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MidStockPositionTest {
+
+    @Autowired
+    private MidStockService midStockService;
+    @Autowired
+    private MidStockPositionReconciler midStockPositionReconciler;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MidStockRepository midStockRepository;
+    @Autowired
+    private MidStockTradeRepository midStockTradeRepository;
+    @Autowired
+    private MidStockPositionRepository midStockPositionRepository;
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+
+    @BeforeEach
+    void setUp() {
+        String loginId = "mp" + UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .pw("test1234@")
+                .username(loginId)
+                .email(loginId + "@test.com")
+                .birth(LocalDate.parse("2000-01-01"))
+                .build());
+    }
+
+    private MidStockTrade buy(MidStock stock, long tradePoint, long pricePerStock) {
+        return MidStockTrade.builder()
+                .midStock(stock)
+                .member(member)
+                .tradePoint(tradePoint)
+                .pricePerStock(pricePerStock)
+                .tradeType(TradeType.BUY)
+                .build();
+    }
+
+    @Test
+    @DisplayName("평균 매입가는 투자 포인트로 가중한 값이다")
+    void weightsAveragePriceByInvestedPoints() {
+        // given
+        MidStockPosition position = new MidStockPosition(1L, new MidStock("테스트"));
+
+        // when : 1,000 포인트를 100 에, 3,000 포인트를 300 에 매수 -> 10주 + 10주
+        position.addLot(1_000, 100);
+        position.addLot(3_000, 300);
+
+        // then
+        assertThat(position.getInvestedPoints()).isEqualTo(4_000);
+        assertThat(position.getLotCount()).isEqualTo(2);
+        assertThat(position.getAveragePrice()).isEqualTo(200);
+        assertThatThrownBy(() -> position.addLot(100, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("재계산 작업이 BUY 거래로 빠진 포지션을 만들고, 다른 값은 덮어쓰고, 거래가 없는 포지션은 지운다")
+    void reconcilesPositionsFromTrades() {
+        // given
+        MidStock samsung = midStockRepository.save(new MidStock("삼성전자"));
+        MidStock hyundai = midStockRepository.save(new MidStock("현대차"));
+        MidStock kakao = midStockRepository.save(new MidStock("카카오"));
+        midStockTradeRepository.saveAll(List.of(
+                buy(samsung, 1_000, 100), buy(samsung, 3_000, 300), buy(hyundai, 500, 50)));
+        MidStockTrade sold = buy(kakao, 700, 70);
+        sold.changeTradeType(TradeType.SELL);
+        midStockTradeRepository.save(sold);
+
+        MidStockPosition drifted = new MidStockPosition(member.getId(), hyundai);
+        drifted.addLot(999, 1);
+        MidStockPosition orphan = new MidStockPosition(member.getId(), kakao);
+        orphan.addLot(700, 70);
+        midStockPositionRepository.saveAll(List.of(drifted, orphan));
+
+        // when
+        MidStockPositionReconciler.ReconcileReport report = midStockPositionReconciler.reconcile();
+        em.flush();
+        em.clear();
+
+        // then
+        assertThat(report.created()).isGreaterThanOrEqualTo(1);
+        assertThat(report.drifted()).isGreaterThanOrEqualTo(1);
+        assertThat(report.removed()).isGreaterThanOrEqualTo(1);
+        assertThat(midStockService.getMemberPositions(member.getId()))
+                .containsExactly(
+                        new MidStockPositionResponse(samsung.getId(), "삼성전자", 4_000, 200, 2),
+                        new MidStockPositionResponse(hyundai.getId(), "현대차", 500, 50, 1));
+        assertThat(midStockPositionReconciler.reconcile().clean()).isTrue();
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 50개 종목에 걸친 1,000건의 보유 거래 조회")
+    void benchmarkThousandLots() {
+        // given
+        int stockCount = 50;
+        int lots = 1_000;
+        List<MidStock> stocks = new ArrayList<>();
+        for (int i = 0; i < stockCount; i++) {
+            stocks.add(midStockRepository.save(new MidStock("종목" + i)));
+        }
+        List<MidStockTrade> trades = new ArrayList<>(lots);
+        for (int i = 0; i < lots; i++) {
+            trades.add(buy(stocks.get(i % stockCount), 100 + i, 50 + i % 17));
+        }
+        midStockTradeRepository.saveAll(trades);
+        midStockPositionReconciler.reconcile();
+        em.flush();
+        em.clear();
+
+        // when : 기존 방식 (BUY 거래 전체 + 종목 지연 로딩)
+        long start = System.nanoTime();
+        List<MidStockTrade> buyTrades = midStockTradeRepository.findAllBuyMidStock(member.getId());
+        Map<Long, List<MidStockTrade>> legacy = buyTrades.stream()
+                .collect(Collectors.groupingBy(trade -> trade.getMidStock().getId()));
+        List<MidStockWithTradesResponse> legacyResponses = legacy.values().stream()
+                .map(MidStockWithTradesResponse::of)
+                .toList();
+        long legacyNanos = System.nanoTime() - start;
+        em.clear();
+
+        // 전체 거래 목록 (fetch join)
+        start = System.nanoTime();
+        List<MidStockWithTradesResponse> withTrades = midStockService.getMemberStocksAndTrades(member.getId());
+        long fetchJoinNanos = System.nanoTime() - start;
+        em.clear();
+
+        // 보유 현황 (포지션)
+        start = System.nanoTime();
+        List<MidStockPositionResponse> positions = midStockService.getMemberPositions(member.getId());
+        long positionNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("기존 방식(지연 로딩): %.2fms, fetch join: %.2fms, 포지션: %.2fms%n",
+                legacyNanos / 1e6, fetchJoinNanos / 1e6, positionNanos / 1e6);
+        assertThat(legacyResponses).hasSize(stockCount);
+        assertThat(withTrades).hasSize(stockCount);
+        assertThat(withTrades).extracting(MidStockWithTradesResponse::midStockId).isSorted();
+        assertThat(withTrades.stream().mapToInt(response -> response.trades().size()).sum()).isEqualTo(lots);
+        assertThat(positions).hasSize(stockCount);
+        assertThat(positions.stream().mapToInt(MidStockPositionResponse::lotCount).sum()).isEqualTo(lots);
+        assertThat(positions.stream().mapToLong(MidStockPositionResponse::investedPoints).sum())
+                .isEqualTo(trades.stream().mapToLong(MidStockTrade::getTradePoint).sum());
+    }
+}
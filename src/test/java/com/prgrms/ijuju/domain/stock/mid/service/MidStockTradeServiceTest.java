@@ -0,0 +1,204 @@
+package com.prgrms.ijuju.domain.stock.mid.service;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPosition;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockPrice;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStockTrade;
+import com.prgrms.ijuju.domain.stock.mid.entity.TradeType;
+import com.prgrms.ijuju.domain.stock.mid.exception.MidAlreadyBoughtException;
+import com.prgrms.ijuju.domain.stock.mid.exception.MidAlreadySoldException;
+import com.prgrms.ijuju.domain.stock.mid.exception.MidStockNotFoundException;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPositionRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockPriceRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockTradeRepository;
+import com.prgrms.ijuju.domain.wallet.entity.Wallet;
+import com.prgrms.ijuju.domain.wallet.repository.WalletRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class MidStockTradeServiceTest {
+
+    private static final long TODAY_AVG_PRICE = 200;
+
+    @Autowired
+    private MidStockTradeService midStockTradeService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private WalletRepository walletRepository;
+    @Autowired
+    private MidStockRepository midStockRepository;
+    @Autowired
+    private MidStockPriceRepository midStockPriceRepository;
+    @Autowired
+    private MidStockTradeRepository midStockTradeRepository;
+    @Autowired
+    private MidStockPositionRepository midStockPositionRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private EntityManager em;
+
+    private Member member;
+    private MidStock stock;
+
+    @BeforeEach
+    void setUp() {
+        String loginId = "mt" + UUID.randomUUID().toString().substring(0, 8);
+        member = memberRepository.save(Member.builder()
+                .loginId(loginId)
+                .pw("test1234@")
+                .username(loginId)
+                .email(loginId + "@test.com")
+                .birth(LocalDate.parse("2000-01-01"))
+                .build());
+        walletRepository.save(Wallet.builder()
+                .member(member)
+                .currentCoins(0L)
+                .currentPoints(100_000L)
+                .build());
+        stock = createStockWithTodayPrice("테스트주식");
+    }
+
+    private MidStock createStockWithTodayPrice(String name) {
+        MidStock created = midStockRepository.save(new MidStock(name));
+        midStockPriceRepository.save(MidStockPrice.builder()
+                .midStock(created)
+                .lowPrice(TODAY_AVG_PRICE - 10)
+                .highPrice(TODAY_AVG_PRICE + 10)
+                .avgPrice(TODAY_AVG_PRICE)
+                .priceDate(LocalDate.now().atTime(0, 1))
+                .build());
+        return created;
+    }
+
+    // 어제 이전에 산 보유 거래를 JDBC 로 넣습니다 (하루 한 번 매수 제한을 피하기 위해)
+    private void insertLots(MidStock target, int lots, long tradePoint, long... pricesPerStock) {
+        Timestamp yesterday = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+        List<Object[]> rows = new ArrayList<>(lots);
+        for (int i = 0; i < lots; i++) {
+            rows.add(new Object[]{tradePoint, pricesPerStock[i % pricesPerStock.length], "BUY",
+                    target.getId(), member.getId(), yesterday, yesterday});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO mid_stock_trade " +
+                "(trade_point, price_per_stock, trade_type, mid_stock_id, member_id, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private long currentPoints() {
+        em.flush();
+        em.clear();
+        return walletRepository.findByMemberId(member.getId()).orElseThrow().getCurrentPoints();
+    }
+
+    @Test
+    @DisplayName("매수하면 거래가 저장되고 보유 현황이 갱신되며, 같은 날 다시 매수할 수 없다")
+    void buyUpdatesPosition() {
+        // when
+        midStockTradeService.buyStock(member.getId(), stock.getId(), 1_000);
+
+        // then
+        MidStockPosition position = midStockPositionRepository.findForUpdate(member.getId(), stock.getId()).orElseThrow();
+        assertThat(position.getInvestedPoints()).isEqualTo(1_000);
+        assertThat(position.getAveragePrice()).isEqualTo(TODAY_AVG_PRICE);
+        assertThat(position.getLotCount()).isEqualTo(1);
+        assertThat(currentPoints()).isEqualTo(99_000);
+        assertThatThrownBy(() -> midStockTradeService.buyStock(member.getId(), stock.getId(), 1_000))
+                .isInstanceOf(MidAlreadyBoughtException.class);
+    }
+
+    @Test
+    @DisplayName("매도하면 보유 거래를 한 번에 SELL 로 바꾸고 거래별 수익률로 정산한다")
+    void sellSettlesAllLots() {
+        // given : 1,000 포인트씩 100 / 200 / 400 에 매수, 오늘 평균가 200 -> 2,000 + 1,000 + 500
+        insertLots(stock, 3, 1_000, 100, 200, 400);
+
+        // when
+        long profit = midStockTradeService.sellStock(member.getId(), stock.getId());
+
+        // then
+        assertThat(profit).isEqualTo(3_500 - 3_000);
+        assertThat(currentPoints()).isEqualTo(100_000 + 3_500);
+        assertThat(midStockTradeRepository.findBuyMidStock(member.getId(), stock.getId())).isEmpty();
+        assertThat(midStockTradeRepository.findAll()).filteredOn(trade -> trade.getMember().getId().equals(member.getId()))
+                .extracting(MidStockTrade::getTradeType)
+                .containsOnly(TradeType.SELL);
+        assertThat(midStockPositionRepository.findForUpdate(member.getId(), stock.getId())).isEmpty();
+        assertThatThrownBy(() -> midStockTradeService.sellStock(member.getId(), stock.getId()))
+                .isInstanceOf(MidStockNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("오늘 이미 매도한 종목은 다시 매도할 수 없다")
+    void cannotSellTwiceADay() {
+        // given
+        insertLots(stock, 1, 1_000, 100);
+        midStockTradeService.sellStock(member.getId(), stock.getId());
+        insertLots(stock, 1, 1_000, 100);
+
+        // when / then
+        assertThatThrownBy(() -> midStockTradeService.sellStock(member.getId(), stock.getId()))
+                .isInstanceOf(MidAlreadySoldException.class);
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 보유 거래 10,000건 매도")
+    void benchmarkSellTenThousandLots() {
+        // given
+        int lots = 10_000;
+        MidStock legacyStock = createStockWithTodayPrice("기존방식");
+        insertLots(legacyStock, lots, 100, 150, 200, 250);
+        insertLots(stock, lots, 100, 150, 200, 250);
+        em.flush();
+        em.clear();
+
+        // 기존 방식 : 거래 전체 조회 -> 거래마다 SELL 로 변경(dirty checking) -> 거래마다 정산
+        long start = System.nanoTime();
+        List<MidStockTrade> buyLots = midStockTradeRepository.findBuyMidStock(member.getId(), legacyStock.getId());
+        long legacyPayout = 0;
+        for (MidStockTrade lot : buyLots) {
+            lot.changeTradeType(TradeType.SELL);
+        }
+        for (MidStockTrade lot : buyLots) {
+            legacyPayout += Math.round(lot.getTradePoint() * ((double) TODAY_AVG_PRICE / lot.getPricePerStock()));
+        }
+        em.flush();
+        long legacyNanos = System.nanoTime() - start;
+        em.clear();
+
+        // when
+        start = System.nanoTime();
+        long profit = midStockTradeService.sellStock(member.getId(), stock.getId());
+        em.flush();
+        long sellNanos = System.nanoTime() - start;
+
+        // then
+        System.out.printf("보유 거래 %,d건 매도 - 기존 방식: %dms, 벌크 UPDATE + SUM: %dms%n",
+                lots, legacyNanos / 1_000_000, sellNanos / 1_000_000);
+        assertThat(profit + (long) lots * 100).isEqualTo(legacyPayout);
+        assertThat(midStockTradeRepository.findBuyMidStock(member.getId(), stock.getId())).isEmpty();
+    }
+}
@@ -0,0 +1,195 @@
+package com.prgrms.ijuju.domain.stock.mid.tracker;
+
+import com.prgrms.ijuju.domain.member.entity.Member;
+import com.prgrms.ijuju.domain.member.repository.MemberRepository;
+import com.prgrms.ijuju.domain.stock.mid.entity.MidStock;
+import com.prgrms.ijuju.domain.stock.mid.entity.TradeType;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockDailyTradeRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockRepository;
+import com.prgrms.ijuju.domain.stock.mid.repository.MidStockTradeRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class MidStockTradeLimitTrackerTest {
+
+    // claim 은 FK 가 없는 기록 테이블만 쓰므로 실제로 없는 회원 / 종목 id 를 씁니다
+    private static final long MEMBER_ID = 9_000_001L;
+    private static final long STOCK_ID = 9_000_002L;
+
+    @Autowired
+    private MidStockTradeRepository midStockTradeRepository;
+    @Autowired
+    private MidStockDailyTradeRepository midStockDailyTradeRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private MidStockRepository midStockRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private MidStockTradeLimitTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        tracker = new MidStockTradeLimitTracker(midStockTradeRepository, midStockDailyTradeRepository);
+        midStockDailyTradeRepository.deleteAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        midStockDailyTradeRepository.deleteAll();
+    }
+
+    private Boolean claimIn(TransactionTemplate template, LocalDate date, TradeType tradeType, boolean rollback) {
+        return template.execute(status -> {
+            boolean claimed = tracker.claim(MEMBER_ID, STOCK_ID, date, tradeType);
+            if (rollback || !claimed) {
+                status.setRollbackOnly();
+            }
+            return claimed;
+        });
+    }
+
+    @Test
+    @DisplayName("거래 기록은 커밋된 뒤에만 추적기에 반영되고, 롤백되면 남지 않는다")
+    void recordsOnlyAfterCommit() {
+        // given
+        LocalDate today = LocalDate.now();
+
+        // when : 매수는 롤백, 매도는 커밋
+        Boolean rolledBack = claimIn(transactionTemplate, today, TradeType.BUY, true);
+        Boolean committed = claimIn(transactionTemplate, today, TradeType.SELL, false);
+
+        // then
+        assertThat(rolledBack).isTrue();
+        assertThat(committed).isTrue();
+        assertThat(tracker.isBought(MEMBER_ID, STOCK_ID, today)).isFalse();
+        assertThat(tracker.isSold(MEMBER_ID, STOCK_ID, today)).isTrue();
+        assertThat(tracker.isSold(MEMBER_ID, STOCK_ID, today.plusDays(1))).isFalse();
+        assertThat(midStockDailyTradeRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("다른 서버가 먼저 기록한 거래는 unique 제약으로 막히고, 추적기에도 반영된다")
+    void uniqueConstraintRejectsSecondClaim() {
+        // given : 다른 추적기(다른 서버) 가 먼저 매수를 기록
+        LocalDate today = LocalDate.now();
+        MidStockTradeLimitTracker other = new MidStockTradeLimitTracker(midStockTradeRepository, midStockDailyTradeRepository);
+        transactionTemplate.executeWithoutResult(status -> other.claim(MEMBER_ID, STOCK_ID, today, TradeType.BUY));
+        assertThat(tracker.isBought(MEMBER_ID, STOCK_ID, today)).isFalse();
+
+        // when
+        Boolean claimed = claimIn(transactionTemplate, today, TradeType.BUY, false);
+
+        // then
+        assertThat(claimed).isFalse();
+        assertThat(tracker.getRejectedCount()).isEqualTo(1);
+        assertThat(tracker.isBought(MEMBER_ID, STOCK_ID, today)).isTrue();
+    }
+
+    @Test
+    @DisplayName("시작할 때 오늘 매수 / 매도한 거래 내역으로 채우고, 날짜가 바뀌면 지난 기록을 지운다")
+    void warmsUpFromTodayTradesAndDropsPastDays() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // given
+            String loginId = "lt" + UUID.randomUUID().toString().substring(0, 8);
+            Member member = memberRepository.save(Member.builder()
+                    .loginId(loginId)
+                    .pw("test1234@")
+                    .username(loginId)
+                    .email(loginId + "@test.com")
+                    .birth(LocalDate.parse("2000-01-01"))
+                    .build());
+            MidStock bought = midStockRepository.save(new MidStock("오늘매수"));
+            MidStock sold = midStockRepository.save(new MidStock("오늘매도"));
+            MidStock old = midStockRepository.save(new MidStock("어제매수"));
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            Timestamp yesterday = Timestamp.valueOf(LocalDateTime.now().minusDays(1));
+            String insert = "INSERT INTO mid_stock_trade " +
+                    "(trade_point, price_per_stock, trade_type, mid_stock_id, member_id, created_at, updated_at) " +
+                    "VALUES (100, 10, ?, ?, ?, ?, ?)";
+            jdbcTemplate.update(insert, "BUY", bought.getId(), member.getId(), now, now);
+            jdbcTemplate.update(insert, "SELL", sold.getId(), member.getId(), yesterday, now);
+            jdbcTemplate.update(insert, "BUY", old.getId(), member.getId(), yesterday, yesterday);
+            LocalDate today = LocalDate.now();
+
+            // when
+            tracker.warmUp();
+
+            // then
+            assertThat(tracker.isBought(member.getId(), bought.getId(), today)).isTrue();
+            assertThat(tracker.isSold(member.getId(), sold.getId(), today)).isTrue();
+            assertThat(tracker.isBought(member.getId(), sold.getId(), today)).isFalse();
+            assertThat(tracker.isBought(member.getId(), old.getId(), today)).isFalse();
+
+            // 어제 키는 날짜 정리 때 지워집니다
+            tracker.claim(MEMBER_ID, STOCK_ID, today.minusDays(1), TradeType.BUY);
+            tracker.dropPastDays();
+            assertThat(midStockDailyTradeRepository.count()).isZero();
+            status.setRollbackOnly();
+        });
+        // 롤백되었으므로 어제 매수 키는 추적기에 남지 않습니다
+        assertThat(tracker.isBought(MEMBER_ID, STOCK_ID, LocalDate.now().minusDays(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("[벤치마크] 거래 가능 여부 확인 10,000번")
+    void benchmarkAvailabilityChecks() {
+        // given
+        int checks = 10_000;
+        LocalDate today = LocalDate.now();
+        LocalDateTime start = today.atStartOfDay();
+        LocalDateTime end = start.plusDays(1);
+        transactionTemplate.executeWithoutResult(status -> tracker.claim(MEMBER_ID, STOCK_ID, today, TradeType.BUY));
+
+        // when : 기존 방식 (회원 / 종목 조회 + 오늘 매수 / 매도 조회)
+        long startNanos = System.nanoTime();
+        int legacyBought = 0;
+        for (int i = 0; i < checks; i++) {
+            memberRepository.findById(MEMBER_ID);
+            midStockRepository.findById(STOCK_ID);
+            legacyBought += jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mid_stock_daily_trade " +
+                    "WHERE member_id = ? AND mid_stock_id = ? AND trade_date = ? AND trade_type = 'BUY'",
+                    Integer.class, MEMBER_ID, STOCK_ID, today) > 0 ? 1 : 0;
+            jdbcTemplate.queryForObject("SELECT COUNT(*) FROM mid_stock_trade " +
+                    "WHERE member_id = ? AND mid_stock_id = ? AND trade_type = 'SELL' AND updated_at >= ? AND updated_at < ?",
+                    Integer.class, MEMBER_ID, STOCK_ID, Timestamp.valueOf(start), Timestamp.valueOf(end));
+        }
+        long legacyNanos = System.nanoTime() - startNanos;
+
+        // 추적기
+        startNanos = System.nanoTime();
+        int trackedBought = 0;
+        for (int i = 0; i < checks; i++) {
+            trackedBought += tracker.isBought(MEMBER_ID, STOCK_ID, today) ? 1 : 0;
+            tracker.isSold(MEMBER_ID, STOCK_ID, today);
+        }
+        long trackerNanos = System.nanoTime() - startNanos;
+
+        // then
+        System.out.printf("거래 가능 여부 %,d번 - DB 조회: %dms, 추적기: %.3fms%n",
+                checks, legacyNanos / 1_000_000, trackerNanos / 1e6);
+        assertThat(trackedBought).isEqualTo(legacyBought).isEqualTo(checks);
+    }
+}
@@ -0,0 +1,185 @@
+package com.prgrms.ijuju.global.websocket;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class OutboundSessionTest {
+
+    private final ExecutorService sender = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdownNow();
+    }
+
+    // release 가 열릴 때까지 sendMessage 가 막히는 느린 세션
+    private WebSocketSession slowSession(CountDownLatch release, List<String> received) throws Exception {
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("slow");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            release.await();
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            received.add((String) message.getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+        return session;
+    }
+
+    @Test
+    @DisplayName("느린 세션에 보내도 호출한 스레드는 막히지 않고, 시세는 오래된 것부터 버려지며 거래 결과는 모두 전달된다")
+    void dropsOldestTicksButKeepsReliable() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        WebSocketSession session = slowSession(release, received);
+        OutboundSession outbound = new OutboundSession(session, sender, 3, 100, 10_000);
+
+        // when
+        long start = System.nanoTime();
+        outbound.send(new TextMessage("tick-0"), Delivery.DROPPABLE); // 첫 메시지는 바로 전송 시작(막힘)
+        Thread.sleep(50);
+        for (int i = 1; i <= 10; i++) {
+            outbound.send(new TextMessage("tick-" + i), Delivery.DROPPABLE);
+            if (i % 5 == 0) {
+                outbound.send(new TextMessage("trade-" + i), Delivery.RELIABLE);
+            }
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        int depthWhileBlocked = outbound.getQueueDepth();
+        release.countDown();
+        Thread.sleep(200);
+
+        // then
+        assertThat(elapsedMillis).isLessThan(1000);
+        assertThat(depthWhileBlocked).isEqualTo(5); // tick 3개 + trade 2개
+        assertThat(outbound.getDroppedCount()).isEqualTo(7);
+        assertThat(received).containsExactly("tick-0", "trade-5", "tick-8", "tick-9", "tick-10", "trade-10");
+        assertThat(outbound.getQueueDepth()).isZero();
+        assertThat(outbound.getSentCount()).isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("전송 시간이 제한을 넘으면 세션을 닫는다")
+    void closesSessionOverSendTimeLimit() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession session = slowSession(release, new CopyOnWriteArrayList<>());
+        OutboundSession outbound = new OutboundSession(session, sender, 10, 100, 50);
+
+        // when
+        outbound.send(new TextMessage("first"), Delivery.RELIABLE);
+        outbound.send(new TextMessage("second"), Delivery.RELIABLE);
+        Thread.sleep(150);
+        release.countDown();
+        Thread.sleep(100);
+
+        // then
+        assertThat(outbound.isClosed()).isTrue();
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        verify(session, times(1)).sendMessage(any());
+    }
+
+    @Test
+    @DisplayName("sendMessage 가 돌아오지 않아도 다음 send 에서 전송 시간 초과를 보고 세션을 닫는다")
+    void closesStuckSessionFromProducerSide() throws Exception {
+        // given
+        CountDownLatch release = new CountDownLatch(1);
+        WebSocketSession session = slowSession(release, new CopyOnWriteArrayList<>());
+        OutboundSession outbound = new OutboundSession(session, sender, 10, 100, 50);
+
+        // when : 첫 전송이 막힌 채로 제한 시간이 지난 뒤 다시 보냄
+        outbound.send(new TextMessage("first"), Delivery.RELIABLE);
+        Thread.sleep(150);
+        outbound.send(new TextMessage("second"), Delivery.RELIABLE);
+
+        // then : 막힌 전송이 풀리기 전에 닫힙니다
+        assertThat(outbound.isClosed()).isTrue();
+        verify(session).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(outbound.getQueueDepth()).isZero();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("송신 풀이 바빠서 늦게 시작된 시간은 대기 시간에 넣지 않는다")
+    void doesNotCountPoolQueueingAsWait() throws Exception {
+        // given : 송신 풀 스레드 두 개를 모두 다른 작업이 잡고 있음
+        CountDownLatch busy = new CountDownLatch(1);
+        sender.execute(() -> awaitQuietly(busy));
+        sender.execute(() -> awaitQuietly(busy));
+        List<String> received = new CopyOnWriteArrayList<>();
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("healthy");
+        when(session.isOpen()).thenReturn(true);
+        doAnswer(invocation -> {
+            WebSocketMessage<?> message = invocation.getArgument(0);
+            received.add((String) message.getPayload());
+            return null;
+        }).when(session).sendMessage(any());
+        OutboundSession outbound = new OutboundSession(session, sender, 10, 100, 50);
+
+        // when : 제한 시간보다 오래 풀에서 기다린 뒤 전송
+        outbound.send(new TextMessage("a"), Delivery.RELIABLE);
+        outbound.send(new TextMessage("b"), Delivery.RELIABLE);
+        Thread.sleep(150);
+        busy.countDown();
+        Thread.sleep(100);
+
+        // then
+        assertThat(outbound.isClosed()).isFalse();
+        assertThat(received).containsExactly("a", "b");
+    }
+
+    @Test
+    @DisplayName("closeAfterDrain 은 큐에 남은 메시지를 모두 보낸 뒤 닫고, 그 뒤에 보낸 메시지는 무시한다")
+    void closesAfterDrainingQueue() throws Exception {
+        // given : 마지막 LiveData 와 종료 신호가 아직 전송되지 않은 세션
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> received = new CopyOnWriteArrayList<>();
+        WebSocketSession session = slowSession(release, received);
+        OutboundSession outbound = new OutboundSession(session, sender, 10, 100, 10_000);
+        CountDownLatch closed = new CountDownLatch(1);
+        outbound.send(new TextMessage("live"), Delivery.RELIABLE);
+        outbound.send(new TextMessage("end"), Delivery.RELIABLE);
+
+        // when
+        outbound.closeAfterDrain(closed::countDown);
+        outbound.send(new TextMessage("late"), Delivery.RELIABLE);
+        Thread.sleep(50);
+        verify(session, never()).close();
+        release.countDown();
+
+        // then
+        assertThat(closed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(received).containsExactly("live", "end");
+        assertThat(outbound.isClosed()).isTrue();
+        InOrder order = inOrder(session);
+        order.verify(session, times(2)).sendMessage(any());
+        order.verify(session).close();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}